@@ -17,6 +17,7 @@
 package org.onosproject.yangutils.datamodel;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents class having rpc and notification.
@@ -38,6 +39,13 @@ public interface RpcNotificationContainer {
      */
     void addToNotificationEnumMap(String enumName, YangSchemaNode schemaNode);
 
+    /**
+     * Returns notification enumeration map.
+     *
+     * @return unmodifiable map of notification enum name to schema node
+     */
+    Map<String, YangSchemaNode> getNotificationEnumMap();
+
     /**
      * Adds augment which is augmenting input node to augment list.
      *
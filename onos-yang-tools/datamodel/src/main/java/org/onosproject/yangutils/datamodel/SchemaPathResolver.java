@@ -0,0 +1,461 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_NON_DATA_NODE;
+
+/**
+ * Represents the resolver of schema paths, such as
+ * "/ietf-te:te/tunnels/tunnel/config/name", to schema nodes. A path step
+ * may be qualified by module name or prefix, unqualified steps are in the
+ * namespace of the previous step. Paths are parsed and canonicalized once,
+ * and resolved absolute paths are kept in a bounded concurrent cache. It
+ * can be shared across threads.
+ * <p>
+ * Paths are resolved through the child schema maps of the nodes, which are
+ * filled when the tree is translated, so the modules must be translated
+ * before the resolver is created.
+ */
+public class SchemaPathResolver {
+
+    private static final char SLASH = '/';
+    private static final char COLON = ':';
+
+    // Module schema nodes by module name.
+    private final Map<String, YangSchemaNode> modulesByName = new HashMap<>();
+
+    // Module schema nodes by prefix.
+    private final Map<String, YangSchemaNode> modulesByPrefix = new HashMap<>();
+
+    // Prefixes used by more than one module.
+    private final Set<String> ambiguousPrefixes = new HashSet<>();
+
+    // Compiled paths by path as given.
+    private final Cache<String, CompiledPath> compiledPaths;
+
+    // Resolved schema nodes by canonical absolute path.
+    private final Cache<String, YangSchemaNode> resolvedPaths;
+
+    /**
+     * Creates a schema path resolver over the given module schema nodes.
+     * Module prefixes are taken from the modules where available, a prefix
+     * used by more than one module can not qualify a path step.
+     *
+     * @param modules      translated module/sub-module schema nodes
+     * @param maxCacheSize maximum number of paths kept in each cache
+     * @throws DataModelException if a module is not translated
+     */
+    public SchemaPathResolver(Collection<? extends YangSchemaNode> modules,
+                              int maxCacheSize)
+            throws DataModelException {
+        for (YangSchemaNode module : modules) {
+            if (!isTranslated(module)) {
+                throw new DataModelException("Module " + module.getName()
+                                                     + " is not translated, its child schema map is empty");
+            }
+            modulesByName.put(module.getName(), module);
+            // Prefix of a sub-module is the prefix of module it belongs to.
+            if (module instanceof YangModule) {
+                addPrefix(((YangModule) module).getPrefix(), module);
+            }
+        }
+        compiledPaths = CacheBuilder.newBuilder().maximumSize(maxCacheSize).build();
+        resolvedPaths = CacheBuilder.newBuilder().maximumSize(maxCacheSize).build();
+    }
+
+    /**
+     * Returns true if child schema map of module is filled, or module has
+     * no schema child to be filled with.
+     *
+     * @param module module/sub-module schema node
+     * @return true if translated
+     */
+    private static boolean isTranslated(YangSchemaNode module) {
+        if (!(module instanceof YangNode) ||
+                !((YangNode) module).getYsnContextInfoMap().isEmpty()) {
+            return true;
+        }
+        if (module instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) module;
+            if (!isEmpty(holder.getListOfLeaf()) ||
+                    !isEmpty(holder.getListOfLeafList())) {
+                return false;
+            }
+        }
+        YangNode child = ((YangNode) module).getChild();
+        while (child != null) {
+            if (child.getYangSchemaNodeType() != YANG_NON_DATA_NODE) {
+                return false;
+            }
+            child = child.getNextSibling();
+        }
+        return true;
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
+    }
+
+    /**
+     * Adds the prefix of a module, marking it ambiguous when another module
+     * already uses it.
+     *
+     * @param prefix prefix of module
+     * @param module module schema node
+     */
+    private void addPrefix(String prefix, YangSchemaNode module) {
+        if (prefix == null || ambiguousPrefixes.contains(prefix)) {
+            return;
+        }
+        YangSchemaNode other = modulesByPrefix.putIfAbsent(prefix, module);
+        if (other != null && other != module) {
+            modulesByPrefix.remove(prefix);
+            ambiguousPrefixes.add(prefix);
+        }
+    }
+
+    /**
+     * Returns the schema node of an absolute path.
+     *
+     * @param path absolute schema path
+     * @return schema node
+     * @throws DataModelException if path is not valid or not found in schema
+     */
+    public YangSchemaNode resolve(String path)
+            throws DataModelException {
+        CompiledPath compiledPath = compile(path);
+        if (!compiledPath.isAbsolute()) {
+            throw new DataModelException("Schema path " + path + " is not absolute");
+        }
+        YangSchemaNode node = resolvedPaths.getIfPresent(compiledPath.getCanonicalPath());
+        if (node == null) {
+            node = walk(compiledPath.getModule(), compiledPath.getSteps(), 0);
+            resolvedPaths.put(compiledPath.getCanonicalPath(), node);
+        }
+        return node;
+    }
+
+    /**
+     * Returns the schema node of a path relative to a context node. An
+     * unqualified first step is in the namespace of the context node.
+     *
+     * @param context context schema node
+     * @param path    relative schema path
+     * @return schema node
+     * @throws DataModelException if path is not valid or not found in schema
+     */
+    public YangSchemaNode resolve(YangSchemaNode context, String path)
+            throws DataModelException {
+        CompiledPath compiledPath = compile(path);
+        if (compiledPath.isAbsolute()) {
+            return resolve(path);
+        }
+
+        YangSchemaNodeIdentifier[] steps = compiledPath.getSteps();
+        YangSchemaNode node = context;
+        int first = 0;
+        // Unqualified leading steps take the namespace of context node.
+        while (first < steps.length && steps[first].getNameSpace() == null) {
+            YangSchemaNodeIdentifier id = new YangSchemaNodeIdentifier();
+            id.setName(steps[first].getName());
+            id.setNameSpace(context.getNameSpace());
+            node = node.getChildSchema(id).getSchemaNode();
+            first++;
+        }
+        return walk(node, steps, first);
+    }
+
+    /**
+     * Returns the schema nodes of many absolute paths. Paths are arranged in
+     * a trie of their steps, so that a prefix shared by paths is resolved
+     * once.
+     *
+     * @param paths absolute schema paths
+     * @return schema nodes by path, paths which are not valid or not found
+     * in schema are absent
+     */
+    public Map<String, YangSchemaNode> resolveAll(Collection<String> paths) {
+        Map<String, YangSchemaNode> nodes = new LinkedHashMap<>();
+        Map<YangSchemaNode, PathTrieNode> roots = new LinkedHashMap<>();
+        for (String path : paths) {
+            CompiledPath compiledPath;
+            try {
+                compiledPath = compile(path);
+            } catch (DataModelException e) {
+                continue;
+            }
+            if (!compiledPath.isAbsolute()) {
+                continue;
+            }
+            YangSchemaNode node = resolvedPaths.getIfPresent(compiledPath.getCanonicalPath());
+            if (node != null) {
+                nodes.put(path, node);
+                continue;
+            }
+            PathTrieNode trieNode = roots.computeIfAbsent(compiledPath.getModule(),
+                                                          k -> new PathTrieNode());
+            for (YangSchemaNodeIdentifier step : compiledPath.getSteps()) {
+                trieNode = trieNode.getOrAddChild(step);
+            }
+            trieNode.addPath(path, compiledPath.getCanonicalPath());
+        }
+
+        for (Map.Entry<YangSchemaNode, PathTrieNode> root : roots.entrySet()) {
+            resolveTrie(root.getKey(), root.getValue(), nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * Resolves the paths ending in the trie node and its descendants, from
+     * the schema node of the trie node.
+     *
+     * @param node     schema node of trie node
+     * @param trieNode trie node
+     * @param nodes    schema nodes by path to add to
+     */
+    private void resolveTrie(YangSchemaNode node, PathTrieNode trieNode,
+                             Map<String, YangSchemaNode> nodes) {
+        for (int i = 0; i < trieNode.paths.size(); i++) {
+            nodes.put(trieNode.paths.get(i), node);
+            resolvedPaths.put(trieNode.canonicalPaths.get(i), node);
+        }
+        for (Map.Entry<YangSchemaNodeIdentifier, PathTrieNode> child : trieNode.children.entrySet()) {
+            YangSchemaNode childNode;
+            try {
+                childNode = node.getChildSchema(child.getKey()).getSchemaNode();
+            } catch (DataModelException e) {
+                // Whole sub-trie is not found in schema.
+                continue;
+            }
+            resolveTrie(childNode, child.getValue(), nodes);
+        }
+    }
+
+    /**
+     * Returns the schema node reached by walking the steps from a node.
+     *
+     * @param node  node to walk from
+     * @param steps steps of path
+     * @param first index of first step to walk
+     * @return schema node
+     * @throws DataModelException if a step is not found in schema
+     */
+    private static YangSchemaNode walk(YangSchemaNode node,
+                                       YangSchemaNodeIdentifier[] steps, int first)
+            throws DataModelException {
+        for (int i = first; i < steps.length; i++) {
+            node = node.getChildSchema(steps[i]).getSchemaNode();
+        }
+        return node;
+    }
+
+    /**
+     * Returns the compiled path, parsing it if not in cache.
+     *
+     * @param path schema path
+     * @return compiled path
+     * @throws DataModelException if path is not valid
+     */
+    CompiledPath compile(String path)
+            throws DataModelException {
+        try {
+            return compiledPaths.get(path, () -> parse(path));
+        } catch (ExecutionException e) {
+            throw (DataModelException) e.getCause();
+        }
+    }
+
+    /**
+     * Parses and canonicalizes a schema path.
+     *
+     * @param path schema path
+     * @return compiled path
+     * @throws DataModelException if path is not valid
+     */
+    private CompiledPath parse(String path)
+            throws DataModelException {
+        boolean isAbsolute = !path.isEmpty() && path.charAt(0) == SLASH;
+        int start = isAbsolute ? 1 : 0;
+        if (start >= path.length()) {
+            throw new DataModelException("Schema path " + path + " has no node");
+        }
+
+        List<YangSchemaNodeIdentifier> steps = new ArrayList<>();
+        StringBuilder canonical = new StringBuilder(path.length());
+        YangSchemaNode module = null;
+        YangNamespace namespace = null;
+        while (start <= path.length()) {
+            int end = path.indexOf(SLASH, start);
+            if (end < 0) {
+                end = path.length();
+            }
+            int colon = path.indexOf(COLON, start);
+            String name;
+            YangSchemaNode stepModule = null;
+            if (colon >= 0 && colon < end) {
+                stepModule = getModule(path.substring(start, colon), path);
+                name = path.substring(colon + 1, end);
+            } else {
+                name = path.substring(start, end);
+            }
+            if (name.isEmpty()) {
+                throw new DataModelException("Schema path " + path + " has an empty node name");
+            }
+
+            if (module == null && isAbsolute) {
+                if (stepModule == null) {
+                    throw new DataModelException("Schema path " + path
+                                                         + " is absolute, but first node is not qualified");
+                }
+                module = stepModule;
+            }
+            canonical.append(SLASH);
+            if (stepModule != null && stepModule.getNameSpace() != namespace) {
+                namespace = stepModule.getNameSpace();
+                canonical.append(stepModule.getName()).append(COLON);
+            }
+            canonical.append(name);
+
+            YangSchemaNodeIdentifier step = new YangSchemaNodeIdentifier();
+            step.setName(name);
+            step.setNameSpace(namespace);
+            steps.add(step);
+            start = end + 1;
+        }
+
+        String canonicalPath = isAbsolute ? canonical.toString() : canonical.substring(1);
+        return new CompiledPath(isAbsolute, module, canonicalPath,
+                                steps.toArray(new YangSchemaNodeIdentifier[steps.size()]));
+    }
+
+    /**
+     * Returns the module of a module name or prefix.
+     *
+     * @param qualifier module name or prefix
+     * @param path      schema path
+     * @return module schema node
+     * @throws DataModelException if qualifier is not known
+     */
+    private YangSchemaNode getModule(String qualifier, String path)
+            throws DataModelException {
+        YangSchemaNode module = modulesByName.get(qualifier);
+        if (module == null) {
+            if (ambiguousPrefixes.contains(qualifier)) {
+                throw new DataModelException("Schema path " + path + " refers to prefix "
+                                                     + qualifier + " of more than one module,"
+                                                     + " qualify it by module name");
+            }
+            module = modulesByPrefix.get(qualifier);
+        }
+        if (module == null) {
+            throw new DataModelException("Schema path " + path + " refers to unknown module "
+                                                 + qualifier);
+        }
+        return module;
+    }
+
+    /**
+     * Represents a parsed and canonicalized schema path.
+     */
+    static final class CompiledPath {
+
+        private final boolean isAbsolute;
+        private final YangSchemaNode module;
+        private final String canonicalPath;
+        private final YangSchemaNodeIdentifier[] steps;
+
+        private CompiledPath(boolean isAbsolute, YangSchemaNode module,
+                             String canonicalPath, YangSchemaNodeIdentifier[] steps) {
+            this.isAbsolute = isAbsolute;
+            this.module = module;
+            this.canonicalPath = canonicalPath;
+            this.steps = steps;
+        }
+
+        /**
+         * Returns true if path is absolute.
+         *
+         * @return true if absolute
+         */
+        boolean isAbsolute() {
+            return isAbsolute;
+        }
+
+        /**
+         * Returns the module of first step of an absolute path.
+         *
+         * @return module schema node
+         */
+        YangSchemaNode getModule() {
+            return module;
+        }
+
+        /**
+         * Returns the canonical path, where steps are qualified by module
+         * name only when namespace changes.
+         *
+         * @return canonical path
+         */
+        String getCanonicalPath() {
+            return canonicalPath;
+        }
+
+        /**
+         * Returns the steps of path, namespace of a step is null for leading
+         * unqualified steps of a relative path.
+         *
+         * @return steps of path
+         */
+        YangSchemaNodeIdentifier[] getSteps() {
+            return steps;
+        }
+    }
+
+    /**
+     * Represents a node of the trie of path steps used in batch resolution.
+     */
+    private static final class PathTrieNode {
+
+        private final Map<YangSchemaNodeIdentifier, PathTrieNode> children = new LinkedHashMap<>();
+        private final List<String> paths = new ArrayList<>(1);
+        private final List<String> canonicalPaths = new ArrayList<>(1);
+
+        private PathTrieNode getOrAddChild(YangSchemaNodeIdentifier step) {
+            return children.computeIfAbsent(step, k -> new PathTrieNode());
+        }
+
+        private void addPath(String path, String canonicalPath) {
+            paths.add(path);
+            canonicalPaths.add(canonicalPath);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+/**
+ * Represents the result of validating a batch of leaf/leaf-list values. The
+ * validity of each value is kept in a bitmap indexed by the position of the
+ * value in the batch, along with details of the first invalid value.
+ */
+public class YangBatchValidationResult {
+
+    // Number of bits in a bitmap word.
+    private static final int WORD_SIZE = 64;
+
+    // Number of values in the batch.
+    private final int size;
+
+    // Bitmap of valid values, bit i is set when value i is valid.
+    private final long[] validBitmap;
+
+    // Index of the first invalid value.
+    private int firstInvalidIndex = -1;
+
+    // Error message of the first invalid value.
+    private String firstErrorMessage;
+
+    /**
+     * Creates a batch validation result for the given number of values.
+     *
+     * @param size number of values in the batch
+     */
+    YangBatchValidationResult(int size) {
+        this.size = size;
+        validBitmap = new long[(size + WORD_SIZE - 1) / WORD_SIZE];
+    }
+
+    /**
+     * Returns the number of values in the batch.
+     *
+     * @return number of values
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns true if the value at the given index is valid.
+     *
+     * @param index index of value in the batch
+     * @return true if valid, false otherwise
+     */
+    public boolean isValid(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                                                        + " is out of batch of size " + size);
+        }
+        return (validBitmap[index / WORD_SIZE] & 1L << index) != 0;
+    }
+
+    /**
+     * Returns true if all the values in the batch are valid.
+     *
+     * @return true if all values are valid, false otherwise
+     */
+    public boolean isAllValid() {
+        return firstInvalidIndex < 0;
+    }
+
+    /**
+     * Returns a copy of the valid values bitmap, bit i of word i / 64 is set
+     * when value i is valid.
+     *
+     * @return valid values bitmap
+     */
+    public long[] getValidBitmap() {
+        return validBitmap.clone();
+    }
+
+    /**
+     * Returns the index of the first invalid value, -1 if all the values
+     * are valid.
+     *
+     * @return index of the first invalid value
+     */
+    public int getFirstInvalidIndex() {
+        return firstInvalidIndex;
+    }
+
+    /**
+     * Returns the error message of the first invalid value, null if all the
+     * values are valid.
+     *
+     * @return error message of the first invalid value
+     */
+    public String getFirstErrorMessage() {
+        return firstErrorMessage;
+    }
+
+    /**
+     * Marks the value at the given index as valid. Callers validating in
+     * parallel must own whole bitmap words, i.e. split the batch at
+     * multiples of 64.
+     *
+     * @param index index of value in the batch
+     */
+    void setValid(int index) {
+        validBitmap[index / WORD_SIZE] |= 1L << index;
+    }
+
+    /**
+     * Records an invalid value, retaining the details if it is the first
+     * invalid value of the batch seen so far.
+     *
+     * @param index   index of value in the batch
+     * @param message error message
+     */
+    synchronized void addError(int index, String message) {
+        if (firstInvalidIndex < 0 || index < firstInvalidIndex) {
+            firstInvalidIndex = index;
+            firstErrorMessage = message;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Represents the validator of a batch of values against a resolved YANG
+ * type. Large batches are split across a fork-join pool when one is given.
+ */
+final class YangBatchValidator {
+
+    /**
+     * Number of values below which a batch is not split further, a
+     * multiple of the bitmap word size so that split tasks never share a
+     * bitmap word.
+     */
+    static final int SPLIT_THRESHOLD = 4096;
+
+    /**
+     * Abstraction of the source of values in a batch.
+     */
+    interface ValueSource {
+
+        /**
+         * Returns the number of values.
+         *
+         * @return number of values
+         */
+        int size();
+
+        /**
+         * Returns the value at the given index.
+         *
+         * @param index index of value
+         * @return value
+         */
+        String get(int index);
+    }
+
+    // Checker of the type being validated.
+    private final YangValueChecker checker;
+
+    /**
+     * Creates a batch validator for the given value checker.
+     *
+     * @param checker value checker
+     */
+    YangBatchValidator(YangValueChecker checker) {
+        this.checker = checker;
+    }
+
+    /**
+     * Returns a value source over an array of character sequences.
+     *
+     * @param values values
+     * @return value source
+     */
+    static ValueSource valueSource(CharSequence[] values) {
+        return new ValueSource() {
+            @Override
+            public int size() {
+                return values.length;
+            }
+
+            @Override
+            public String get(int index) {
+                CharSequence value = values[index];
+                return value == null ? null : value.toString();
+            }
+        };
+    }
+
+    /**
+     * Returns a value source over a packed UTF-8 buffer, where value i
+     * spans bytes offsets[i] (inclusive) to offsets[i + 1] (exclusive).
+     *
+     * @param buffer  packed UTF-8 buffer
+     * @param offsets value offsets, one more than the number of values
+     * @return value source
+     */
+    static ValueSource valueSource(byte[] buffer, int[] offsets) {
+        if (offsets.length == 0) {
+            throw new IllegalArgumentException("Offsets must contain the end offset of the last value");
+        }
+        return new ValueSource() {
+            @Override
+            public int size() {
+                return offsets.length - 1;
+            }
+
+            @Override
+            public String get(int index) {
+                return new String(buffer, offsets[index],
+                                  offsets[index + 1] - offsets[index], UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Validates all the values of the source.
+     *
+     * @param values values to be validated
+     * @param pool   fork-join pool to split large batches across, null to
+     *               validate in the calling thread
+     * @return batch validation result
+     */
+    YangBatchValidationResult validate(ValueSource values, ForkJoinPool pool) {
+        YangBatchValidationResult result = new YangBatchValidationResult(values.size());
+        if (pool == null || values.size() <= SPLIT_THRESHOLD) {
+            validate(values, result, 0, values.size());
+        } else {
+            pool.invoke(new ValidateTask(values, result, 0, values.size()));
+        }
+        return result;
+    }
+
+    /**
+     * Validates the values in the given index range.
+     *
+     * @param values values to be validated
+     * @param result batch validation result
+     * @param from   start index, inclusive
+     * @param to     end index, exclusive
+     */
+    private void validate(ValueSource values, YangBatchValidationResult result,
+                          int from, int to) {
+        boolean errorRecorded = false;
+        for (int i = from; i < to; i++) {
+            try {
+                String value = values.get(i);
+                if (value == null) {
+                    throw new DataModelException("Input value is null");
+                }
+                checker.check(value);
+                result.setValid(i);
+            } catch (DataModelException | RuntimeException e) {
+                // Only the first error of a range can be the first of batch.
+                if (!errorRecorded) {
+                    result.addError(i, e.getMessage());
+                    errorRecorded = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Represents the fork-join task validating a range of values.
+     */
+    private final class ValidateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 806201601L;
+
+        private final transient ValueSource values;
+        private final transient YangBatchValidationResult result;
+        private final int from;
+        private final int to;
+
+        private ValidateTask(ValueSource values, YangBatchValidationResult result,
+                             int from, int to) {
+            this.values = values;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                validate(values, result, from, to);
+                return;
+            }
+            // Split on a bitmap word boundary.
+            int mid = from + Math.max(1, (to - from) / 2 / SPLIT_THRESHOLD) * SPLIT_THRESHOLD;
+            invokeAll(new ValidateTask(values, result, from, mid),
+                      new ValidateTask(values, result, mid, to));
+        }
+    }
+}
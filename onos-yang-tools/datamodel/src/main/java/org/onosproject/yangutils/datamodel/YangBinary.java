@@ -33,6 +33,9 @@ public class YangBinary extends DefaultLocationInfo implements YangBuiltInDataTy
 
     private static final long serialVersionUID = 2106201608L;
 
+    // Base64 padding character
+    private static final char PAD = '=';
+
     // Binary data is a decoded value by base64 decoding scheme from data input (jason)
     private byte[] binaryData;
 
@@ -73,6 +76,52 @@ public class YangBinary extends DefaultLocationInfo implements YangBuiltInDataTy
                 .encodeToString(binaryData);
     }
 
+    /**
+     * Returns the number of octets the given base64 encoded value decodes
+     * to, without decoding it. The value is checked for well-formedness in
+     * the same pass, following the rules of the basic base64 decoder: only
+     * characters of the base64 alphabet are allowed, padding is optional
+     * but when present it must complete the final 4-character unit.
+     *
+     * @param value base64 encoded value
+     * @return decoded length in octets, or -1 if the value is not well-formed
+     */
+    public static long decodedLength(CharSequence value) {
+        long data = 0;
+        int pad = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == PAD) {
+                if (++pad > 2) {
+                    return -1;
+                }
+                continue;
+            }
+            if (pad > 0 || !isBase64Char(c)) {
+                // Data after padding or character outside of alphabet
+                return -1;
+            }
+            data++;
+        }
+
+        int rem = (int) (data % 4);
+        if (rem == 1 || pad > 0 && (rem == 0 || rem + pad != 4)) {
+            return -1;
+        }
+        return data / 4 * 3 + (rem == 0 ? 0 : rem - 1);
+    }
+
+    /**
+     * Returns true if the character belongs to the base64 alphabet.
+     *
+     * @param c character
+     * @return true if base64 alphabet character
+     */
+    private static boolean isBase64Char(char c) {
+        return c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z'
+                || c >= '0' && c <= '9' || c == '+' || c == '/';
+    }
+
     @Override
     public YangDataTypes getYangType() {
         return YangDataTypes.BINARY;
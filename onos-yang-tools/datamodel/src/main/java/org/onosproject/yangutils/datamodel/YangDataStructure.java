@@ -25,7 +25,9 @@ public enum YangDataStructure {
 
     LIST,
 
-    SET;
+    SET,
+
+    MAP;
 
     /**
      * Returns YANG data structure type for corresponding data structure name.
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Represents an immutable, array backed snapshot of a linked YANG schema
+ * node. It is created by {@link YangSchemaFreezer} and holds only what is
+ * needed to serve the schema node abstraction at runtime: child schema
+ * lookup is a binary search over arrays sorted by name, names are interned
+ * and the value checker of leaf/leaf-list type is resolved once.
+ */
+public final class YangFrozenSchemaNode implements YangSchemaNode {
+
+    private static final YangSchemaNodeIdentifier[] NO_CHILD_IDS = {};
+    private static final YangSchemaNodeContextInfo[] NO_CHILD_CONTEXTS = {};
+
+    private final YangSchemaNodeType schemaNodeType;
+    private final YangSchemaNodeIdentifier identifier;
+    private final String javaPackage;
+    private final String javaClassNameOrBuiltInType;
+    private final String javaAttributeName;
+    private final String fileName;
+    private final int lineNumber;
+    private final int charPosition;
+
+    // Value checker of leaf/leaf-list type, null for other nodes.
+    private final YangValueChecker valueChecker;
+
+    // Count of mandatory child nodes, not applicable for leaf/leaf-list.
+    private final int mandatoryChildCount;
+
+    // Notification presence, null for node other than module/sub-module.
+    private final Boolean notificationPresent;
+
+    /*
+     * Child identifiers sorted by name and their context info at the same
+     * index, along with the referred schema, default children and
+     * notifications. These are set by the freezer before the snapshot is
+     * handed out, and never modified afterwards.
+     */
+    private YangSchemaNodeIdentifier[] childIds = NO_CHILD_IDS;
+    private YangSchemaNodeContextInfo[] childContexts = NO_CHILD_CONTEXTS;
+    private YangSchemaNode referredSchema;
+    private Map<YangSchemaNodeIdentifier, YangSchemaNode> defaultChildMap;
+    private Map<String, YangSchemaNode> notificationMap;
+
+    /**
+     * Creates a frozen schema node.
+     *
+     * @param schemaNodeType             type of schema node
+     * @param identifier                 schema node identifier
+     * @param javaPackage                Java package
+     * @param javaClassNameOrBuiltInType Java class name or built in type
+     * @param javaAttributeName          Java attribute name
+     * @param location                   location of the YANG construct
+     * @param valueChecker               value checker, null if not a
+     *                                   leaf/leaf-list
+     * @param mandatoryChildCount        count of mandatory child nodes
+     * @param notificationPresent        notification presence, null if not
+     *                                   a module/sub-module
+     */
+    YangFrozenSchemaNode(YangSchemaNodeType schemaNodeType,
+                         YangSchemaNodeIdentifier identifier,
+                         String javaPackage, String javaClassNameOrBuiltInType,
+                         String javaAttributeName, LocationInfo location,
+                         YangValueChecker valueChecker, int mandatoryChildCount,
+                         Boolean notificationPresent) {
+        this.schemaNodeType = schemaNodeType;
+        this.identifier = identifier;
+        this.javaPackage = javaPackage;
+        this.javaClassNameOrBuiltInType = javaClassNameOrBuiltInType;
+        this.javaAttributeName = javaAttributeName;
+        fileName = location.getFileName();
+        lineNumber = location.getLineNumber();
+        charPosition = location.getCharPosition();
+        this.valueChecker = valueChecker;
+        this.mandatoryChildCount = mandatoryChildCount;
+        this.notificationPresent = notificationPresent;
+    }
+
+    /**
+     * Sets the children of the node.
+     *
+     * @param childIds      child identifiers sorted by name
+     * @param childContexts child context info, at the index of identifier
+     */
+    void setChildren(YangSchemaNodeIdentifier[] childIds,
+                     YangSchemaNodeContextInfo[] childContexts) {
+        this.childIds = childIds;
+        this.childContexts = childContexts;
+    }
+
+    /**
+     * Sets the referred schema node.
+     *
+     * @param referredSchema referred schema node
+     */
+    void setReferredSchema(YangSchemaNode referredSchema) {
+        this.referredSchema = referredSchema;
+    }
+
+    /**
+     * Sets the map of default child nodes.
+     *
+     * @param defaultChildMap map of default child nodes
+     */
+    void setDefaultChildMap(Map<YangSchemaNodeIdentifier, YangSchemaNode> defaultChildMap) {
+        this.defaultChildMap = defaultChildMap;
+    }
+
+    /**
+     * Sets the map of notification enum name to notification node.
+     *
+     * @param notificationMap map of notification nodes
+     */
+    void setNotificationMap(Map<String, YangSchemaNode> notificationMap) {
+        this.notificationMap = notificationMap;
+    }
+
+    /**
+     * Returns the number of child schema entries.
+     *
+     * @return number of child schema entries
+     */
+    public int getChildCount() {
+        return childIds.length;
+    }
+
+    /**
+     * Returns true if the node is a leaf/leaf-list.
+     *
+     * @return true if leaf/leaf-list
+     */
+    private boolean isLeafNode() {
+        return valueChecker != null;
+    }
+
+    @Override
+    public YangSchemaNodeType getYangSchemaNodeType() {
+        return schemaNodeType;
+    }
+
+    @Override
+    public YangSchemaNodeContextInfo getChildSchema(YangSchemaNodeIdentifier dataNodeIdentifier)
+            throws DataModelException {
+        if (isLeafNode()) {
+            throw new DataModelException("leaf cannot have any child schema nodes " +
+                                                 getName() + " in " +
+                                                 getLineNumber() + " at " +
+                                                 getCharPosition() +
+                                                 " in " + getFileName() + "\"");
+        }
+
+        String name = dataNodeIdentifier.getName();
+        int low = 0;
+        int high = childIds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = childIds[mid].getName().compareTo(name);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                // Same name may be present in more than one namespace.
+                int first = mid;
+                while (first > 0 && childIds[first - 1].getName().equals(name)) {
+                    first--;
+                }
+                for (int i = first; i < childIds.length
+                        && childIds[i].getName().equals(name); i++) {
+                    if (dataNodeIdentifier.equals(childIds[i])) {
+                        return childContexts[i];
+                    }
+                }
+                break;
+            }
+        }
+        throw new DataModelException("Requested " + name +
+                                             " is not child in " + getName());
+    }
+
+    @Override
+    public void isValueValid(String value)
+            throws DataModelException {
+        isValueValidationApplicable();
+        valueChecker.check(value);
+    }
+
+    @Override
+    public YangBatchValidationResult isValueValid(CharSequence[] values, ForkJoinPool pool)
+            throws DataModelException {
+        isValueValidationApplicable();
+        return new YangBatchValidator(valueChecker)
+                .validate(YangBatchValidator.valueSource(values), pool);
+    }
+
+    @Override
+    public YangBatchValidationResult isValueValid(byte[] buffer, int[] offsets, ForkJoinPool pool)
+            throws DataModelException {
+        isValueValidationApplicable();
+        return new YangBatchValidator(valueChecker)
+                .validate(YangBatchValidator.valueSource(buffer, offsets), pool);
+    }
+
+    /**
+     * Checks whether value validation is applicable to the node.
+     *
+     * @throws DataModelException if the node is not a leaf/leaf-list
+     */
+    private void isValueValidationApplicable()
+            throws DataModelException {
+        if (!isLeafNode()) {
+            throw new DataModelException("Value validation asked for YANG node. "
+                                                 + getName() + " in " +
+                                                 getLineNumber() + " at " +
+                                                 getCharPosition()
+                                                 + " in " + getFileName() + "\"");
+        }
+    }
+
+    @Override
+    public int getMandatoryChildCount()
+            throws DataModelException {
+        if (isLeafNode()) {
+            throw new DataModelException("Leaf can't have child. " +
+                                                 getName() + " in " +
+                                                 getLineNumber() + " at " +
+                                                 getCharPosition() +
+                                                 " in " + getFileName() + "\"");
+        }
+        return mandatoryChildCount;
+    }
+
+    @Override
+    public Map<YangSchemaNodeIdentifier, YangSchemaNode> getDefaultChild(
+            YangSchemaNodeIdentifier dataNodeIdentifier) {
+        return defaultChildMap;
+    }
+
+    @Override
+    public String getJavaPackage() {
+        return javaPackage;
+    }
+
+    @Override
+    public String getJavaClassNameOrBuiltInType() {
+        return javaClassNameOrBuiltInType;
+    }
+
+    @Override
+    public YangSchemaNodeIdentifier getYangSchemaNodeIdentifier() {
+        return identifier;
+    }
+
+    @Override
+    public String getName() {
+        return identifier.getName();
+    }
+
+    @Override
+    public String getJavaAttributeName() {
+        return javaAttributeName;
+    }
+
+    @Override
+    public YangNamespace getNameSpace() {
+        return identifier.getNameSpace();
+    }
+
+    @Override
+    public boolean isNotificationPresent()
+            throws DataModelException {
+        if (notificationPresent == null) {
+            throw new DataModelException("Method is called for node other than module/sub-module.");
+        }
+        return notificationPresent;
+    }
+
+    @Override
+    public YangSchemaNode getNotificationSchemaNode(String notificationNameInEnum)
+            throws DataModelException {
+        if (notificationMap == null) {
+            throw new DataModelException("Method called for schema node other " +
+                                                 "then module/sub-module");
+        }
+        return notificationMap.get(notificationNameInEnum);
+    }
+
+    @Override
+    public YangSchemaNode getReferredSchema() {
+        return referredSchema;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public int getCharPosition() {
+        return charPosition;
+    }
+
+    @Override
+    public void setLineNumber(int lineNumber) {
+        throw new UnsupportedOperationException("Frozen schema node can't be modified");
+    }
+
+    @Override
+    public void setCharPosition(int charPositionInLine) {
+        throw new UnsupportedOperationException("Frozen schema node can't be modified");
+    }
+
+    @Override
+    public String getFileName() {
+        return fileName;
+    }
+
+    @Override
+    public void setFileName(String name) {
+        throw new UnsupportedOperationException("Frozen schema node can't be modified");
+    }
+}
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
@@ -446,6 +447,18 @@ public abstract class YangLeaf extends DefaultLocationInfo
         getDataType().isValidValue(value);
     }
 
+    @Override
+    public YangBatchValidationResult isValueValid(CharSequence[] values, ForkJoinPool pool)
+            throws DataModelException {
+        return getDataType().isValidValues(values, pool);
+    }
+
+    @Override
+    public YangBatchValidationResult isValueValid(byte[] buffer, int[] offsets, ForkJoinPool pool)
+            throws DataModelException {
+        return getDataType().isValidValues(buffer, offsets, pool);
+    }
+
     @Override
     public int getMandatoryChildCount()
             throws DataModelException {
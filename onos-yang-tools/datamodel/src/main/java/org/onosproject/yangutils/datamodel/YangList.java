@@ -135,6 +135,12 @@ public abstract class YangList
      */
     private List<String> uniqueList;
 
+    /**
+     * Unique leaf names of each unique statement, in the order of statements,
+     * as the combined values of the leaves of one statement are unique.
+     */
+    private List<List<String>> uniqueStatementList;
+
     /**
      * List of leaves.
      */
@@ -219,6 +225,7 @@ public abstract class YangList
         mustConstraintList = new LinkedList<>();
         ifFeatureList = new LinkedList<>();
         uniqueList = new LinkedList<>();
+        uniqueStatementList = new LinkedList<>();
         keyList = new LinkedList<>();
     }
 
@@ -403,6 +410,28 @@ public abstract class YangList
         getUniqueList().add(unique);
     }
 
+    /**
+     * Returns the unique leaf names of each unique statement.
+     *
+     * @return the unique leaf names of each unique statement
+     */
+    public List<List<String>> getUniqueStatementList() {
+        return uniqueStatementList;
+    }
+
+    /**
+     * Adds the unique leaf names of a unique statement, after they are added
+     * as unique field names.
+     *
+     * @param uniques unique leaf names of statement
+     */
+    public void addUniqueStatement(List<String> uniques) {
+        if (uniqueStatementList == null) {
+            uniqueStatementList = new LinkedList<>();
+        }
+        uniqueStatementList.add(uniques);
+    }
+
     /**
      * Returns the list of leaves.
      *
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_AUGMENT;
 import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_BASE;
 import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_COMPILER_ANNOTATION;
@@ -823,6 +824,11 @@ public abstract class YangModule
         notificationEnumMap.put(enumName, notification);
     }
 
+    @Override
+    public Map<String, YangSchemaNode> getNotificationEnumMap() {
+        return unmodifiableMap(notificationEnumMap);
+    }
+
     @Override
     public YangSchemaNode getNotificationSchemaNode(String enumName) {
         return notificationEnumMap.get(enumName);
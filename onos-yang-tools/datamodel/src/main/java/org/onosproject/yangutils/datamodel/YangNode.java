@@ -21,6 +21,7 @@ import org.onosproject.yangutils.datamodel.utils.Parsable;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
 import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
@@ -931,6 +932,26 @@ public abstract class YangNode
                                              + " in " + getFileName() + "\"");
     }
 
+    @Override
+    public YangBatchValidationResult isValueValid(CharSequence[] values, ForkJoinPool pool)
+            throws DataModelException {
+        throw new DataModelException("Value validation asked for YANG node. "
+                                             + getName() + " in " +
+                                             getLineNumber() + " at " +
+                                             getCharPosition()
+                                             + " in " + getFileName() + "\"");
+    }
+
+    @Override
+    public YangBatchValidationResult isValueValid(byte[] buffer, int[] offsets, ForkJoinPool pool)
+            throws DataModelException {
+        throw new DataModelException("Value validation asked for YANG node. "
+                                             + getName() + " in " +
+                                             getLineNumber() + " at " +
+                                             getCharPosition()
+                                             + " in " + getFileName() + "\"");
+    }
+
     @Override
     public YangSchemaNodeIdentifier getYangSchemaNodeIdentifier() {
         return yangSchemaNodeIdentifier;
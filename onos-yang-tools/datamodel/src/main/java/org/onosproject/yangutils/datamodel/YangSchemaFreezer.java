@@ -0,0 +1,479 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Represents the freezer which converts linked YANG schema trees into
+ * immutable {@link YangFrozenSchemaNode} snapshots for read only runtime
+ * use. Nodes shared by the given trees, through augment, choice/case or
+ * grouping references, are frozen once, and names and namespaces are
+ * de-duplicated across all of them. The snapshot holds no reference to the
+ * linked trees, so those can be released after freezing. Identifiers and
+ * context info of the snapshot are immutable too, as frozen nodes keep them
+ * in arrays sorted for binary search.
+ */
+public final class YangSchemaFreezer {
+
+    private static final String SEPARATOR = "\n";
+
+    // Interned names.
+    private final Map<String, String> names = new HashMap<>();
+
+    // Frozen namespaces, by module name and namespace.
+    private final Map<String, YangNamespace> namespaces = new HashMap<>();
+
+    // Frozen identifiers, by name, module name and namespace.
+    private final Map<String, YangSchemaNodeIdentifier> identifiers = new HashMap<>();
+
+    // Frozen nodes, by linked node.
+    private final Map<YangSchemaNode, YangFrozenSchemaNode> frozenNodes = new IdentityHashMap<>();
+
+    // Linked nodes whose frozen node is yet to be linked to its children.
+    private final Deque<YangSchemaNode> pendingNodes = new ArrayDeque<>();
+
+    // Creates an instance of YANG schema freezer.
+    private YangSchemaFreezer() {
+    }
+
+    /**
+     * Returns the frozen snapshot of a linked schema node.
+     *
+     * @param node linked schema node
+     * @return frozen schema node
+     * @throws DataModelException a violation in data model rule
+     */
+    public static YangSchemaNode freeze(YangSchemaNode node)
+            throws DataModelException {
+        YangSchemaFreezer freezer = new YangSchemaFreezer();
+        YangSchemaNode frozen = freezer.getFrozenNode(node);
+        freezer.linkPendingNodes();
+        return frozen;
+    }
+
+    /**
+     * Returns the frozen snapshots of linked schema nodes, typically all the
+     * modules of a registry, sharing names and namespaces among them.
+     *
+     * @param nodes linked schema nodes
+     * @return frozen schema nodes, in the order of given nodes
+     * @throws DataModelException a violation in data model rule
+     */
+    public static List<YangSchemaNode> freeze(Collection<? extends YangSchemaNode> nodes)
+            throws DataModelException {
+        YangSchemaFreezer freezer = new YangSchemaFreezer();
+        List<YangSchemaNode> frozen = new ArrayList<>(nodes.size());
+        for (YangSchemaNode node : nodes) {
+            frozen.add(freezer.getFrozenNode(node));
+        }
+        freezer.linkPendingNodes();
+        return unmodifiableList(frozen);
+    }
+
+    /**
+     * Returns the frozen node of a linked node, creating it if not yet
+     * frozen. Children of a newly created node are linked later, so that
+     * deep or cyclic references do not recurse.
+     *
+     * @param node linked node
+     * @return frozen node
+     * @throws DataModelException a violation in data model rule
+     */
+    private YangFrozenSchemaNode getFrozenNode(YangSchemaNode node)
+            throws DataModelException {
+        if (node == null) {
+            return null;
+        }
+        if (node instanceof YangFrozenSchemaNode) {
+            return (YangFrozenSchemaNode) node;
+        }
+        YangFrozenSchemaNode frozen = frozenNodes.get(node);
+        if (frozen == null) {
+            frozen = createFrozenNode(node);
+            frozenNodes.put(node, frozen);
+            pendingNodes.add(node);
+        }
+        return frozen;
+    }
+
+    /**
+     * Creates the frozen node of a linked node, without children.
+     *
+     * @param node linked node
+     * @return frozen node
+     * @throws DataModelException a violation in data model rule
+     */
+    private YangFrozenSchemaNode createFrozenNode(YangSchemaNode node)
+            throws DataModelException {
+        YangValueChecker valueChecker = null;
+        int mandatoryChildCount = 0;
+        if (node instanceof YangLeaf) {
+            valueChecker = ((YangLeaf) node).getDataType().getValueChecker();
+        } else if (node instanceof YangLeafList) {
+            valueChecker = ((YangLeafList) node).getDataType().getValueChecker();
+        } else {
+            mandatoryChildCount = node.getMandatoryChildCount();
+        }
+
+        Boolean notificationPresent = null;
+        if (node instanceof RpcNotificationContainer) {
+            notificationPresent = node.isNotificationPresent();
+        }
+
+        return new YangFrozenSchemaNode(node.getYangSchemaNodeType(),
+                                        getFrozenIdentifier(node.getYangSchemaNodeIdentifier()),
+                                        getJavaInfo(node::getJavaPackage),
+                                        getJavaInfo(node::getJavaClassNameOrBuiltInType),
+                                        getJavaInfo(node::getJavaAttributeName),
+                                        node, valueChecker, mandatoryChildCount,
+                                        notificationPresent);
+    }
+
+    /**
+     * Links the frozen nodes which are pending, to their children, referred
+     * schema, default children and notifications.
+     *
+     * @throws DataModelException a violation in data model rule
+     */
+    private void linkPendingNodes()
+            throws DataModelException {
+        while (!pendingNodes.isEmpty()) {
+            YangSchemaNode node = pendingNodes.poll();
+            YangFrozenSchemaNode frozen = frozenNodes.get(node);
+            frozen.setReferredSchema(getFrozenNode(node.getReferredSchema()));
+            if (!(node instanceof YangNode)) {
+                continue;
+            }
+
+            YangNode yangNode = (YangNode) node;
+            linkChildren(frozen, yangNode.getYsnContextInfoMap());
+            Map<YangSchemaNodeIdentifier, YangSchemaNode> defaultChildMap =
+                    yangNode.getDefaultChildMap();
+            if (defaultChildMap != null) {
+                frozen.setDefaultChildMap(getFrozenDefaultChildMap(defaultChildMap));
+            }
+            if (node instanceof RpcNotificationContainer) {
+                frozen.setNotificationMap(getFrozenNotificationMap(
+                        ((RpcNotificationContainer) node).getNotificationEnumMap()));
+            }
+        }
+    }
+
+    /**
+     * Links a frozen node to the frozen children of the child schema map.
+     *
+     * @param frozen frozen node
+     * @param map    child schema map of linked node
+     * @throws DataModelException a violation in data model rule
+     */
+    private void linkChildren(YangFrozenSchemaNode frozen,
+                              Map<YangSchemaNodeIdentifier, YangSchemaNodeContextInfo> map)
+            throws DataModelException {
+        if (map == null || map.isEmpty()) {
+            return;
+        }
+
+        YangSchemaNodeIdentifier[] ids = new YangSchemaNodeIdentifier[map.size()];
+        YangSchemaNodeContextInfo[] contexts = new YangSchemaNodeContextInfo[map.size()];
+        int count = 0;
+        for (Map.Entry<YangSchemaNodeIdentifier, YangSchemaNodeContextInfo> entry : map.entrySet()) {
+            ids[count] = getFrozenIdentifier(entry.getKey());
+            contexts[count] = new FrozenContextInfo(
+                    getFrozenNode(entry.getValue().getSchemaNode()),
+                    getFrozenNode(entry.getValue().getContextSwitchedNode()));
+            count++;
+        }
+
+        // Sort both arrays by name, for binary search.
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> ids[i].getName()));
+        YangSchemaNodeIdentifier[] sortedIds = new YangSchemaNodeIdentifier[count];
+        YangSchemaNodeContextInfo[] sortedContexts = new YangSchemaNodeContextInfo[count];
+        for (int i = 0; i < count; i++) {
+            sortedIds[i] = ids[order[i]];
+            sortedContexts[i] = contexts[order[i]];
+        }
+        frozen.setChildren(sortedIds, sortedContexts);
+    }
+
+    /**
+     * Returns the frozen map of default child nodes.
+     *
+     * @param map map of default child nodes of linked node
+     * @return frozen map of default child nodes
+     * @throws DataModelException a violation in data model rule
+     */
+    private Map<YangSchemaNodeIdentifier, YangSchemaNode> getFrozenDefaultChildMap(
+            Map<YangSchemaNodeIdentifier, YangSchemaNode> map)
+            throws DataModelException {
+        if (map.isEmpty()) {
+            return emptyMap();
+        }
+        Map<YangSchemaNodeIdentifier, YangSchemaNode> frozenMap = new HashMap<>(capacity(map.size()));
+        for (Map.Entry<YangSchemaNodeIdentifier, YangSchemaNode> entry : map.entrySet()) {
+            frozenMap.put(getFrozenIdentifier(entry.getKey()), getFrozenNode(entry.getValue()));
+        }
+        return unmodifiableMap(frozenMap);
+    }
+
+    /**
+     * Returns the frozen map of notification enum name to notification node.
+     *
+     * @param map notification map of linked node
+     * @return frozen notification map
+     * @throws DataModelException a violation in data model rule
+     */
+    private Map<String, YangSchemaNode> getFrozenNotificationMap(Map<String, YangSchemaNode> map)
+            throws DataModelException {
+        if (map.isEmpty()) {
+            return emptyMap();
+        }
+        Map<String, YangSchemaNode> frozenMap = new HashMap<>(capacity(map.size()));
+        for (Map.Entry<String, YangSchemaNode> entry : map.entrySet()) {
+            frozenMap.put(intern(entry.getKey()), getFrozenNode(entry.getValue()));
+        }
+        return unmodifiableMap(frozenMap);
+    }
+
+    /**
+     * Returns the frozen identifier for a linked identifier, shared by all
+     * identifiers with same name and namespace.
+     *
+     * @param id linked identifier
+     * @return frozen identifier
+     */
+    private YangSchemaNodeIdentifier getFrozenIdentifier(YangSchemaNodeIdentifier id) {
+        if (id == null) {
+            return null;
+        }
+        YangNamespace namespace = getFrozenNamespace(id.getNameSpace());
+        String key = id.getName() + SEPARATOR + getNamespaceKey(namespace);
+        YangSchemaNodeIdentifier frozen = identifiers.get(key);
+        if (frozen == null) {
+            frozen = new FrozenIdentifier(intern(id.getName()), namespace);
+            identifiers.put(key, frozen);
+        }
+        return frozen;
+    }
+
+    /**
+     * Returns the frozen namespace for a linked namespace, which is usually
+     * the module node itself.
+     *
+     * @param namespace linked namespace
+     * @return frozen namespace
+     */
+    private YangNamespace getFrozenNamespace(YangNamespace namespace) {
+        if (namespace == null) {
+            return null;
+        }
+        String key = getNamespaceKey(namespace);
+        YangNamespace frozen = namespaces.get(key);
+        if (frozen == null) {
+            frozen = new FrozenNamespace(intern(namespace.getModuleName()),
+                                         intern(namespace.getModuleNamespace()));
+            namespaces.put(key, frozen);
+        }
+        return frozen;
+    }
+
+    /**
+     * Returns the key of namespace, made of module name and namespace.
+     *
+     * @param namespace namespace
+     * @return key of namespace
+     */
+    private static String getNamespaceKey(YangNamespace namespace) {
+        if (namespace == null) {
+            return SEPARATOR;
+        }
+        return namespace.getModuleName() + SEPARATOR + namespace.getModuleNamespace();
+    }
+
+    /**
+     * Returns the interned instance of a string.
+     *
+     * @param value string
+     * @return interned string
+     */
+    private String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String interned = names.putIfAbsent(value, value);
+        return interned == null ? value : interned;
+    }
+
+    /**
+     * Returns the Java information of a node, null when it is not
+     * applicable to the node or the node is not translated.
+     *
+     * @param info Java information supplier
+     * @return Java information
+     */
+    private String getJavaInfo(Supplier<String> info) {
+        try {
+            return intern(info.get());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns hash map capacity to hold the given number of entries without
+     * resizing.
+     *
+     * @param size number of entries
+     * @return capacity
+     */
+    private static int capacity(int size) {
+        return size * 4 / 3 + 1;
+    }
+
+    /**
+     * Returns the exception thrown on modifying a frozen object.
+     *
+     * @return unsupported operation exception
+     */
+    private static UnsupportedOperationException frozenException() {
+        return new UnsupportedOperationException("Frozen schema can't be modified");
+    }
+
+    /**
+     * Represents the immutable identifier of a frozen schema node.
+     */
+    private static final class FrozenIdentifier extends YangSchemaNodeIdentifier {
+
+        private static final long serialVersionUID = 806201603L;
+
+        private FrozenIdentifier(String name, YangNamespace namespace) {
+            super.setName(name);
+            super.setNameSpace(namespace);
+        }
+
+        @Override
+        public void setName(String name) {
+            throw frozenException();
+        }
+
+        @Override
+        public void setNameSpace(YangNamespace namespace) {
+            throw frozenException();
+        }
+
+        @Override
+        public void setLineNumber(int lineNumber) {
+            throw frozenException();
+        }
+
+        @Override
+        public void setCharPosition(int charPositionInLine) {
+            throw frozenException();
+        }
+
+        @Override
+        public void setFileName(String name) {
+            throw frozenException();
+        }
+    }
+
+    /**
+     * Represents the immutable context info of a frozen child schema node.
+     */
+    private static final class FrozenContextInfo extends YangSchemaNodeContextInfo {
+
+        private static final long serialVersionUID = 806201604L;
+
+        private FrozenContextInfo(YangSchemaNode schemaNode,
+                                  YangSchemaNode contextSwitchedNode) {
+            super.setSchemaNode(schemaNode);
+            super.setContextSwitchedNode(contextSwitchedNode);
+        }
+
+        @Override
+        void setSchemaNode(YangSchemaNode schemaNode) {
+            throw frozenException();
+        }
+
+        @Override
+        void setContextSwitchedNode(YangSchemaNode contextSwitchedNode) {
+            throw frozenException();
+        }
+
+        @Override
+        public void setLineNumber(int lineNumber) {
+            throw frozenException();
+        }
+
+        @Override
+        public void setCharPosition(int charPositionInLine) {
+            throw frozenException();
+        }
+
+        @Override
+        public void setFileName(String name) {
+            throw frozenException();
+        }
+    }
+
+    /**
+     * Represents the immutable namespace of a frozen schema node.
+     */
+    private static final class FrozenNamespace implements YangNamespace, Serializable {
+
+        private static final long serialVersionUID = 806201602L;
+
+        private final String moduleName;
+        private final String moduleNamespace;
+
+        private FrozenNamespace(String moduleName, String moduleNamespace) {
+            this.moduleName = moduleName;
+            this.moduleNamespace = moduleNamespace;
+        }
+
+        @Override
+        public String getModuleNamespace() {
+            return moduleNamespace;
+        }
+
+        @Override
+        public String getModuleName() {
+            return moduleName;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.onosproject.yangutils.datamodel;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Abstraction of YANG data node, used by YMS to abstractly refer the data
@@ -54,6 +55,35 @@ public interface YangSchemaNode extends LocationInfo {
     void isValueValid(String value)
             throws DataModelException;
 
+    /**
+     * Validates whether a batch of leaf/leaf-list values is valid as per
+     * YANG. The type is resolved once for the whole batch.
+     *
+     * @param values values of leaf/leaf-list
+     * @param pool   fork-join pool to split large batches across, null to
+     *               validate in the calling thread
+     * @return batch validation result
+     * @throws DataModelException a violation in data model rule
+     */
+    YangBatchValidationResult isValueValid(CharSequence[] values, ForkJoinPool pool)
+            throws DataModelException;
+
+    /**
+     * Validates whether a batch of leaf/leaf-list values, packed in a UTF-8
+     * buffer, is valid as per YANG. Value i spans bytes offsets[i]
+     * (inclusive) to offsets[i + 1] (exclusive). The type is resolved once
+     * for the whole batch.
+     *
+     * @param buffer  packed UTF-8 buffer of leaf/leaf-list values
+     * @param offsets value offsets, one more than the number of values
+     * @param pool    fork-join pool to split large batches across, null to
+     *                validate in the calling thread
+     * @return batch validation result
+     * @throws DataModelException a violation in data model rule
+     */
+    YangBatchValidationResult isValueValid(byte[] buffer, int[] offsets, ForkJoinPool pool)
+            throws DataModelException;
+
     /**
      * Returns count of mandatory child nodes, this is used by YMS to identify
      * whether in request all mandatory child nodes are available.
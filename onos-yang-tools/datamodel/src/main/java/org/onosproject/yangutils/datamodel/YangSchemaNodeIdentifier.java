@@ -115,6 +115,10 @@ public class YangSchemaNodeIdentifier extends DefaultLocationInfo
 
     @Override
     public int hashCode() {
-        return 0;
+        /*
+         * Equal identifiers always have equal names, while they may match
+         * on either module name or namespace, so only name is hashed.
+         */
+        return Objects.hashCode(name);
     }
 }
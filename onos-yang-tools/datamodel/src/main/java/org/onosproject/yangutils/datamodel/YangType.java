@@ -18,6 +18,7 @@ package org.onosproject.yangutils.datamodel;
 
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.DataModelUtils;
+import org.onosproject.yangutils.datamodel.utils.FractionDigits;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.ResolvableStatus;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
@@ -26,9 +27,16 @@ import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint64;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
 
 import static org.onosproject.yangutils.datamodel.BuiltInTypeObjectFactory.getDataObjectFromString;
 import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.UNRESOLVED;
@@ -479,12 +487,391 @@ public class YangType<T> extends DefaultLocationInfo
     }
 
 
+    /**
+     * Validates a batch of input data values against the permissible value
+     * for the type as per the YANG file. The type is resolved once for the
+     * whole batch.
+     *
+     * @param values input data values
+     * @param pool   fork-join pool to split large batches across, null to
+     *               validate in the calling thread
+     * @return batch validation result
+     */
+    public YangBatchValidationResult isValidValues(CharSequence[] values, ForkJoinPool pool) {
+        return new YangBatchValidator(getValueChecker())
+                .validate(YangBatchValidator.valueSource(values), pool);
+    }
+
+    /**
+     * Validates a batch of input data values, packed in a UTF-8 buffer,
+     * against the permissible value for the type as per the YANG file. Value
+     * i spans bytes offsets[i] (inclusive) to offsets[i + 1] (exclusive). The
+     * type is resolved once for the whole batch.
+     *
+     * @param buffer  packed UTF-8 buffer of input data values
+     * @param offsets value offsets, one more than the number of values
+     * @param pool    fork-join pool to split large batches across, null to
+     *                validate in the calling thread
+     * @return batch validation result
+     */
+    public YangBatchValidationResult isValidValues(byte[] buffer, int[] offsets, ForkJoinPool pool) {
+        return new YangBatchValidator(getValueChecker())
+                .validate(YangBatchValidator.valueSource(buffer, offsets), pool);
+    }
+
+    /**
+     * Returns the value checker for the type, with the effective built-in
+     * type and its restrictions resolved once. It follows the rules of
+     * {@link #isValidValue(String)}, while leaving the data model untouched
+     * so that it can be shared across threads. The checker holds only
+     * copies of the restrictions, not the type or the data model tree, and
+     * rejects a value with a data model exception.
+     *
+     * @return value checker
+     */
+    YangValueChecker getValueChecker() {
+        if (getDataType() != DERIVED) {
+            return getValueChecker(getDataType(), getDataTypeExtendedInfo());
+        }
+
+        YangDerivedInfo<?> derivedInfo = (YangDerivedInfo<?>) getDataTypeExtendedInfo();
+        YangDataTypes dataType = derivedInfo.getEffectiveBuiltInType();
+        Object info = derivedInfo.getResolvedExtendedInfo();
+        if (isOfRangeRestrictedType(dataType) || dataType == YangDataTypes.BINARY) {
+            return getValueChecker(dataType, info);
+        }
+        if (dataType == YangDataTypes.STRING) {
+            return getValueChecker(dataType, info instanceof YangStringRestriction ? info : null);
+        }
+        if (dataType == YangDataTypes.BITS || dataType == YangDataTypes.DECIMAL64) {
+            YangType<?> type = derivedInfo.getReferredTypeDef().getTypeList().iterator().next();
+            return getValueChecker(dataType, type.getDataTypeExtendedInfo());
+        }
+        // Other derived types are not validated.
+        return value -> {
+        };
+    }
+
+    /**
+     * Returns the value checker for the given built-in type and its
+     * extended info, rejecting a value with a data model exception.
+     *
+     * @param dataType built-in data type
+     * @param info     extended info of the data type
+     * @return value checker
+     */
+    private static YangValueChecker getValueChecker(YangDataTypes dataType, Object info) {
+        YangValueChecker checker = getBuiltInValueChecker(dataType, info);
+        return value -> {
+            try {
+                checker.check(value);
+            } catch (DataTypeException e) {
+                throw new DataModelException(e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Returns the value checker for the given built-in type and its
+     * extended info, which may reject a value with a data type exception.
+     *
+     * @param dataType built-in data type
+     * @param info     extended info of the data type
+     * @return value checker
+     */
+    private static YangValueChecker getBuiltInValueChecker(YangDataTypes dataType, Object info) {
+        switch (dataType) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+            case UINT64: {
+                YangRangeRestriction<?> range = (YangRangeRestriction<?>) info;
+                if (range == null) {
+                    return value -> getDataObjectFromString(value, dataType);
+                }
+                return value -> {
+                    if (!range.isValidValueString(value)) {
+                        throw getInvalidValueException(value, dataType);
+                    }
+                };
+            }
+            case DECIMAL64: {
+                YangDecimal64<YangRangeRestriction> decimal64 = (YangDecimal64<YangRangeRestriction>) info;
+                int fractionDigit = decimal64.getFractionDigit();
+                BigDecimal[] bounds = getDecimal64Bounds(decimal64.getRangeRestrictedExtendedInfo());
+                return value -> {
+                    BigDecimal decimal = YangDecimal64.fromString(value).getValue();
+                    if (bounds == null ? !FractionDigits.isValueInDecimal64Range(decimal, fractionDigit)
+                            : !isWithinBounds(decimal, bounds)) {
+                        throw getInvalidValueException(value, dataType);
+                    }
+                };
+            }
+            case STRING: {
+                if (info == null) {
+                    return value -> {
+                    };
+                }
+                YangStringRestriction restriction = (YangStringRestriction) info;
+                long[] lengthBounds = getLengthBounds(restriction.getLengthRestriction());
+                List<Pattern> patterns = new ArrayList<>();
+                if (restriction.getPatternRestriction() != null) {
+                    for (String pattern : restriction.getPatternRestriction().getPatternList()) {
+                        patterns.add(Pattern.compile(pattern));
+                    }
+                }
+                return value -> {
+                    if (!(isWithinBounds(value.length(), lengthBounds)
+                            && isMatchingAnyPattern(value, patterns))) {
+                        throw getInvalidValueException(value, dataType);
+                    }
+                };
+            }
+            case BOOLEAN:
+                return value -> {
+                    if (!(value.equals(DataModelUtils.TRUE) || value.equals(DataModelUtils.FALSE))) {
+                        throw getInvalidValueException(value, dataType);
+                    }
+                };
+            case ENUMERATION: {
+                Set<String> names = new HashSet<>();
+                for (YangEnum yangEnum : ((YangEnumeration) info).getEnumSet()) {
+                    names.add(yangEnum.getNamedValue());
+                }
+                return value -> {
+                    if (!names.contains(value)) {
+                        throw getInvalidValueException(value, dataType);
+                    }
+                };
+            }
+            case BITS: {
+                Set<String> names = ((YangBits) info).getBitNameMap().keySet();
+                return value -> {
+                    if (!isValidBitNames(value.trim(), names)) {
+                        throw getInvalidValueException(value, dataType);
+                    }
+                };
+            }
+            case BINARY: {
+                long[] lengthBounds = getLengthBounds((YangRangeRestriction<YangUint64>) info);
+                return value -> {
+                    // After decoding binary, its length should not be zero.
+                    long length = YangBinary.decodedLength(value);
+                    if (length <= 0 || !isWithinBounds(length, lengthBounds)) {
+                        throw getInvalidValueException(value, dataType);
+                    }
+                };
+            }
+            case LEAFREF: {
+                /*
+                 * Value is checked against the type of referred leaf, the
+                 * leafref itself is not held to keep the checker detached
+                 * from the referred data model tree. Leafref which does not
+                 * refer to a leaf yet is not validated.
+                 */
+                YangLeafRef<?> leafRef = (YangLeafRef<?>) info;
+                YangType<?> referredType = leafRef.getEffectiveDataType();
+                Object referred = leafRef.getReferredLeafOrLeafList();
+                if (referredType == null && referred instanceof YangLeaf) {
+                    referredType = ((YangLeaf) referred).getDataType();
+                } else if (referredType == null && referred instanceof YangLeafList) {
+                    referredType = ((YangLeafList) referred).getDataType();
+                }
+                if (referredType != null) {
+                    return referredType.getValueChecker();
+                }
+                return value -> {
+                };
+            }
+            case IDENTITYREF:
+            case INSTANCE_IDENTIFIER:
+                /*
+                 * Any value is accepted, as by isValidValue. Whether an
+                 * identity or instance exists is only known from the
+                 * identities and data tree at hand, not from the type.
+                 */
+                return value -> {
+                };
+            case EMPTY:
+                return value -> {
+                    if (value.length() > 0) {
+                        throw new DataTypeException("YANG file error : Input value \"" + value
+                                                            + "\" is not allowed for a data type " + dataType);
+                    }
+                };
+            case UNION: {
+                List<YangValueChecker> members = new ArrayList<>();
+                for (YangType<?> type : ((YangUnion) info).getTypeList()) {
+                    members.add(type.getValueChecker());
+                }
+                return value -> {
+                    for (YangValueChecker member : members) {
+                        try {
+                            member.check(value);
+                            return;
+                        } catch (DataModelException e) {
+                            // Value may be valid for a following member.
+                        }
+                    }
+                    throw getInvalidValueException(value, dataType);
+                };
+            }
+            default:
+                return value -> {
+                    throw new DataTypeException("YANG file error : Input value \"" + value + "\" received for " +
+                                                        "unsupported data type " + dataType);
+                };
+        }
+    }
+
+    /**
+     * Returns the exception for an input value which is not valid for the
+     * data type.
+     *
+     * @param value    input data value
+     * @param dataType data type
+     * @return data type exception
+     */
+    private static DataTypeException getInvalidValueException(String value, YangDataTypes dataType) {
+        return new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
+                                             dataType);
+    }
+
+    /**
+     * Returns a copy of the bounds of a length restriction, as start and end
+     * of each interval in ascending order, null when there is no
+     * restriction. The checker uses the copy, as checking on the
+     * restriction itself updates its intervals.
+     *
+     * @param length length restriction
+     * @return length bounds
+     */
+    private static long[] getLengthBounds(YangRangeRestriction<YangUint64> length) {
+        if (length == null || length.getAscendingRangeIntervals() == null
+                || length.getAscendingRangeIntervals().isEmpty()) {
+            return null;
+        }
+        List<YangRangeInterval<YangUint64>> intervals = length.getAscendingRangeIntervals();
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        long[] bounds = new long[intervals.size() * 2];
+        for (int i = 0; i < intervals.size(); i++) {
+            bounds[2 * i] = intervals.get(i).getStartValue().getValue().min(max).longValue();
+            bounds[2 * i + 1] = intervals.get(i).getEndValue().getValue().min(max).longValue();
+        }
+        return bounds;
+    }
+
+    /**
+     * Returns a copy of the bounds of a decimal64 range restriction, as start
+     * and end of each interval in ascending order, null when there is no
+     * restriction.
+     *
+     * @param range range restriction
+     * @return range bounds
+     */
+    private static BigDecimal[] getDecimal64Bounds(YangRangeRestriction<?> range) {
+        if (range == null || range.getAscendingRangeIntervals() == null
+                || range.getAscendingRangeIntervals().isEmpty()) {
+            return null;
+        }
+        List<? extends YangRangeInterval<?>> intervals = range.getAscendingRangeIntervals();
+        BigDecimal[] bounds = new BigDecimal[intervals.size() * 2];
+        for (int i = 0; i < intervals.size(); i++) {
+            bounds[2 * i] = ((YangDecimal64) intervals.get(i).getStartValue()).getValue();
+            bounds[2 * i + 1] = ((YangDecimal64) intervals.get(i).getEndValue()).getValue();
+        }
+        return bounds;
+    }
+
+    /**
+     * Checks whether the length is within any of the bounds, true when there
+     * are no bounds.
+     *
+     * @param length length of value
+     * @param bounds length bounds
+     * @return true if within bounds, false otherwise
+     */
+    private static boolean isWithinBounds(long length, long[] bounds) {
+        if (bounds == null) {
+            return true;
+        }
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (length >= bounds[i] && length <= bounds[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the decimal is within any of the bounds.
+     *
+     * @param decimal decimal64 value
+     * @param bounds  range bounds
+     * @return true if within bounds, false otherwise
+     */
+    private static boolean isWithinBounds(BigDecimal decimal, BigDecimal[] bounds) {
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (decimal.compareTo(bounds[i]) >= 0 && decimal.compareTo(bounds[i + 1]) <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the value matches any of the compiled patterns, true
+     * when there are no patterns.
+     *
+     * @param value    input data value
+     * @param patterns compiled patterns
+     * @return true if matched, false otherwise
+     */
+    private static boolean isMatchingAnyPattern(String value, List<Pattern> patterns) {
+        if (patterns.isEmpty()) {
+            return true;
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(value).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether every space separated name in the trimmed bits value
+     * is one of the bit names.
+     *
+     * @param bits  trimmed bits value
+     * @param names bit names
+     * @return true if valid, false otherwise
+     */
+    private static boolean isValidBitNames(String bits, Set<String> names) {
+        int start = 0;
+        while (true) {
+            int end = bits.indexOf(' ', start);
+            String name = end < 0 ? bits.substring(start) : bits.substring(start, end);
+            if (!names.contains(name)) {
+                return false;
+            }
+            if (end < 0) {
+                return true;
+            }
+            start = end + 1;
+        }
+    }
+
     /**
      * Checks whether specific string is valid decimal64 value.
      *
      * @param value decimal64 value
      */
-    private void validateDecimal64(String value, int fractionDigit, YangRangeRestriction rangeRestriction)
+    private static void validateDecimal64(String value, int fractionDigit, YangRangeRestriction rangeRestriction)
             throws DataModelException {
         YangDecimal64<YangRangeRestriction> decimal64 = YangDecimal64.fromString(value);
         decimal64.setFractionDigit(fractionDigit);
@@ -493,16 +880,18 @@ public class YangType<T> extends DefaultLocationInfo
     }
 
     /**
-     * Checks whether specific string is valid binary.
+     * Checks whether specific string is valid binary. The value is checked
+     * for base64 well-formedness and the length restriction is applied on
+     * the decoded octet count, without decoding the value.
      *
      * @param value binary value
      * @return true if validation success otherwise false
      */
-    private boolean isValidBinary(String value, YangRangeRestriction lengthRestriction) {
-        YangBinary binary = new YangBinary(value);
+    private static boolean isValidBinary(String value, YangRangeRestriction lengthRestriction) {
+        long length = YangBinary.decodedLength(value);
 
         // After decoding binary, its length should not be zero
-        if (binary.getBinaryData().length == 0) {
+        if (length <= 0) {
             return false;
         }
 
@@ -512,19 +901,15 @@ public class YangType<T> extends DefaultLocationInfo
             return true;
         }
 
+        BigInteger octets = BigInteger.valueOf(length);
         ListIterator<YangRangeInterval<YangUint64>> rangeListIterator = lengthRestriction.getAscendingRangeIntervals()
                 .listIterator();
         boolean isMatched = false;
         while (rangeListIterator.hasNext()) {
             YangRangeInterval rangeInterval = rangeListIterator.next();
-            rangeInterval.setFileName(getFileName());
-            rangeInterval.setLineNumber(getLineNumber());
-            rangeInterval.setCharPosition(getCharPosition());
             BigInteger startValue = ((YangUint64) rangeInterval.getStartValue()).getValue();
             BigInteger endValue = ((YangUint64) rangeInterval.getEndValue()).getValue();
-            // convert (encode) back and check length
-            if ((binary.toString().length() >= startValue.intValue()) &&
-                    (binary.toString().length() <= endValue.intValue())) {
+            if (octets.compareTo(startValue) >= 0 && octets.compareTo(endValue) <= 0) {
                 isMatched = true;
                 break;
             }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+/**
+ * Abstraction of a value checker for a YANG type, with the effective
+ * built-in type and its restrictions resolved up front. It is used to
+ * validate many values of the same leaf/leaf-list without re-dispatching
+ * on the type for every value.
+ */
+interface YangValueChecker {
+
+    /**
+     * Checks whether the value is valid as per the resolved type.
+     *
+     * @param value input data value
+     * @throws DataModelException a violation of data model rules
+     */
+    void check(String value)
+            throws DataModelException;
+}
@@ -21,6 +21,7 @@ import org.onosproject.yangutils.datamodel.ResolvableType;
 import org.onosproject.yangutils.datamodel.YangAtomicPath;
 import org.onosproject.yangutils.datamodel.YangAugment;
 import org.onosproject.yangutils.datamodel.YangBase;
+import org.onosproject.yangutils.datamodel.YangBelongsTo;
 import org.onosproject.yangutils.datamodel.YangCompilerAnnotation;
 import org.onosproject.yangutils.datamodel.YangDeviation;
 import org.onosproject.yangutils.datamodel.YangEntityToResolveInfoImpl;
@@ -28,6 +29,7 @@ import org.onosproject.yangutils.datamodel.YangEnumeration;
 import org.onosproject.yangutils.datamodel.YangIdentityRef;
 import org.onosproject.yangutils.datamodel.YangIfFeature;
 import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangInclude;
 import org.onosproject.yangutils.datamodel.YangLeaf;
 import org.onosproject.yangutils.datamodel.YangLeafList;
 import org.onosproject.yangutils.datamodel.YangLeafRef;
@@ -36,7 +38,9 @@ import org.onosproject.yangutils.datamodel.YangModule;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangReferenceResolver;
 import org.onosproject.yangutils.datamodel.YangResolutionInfo;
+import org.onosproject.yangutils.datamodel.YangRevision;
 import org.onosproject.yangutils.datamodel.YangRpc;
+import org.onosproject.yangutils.datamodel.YangSubModule;
 import org.onosproject.yangutils.datamodel.YangType;
 import org.onosproject.yangutils.datamodel.YangUnion;
 import org.onosproject.yangutils.datamodel.YangUses;
@@ -51,16 +55,19 @@ import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_DEVIATION;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaArchive.SCHEMA_ARCHIVE_EXTENSION;
 
 /**
  * Represents utilities for data model tree.
@@ -69,6 +76,7 @@ public final class DataModelUtils {
     public static final String TRUE = "true";
     public static final String FALSE = "false";
     private static final String SLASH = File.separator;
+    private static final int COPY_BUFFER_SIZE = 8192;
 
     /**
      * Creates a new data model tree utility.
@@ -322,6 +330,19 @@ public final class DataModelUtils {
         return currentNode.getParent();
     }
 
+    /**
+     * Returns memory mapped schema archive, whose modules are de-serialized
+     * on demand.
+     *
+     * @param archiveFile schema archive file
+     * @return schema archive
+     * @throws IOException when fails do IO operations
+     */
+    public static YangSchemaArchive openSchemaArchive(String archiveFile)
+            throws IOException {
+        return YangSchemaArchive.open(archiveFile);
+    }
+
     /**
      * Returns de-serializes YANG data-model nodes.
      *
@@ -345,6 +366,60 @@ public final class DataModelUtils {
         return nodes;
     }
 
+    /**
+     * Links the imports, includes and belongs-to of a de-serialized
+     * module/sub-module node with the nodes given by the lookup, as the
+     * schema archive does not serialize these references. A reference whose node is not found, or
+     * does not match the referred revision, is left for the linker.
+     *
+     * @param node   de-serialized module/sub-module node
+     * @param lookup returns the module/sub-module node of a name, null if
+     *               not known
+     */
+    public static void linkReferredModules(YangNode node,
+                                           Function<String, YangNode> lookup) {
+        if (!(node instanceof YangReferenceResolver)) {
+            return;
+        }
+        YangReferenceResolver resolver = (YangReferenceResolver) node;
+        for (YangImport yangImport : resolver.getImportList()) {
+            YangNode module = lookup.apply(yangImport.getModuleName());
+            if (module instanceof YangModule &&
+                    isRevisionMatched(yangImport.getRevision(),
+                                      ((YangModule) module).getRevision())) {
+                yangImport.setImportedNode(module);
+            }
+        }
+        for (YangInclude yangInclude : resolver.getIncludeList()) {
+            YangNode subModule = lookup.apply(yangInclude.getSubModuleName());
+            if (subModule instanceof YangSubModule &&
+                    isRevisionMatched(yangInclude.getRevision(),
+                                      ((YangSubModule) subModule).getRevision())) {
+                yangInclude.setIncludedNode(subModule);
+            }
+        }
+        if (node instanceof YangSubModule) {
+            YangBelongsTo belongsTo = ((YangSubModule) node).getBelongsTo();
+            YangNode module = lookup.apply(belongsTo.getBelongsToModuleName());
+            if (module instanceof YangModule) {
+                belongsTo.setModuleNode(module);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the referred revision, if any, is the revision of the
+     * referred node.
+     *
+     * @param referred referred revision, null if not specified
+     * @param revision revision of referred node
+     * @return true if revision matches
+     */
+    private static boolean isRevisionMatched(Date referred, YangRevision revision) {
+        return referred == null ||
+                revision != null && referred.equals(revision.getRevDate());
+    }
+
     /**
      * Adds the list of leaf present under a node to resolution list, after
      * cloning. Under the cloned node, with cloned leaf, attributes are set
@@ -831,40 +906,81 @@ public final class DataModelUtils {
             throws IOException {
 
         List<YangNode> nodes = new ArrayList<>();
-        JarFile jar = new JarFile(jarFile);
-        Enumeration<?> enumEntries = jar.entries();
-
-        while (enumEntries.hasMoreElements()) {
-            JarEntry file = (JarEntry) enumEntries.nextElement();
-            if (file.getName().endsWith(".ser")) {
-
-                if (file.getName().contains(SLASH)) {
-                    String[] strArray = file.getName().split(SLASH);
-                    String tempPath = "";
-                    for (int i = 0; i < strArray.length - 1; i++) {
-                        tempPath = SLASH + tempPath + SLASH + strArray[i];
-                    }
-                    File dir = new File(directory + tempPath);
-                    dir.mkdirs();
-                }
-                File serializedFile = new File(directory + SLASH + file.getName());
-                if (file.isDirectory()) {
-                    serializedFile.mkdirs();
-                    continue;
-                }
-                InputStream inputStream = jar.getInputStream(file);
+        for (File serializedFile : extractJarFile(jarFile, directory, ".ser")) {
+            nodes.addAll(deSerializeDataModel(serializedFile.toString()));
+        }
+        return nodes;
+    }
+
+    /**
+     * Parses jar file and returns the schema archives in it, memory mapped.
+     * Modules of the archives are de-serialized on demand.
+     *
+     * @param jarFile   jar file to be parsed
+     * @param directory directory where to extract archives
+     * @return list of schema archives
+     * @throws IOException when fails to do IO operations
+     */
+    public static List<YangSchemaArchive> parseJarFileToSchemaArchives(String jarFile,
+                                                                       String directory)
+            throws IOException {
+
+        List<YangSchemaArchive> archives = new ArrayList<>();
+        for (File archiveFile : extractJarFile(jarFile, directory,
+                                               SCHEMA_ARCHIVE_EXTENSION)) {
+            archives.add(YangSchemaArchive.open(archiveFile.toString()));
+        }
+        return archives;
+    }
 
-                FileOutputStream fileOutputStream = new FileOutputStream(serializedFile);
-                while (inputStream.available() > 0) {
-                    fileOutputStream.write(inputStream.read());
+    /**
+     * Extracts the entries of jar file with given extension to directory.
+     *
+     * @param jarFile   jar file to be parsed
+     * @param directory directory where to extract
+     * @param extension extension of entries to be extracted
+     * @return extracted files
+     * @throws IOException when fails to do IO operations
+     */
+    private static List<File> extractJarFile(String jarFile, String directory,
+                                             String extension)
+            throws IOException {
+
+        List<File> files = new ArrayList<>();
+        try (JarFile jar = new JarFile(jarFile)) {
+            Enumeration<?> enumEntries = jar.entries();
+
+            while (enumEntries.hasMoreElements()) {
+                JarEntry file = (JarEntry) enumEntries.nextElement();
+                if (file.getName().endsWith(extension)) {
+
+                    if (file.getName().contains(SLASH)) {
+                        String[] strArray = file.getName().split(SLASH);
+                        String tempPath = "";
+                        for (int i = 0; i < strArray.length - 1; i++) {
+                            tempPath = SLASH + tempPath + SLASH + strArray[i];
+                        }
+                        File dir = new File(directory + tempPath);
+                        dir.mkdirs();
+                    }
+                    File extractedFile = new File(directory + SLASH + file.getName());
+                    if (file.isDirectory()) {
+                        extractedFile.mkdirs();
+                        continue;
+                    }
+                    try (InputStream inputStream = jar.getInputStream(file);
+                         FileOutputStream fileOutputStream = new FileOutputStream(extractedFile)) {
+                        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                        int count;
+                        while ((count = inputStream.read(buffer)) > 0) {
+                            fileOutputStream.write(buffer, 0, count);
+                        }
+                    }
+                    files.add(extractedFile);
                 }
-                fileOutputStream.close();
-                inputStream.close();
-                nodes.addAll(deSerializeDataModel(serializedFile.toString()));
             }
         }
-        jar.close();
-        return nodes;
+        return files;
     }
 
     // Validates whether multiple deviation statement's Xpath is referring
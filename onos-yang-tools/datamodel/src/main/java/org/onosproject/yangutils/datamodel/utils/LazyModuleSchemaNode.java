@@ -0,0 +1,262 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangBatchValidationResult;
+import org.onosproject.yangutils.datamodel.YangNamespace;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNodeContextInfo;
+import org.onosproject.yangutils.datamodel.YangSchemaNodeIdentifier;
+import org.onosproject.yangutils.datamodel.YangSchemaNodeType;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_SINGLE_INSTANCE_NODE;
+
+/**
+ * Represents the schema node of a module in a YANG schema archive. Name,
+ * namespace and prefix are served from the archive directory, any other
+ * request loads the module from the archive on first use, and again after
+ * the module is evicted.
+ */
+public final class LazyModuleSchemaNode implements YangSchemaNode,
+        RpcNotificationContainer {
+
+    private final YangSchemaArchive archive;
+    private final String name;
+    private final String prefix;
+    private final YangSchemaNodeIdentifier identifier;
+
+    /**
+     * Creates a lazy module schema node.
+     *
+     * @param archive   schema archive holding the module
+     * @param name      module name
+     * @param namespace module namespace
+     * @param prefix    module prefix
+     */
+    LazyModuleSchemaNode(YangSchemaArchive archive, String name,
+                         String namespace, String prefix) {
+        this.archive = archive;
+        this.name = name;
+        this.prefix = prefix;
+        identifier = new YangSchemaNodeIdentifier();
+        identifier.setName(name);
+        identifier.setNameSpace(new ArchivedNamespace(name, namespace));
+    }
+
+    /**
+     * Returns the module node, loading it from the archive if not loaded.
+     *
+     * @return module node
+     */
+    private YangNode module() {
+        try {
+            return archive.getModule(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public YangSchemaNodeType getYangSchemaNodeType() {
+        return YANG_SINGLE_INSTANCE_NODE;
+    }
+
+    @Override
+    public YangSchemaNodeContextInfo getChildSchema(YangSchemaNodeIdentifier dataNodeIdentifier)
+            throws DataModelException {
+        return module().getChildSchema(dataNodeIdentifier);
+    }
+
+    @Override
+    public void isValueValid(String value)
+            throws DataModelException {
+        module().isValueValid(value);
+    }
+
+    @Override
+    public YangBatchValidationResult isValueValid(CharSequence[] values, ForkJoinPool pool)
+            throws DataModelException {
+        return module().isValueValid(values, pool);
+    }
+
+    @Override
+    public YangBatchValidationResult isValueValid(byte[] buffer, int[] offsets, ForkJoinPool pool)
+            throws DataModelException {
+        return module().isValueValid(buffer, offsets, pool);
+    }
+
+    @Override
+    public int getMandatoryChildCount()
+            throws DataModelException {
+        return module().getMandatoryChildCount();
+    }
+
+    @Override
+    public Map<YangSchemaNodeIdentifier, YangSchemaNode> getDefaultChild(
+            YangSchemaNodeIdentifier dataNodeIdentifier) {
+        return module().getDefaultChild(dataNodeIdentifier);
+    }
+
+    @Override
+    public String getJavaPackage() {
+        return module().getJavaPackage();
+    }
+
+    @Override
+    public String getJavaClassNameOrBuiltInType() {
+        return module().getJavaClassNameOrBuiltInType();
+    }
+
+    @Override
+    public YangSchemaNodeIdentifier getYangSchemaNodeIdentifier() {
+        return identifier;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getJavaAttributeName() {
+        return module().getJavaAttributeName();
+    }
+
+    @Override
+    public YangNamespace getNameSpace() {
+        return identifier.getNameSpace();
+    }
+
+    @Override
+    public boolean isNotificationPresent()
+            throws DataModelException {
+        return module().isNotificationPresent();
+    }
+
+    @Override
+    public YangSchemaNode getNotificationSchemaNode(String notificationNameInEnum)
+            throws DataModelException {
+        return module().getNotificationSchemaNode(notificationNameInEnum);
+    }
+
+    @Override
+    public YangSchemaNode getReferredSchema() {
+        return module().getReferredSchema();
+    }
+
+    @Override
+    public void setNotificationPresenceFlag(boolean notificationPresent) {
+        ((RpcNotificationContainer) module()).setNotificationPresenceFlag(notificationPresent);
+    }
+
+    @Override
+    public void addToNotificationEnumMap(String enumName, YangSchemaNode schemaNode) {
+        ((RpcNotificationContainer) module()).addToNotificationEnumMap(enumName, schemaNode);
+    }
+
+    @Override
+    public Map<String, YangSchemaNode> getNotificationEnumMap() {
+        return ((RpcNotificationContainer) module()).getNotificationEnumMap();
+    }
+
+    @Override
+    public void addToAugmentList(YangAugment augment) {
+        ((RpcNotificationContainer) module()).addToAugmentList(augment);
+    }
+
+    @Override
+    public List<YangAugment> getAugmentList() {
+        return ((RpcNotificationContainer) module()).getAugmentList();
+    }
+
+    @Override
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public List<YangNode> getNotificationNodes() {
+        return ((RpcNotificationContainer) module()).getNotificationNodes();
+    }
+
+    @Override
+    public int getLineNumber() {
+        return module().getLineNumber();
+    }
+
+    @Override
+    public int getCharPosition() {
+        return module().getCharPosition();
+    }
+
+    @Override
+    public void setLineNumber(int lineNumber) {
+        module().setLineNumber(lineNumber);
+    }
+
+    @Override
+    public void setCharPosition(int charPositionInLine) {
+        module().setCharPosition(charPositionInLine);
+    }
+
+    @Override
+    public String getFileName() {
+        return module().getFileName();
+    }
+
+    @Override
+    public void setFileName(String name) {
+        module().setFileName(name);
+    }
+
+    /**
+     * Represents the namespace of a module, from the archive directory.
+     */
+    private static final class ArchivedNamespace implements YangNamespace, Serializable {
+
+        private static final long serialVersionUID = 806201603L;
+
+        private final String moduleName;
+        private final String moduleNamespace;
+
+        private ArchivedNamespace(String moduleName, String moduleNamespace) {
+            this.moduleName = moduleName;
+            this.moduleNamespace = moduleNamespace;
+        }
+
+        @Override
+        public String getModuleNamespace() {
+            return moduleNamespace;
+        }
+
+        @Override
+        public String getModuleName() {
+            return moduleName;
+        }
+    }
+}
@@ -0,0 +1,541 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangBelongsTo;
+import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangInclude;
+import org.onosproject.yangutils.datamodel.YangNamespace;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangReferenceResolver;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangSubModule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.linkReferredModules;
+
+/**
+ * Represents a memory mapped archive of serialized YANG modules, with a
+ * module directory up front. Opening an archive reads only the directory;
+ * a module is de-serialized on first use and held softly, so that cold
+ * modules can be evicted, by the garbage collector or explicitly, and
+ * reloaded from the archive when used again.
+ * <p>
+ * Each module is serialized on its own, hence nodes of other modules which
+ * are referred to from a module, for example typedefs or augmented nodes,
+ * are loaded as a private copy along with that module. Imports, includes and
+ * belongs-to are written without their referred module, they are linked by
+ * name on load with the other modules of the archive. Evicting a module also
+ * evicts the loaded modules linked to it, so that none keeps referring to
+ * the evicted copy.
+ * <p>
+ * Archive layout: magic, version, module count, then per module its name,
+ * namespace, prefix, data offset and data length, followed by the data of
+ * all modules. Offsets are relative to the end of the directory.
+ */
+public final class YangSchemaArchive {
+
+    /**
+     * Extension of YANG schema archive file.
+     */
+    public static final String SCHEMA_ARCHIVE_EXTENSION = ".yar";
+
+    private static final int MAGIC = 0x59414E47;
+    private static final short VERSION = 1;
+
+    // Mapped archive, read through duplicates only.
+    private final ByteBuffer archive;
+
+    // Directory entries by module name, in archive order.
+    private final Map<String, ModuleEntry> directory;
+
+    // Loaded modules by module name, softly referred.
+    private final Map<String, SoftReference<YangNode>> loadedModules = new ConcurrentHashMap<>();
+
+    // Guards loading, a module and the modules it refers to load as a whole.
+    private final Object loadLock = new Object();
+
+    // Modules being loaded and linked, published once all are linked.
+    private final Map<String, YangNode> loadingModules = new HashMap<>();
+
+    /**
+     * Creates a schema archive over the mapped archive content.
+     *
+     * @param archive mapped archive
+     * @throws IOException if archive is not well formed
+     */
+    private YangSchemaArchive(ByteBuffer archive)
+            throws IOException {
+        ByteBuffer buffer = archive.duplicate();
+        if (buffer.remaining() < 10 || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a YANG schema archive");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported YANG schema archive version " + version);
+        }
+        int count = buffer.getInt();
+        Map<String, ModuleEntry> entries = new LinkedHashMap<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                String name = readString(buffer);
+                String namespace = readString(buffer);
+                String prefix = readString(buffer);
+                long offset = buffer.getLong();
+                int length = buffer.getInt();
+                entries.put(name, new ModuleEntry(name, namespace, prefix, offset, length));
+            }
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IOException("Truncated YANG schema archive directory", e);
+        }
+        this.archive = buffer.slice();
+        for (ModuleEntry entry : entries.values()) {
+            if (entry.offset < 0 || entry.length < 0 ||
+                    entry.offset + entry.length > this.archive.capacity()) {
+                throw new IOException("Module " + entry.name +
+                                              " lies outside the YANG schema archive");
+            }
+        }
+        directory = Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * Opens a schema archive by memory mapping the archive file. Only the
+     * module directory is read.
+     *
+     * @param archiveFile archive file path
+     * @return schema archive
+     * @throws IOException when fails to do IO operations
+     */
+    public static YangSchemaArchive open(String archiveFile)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(archiveFile), READ)) {
+            MappedByteBuffer mapped = channel.map(READ_ONLY, 0, channel.size());
+            return new YangSchemaArchive(mapped);
+        }
+    }
+
+    /**
+     * Writes a schema archive of the given YANG module/sub-module nodes.
+     *
+     * @param nodes       YANG module/sub-module nodes
+     * @param archiveFile archive file path
+     * @throws IOException when fails to do IO operations
+     */
+    public static void write(Collection<YangNode> nodes, String archiveFile)
+            throws IOException {
+        List<byte[]> data = new ArrayList<>(nodes.size());
+        for (YangNode node : nodes) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new DetachingOutputStream(bytes)) {
+                out.writeObject(node);
+            }
+            data.add(bytes.toByteArray());
+        }
+        long size = 0;
+        for (byte[] moduleData : data) {
+            size += moduleData.length;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("YANG schema archive data exceeds " +
+                                          Integer.MAX_VALUE + " bytes");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(archiveFile))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(nodes.size());
+            long offset = 0;
+            int i = 0;
+            for (YangNode node : nodes) {
+                writeString(out, node.getName());
+                writeString(out, node instanceof YangNamespace ?
+                        ((YangNamespace) node).getModuleNamespace() : null);
+                writeString(out, node instanceof RpcNotificationContainer ?
+                        ((RpcNotificationContainer) node).getPrefix() : null);
+                out.writeLong(offset);
+                out.writeInt(data.get(i).length);
+                offset += data.get(i).length;
+                i++;
+            }
+            for (byte[] moduleData : data) {
+                out.write(moduleData);
+            }
+        }
+    }
+
+    /**
+     * Returns the names of modules in the archive, in archive order.
+     *
+     * @return module names
+     */
+    public Collection<String> getModuleNames() {
+        return directory.keySet();
+    }
+
+    /**
+     * Returns true if the module is currently loaded.
+     *
+     * @param moduleName module name
+     * @return true if loaded
+     */
+    public boolean isLoaded(String moduleName) {
+        SoftReference<YangNode> ref = loadedModules.get(moduleName);
+        return ref != null && ref.get() != null;
+    }
+
+    /**
+     * Returns the module node, de-serializing it from the archive if it is
+     * not loaded.
+     *
+     * @param moduleName module name
+     * @return module node, null if module is not in the archive
+     * @throws IOException when fails to de-serialize the module
+     */
+    public YangNode getModule(String moduleName)
+            throws IOException {
+        ModuleEntry entry = directory.get(moduleName);
+        if (entry == null) {
+            return null;
+        }
+        YangNode module = getLoadedModule(moduleName);
+        if (module != null) {
+            return module;
+        }
+        synchronized (loadLock) {
+            try {
+                module = loadLinked(entry);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                loadingModules.clear();
+            }
+        }
+        return module;
+    }
+
+    /**
+     * Returns the schema nodes of all modules in the archive, which load
+     * their module on first use.
+     *
+     * @return lazy module schema nodes
+     */
+    public List<YangSchemaNode> getLazySchemaNodes() {
+        List<YangSchemaNode> nodes = new ArrayList<>(directory.size());
+        for (ModuleEntry entry : directory.values()) {
+            nodes.add(new LazyModuleSchemaNode(this, entry.name, entry.namespace,
+                                               entry.prefix));
+        }
+        return nodes;
+    }
+
+    /**
+     * Evicts a loaded module, it is reloaded from the archive on next use.
+     * Loaded modules which import, include or belong to the module are
+     * evicted too, as they are linked to the evicted copy.
+     *
+     * @param moduleName module name
+     */
+    public void evict(String moduleName) {
+        synchronized (loadLock) {
+            Deque<String> pending = new ArrayDeque<>();
+            pending.add(moduleName);
+            while (!pending.isEmpty()) {
+                String name = pending.poll();
+                if (loadedModules.remove(name) == null) {
+                    continue;
+                }
+                for (Map.Entry<String, SoftReference<YangNode>> loaded : loadedModules.entrySet()) {
+                    YangNode node = loaded.getValue().get();
+                    if (node != null && isReferring(node, name)) {
+                        pending.add(loaded.getKey());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if the module/sub-module imports, includes or belongs to
+     * the given module.
+     *
+     * @param node       module/sub-module node
+     * @param moduleName referred module name
+     * @return true if referring to module
+     */
+    private static boolean isReferring(YangNode node, String moduleName) {
+        if (node instanceof YangReferenceResolver) {
+            YangReferenceResolver resolver = (YangReferenceResolver) node;
+            for (YangImport yangImport : resolver.getImportList()) {
+                if (moduleName.equals(yangImport.getModuleName())) {
+                    return true;
+                }
+            }
+            for (YangInclude yangInclude : resolver.getIncludeList()) {
+                if (moduleName.equals(yangInclude.getSubModuleName())) {
+                    return true;
+                }
+            }
+        }
+        return node instanceof YangSubModule && moduleName.equals(
+                ((YangSubModule) node).getBelongsTo().getBelongsToModuleName());
+    }
+
+    /**
+     * Evicts all the loaded modules.
+     */
+    public void evictAll() {
+        loadedModules.clear();
+    }
+
+    /**
+     * Returns the loaded module, null if not loaded or collected.
+     *
+     * @param moduleName module name
+     * @return loaded module
+     */
+    private YangNode getLoadedModule(String moduleName) {
+        SoftReference<YangNode> ref = loadedModules.get(moduleName);
+        return ref == null ? null : ref.get();
+    }
+
+    /**
+     * Returns the module, loading it and the modules it refers to in the
+     * archive if it is not loaded. Referred modules which are being loaded
+     * are used as is, which ends include/belongs-to cycles. Modules are
+     * published once the outermost load has linked all of them.
+     *
+     * @param entry directory entry of module
+     * @return module node
+     * @throws IOException when fails to de-serialize the module
+     */
+    private YangNode loadLinked(ModuleEntry entry)
+            throws IOException {
+        YangNode module = getLoadedModule(entry.name);
+        if (module == null) {
+            module = loadingModules.get(entry.name);
+        }
+        if (module != null) {
+            return module;
+        }
+        boolean outermost = loadingModules.isEmpty();
+        module = load(entry);
+        loadingModules.put(entry.name, module);
+        linkReferredModules(module, this::getReferredModule);
+        if (outermost) {
+            for (Map.Entry<String, YangNode> loaded : loadingModules.entrySet()) {
+                loadedModules.put(loaded.getKey(), new SoftReference<>(loaded.getValue()));
+            }
+        }
+        return module;
+    }
+
+    /**
+     * Returns the referred module of the archive, loading it if needed.
+     *
+     * @param moduleName module name
+     * @return module node, null if module is not in the archive
+     */
+    private YangNode getReferredModule(String moduleName) {
+        ModuleEntry entry = directory.get(moduleName);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return loadLinked(entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * De-serializes a module from the archive.
+     *
+     * @param entry directory entry of module
+     * @return module node
+     * @throws IOException when fails to de-serialize the module
+     */
+    private YangNode load(ModuleEntry entry)
+            throws IOException {
+        ByteBuffer data = archive.duplicate();
+        data.limit((int) (entry.offset + entry.length));
+        data.position((int) entry.offset);
+        try (ObjectInputStream in = new ObjectInputStream(new ByteBufferInputStream(data.slice()))) {
+            return (YangNode) in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Failed to load module " + entry.name, e);
+        }
+    }
+
+    /**
+     * Writes a string, which may be null, in the archive directory.
+     *
+     * @param out    output stream
+     * @param string string
+     * @throws IOException when fails to write
+     */
+    static void writeString(DataOutputStream out, String string)
+            throws IOException {
+        if (string == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string, which may be null, from the archive directory.
+     *
+     * @param buffer archive buffer
+     * @return string
+     */
+    static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Represents a module entry of the archive directory.
+     */
+    private static final class ModuleEntry {
+
+        private final String name;
+        private final String namespace;
+        private final String prefix;
+        private final long offset;
+        private final int length;
+
+        private ModuleEntry(String name, String namespace, String prefix,
+                            long offset, int length) {
+            this.name = name;
+            this.namespace = namespace;
+            this.prefix = prefix;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Represents the object output stream of a module, which writes imports,
+     * includes and belongs-to without their referred module.
+     */
+    private static final class DetachingOutputStream extends ObjectOutputStream {
+
+        private DetachingOutputStream(ByteArrayOutputStream out)
+                throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            if (obj instanceof YangImport) {
+                YangImport yangImport = (YangImport) obj;
+                YangImport detached = new YangImport();
+                detached.setModuleName(yangImport.getModuleName());
+                detached.setPrefixId(yangImport.getPrefixId());
+                detached.setRevision(yangImport.getRevision());
+                detached.setFileName(yangImport.getFileName());
+                return detached;
+            }
+            if (obj instanceof YangInclude) {
+                YangInclude yangInclude = (YangInclude) obj;
+                YangInclude detached = new YangInclude();
+                detached.setSubModuleName(yangInclude.getSubModuleName());
+                detached.setRevision(yangInclude.getRevision());
+                detached.setFileName(yangInclude.getFileName());
+                return detached;
+            }
+            if (obj instanceof YangBelongsTo) {
+                YangBelongsTo belongsTo = (YangBelongsTo) obj;
+                YangBelongsTo detached = new YangBelongsTo();
+                detached.setBelongsToModuleName(belongsTo.getBelongsToModuleName());
+                detached.setPrefix(belongsTo.getPrefix());
+                detached.setFileName(belongsTo.getFileName());
+                return detached;
+            }
+            return obj;
+        }
+    }
+
+    /**
+     * Represents an input stream over a byte buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
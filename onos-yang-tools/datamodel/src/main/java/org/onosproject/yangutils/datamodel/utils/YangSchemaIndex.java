@@ -0,0 +1,333 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaArchive.readString;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaArchive.writeString;
+
+/**
+ * Represents an index of the java classes generated for YANG schema nodes,
+ * written at build time along with the serialized data model. It maps the
+ * schema path of each node generating classes to its interface, builder and
+ * default class names, and the YANG names of its leaves to their leaf
+ * identifier ordinals, so that classes of a module are found by loading the
+ * index instead of scanning packages.
+ * <p>
+ * Schema path of a module is "/" followed by module name, nodes at the top
+ * of a module are "/module:name" and other nodes append "/name" to the path
+ * of their parent, choice and case included. An augment is named by its
+ * target path as written in the augmenting module.
+ * <p>
+ * Index layout: magic, version, entry count, then per entry its schema
+ * path, java package, interface, builder and default class names relative
+ * to the package, leaf count, and per leaf its name and ordinal.
+ */
+public final class YangSchemaIndex {
+
+    /**
+     * Extension of YANG schema index file.
+     */
+    public static final String SCHEMA_INDEX_EXTENSION = ".yix";
+
+    private static final int MAGIC = 0x59494458;
+    private static final short VERSION = 1;
+    private static final char PERIOD = '.';
+
+    // Entries by schema path, in index order.
+    private final Map<String, Entry> entries;
+
+    // Entries by interface, builder and default class name.
+    private final Map<String, Entry> entriesByClass;
+
+    /**
+     * Creates a schema index from the index content.
+     *
+     * @param index index content
+     * @throws IOException if index is not well formed
+     */
+    private YangSchemaIndex(ByteBuffer index)
+            throws IOException {
+        if (index.remaining() < 10 || index.getInt() != MAGIC) {
+            throw new IOException("Not a YANG schema index");
+        }
+        short version = index.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported YANG schema index version " + version);
+        }
+        int count = index.getInt();
+        Map<String, Entry> paths = new LinkedHashMap<>();
+        Map<String, Entry> classes = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String schemaPath = readString(index);
+            String javaPackage = readString(index);
+            String interfaceName = readString(index);
+            String builderName = readString(index);
+            String defaultName = readString(index);
+            int leafCount = index.getShort();
+            Map<String, Integer> leaves = new LinkedHashMap<>();
+            for (int j = 0; j < leafCount; j++) {
+                String leaf = readString(index);
+                leaves.put(leaf, (int) index.getShort());
+            }
+            Entry entry = new Entry(schemaPath, javaPackage, interfaceName,
+                                    builderName, defaultName, leaves);
+            paths.put(schemaPath, entry);
+            putClass(classes, entry.getInterfaceClassName(), entry);
+            putClass(classes, entry.getBuilderClassName(), entry);
+            putClass(classes, entry.getDefaultClassName(), entry);
+        }
+        entries = Collections.unmodifiableMap(paths);
+        entriesByClass = Collections.unmodifiableMap(classes);
+    }
+
+    /**
+     * Opens a schema index from the index file.
+     *
+     * @param indexFile index file path
+     * @return schema index
+     * @throws IOException when fails to do IO operations
+     */
+    public static YangSchemaIndex open(String indexFile)
+            throws IOException {
+        return new YangSchemaIndex(ByteBuffer.wrap(
+                Files.readAllBytes(Paths.get(indexFile))));
+    }
+
+    /**
+     * Reads a schema index from the input stream, for example the index
+     * resource of a jar from its class loader. The stream is not closed.
+     *
+     * @param in input stream
+     * @return schema index
+     * @throws IOException when fails to do IO operations
+     */
+    public static YangSchemaIndex read(InputStream in)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            bytes.write(buffer, 0, count);
+        }
+        return new YangSchemaIndex(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    /**
+     * Writes a schema index of the given entries.
+     *
+     * @param entries   schema index entries
+     * @param indexFile index file path
+     * @throws IOException when fails to do IO operations
+     */
+    public static void write(Collection<Entry> entries, String indexFile)
+            throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(indexFile))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(entries.size());
+            for (Entry entry : entries) {
+                writeString(out, entry.schemaPath);
+                writeString(out, entry.javaPackage);
+                writeString(out, entry.interfaceName);
+                writeString(out, entry.builderName);
+                writeString(out, entry.defaultName);
+                out.writeShort(entry.leafOrdinals.size());
+                for (Map.Entry<String, Integer> leaf : entry.leafOrdinals.entrySet()) {
+                    writeString(out, leaf.getKey());
+                    out.writeShort(leaf.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the entries of the index by schema path, in index order.
+     *
+     * @return schema index entries
+     */
+    public Map<String, Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the entry of a schema node.
+     *
+     * @param schemaPath schema path of node
+     * @return schema index entry, null if node is not in the index
+     */
+    public Entry getEntry(String schemaPath) {
+        return entries.get(schemaPath);
+    }
+
+    /**
+     * Returns the entry of a generated class, which may be the interface,
+     * builder or default class of the schema node. Classes of a grouping
+     * are shared by the nodes using it, they return the entry of the first
+     * such node in index order.
+     *
+     * @param className binary name of class
+     * @return schema index entry, null if class is not in the index
+     */
+    public Entry getEntryOfClass(String className) {
+        return entriesByClass.get(className);
+    }
+
+    /**
+     * Adds an entry by class name, if the class is generated and has no
+     * entry yet.
+     *
+     * @param classes   entries by class name
+     * @param className binary name of class
+     * @param entry     schema index entry
+     */
+    private static void putClass(Map<String, Entry> classes, String className,
+                                 Entry entry) {
+        if (className != null) {
+            classes.putIfAbsent(className, entry);
+        }
+    }
+
+    /**
+     * Represents the generated classes of a schema node.
+     */
+    public static final class Entry {
+
+        private final String schemaPath;
+        private final String javaPackage;
+        private final String interfaceName;
+        private final String builderName;
+        private final String defaultName;
+        private final Map<String, Integer> leafOrdinals;
+
+        /**
+         * Creates a schema index entry. Class names are relative to the
+         * java package, with "$" separating nested classes; builder and
+         * default class names are null when the node generates only an
+         * interface.
+         *
+         * @param schemaPath    schema path of node
+         * @param javaPackage   java package of generated classes
+         * @param interfaceName interface name
+         * @param builderName   builder class name
+         * @param defaultName   default class name
+         * @param leafOrdinals  leaf identifier ordinals by leaf name
+         */
+        public Entry(String schemaPath, String javaPackage, String interfaceName,
+                     String builderName, String defaultName,
+                     Map<String, Integer> leafOrdinals) {
+            this.schemaPath = schemaPath;
+            this.javaPackage = javaPackage;
+            this.interfaceName = interfaceName;
+            this.builderName = builderName;
+            this.defaultName = defaultName;
+            this.leafOrdinals = Collections.unmodifiableMap(
+                    new LinkedHashMap<>(leafOrdinals));
+        }
+
+        /**
+         * Returns the schema path of node.
+         *
+         * @return schema path
+         */
+        public String getSchemaPath() {
+            return schemaPath;
+        }
+
+        /**
+         * Returns the java package of generated classes.
+         *
+         * @return java package
+         */
+        public String getJavaPackage() {
+            return javaPackage;
+        }
+
+        /**
+         * Returns the binary name of interface.
+         *
+         * @return interface class name
+         */
+        public String getInterfaceClassName() {
+            return getClassName(interfaceName);
+        }
+
+        /**
+         * Returns the binary name of builder class.
+         *
+         * @return builder class name, null if not generated
+         */
+        public String getBuilderClassName() {
+            return getClassName(builderName);
+        }
+
+        /**
+         * Returns the binary name of default class.
+         *
+         * @return default class name, null if not generated
+         */
+        public String getDefaultClassName() {
+            return getClassName(defaultName);
+        }
+
+        /**
+         * Returns the leaf identifier ordinals by YANG leaf name.
+         *
+         * @return leaf identifier ordinals
+         */
+        public Map<String, Integer> getLeafOrdinals() {
+            return leafOrdinals;
+        }
+
+        /**
+         * Returns the leaf identifier ordinal of a leaf.
+         *
+         * @param leafName YANG leaf name
+         * @return leaf identifier ordinal, -1 if node has no such leaf
+         */
+        public int getLeafOrdinal(String leafName) {
+            Integer ordinal = leafOrdinals.get(leafName);
+            return ordinal == null ? -1 : ordinal;
+        }
+
+        /**
+         * Returns the binary name of a class of the java package.
+         *
+         * @param name class name relative to package
+         * @return class name, null if class is not generated
+         */
+        private String getClassName(String name) {
+            if (name == null) {
+                return null;
+            }
+            return javaPackage + PERIOD + name;
+        }
+    }
+}
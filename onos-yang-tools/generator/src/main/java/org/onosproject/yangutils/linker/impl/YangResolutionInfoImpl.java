@@ -21,6 +21,7 @@ import org.onosproject.yangutils.datamodel.DefaultLocationInfo;
 import org.onosproject.yangutils.datamodel.Resolvable;
 import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
 import org.onosproject.yangutils.datamodel.TraversalType;
+import org.onosproject.yangutils.datamodel.YangAppDataStructure;
 import org.onosproject.yangutils.datamodel.YangAtomicPath;
 import org.onosproject.yangutils.datamodel.YangAugment;
 import org.onosproject.yangutils.datamodel.YangAugmentableNode;
@@ -70,6 +71,7 @@ import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
 import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
 import static org.onosproject.yangutils.datamodel.TraversalType.ROOT;
 import static org.onosproject.yangutils.datamodel.TraversalType.SIBILING;
+import static org.onosproject.yangutils.datamodel.YangDataStructure.MAP;
 import static org.onosproject.yangutils.datamodel.YangNode.cloneSubTreeForDeviation;
 import static org.onosproject.yangutils.datamodel.YangPathArgType.ABSOLUTE_PATH;
 import static org.onosproject.yangutils.datamodel.YangPathArgType.RELATIVE_PATH;
@@ -101,6 +103,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.FAILED_TO_LINK;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_ENTITY;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_LINKER_STATE;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_RESOLVED_ENTITY;
+import static org.onosproject.yangutils.utils.UtilConstants.INVALID_MAP_TARGET;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_TARGET;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_TREE;
 import static org.onosproject.yangutils.utils.UtilConstants.LEAFREF;
@@ -1063,6 +1066,7 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
                                                          AUGMENT_LINKING);
             if (targetNode != null) {
                 if (targetNode instanceof YangList) {
+                    validateMapDataStructure((YangList) targetNode, ca);
                     ((YangList) targetNode).setCompilerAnnotation(
                             (YangCompilerAnnotation) entityToResolve);
                     Resolvable resolvable = (Resolvable) entityToResolve;
@@ -1134,6 +1138,25 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
         }
     }
 
+    /**
+     * Validates that the list targeted by a compiler annotation with map
+     * data structure has keys, which identify the entries of the map.
+     *
+     * @param list target list
+     * @param ca   compiler annotation
+     */
+    private static void validateMapDataStructure(YangList list,
+                                                 YangCompilerAnnotation ca) {
+        YangAppDataStructure ds = ca.getYangAppDataStructure();
+        if (ds != null && ds.getDataStructure() == MAP &&
+                (list.getKeyList() == null || list.getKeyList().isEmpty())) {
+            throw new LinkerException(getErrorMsg(
+                    INVALID_MAP_TARGET + list.getName(), ca.getPath(),
+                    ca.getLineNumber(), ca.getCharPosition(),
+                    ca.getFileName()));
+        }
+    }
+
     private void deleteUnsupportedLeafOrLeafList(YangLeavesHolder node,
                                                  String leafName) {
         List<YangLeaf> leaves = node.getListOfLeaf();
@@ -98,6 +98,31 @@ public final class GeneratedJavaFileType {
      */
     public static final int GENERATE_IDENTITY_CLASS = 2048;
 
+    /**
+     * RFC 7951 JSON codec class.
+     */
+    public static final int GENERATE_JSON_CODEC_CLASS = 4096;
+
+    /**
+     * NETCONF XML codec class.
+     */
+    public static final int GENERATE_XML_CODEC_CLASS = 16384;
+
+    /**
+     * Compact binary codec class.
+     */
+    public static final int GENERATE_BINARY_CODEC_CLASS = 32768;
+
+    /**
+     * Batched event class.
+     */
+    public static final int GENERATE_EVENT_BATCH_CLASS = 65536;
+
+    /**
+     * Event coalescer class.
+     */
+    public static final int GENERATE_EVENT_COALESCER_CLASS = 131072;
+
     /**
      * Creates an instance of generate java file type.
      */
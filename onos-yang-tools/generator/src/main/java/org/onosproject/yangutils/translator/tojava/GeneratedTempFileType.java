@@ -156,6 +156,26 @@ public final class GeneratedTempFileType {
      */
     public static final int EDIT_CONTENT_MASK = 1 << 26;
 
+    /**
+     * Diff content for class.
+     */
+    public static final int DIFF_MASK = 1 << 27;
+
+    /**
+     * Accept content for class.
+     */
+    public static final int ACCEPT_MASK = 1 << 28;
+
+    /**
+     * Asynchronous rpc interface content for service.
+     */
+    public static final int RPC_ASYNC_INTERFACE_MASK = 1 << 29;
+
+    /**
+     * Asynchronous rpc adapter content for service.
+     */
+    public static final int RPC_ASYNC_ADAPTER_MASK = 1 << 30;
+
     // No instantiation.
     private GeneratedTempFileType() {
     }
@@ -60,6 +60,31 @@ public final class JavaAttributeInfo {
      */
     private YangCompilerAnnotation compilerAnnotation;
 
+    /**
+     * Primitive type of the array storing a numeric leaf-list, null if the
+     * leaf-list is stored in a list.
+     */
+    private String primitiveListType;
+
+    /**
+     * Number of long words storing the value and select leaf flags of the
+     * node holding the attribute, zero if attribute is not a leaf or a leaf
+     * flag.
+     */
+    private int leafFlagWords;
+
+    /**
+     * YANG name of the leaf or leaf-list, null if attribute is not a leaf
+     * or leaf-list.
+     */
+    private String yangName;
+
+    /**
+     * Maximum number of elements of the list or leaf-list, zero if it is
+     * unbounded or attribute is not a list.
+     */
+    private int maxElements;
+
     /**
      * If conflict occurs.
      */
@@ -213,6 +238,81 @@ public final class JavaAttributeInfo {
         this.compilerAnnotation = compilerAnnotation;
     }
 
+    /**
+     * Returns the primitive type of the array storing a numeric leaf-list.
+     *
+     * @return primitive type, or null if attribute is not stored in array
+     */
+    public String getPrimitiveListType() {
+        return primitiveListType;
+    }
+
+    /**
+     * Sets the primitive type of the array storing a numeric leaf-list.
+     *
+     * @param primitiveListType primitive type
+     */
+    void setPrimitiveListType(String primitiveListType) {
+        this.primitiveListType = primitiveListType;
+    }
+
+    /**
+     * Returns the number of long words storing the leaf flags.
+     *
+     * @return number of long words, zero if attribute is not a leaf or a
+     * leaf flag
+     */
+    public int getLeafFlagWords() {
+        return leafFlagWords;
+    }
+
+    /**
+     * Sets the number of long words storing the leaf flags.
+     *
+     * @param leafFlagWords number of long words
+     */
+    void setLeafFlagWords(int leafFlagWords) {
+        this.leafFlagWords = leafFlagWords;
+    }
+
+    /**
+     * Returns the YANG name of the leaf or leaf-list.
+     *
+     * @return YANG name, null if attribute is not a leaf or leaf-list
+     */
+    public String getYangName() {
+        return yangName;
+    }
+
+    /**
+     * Sets the YANG name of the leaf or leaf-list.
+     *
+     * @param yangName YANG name
+     */
+    void setYangName(String yangName) {
+        this.yangName = yangName;
+    }
+
+    /**
+     * Returns the maximum number of elements of the list or leaf-list.
+     *
+     * @return maximum number of elements, zero if unbounded or constraints
+     * are not checked
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    /**
+     * Sets the maximum number of elements of the list or leaf-list.
+     *
+     * @param maxElements maximum number of elements, zero if unbounded or
+     *                    constraints are not checked
+     */
+    void setMaxElements(int maxElements) {
+        this.maxElements = maxElements;
+    }
+
     /**
      * Returns true if conflict between int and uint.
      *
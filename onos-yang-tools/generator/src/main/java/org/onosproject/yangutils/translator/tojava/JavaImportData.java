@@ -24,12 +24,19 @@ import static java.util.Collections.sort;
 import static java.util.Collections.unmodifiableSortedSet;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getImportString;
 import static org.onosproject.yangutils.utils.UtilConstants.ABSTRACT_EVENT;
+import static org.onosproject.yangutils.utils.UtilConstants.ABSTRACT_LIST;
+import static org.onosproject.yangutils.utils.UtilConstants.ARRAYS;
 import static org.onosproject.yangutils.utils.UtilConstants.BASE64;
 import static org.onosproject.yangutils.utils.UtilConstants.BIG_INTEGER;
 import static org.onosproject.yangutils.utils.UtilConstants.BITSET;
+import static org.onosproject.yangutils.utils.UtilConstants.BI_FUNCTION;
+import static org.onosproject.yangutils.utils.UtilConstants.COLLECTIONS;
 import static org.onosproject.yangutils.utils.UtilConstants.COLLECTION_IMPORTS;
+import static org.onosproject.yangutils.utils.UtilConstants.CONSUMER;
 import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.ENUM_MAP;
 import static org.onosproject.yangutils.utils.UtilConstants.EVENT_LISTENER;
+import static org.onosproject.yangutils.utils.UtilConstants.FUNCTION_IMPORTS;
 import static org.onosproject.yangutils.utils.UtilConstants.GOOGLE_MORE_OBJECT_IMPORT_CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.GOOGLE_MORE_OBJECT_IMPORT_PKG;
 import static org.onosproject.yangutils.utils.UtilConstants.HASH_MAP;
@@ -38,6 +45,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.JAVA_MATH;
 import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_OBJECTS_IMPORT_CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_PKG;
 import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_REGEX_PKG;
+import static org.onosproject.yangutils.utils.UtilConstants.LINKED_HASH_MAP;
 import static org.onosproject.yangutils.utils.UtilConstants.LIST;
 import static org.onosproject.yangutils.utils.UtilConstants.LISTENER_SERVICE;
 import static org.onosproject.yangutils.utils.UtilConstants.MAP;
@@ -66,6 +74,26 @@ public class JavaImportData {
      */
     private boolean isSetToImport;
 
+    /**
+     * Flag to denote if any map is imported due to compiler annotation.
+     */
+    private boolean isMapToImport;
+
+    /**
+     * Flag to denote if any leaf-list is stored in primitive array.
+     */
+    private boolean isPrimitiveListToImport;
+
+    /**
+     * Flag to denote if any collection is copied into unmodifiable one.
+     */
+    private boolean isCollectionsToImport;
+
+    /**
+     * Flag to denote if pattern is imported for from string pre check.
+     */
+    private boolean isPatternToImport;
+
     /**
      * Sorted set of import info, to be used to maintain the set of classes to
      * be imported in the generated class.
@@ -108,6 +136,72 @@ public class JavaImportData {
         isSetToImport = setToImport;
     }
 
+    /**
+     * Returns true if the map is to be imported due to compiler annotations.
+     *
+     * @return true if map is to be imported
+     */
+    boolean isMapToImport() {
+        return isMapToImport;
+    }
+
+    /**
+     * Returns true if any leaf-list is stored in primitive array.
+     *
+     * @return true if any leaf-list is stored in primitive array
+     */
+    boolean isPrimitiveListToImport() {
+        return isPrimitiveListToImport;
+    }
+
+    /**
+     * Sets the status of leaf-list stored in primitive array.
+     *
+     * @param primitiveListToImport status of leaf-list stored in primitive
+     *                              array
+     */
+    void setPrimitiveListToImport(boolean primitiveListToImport) {
+        isPrimitiveListToImport = primitiveListToImport;
+    }
+
+    /**
+     * Returns true if any collection is copied into unmodifiable one.
+     *
+     * @return true if any collection is copied into unmodifiable one
+     */
+    boolean isCollectionsToImport() {
+        return isCollectionsToImport;
+    }
+
+    /**
+     * Sets the status of collection copied into unmodifiable one.
+     *
+     * @param collectionsToImport status of collection copied into
+     *                            unmodifiable one
+     */
+    void setCollectionsToImport(boolean collectionsToImport) {
+        isCollectionsToImport = collectionsToImport;
+    }
+
+    /**
+     * Sets the status of the pattern to be imported for from string pre
+     * check.
+     *
+     * @param patternToImport status of pattern to import
+     */
+    void setPatternToImport(boolean patternToImport) {
+        isPatternToImport = patternToImport;
+    }
+
+    /**
+     * Sets the status of the map to be imported due to compiler annotations.
+     *
+     * @param mapToImport status of map to import
+     */
+    void setMapToImport(boolean mapToImport) {
+        isMapToImport = mapToImport;
+    }
+
     /**
      * Returns the set containing the imported class/interface info.
      *
@@ -207,6 +301,12 @@ public class JavaImportData {
         if (isSetToImport) {
             imports.add(getImportForSet());
         }
+        if (isMapToImport && !imports.contains(getMapImport())) {
+            imports.add(getMapImport());
+        }
+        if (isPatternToImport && !imports.contains(getImportForPattern())) {
+            imports.add(getImportForPattern());
+        }
 
         sort(imports);
         return imports;
@@ -331,6 +431,69 @@ public class JavaImportData {
         return getImportString(COLLECTION_IMPORTS, HASH_MAP);
     }
 
+    /**
+     * Returns import string for arrays class.
+     *
+     * @return import string for arrays class
+     */
+    String getArraysImport() {
+        return getImportString(COLLECTION_IMPORTS, ARRAYS);
+    }
+
+    /**
+     * Returns import string for enum map class.
+     *
+     * @return import string for enum map class
+     */
+    String getEnumMapImport() {
+        return getImportString(COLLECTION_IMPORTS, ENUM_MAP);
+    }
+
+    /**
+     * Returns import string for bi function interface.
+     *
+     * @return import string for bi function interface
+     */
+    String getBiFunctionImport() {
+        return getImportString(FUNCTION_IMPORTS, BI_FUNCTION);
+    }
+
+    /**
+     * Returns import string for consumer interface.
+     *
+     * @return import string for consumer interface
+     */
+    String getConsumerImport() {
+        return getImportString(FUNCTION_IMPORTS, CONSUMER);
+    }
+
+    /**
+     * Returns import string for abstract list class.
+     *
+     * @return import string for abstract list class
+     */
+    String getAbstractListImport() {
+        return getImportString(COLLECTION_IMPORTS, ABSTRACT_LIST);
+    }
+
+    /**
+     * Returns import string for collections class.
+     *
+     * @return import string for collections class
+     */
+    String getCollectionsImport() {
+        return getImportString(COLLECTION_IMPORTS, COLLECTIONS);
+    }
+
+    /**
+     * Returns import string for linked hash map class.
+     *
+     * @return import string for linked hash map class
+     */
+    String getLinkedHashMapImport() {
+        return getImportString(COLLECTION_IMPORTS, LINKED_HASH_MAP);
+    }
+
     /**
      * Returns import for big integer.
      *
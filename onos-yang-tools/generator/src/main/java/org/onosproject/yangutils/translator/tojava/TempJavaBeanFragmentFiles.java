@@ -23,6 +23,7 @@ import java.io.IOException;
 
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.CONSTRUCTOR_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getConstructor;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.isCollectionCopied;
 import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.closeFile;
 
 /**
@@ -78,6 +79,9 @@ public class TempJavaBeanFragmentFiles
      */
     private void addConstructor(JavaAttributeInfo attr)
             throws IOException {
+        if (isCollectionCopied(attr)) {
+            getJavaImportData().setCollectionsToImport(true);
+        }
         appendToFile(constructorImplTempFileHandle,
                      getConstructor(attr, getGeneratedJavaFiles()));
     }
@@ -24,10 +24,13 @@ import org.onosproject.yangutils.utils.io.YangPluginConfig;
 import java.io.IOException;
 
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_ALL_EVENT_CLASS_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_BINARY_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_INTERFACE_WITH_BUILDER;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_JSON_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_SERVICE_AND_MANAGER;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_TYPE_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_XML_CODEC_CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
 
 /**
@@ -153,6 +156,27 @@ public class TempJavaCodeFragmentFiles {
             beanTempFiles.generateJavaFile(fileType, curNode);
         }
 
+        /*
+         * Creates JSON codec class file.
+         */
+        if ((fileType & GENERATE_JSON_CODEC_CLASS) != 0) {
+            beanTempFiles.generateJsonCodecFile(curNode);
+        }
+
+        /*
+         * Creates XML codec class file.
+         */
+        if ((fileType & GENERATE_XML_CODEC_CLASS) != 0) {
+            beanTempFiles.generateXmlCodecFile(curNode);
+        }
+
+        /*
+         * Creates binary codec class file.
+         */
+        if ((fileType & GENERATE_BINARY_CODEC_CLASS) != 0) {
+            beanTempFiles.generateBinaryCodecFile(curNode);
+        }
+
         /*
          * Creates user defined data type class file.
          */
@@ -238,13 +262,15 @@ public class TempJavaCodeFragmentFiles {
     /**
      * Adds build method's implementation for class.
      *
+     * @param checkConstraints true if schema constraints are checked before
+     *                         build
      * @return build method implementation for class
      * @throws IOException when fails to append to temporary file
      */
-    public String addBuildMethodImpl()
+    public String addBuildMethodImpl(boolean checkConstraints)
             throws IOException {
         if (beanTempFiles != null) {
-            return beanTempFiles.addBuildMethodImpl();
+            return beanTempFiles.addBuildMethodImpl(checkConstraints);
         }
         throw new TranslatorException("build should not be added");
     }
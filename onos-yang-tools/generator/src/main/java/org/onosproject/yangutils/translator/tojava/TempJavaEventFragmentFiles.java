@@ -33,6 +33,10 @@ import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.EVENT_SUBJECT_SETTER_MASK;
 import static org.onosproject.yangutils.translator.tojava.JavaAttributeInfo.getAttributeInfoForTheData;
 import static org.onosproject.yangutils.translator.tojava.JavaQualifiedTypeInfoTranslator.getQualifiedTypeInfoOfCurNode;
+import static org.onosproject.yangutils.translator.tojava.utils.EventBatchGenerator.EVENT_BATCH;
+import static org.onosproject.yangutils.translator.tojava.utils.EventBatchGenerator.EVENT_COALESCER;
+import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateEventBatchFile;
+import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateEventCoalescerFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateEventFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateEventListenerFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateEventSubjectFile;
@@ -110,6 +114,16 @@ public class TempJavaEventFragmentFiles
      */
     private File eventJavaFileHandle;
 
+    /**
+     * Java file handle for batched event file.
+     */
+    private File eventBatchJavaFileHandle;
+
+    /**
+     * Java file handle for event coalescer file.
+     */
+    private File eventCoalescerJavaFileHandle;
+
     /**
      * Java file handle for event enum impl file.
      */
@@ -245,6 +259,10 @@ public class TempJavaEventFragmentFiles
         generateEventJavaFile(curNode);
         generateEventListenerJavaFile(curNode);
         generateEventSubjectJavaFile(curNode);
+        if (getJavaFileInfo().getPluginConfig().isBatchedEvents()) {
+            generateEventBatchJavaFile(curNode);
+            generateEventCoalescerJavaFile(curNode);
+        }
 
         // Close all the file handles.
         freeTemporaryResources(false);
@@ -313,6 +331,52 @@ public class TempJavaEventFragmentFiles
         generateEventSubjectFile(eventSubjectJavaFileHandle, curNode);
     }
 
+    /**
+     * Constructs batched event file.
+     *
+     * @param curNode current YANG node
+     * @throws IOException when fails to generate java files
+     */
+    private void generateEventBatchJavaFile(YangNode curNode)
+            throws IOException {
+
+        List<String> imports = new ArrayList<>();
+
+        imports.add(getJavaImportData().getArraysImport());
+        String curNodeInfo = getCapitalCase(((JavaFileInfoContainer) curNode)
+                                                    .getJavaFileInfo().getJavaName());
+
+        eventBatchJavaFileHandle = getJavaFileHandle(curNode, curNodeInfo +
+                EVENT_BATCH);
+        generateEventBatchFile(eventBatchJavaFileHandle, curNode, imports);
+    }
+
+    /**
+     * Constructs event coalescer file.
+     *
+     * @param curNode current YANG node
+     * @throws IOException when fails to generate java files
+     */
+    private void generateEventCoalescerJavaFile(YangNode curNode)
+            throws IOException {
+
+        JavaImportData importData = getJavaImportData();
+        List<String> imports = new ArrayList<>();
+
+        imports.add(importData.getEnumMapImport());
+        imports.add(importData.getHashMapImport());
+        imports.add(importData.getMapImport());
+        imports.add(importData.getBiFunctionImport());
+        imports.add(importData.getConsumerImport());
+        String curNodeInfo = getCapitalCase(((JavaFileInfoContainer) curNode)
+                                                    .getJavaFileInfo().getJavaName());
+
+        eventCoalescerJavaFileHandle = getJavaFileHandle(curNode, curNodeInfo +
+                EVENT_COALESCER);
+        generateEventCoalescerFile(eventCoalescerJavaFileHandle, curNode,
+                                   imports);
+    }
+
     /**
      * Adds java snippet for events to event subject file.
      *
@@ -430,6 +494,8 @@ public class TempJavaEventFragmentFiles
         closeFile(eventJavaFileHandle, isErrorOccurred);
         closeFile(eventListenerJavaFileHandle, isErrorOccurred);
         closeFile(eventSubjectJavaFileHandle, isErrorOccurred);
+        closeFile(eventBatchJavaFileHandle, isErrorOccurred);
+        closeFile(eventCoalescerJavaFileHandle, isErrorOccurred);
 
         closeFile(eventEnumTempFileHandle, true);
         closeFile(eventSubjectAttributeTempFileHandle, true);
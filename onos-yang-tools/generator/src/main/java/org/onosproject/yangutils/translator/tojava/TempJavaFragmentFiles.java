@@ -24,6 +24,7 @@ import org.onosproject.yangutils.datamodel.YangLeaf;
 import org.onosproject.yangutils.datamodel.YangLeafList;
 import org.onosproject.yangutils.datamodel.YangLeavesHolder;
 import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangMaxElement;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangSchemaNode;
 import org.onosproject.yangutils.datamodel.YangType;
@@ -49,9 +50,11 @@ import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_TYPE_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_UNION_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.INTERFACE_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ACCEPT_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ADD_TO_LIST_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ADD_TO_LIST_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ATTRIBUTES_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.DIFF_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.EDIT_CONTENT_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.EQUALS_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.FILTER_CONTENT_MATCH_FOR_LEAF_LIST_MASK;
@@ -69,14 +72,28 @@ import static org.onosproject.yangutils.translator.tojava.JavaAttributeInfo.getA
 import static org.onosproject.yangutils.translator.tojava.JavaQualifiedTypeInfoTranslator.getQualifiedInfoOfFromString;
 import static org.onosproject.yangutils.translator.tojava.JavaQualifiedTypeInfoTranslator.getQualifiedTypeInfoOfCurNode;
 import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.generateBitsFile;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isModuleClassNode;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isOpTypeClassNode;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isQueueOrSetDataStructure;
+import static org.onosproject.yangutils.translator.tojava.javamodel.AttributesJavaDataType.getJavaPrimitiveListType;
 import static org.onosproject.yangutils.translator.tojava.javamodel.AttributesJavaDataType.updateJavaFileInfo;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.addConstraintCheckImports;
+import static org.onosproject.yangutils.translator.tojava.utils.DiffMethodsGenerator.DIFF_SINK;
+import static org.onosproject.yangutils.translator.tojava.utils.DiffMethodsGenerator.getDiffForAttribute;
+import static org.onosproject.yangutils.translator.tojava.utils.EditContentMethodsGenerator.getEditContentForAttribute;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.generateEnumAttributeString;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.getJavaAttributeDefinition;
+import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.getLeafFlagAttributeDefinition;
+import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.getPrimitiveListAttributeDefinition;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.sortImports;
+import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateBinaryCodecClassFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateBuilderClassFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateBuilderInterfaceFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateDefaultClassFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateInterfaceFile;
+import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateJsonCodecClassFile;
+import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateXmlCodecClassFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGeneratorUtils.getFileObject;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaIdentifierSyntax.createPackage;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getAddToListMethodImpl;
@@ -85,15 +102,19 @@ import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getDefaultConstructorString;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getEqualsMethod;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getFromStringMethod;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getFromStringPatternAttributes;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getGetterForClass;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getGetterString;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getHashCodeMethod;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getListEntryByKeysMethod;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterForClass;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterString;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getToStringMethod;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.parseBuilderInterfaceBuildMethodString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getImportString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagWords;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getOverRideString;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getListKeyNames;
 import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getSubtreeFilteringForLeaf;
 import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getSubtreeFilteringForLeafList;
 import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getSubtreeFilteringForNode;
@@ -103,23 +124,35 @@ import static org.onosproject.yangutils.translator.tojava.utils.TranslatorErrorT
 import static org.onosproject.yangutils.translator.tojava.utils.TranslatorErrorType.MISSING_PARENT_NODE;
 import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.getBeanFiles;
 import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.getErrorMsg;
+import static org.onosproject.yangutils.translator.tojava.utils.VisitorMethodsGenerator.getAcceptForAttribute;
+import static org.onosproject.yangutils.translator.tojava.utils.VisitorMethodsGenerator.getVisitorName;
+import static org.onosproject.yangutils.utils.UtilConstants.ARRAYS;
+import static org.onosproject.yangutils.utils.UtilConstants.ARRAY_LIST_CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.ARRAY_LIST_IMPORT;
+import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED_INFO_SUPPORT;
 import static org.onosproject.yangutils.utils.UtilConstants.AUGMENT_MAP_TYPE;
+import static org.onosproject.yangutils.utils.UtilConstants.BINARY_CODEC;
 import static org.onosproject.yangutils.utils.UtilConstants.BIT_SET;
 import static org.onosproject.yangutils.utils.UtilConstants.BOOLEAN_DATA_TYPE;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_CURLY_BRACKET;
+import static org.onosproject.yangutils.utils.UtilConstants.COLLECTION;
+import static org.onosproject.yangutils.utils.UtilConstants.COLLECTIONS;
+import static org.onosproject.yangutils.utils.UtilConstants.COLLECTION_IMPORTS;
 import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT;
 import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
 import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.FOUR_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_SET;
 import static org.onosproject.yangutils.utils.UtilConstants.INTERFACE;
-import static org.onosproject.yangutils.utils.UtilConstants.INVOCATION_TARGET_EXCEPTION;
-import static org.onosproject.yangutils.utils.UtilConstants.INVOCATION_TARGET_EXCEPTION_IMPORT;
-import static org.onosproject.yangutils.utils.UtilConstants.ITR_IMPORT;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_OBJECTS_IMPORT_CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_PKG;
-import static org.onosproject.yangutils.utils.UtilConstants.METHOD;
-import static org.onosproject.yangutils.utils.UtilConstants.METHOD_IMPORT;
+import static org.onosproject.yangutils.utils.UtilConstants.JSON_CODEC;
+import static org.onosproject.yangutils.utils.UtilConstants.LINKED_HASH_MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.LINKED_HASH_SET;
+import static org.onosproject.yangutils.utils.UtilConstants.LIST;
+import static org.onosproject.yangutils.utils.UtilConstants.MAP;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yangutils.utils.UtilConstants.OPERATION_TYPE_ATTRIBUTE;
 import static org.onosproject.yangutils.utils.UtilConstants.OPERATION_TYPE_CLASS;
@@ -127,13 +160,14 @@ import static org.onosproject.yangutils.utils.UtilConstants.OP_PARAM;
 import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
 import static org.onosproject.yangutils.utils.UtilConstants.PRIVATE;
 import static org.onosproject.yangutils.utils.UtilConstants.PROTECTED;
-import static org.onosproject.yangutils.utils.UtilConstants.REFLECT_IMPORTS;
+import static org.onosproject.yangutils.utils.UtilConstants.RUNTIME_IMPORTS;
 import static org.onosproject.yangutils.utils.UtilConstants.SELECT_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.SERVICE;
-import static org.onosproject.yangutils.utils.UtilConstants.SET_IMPORT;
+import static org.onosproject.yangutils.utils.UtilConstants.SET;
 import static org.onosproject.yangutils.utils.UtilConstants.SLASH;
 import static org.onosproject.yangutils.utils.UtilConstants.SUBTREE_FILTERED;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF;
+import static org.onosproject.yangutils.utils.UtilConstants.XML_CODEC;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_MAP;
 import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.closeFile;
@@ -259,6 +293,16 @@ public class TempJavaFragmentFiles {
      */
     private static final String EDIT_CONTENT_FILE_NAME = "editContentFile";
 
+    /**
+     * File name for diff file.
+     */
+    private static final String DIFF_FILE_NAME = "diffFile";
+
+    /**
+     * File name for accept file.
+     */
+    private static final String ACCEPT_FILE_NAME = "acceptFile";
+
     /**
      * File name for interface java file name suffix.
      */
@@ -285,6 +329,12 @@ public class TempJavaFragmentFiles {
      */
     private YangNode attrNode;
 
+    /**
+     * Whether the class of current attributes YANG node is generated in the
+     * module of the current node.
+     */
+    private boolean attrNodeInModule;
+
     /**
      * Sub tree filtering requires child class imports for type cast.
      */
@@ -416,11 +466,31 @@ public class TempJavaFragmentFiles {
      */
     private File editContentTempFileHandle;
 
+    /**
+     * Temporary file handle for diff file.
+     */
+    private File diffTempFileHandle;
+
+    /**
+     * Temporary file handle for accept file.
+     */
+    private File acceptTempFileHandle;
+
     /**
      * Leaf count.
      */
     private int leafCount;
 
+    /**
+     * Number of long words storing value and select leaf flags.
+     */
+    private int leafFlagWords;
+
+    /**
+     * Java names of the key leaves, when current node is a list.
+     */
+    private List<String> listKeyNames = new ArrayList<>();
+
     /**
      * If current node is root node.
      */
@@ -486,7 +556,8 @@ public class TempJavaFragmentFiles {
                             TO_STRING_IMPL_MASK | ADD_TO_LIST_IMPL_MASK |
                             FILTER_CONTENT_MATCH_FOR_LEAF_LIST_MASK |
                             FILTER_CONTENT_MATCH_FOR_LEAF_MASK |
-                            FILTER_CONTENT_MATCH_FOR_NODES_MASK);
+                            FILTER_CONTENT_MATCH_FOR_NODES_MASK |
+                            EDIT_CONTENT_MASK | DIFF_MASK | ACCEPT_MASK);
         }
         /*
          * Initialize temp files to generate type class.
@@ -566,6 +637,12 @@ public class TempJavaFragmentFiles {
             editContentTempFileHandle =
                     getTemporaryFileHandle(EDIT_CONTENT_FILE_NAME);
         }
+        if (tempFlagSet(DIFF_MASK)) {
+            diffTempFileHandle = getTemporaryFileHandle(DIFF_FILE_NAME);
+        }
+        if (tempFlagSet(ACCEPT_MASK)) {
+            acceptTempFileHandle = getTemporaryFileHandle(ACCEPT_FILE_NAME);
+        }
     }
 
     /**
@@ -613,23 +690,29 @@ public class TempJavaFragmentFiles {
         TempJavaBeanFragmentFiles tempFiles =
                 getBeanFiles((JavaCodeGeneratorInfo) parent);
         tempFiles.setAttrNode(curNode);
-        if (curNode instanceof YangChoice) {
-            JavaQualifiedTypeInfoTranslator info = new
-                    JavaQualifiedTypeInfoTranslator();
-            info.setClassInfo(INVOCATION_TARGET_EXCEPTION);
-            info.setPkgInfo(REFLECT_IMPORTS);
-            tempFiles.addToSubTreeImports(info);
-            info = new
-                    JavaQualifiedTypeInfoTranslator();
-            info.setClassInfo(METHOD);
-            info.setPkgInfo(REFLECT_IMPORTS);
-            tempFiles.addToSubTreeImports(info);
-        }
+        tempFiles.setAttrNodeInModule(isModuleClassNode(curNode, parent));
         JavaAttributeInfo attr = getCurNodeAsAttributeInTarget(
                 curNode, parent, isList, tempFiles);
+        if (curNode instanceof YangList && config.isConstraintCheck()) {
+            attr.setMaxElements(getMaxElements(
+                    ((YangList) curNode).getMaxElements()));
+        }
         tempFiles.addJavaSnippetInfoToApplicableTempFiles(attr, config);
     }
 
+    /**
+     * Returns the maximum number of elements of a list or leaf-list.
+     *
+     * @param max max elements of list or leaf-list
+     * @return maximum number of elements, zero if unbounded
+     */
+    private static int getMaxElements(YangMaxElement max) {
+        if (max == null || max.getMaxElement() == Integer.MAX_VALUE) {
+            return 0;
+        }
+        return max.getMaxElement();
+    }
+
     /**
      * Creates an attribute info object corresponding to a data model node
      * and return it.
@@ -706,6 +789,11 @@ public class TempJavaFragmentFiles {
                         collectionSet = true;
                         break;
                     }
+                    case MAP: {
+                        parentImportData.setMapToImport(true);
+                        collectionSet = true;
+                        break;
+                    }
                     default: {
                         // TODO : to be implemented
                     }
@@ -780,6 +868,14 @@ public class TempJavaFragmentFiles {
                 container.getDataType(),
                 tempFiles.getIsQualifiedAccessOrAddToImportList(
                         container.getJavaQualifiedInfo()), listAttribute);
+        if (listAttribute && config.isPrimitiveLeafList() &&
+                tempFiles instanceof TempJavaBeanFragmentFiles) {
+            attr.setPrimitiveListType(
+                    getJavaPrimitiveListType(attr.getAttributeType()));
+            if (attr.getPrimitiveListType() != null) {
+                tempFiles.getJavaImportData().setPrimitiveListToImport(true);
+            }
+        }
         boolean condition =
                 ((YangSchemaNode) container).getReferredSchema() == null &&
                         container.getDataType().getDataType() == YangDataTypes.BITS;
@@ -1042,6 +1138,8 @@ public class TempJavaFragmentFiles {
      */
     private void addSubtreeFilteringForLeafList(JavaAttributeInfo attr)
             throws IOException {
+        addToSubTreeImports(getUtilImportInfo(SET));
+        addToSubTreeImports(getUtilImportInfo(HASH_SET));
         appendToFile(getSubtreeFilteringForListTempFileHandle,
                      getSubtreeFilteringForLeafList(attr) + NEW_LINE);
     }
@@ -1049,13 +1147,114 @@ public class TempJavaFragmentFiles {
     /**
      * Adds is filter content match for nodes.
      *
-     * @param attr java attribute
+     * @param attr   java attribute
+     * @param config plugin configurations
      * @throws IOException when fails to do IO operations
      */
-    private void addSubtreeFilteringForChildNode(JavaAttributeInfo attr)
+    private void addSubtreeFilteringForChildNode(JavaAttributeInfo attr,
+                                                 YangPluginConfig config)
             throws IOException {
+        if (attr.isListAttr() && !getListKeyNames(attrNode).isEmpty()) {
+            if (isMapDataStructure(attr.getCompilerAnnotation())) {
+                addToSubTreeImports(getUtilImportInfo(COLLECTION));
+                addToSubTreeImports(getUtilImportInfo(COLLECTIONS));
+            } else {
+                addToSubTreeImports(getUtilImportInfo(MAP));
+                addToSubTreeImports(getUtilImportInfo(HASH_MAP));
+            }
+        }
         appendToFile(getSubtreeFilteringForChildNodeTempFileHandle,
-                     getSubtreeFilteringForNode(attr, attrNode) + NEW_LINE);
+                     getSubtreeFilteringForNode(attr, attrNode, config) +
+                             NEW_LINE);
+    }
+
+    /**
+     * Adds edit content for attribute.
+     *
+     * @param attr   java attribute
+     * @param config plugin configurations
+     * @throws IOException when fails to do IO operations
+     */
+    private void addEditContent(JavaAttributeInfo attr,
+                                YangPluginConfig config)
+            throws IOException {
+        String attrName = attr.getAttributeName();
+        if (attrName.equals(YANG_AUGMENTED_INFO_MAP)) {
+            addToSubTreeImports(config.isRuntimeSupport() ?
+                                        getRuntimeImportInfo() :
+                                        getUtilImportInfo(HASH_MAP));
+        } else if (attr.isListAttr()) {
+            if (attr.getAttributeType() != null) {
+                addToSubTreeImports(getUtilImportInfo(SET));
+                addToSubTreeImports(getUtilImportInfo(LINKED_HASH_SET));
+                if (attr.getPrimitiveListType() == null) {
+                    addToSubTreeImports(getUtilImportInfo(ARRAY_LIST_CLASS));
+                }
+            } else if (isMapDataStructure(attr.getCompilerAnnotation())) {
+                addToSubTreeImports(getUtilImportInfo(MAP));
+                addToSubTreeImports(getUtilImportInfo(LINKED_HASH_MAP));
+            } else if (attrNode != null && isOpTypeClassNode(attrNode) &&
+                    !isQueueOrSetDataStructure(attr.getCompilerAnnotation())) {
+                addToSubTreeImports(getUtilImportInfo(ARRAY_LIST_CLASS));
+                if (getListKeyNames(attrNode).isEmpty()) {
+                    addToSubTreeImports(getUtilImportInfo(LIST));
+                } else {
+                    addToSubTreeImports(getUtilImportInfo(MAP));
+                    addToSubTreeImports(getUtilImportInfo(LINKED_HASH_MAP));
+                }
+            }
+        }
+        YangNode node = attr.getAttributeType() == null ? attrNode : null;
+        appendToFile(editContentTempFileHandle,
+                     getEditContentForAttribute(
+                             attr, node, leafFlagWords,
+                             listKeyNames.contains(attrName), config));
+    }
+
+    /**
+     * Adds diff for attribute.
+     *
+     * @param attr   java attribute
+     * @param config plugin configurations
+     * @throws IOException when fails to do IO operations
+     */
+    private void addDiff(JavaAttributeInfo attr, YangPluginConfig config)
+            throws IOException {
+        String attrName = attr.getAttributeName();
+        YangNode node = attr.getAttributeType() == null &&
+                attrNodeInModule ? attrNode : null;
+        if (attrName.equals(YANG_AUGMENTED_INFO_MAP)) {
+            if (config.isRuntimeSupport()) {
+                addToSubTreeImports(getRuntimeImportInfo());
+            } else {
+                addToSubTreeImports(getUtilImportInfo(SET));
+                addToSubTreeImports(getUtilImportInfo(LINKED_HASH_SET));
+            }
+        } else if (attr.getAttributeType() != null) {
+            addToSubTreeImports(getUtilImportInfo(
+                    JAVA_UTIL_OBJECTS_IMPORT_CLASS));
+            if (attr.isListAttr()) {
+                addToSubTreeImports(getUtilImportInfo(SET));
+                addToSubTreeImports(getUtilImportInfo(LINKED_HASH_SET));
+            }
+        } else if (node instanceof YangChoice) {
+            addToSubTreeImports(getUtilImportInfo(
+                    JAVA_UTIL_OBJECTS_IMPORT_CLASS));
+        } else if (attr.isListAttr() && node != null &&
+                isOpTypeClassNode(node)) {
+            addToSubTreeImports(getUtilImportInfo(
+                    JAVA_UTIL_OBJECTS_IMPORT_CLASS));
+            if (isMapDataStructure(attr.getCompilerAnnotation()) ||
+                    !isQueueOrSetDataStructure(attr.getCompilerAnnotation()) &&
+                            !getListKeyNames(node).isEmpty()) {
+                addToSubTreeImports(getUtilImportInfo(MAP));
+                addToSubTreeImports(getUtilImportInfo(LINKED_HASH_MAP));
+            } else {
+                addToSubTreeImports(getUtilImportInfo(SET));
+                addToSubTreeImports(getUtilImportInfo(LINKED_HASH_SET));
+            }
+        }
+        appendToFile(diffTempFileHandle, getDiffForAttribute(attr, node, config));
     }
 
     /**
@@ -1080,6 +1279,11 @@ public class TempJavaFragmentFiles {
         appendToFile(getterInterfaceTempFileHandle,
                      getGetterString(attr, getGeneratedJavaFiles()) +
                              NEW_LINE);
+        if (javaFlagSet(BUILDER_CLASS_MASK) &&
+                isMapDataStructure(attr.getCompilerAnnotation())) {
+            appendToFile(getterInterfaceTempFileHandle,
+                         getListEntryByKeysMethod(attr, true) + NEW_LINE);
+        }
     }
 
     /**
@@ -1129,6 +1333,10 @@ public class TempJavaFragmentFiles {
         }
         if (javaFlagSet(BUILDER_CLASS_MASK)) {
             appendToFile(getterImplTempFileHandle, javadoc + getter);
+            if (isMapDataStructure(attr.getCompilerAnnotation())) {
+                appendToFile(getterImplTempFileHandle,
+                             getListEntryByKeysMethod(attr, false));
+            }
         } else {
             String appDataStructure = null;
             if (attr.getCompilerAnnotation() != null) {
@@ -1196,12 +1404,15 @@ public class TempJavaFragmentFiles {
     /**
      * Adds build method's implementation for class.
      *
+     * @param checkConstraints true if schema constraints are checked before
+     *                         build
      * @return build method implementation for class
      * @throws IOException when fails to append to temporary file
      */
-    protected String addBuildMethodImpl()
+    protected String addBuildMethodImpl(boolean checkConstraints)
             throws IOException {
-        return getBuildString(getGeneratedJavaClassName(), rootNode) + NEW_LINE;
+        return getBuildString(getGeneratedJavaClassName(), rootNode,
+                              checkConstraints) + NEW_LINE;
     }
 
     /**
@@ -1285,6 +1496,11 @@ public class TempJavaFragmentFiles {
             throws IOException {
         appendToFile(fromStringImplTempFileHandle,
                      getFromStringMethod(attr, fromStringAttr) + NEW_LINE);
+        String patterns = getFromStringPatternAttributes(attr, fromStringAttr);
+        if (!patterns.isEmpty() && tempFlagSet(ATTRIBUTES_MASK)) {
+            appendToFile(attributesTempFileHandle, patterns);
+            javaImportData.setPatternToImport(true);
+        }
     }
 
     /**
@@ -1379,6 +1595,14 @@ public class TempJavaFragmentFiles {
         if ((getGeneratedJavaFiles() & GENERATE_INTERFACE_WITH_BUILDER) != 0) {
             attrAccessType = PROTECTED;
         }
+        if (attr.getPrimitiveListType() != null) {
+            return getPrimitiveListAttributeDefinition(
+                    attr.getPrimitiveListType(), attrName, attrAccessType);
+        }
+        if (attrName.equals(VALUE_LEAF) || attrName.equals(SELECT_LEAF)) {
+            return getLeafFlagAttributeDefinition(
+                    attrName, attr.getLeafFlagWords(), attrAccessType);
+        }
         String pkg = null;
         if (attr.isQualifiedName()) {
             pkg = attr.getImportInfo().getPkgInfo();
@@ -1453,16 +1677,21 @@ public class TempJavaFragmentFiles {
                                         boolean leafList)
             throws IOException {
         if (entry != null) {
+            JavaAttributeInfo attr;
             if (curNode instanceof RpcNotificationContainer) {
                 TempJavaBeanFragmentFiles tempFiles = getBeanFiles(curNode);
-                addJavaSnippetInfoToApplicableTempFiles(
-                        getJavaAttributeOfLeaf(tempFiles, entry,
-                                               config, leafList), config);
+                attr = getJavaAttributeOfLeaf(tempFiles, entry, config,
+                                              leafList);
             } else {
-                addJavaSnippetInfoToApplicableTempFiles(
-                        getJavaAttributeOfLeaf(this, entry,
-                                               config, leafList), config);
+                attr = getJavaAttributeOfLeaf(this, entry, config, leafList);
+            }
+            attr.setLeafFlagWords(leafFlagWords);
+            attr.setYangName(entry.getName());
+            if (leafList && config.isConstraintCheck()) {
+                attr.setMaxElements(getMaxElements(
+                        ((YangLeafList) entry).getMaxElements()));
             }
+            addJavaSnippetInfoToApplicableTempFiles(attr, config);
         }
     }
 
@@ -1482,6 +1711,8 @@ public class TempJavaFragmentFiles {
                                                       curNode));
         }
         YangLeavesHolder leavesHolder = (YangLeavesHolder) curNode;
+        leafFlagWords = getLeafFlagWords(curNode);
+        listKeyNames = getListKeyNames(curNode);
 
         for (YangLeaf leaf : leavesHolder.getListOfLeaf()) {
             addLeafInfoToTempFiles((JavaLeafInfoContainer) leaf, config,
@@ -1522,6 +1753,16 @@ public class TempJavaFragmentFiles {
         if (!(curNode instanceof RpcNotificationContainer)) {
             javaImportData.addImportInfo(typeInfo, curNodeName, curInfo
                     .getPackage());
+            JavaQualifiedTypeInfoTranslator sinkInfo =
+                    new JavaQualifiedTypeInfoTranslator();
+            sinkInfo.setClassInfo(DIFF_SINK);
+            sinkInfo.setPkgInfo(typeInfo.getPkgInfo());
+            addToSubTreeImports(sinkInfo);
+            JavaQualifiedTypeInfoTranslator visitorInfo =
+                    new JavaQualifiedTypeInfoTranslator();
+            visitorInfo.setClassInfo(getVisitorName(getModuleNode(curNode)));
+            visitorInfo.setPkgInfo(typeInfo.getPkgInfo());
+            addToSubTreeImports(visitorInfo);
         }
         JavaAttributeInfo attributeInfo =
                 getAttributeInfoForTheData(typeInfo, YANG + curNodeName +
@@ -1555,6 +1796,7 @@ public class TempJavaFragmentFiles {
                                           info.getPackage());
         JavaAttributeInfo attributeInfo =
                 getAttributeInfoForTheData(typeInfo, VALUE_LEAF, null, false, false);
+        attributeInfo.setLeafFlagWords(getLeafFlagWords(node));
         addJavaSnippetInfoToApplicableTempFiles(attributeInfo, config);
     }
 
@@ -1562,9 +1804,10 @@ public class TempJavaFragmentFiles {
      * Adds value leaf flag to temp files.
      *
      * @param config YANG plugin config
+     * @param node   YANG node
      * @throws IOException IO exception
      */
-    protected void addSelectLeafFlag(YangPluginConfig config)
+    protected void addSelectLeafFlag(YangPluginConfig config, YangNode node)
             throws IOException {
         JavaQualifiedTypeInfoTranslator typeInfo =
                 new JavaQualifiedTypeInfoTranslator();
@@ -1572,6 +1815,7 @@ public class TempJavaFragmentFiles {
         typeInfo.setPkgInfo(JAVA_UTIL_PKG);
         JavaAttributeInfo attributeInfo =
                 getAttributeInfoForTheData(typeInfo, SELECT_LEAF, null, false, false);
+        attributeInfo.setLeafFlagWords(getLeafFlagWords(node));
         addJavaSnippetInfoToApplicableTempFiles(attributeInfo, config);
     }
 
@@ -1658,7 +1902,17 @@ public class TempJavaFragmentFiles {
             addToStringMethod(newAttrInfo);
         }
         if (tempFlagSet(EDIT_CONTENT_MASK)) {
-            //TODO: add implementation for edit content match.
+            addEditContent(newAttrInfo, pluginConfig);
+        }
+        if (tempFlagSet(DIFF_MASK)) {
+            addDiff(newAttrInfo, pluginConfig);
+        }
+        if (tempFlagSet(ACCEPT_MASK)) {
+            YangNode node = newAttrInfo.getAttributeType() == null &&
+                    attrNodeInModule ? attrNode : null;
+            appendToFile(acceptTempFileHandle,
+                         getAcceptForAttribute(newAttrInfo, node,
+                                               pluginConfig));
         }
         boolean listAttr = newAttrInfo.isListAttr();
         if (tempFlagSet(ADD_TO_LIST_IMPL_MASK) && listAttr) {
@@ -1669,7 +1923,7 @@ public class TempJavaFragmentFiles {
         }
         YangType attrType = newAttrInfo.getAttributeType();
         if (subTreeForChild) {
-            addSubtreeFilteringForChildNode(newAttrInfo);
+            addSubtreeFilteringForChildNode(newAttrInfo, pluginConfig);
         }
         if (tempFlagSet(FILTER_CONTENT_MATCH_FOR_LEAF_MASK) &&
                 !listAttr && attrType != null) {
@@ -1753,6 +2007,13 @@ public class TempJavaFragmentFiles {
         if (curNode instanceof YangAugmentableNode) {
             addImportsForAugmentableClass(imports, true, true, curNode);
         }
+        // Keys class of list stored in map implements hash code and to string.
+        boolean keysClass = curNode instanceof YangList &&
+                isMapDataStructure(((YangList) curNode).getCompilerAnnotation());
+        if (keysClass) {
+            addImportsToStringAndHasCodeMethods(imports, true);
+            sortImports(imports);
+        }
         createPackage(curNode);
 
         //Generate java code.
@@ -1789,10 +2050,13 @@ public class TempJavaFragmentFiles {
                 addImportsForAugmentableClass(imports, false, true, curNode);
             }
         }
+        if (keysClass) {
+            addImportsToStringAndHasCodeMethods(imports, false);
+        }
 
         if (curNode.isOpTypeReq()) {
-            if (curNode instanceof YangAugmentableNode) {
-                addImportsForSubTreeFilterAug(imports);
+            if (getListKeyNames(curNode).size() > 1) {
+                addToSubTreeImports(getUtilImportInfo(ARRAYS));
             }
             addSubTreeImportStrings(imports);
         }
@@ -1802,14 +2066,18 @@ public class TempJavaFragmentFiles {
             if (isAttributePresent) {
                 addImportsToStringAndHasCodeMethods(imports, true);
                 addArrayListImport(imports);
+                addLinkedHashMapImport(imports);
+                addCollectionsImport(imports);
+                addPrimitiveListImports(imports);
+                addLeafFlagArrayImport(imports);
             }
 
             addBitsAndBase64Imports(curNode, imports);
             if (curNode instanceof YangAugmentableNode) {
                 addImportsForAugmentableClass(imports, true, false, curNode);
-                if (curNode.isOpTypeReq()) {
-                    addInvocationExceptionImport(imports);
-                }
+            }
+            if ((fileType & BUILDER_CLASS_MASK) != 0) {
+                addConstraintCheckImports(curNode, imports);
             }
             sortImports(imports);
 
@@ -1829,7 +2097,7 @@ public class TempJavaFragmentFiles {
                 builderClassJavaFileHandle =
                         generateBuilderClassFile(builderClassJavaFileHandle,
                                                  curNode,
-                                                 isAttributePresent);
+                                                 isAttributePresent, imports);
 
                 //Append impl class to builder class and close it.
                 mergeJavaFiles(builderClassJavaFileHandle,
@@ -1842,25 +2110,89 @@ public class TempJavaFragmentFiles {
         freeTemporaryResources(false);
     }
 
-    private void addImportsForSubTreeFilterAug(List<String> imports) {
-        if (!imports.contains(SET_IMPORT)) {
-            imports.add(SET_IMPORT);
-        }
-        if (!imports.contains(METHOD_IMPORT)) {
-            imports.add(METHOD_IMPORT);
-        }
-        if (!imports.contains(ITR_IMPORT)) {
-            imports.add(ITR_IMPORT);
-        }
+    /**
+     * Constructs RFC 7951 JSON codec class of current node.
+     *
+     * @param curNode current YANG node
+     * @throws IOException when fails to generate java file
+     */
+    public void generateJsonCodecFile(YangNode curNode)
+            throws IOException {
+        createPackage(curNode);
+        File codecFile = getJavaFileHandle(getJavaClassName(JSON_CODEC));
+        generateJsonCodecClassFile(codecFile, curNode);
+    }
+
+    /**
+     * Constructs NETCONF XML codec class of current node.
+     *
+     * @param curNode current YANG node
+     * @throws IOException when fails to generate java file
+     */
+    public void generateXmlCodecFile(YangNode curNode)
+            throws IOException {
+        createPackage(curNode);
+        File codecFile = getJavaFileHandle(getJavaClassName(XML_CODEC));
+        generateXmlCodecClassFile(codecFile, curNode);
+    }
+
+    /**
+     * Constructs compact binary codec class of current node.
+     *
+     * @param curNode current YANG node
+     * @throws IOException when fails to generate java file
+     */
+    public void generateBinaryCodecFile(YangNode curNode)
+            throws IOException {
+        createPackage(curNode);
+        File codecFile = getJavaFileHandle(getJavaClassName(BINARY_CODEC));
+        generateBinaryCodecClassFile(codecFile, curNode);
     }
 
     //Adds import for array list.
     private void addArrayListImport(List<String> imports) {
-        if (imports.contains(javaImportData.getImportForList())) {
+        if (imports.contains(javaImportData.getImportForList()) &&
+                !imports.contains(ARRAY_LIST_IMPORT)) {
             imports.add(ARRAY_LIST_IMPORT);
         }
     }
 
+    //Adds import for collections, used to copy collections of builder.
+    private void addCollectionsImport(List<String> imports) {
+        String collections = javaImportData.getCollectionsImport();
+        if (javaImportData.isCollectionsToImport() &&
+                !imports.contains(collections)) {
+            imports.add(collections);
+        }
+    }
+
+    //Adds imports for leaf-list stored in primitive array.
+    private void addPrimitiveListImports(List<String> imports) {
+        if (javaImportData.isPrimitiveListToImport()) {
+            String arrays = javaImportData.getArraysImport();
+            if (!imports.contains(arrays)) {
+                imports.add(arrays);
+            }
+            imports.add(javaImportData.getAbstractListImport());
+        }
+    }
+
+    //Adds import for leaf flags stored in long array.
+    private void addLeafFlagArrayImport(List<String> imports) {
+        String arrays = javaImportData.getArraysImport();
+        if (leafFlagWords > 1 && !imports.contains(arrays)) {
+            imports.add(arrays);
+        }
+    }
+
+    //Adds import for linked hash map, used to add to list stored in map.
+    private void addLinkedHashMapImport(List<String> imports) {
+        String linkedHashMap = javaImportData.getLinkedHashMapImport();
+        if (javaImportData.isMapToImport() && !imports.contains(linkedHashMap)) {
+            imports.add(linkedHashMap);
+        }
+    }
+
     //Adds import for bitset and base64 list.
     private void addBitsAndBase64Imports(YangNode curNode, List<String> imports) {
         if (curNode.isOpTypeReq()) {
@@ -1880,7 +2212,10 @@ public class TempJavaFragmentFiles {
     protected void addImportsToStringAndHasCodeMethods(List<String> imports,
                                                        boolean operation) {
         if (operation) {
-            imports.add(javaImportData.getImportForHashAndEquals());
+            String hashAndEquals = javaImportData.getImportForHashAndEquals();
+            if (!imports.contains(hashAndEquals)) {
+                imports.add(hashAndEquals);
+            }
             imports.add(javaImportData.getImportForToString());
         } else {
             imports.remove(javaImportData.getImportForHashAndEquals());
@@ -1902,12 +2237,15 @@ public class TempJavaFragmentFiles {
                                                boolean isInterfaceFile,
                                                YangNode curNode) {
         if (operations) {
-            if (!isInterfaceFile) {
-                imports.add(javaImportData.getHashMapImport());
+            String hashMapImport = javaImportData.getHashMapImport();
+            if (!isInterfaceFile && !imports.contains(hashMapImport)) {
+                imports.add(hashMapImport);
             }
             // Add import for hash map only if node is not a YANG choice.
-            if (!(curNode instanceof YangChoice)) {
-                imports.add(javaImportData.getMapImport());
+            String mapImport = javaImportData.getMapImport();
+            if (!(curNode instanceof YangChoice) &&
+                    !imports.contains(mapImport)) {
+                imports.add(mapImport);
             }
         } else {
             if (!isInterfaceFile) {
@@ -1918,17 +2256,6 @@ public class TempJavaFragmentFiles {
         sortImports(imports);
     }
 
-    /**
-     * Adds invocation exception import.
-     *
-     * @param imports list of imports
-     */
-    private void addInvocationExceptionImport(List<String> imports) {
-        if (!imports.contains(INVOCATION_TARGET_EXCEPTION_IMPORT)) {
-            imports.add(INVOCATION_TARGET_EXCEPTION_IMPORT);
-        }
-    }
-
     /**
      * Removes all temporary file handles.
      *
@@ -1994,6 +2321,12 @@ public class TempJavaFragmentFiles {
         if (tempFlagSet(EDIT_CONTENT_MASK)) {
             closeFile(editContentTempFileHandle);
         }
+        if (tempFlagSet(DIFF_MASK)) {
+            closeFile(diffTempFileHandle);
+        }
+        if (tempFlagSet(ACCEPT_MASK)) {
+            closeFile(acceptTempFileHandle);
+        }
     }
 
     /**
@@ -2065,6 +2398,24 @@ public class TempJavaFragmentFiles {
         return editContentTempFileHandle;
     }
 
+    /**
+     * Returns temp file for diff file.
+     *
+     * @return temp file for diff file
+     */
+    public File getDiffTempFileHandle() {
+        return diffTempFileHandle;
+    }
+
+    /**
+     * Returns temp file for accept file.
+     *
+     * @return temp file for accept file
+     */
+    public File getAcceptTempFileHandle() {
+        return acceptTempFileHandle;
+    }
+
     /**
      * Returns temp file for is content match.
      *
@@ -2135,6 +2486,16 @@ public class TempJavaFragmentFiles {
         this.attrNode = attrNode;
     }
 
+    /**
+     * Sets whether the class of attribute's node is generated in the module
+     * of the current node.
+     *
+     * @param attrNodeInModule true if class is generated in module
+     */
+    public void setAttrNodeInModule(boolean attrNodeInModule) {
+        this.attrNodeInModule = attrNodeInModule;
+    }
+
     /**
      * Adds info to sub tree import list.
      *
@@ -2155,9 +2516,41 @@ public class TempJavaFragmentFiles {
 
     private void addSubTreeImportStrings(List<String> imports) {
         for (JavaQualifiedTypeInfoTranslator impt : subTreeImports) {
-            imports.add(getImportString(impt.getPkgInfo(), impt.getClassInfo()));
+            String importString = getImportString(impt.getPkgInfo(),
+                                                   impt.getClassInfo());
+            if (!imports.contains(importString)) {
+                imports.add(importString);
+            }
         }
         sortImports(imports);
     }
 
+    /**
+     * Returns the java util import info for the given class.
+     *
+     * @param className class name
+     * @return import info
+     */
+    private static JavaQualifiedTypeInfoTranslator getUtilImportInfo(
+            String className) {
+        JavaQualifiedTypeInfoTranslator info =
+                new JavaQualifiedTypeInfoTranslator();
+        info.setClassInfo(className);
+        info.setPkgInfo(COLLECTION_IMPORTS);
+        return info;
+    }
+
+    /**
+     * Returns import info of augmented info support of runtime library.
+     *
+     * @return import info of augmented info support
+     */
+    private static JavaQualifiedTypeInfoTranslator getRuntimeImportInfo() {
+        JavaQualifiedTypeInfoTranslator info =
+                new JavaQualifiedTypeInfoTranslator();
+        info.setClassInfo(AUGMENTED_INFO_SUPPORT);
+        info.setPkgInfo(RUNTIME_IMPORTS);
+        return info;
+    }
+
 }
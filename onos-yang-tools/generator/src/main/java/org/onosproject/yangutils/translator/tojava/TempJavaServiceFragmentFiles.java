@@ -31,14 +31,21 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.RPC_ASYNC_ADAPTER_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.RPC_ASYNC_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.RPC_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.JavaAttributeInfo.getAttributeInfoForTheData;
 import static org.onosproject.yangutils.translator.tojava.JavaQualifiedTypeInfoTranslator.getQualifiedTypeInfoOfCurNode;
+import static org.onosproject.yangutils.translator.tojava.utils.AsyncRpcMethodsGenerator.getAsyncAdapterRpcMethods;
+import static org.onosproject.yangutils.translator.tojava.utils.AsyncRpcMethodsGenerator.getAsyncRpcMethod;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.addListenersImport;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateServiceInterfaceFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGeneratorUtils.addResolvedAugmentedDataNodeImports;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaIdentifierSyntax.createPackage;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getRpcServiceMethod;
+import static org.onosproject.yangutils.utils.UtilConstants.COMPLETABLE_FUTURE;
+import static org.onosproject.yangutils.utils.UtilConstants.COMPLETION_EXCEPTION;
+import static org.onosproject.yangutils.utils.UtilConstants.CONCURRENT_IMPORTS;
 import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.HYPHEN;
 import static org.onosproject.yangutils.utils.UtilConstants.INPUT;
@@ -65,11 +72,31 @@ public class TempJavaServiceFragmentFiles extends TempJavaFragmentFiles {
      */
     private static final String RPC_INTERFACE_FILE_NAME = "Rpc";
 
+    /**
+     * File name for asynchronous rpc method.
+     */
+    private static final String RPC_ASYNC_INTERFACE_FILE_NAME = "RpcAsync";
+
+    /**
+     * File name for asynchronous rpc adapter methods.
+     */
+    private static final String RPC_ASYNC_ADAPTER_FILE_NAME = "RpcAsyncAdapter";
+
     /**
      * Temporary file handle for rpc interface.
      */
     private final File rpcInterfaceTempFileHandle;
 
+    /**
+     * Temporary file handle for asynchronous rpc interface.
+     */
+    private File rpcAsyncInterfaceTempFileHandle;
+
+    /**
+     * Temporary file handle for asynchronous rpc adapter.
+     */
+    private File rpcAsyncAdapterTempFileHandle;
+
     /**
      * Java file handle for rpc interface file.
      */
@@ -91,6 +118,14 @@ public class TempJavaServiceFragmentFiles extends TempJavaFragmentFiles {
                 getJavaFileInfo().getPackageFilePath()));
         addGeneratedTempFile(RPC_INTERFACE_MASK);
         rpcInterfaceTempFileHandle = getTemporaryFileHandle(RPC_INTERFACE_FILE_NAME);
+        if (javaFileInfo.getPluginConfig().isAsyncRpc()) {
+            addGeneratedTempFile(RPC_ASYNC_INTERFACE_MASK |
+                                         RPC_ASYNC_ADAPTER_MASK);
+            rpcAsyncInterfaceTempFileHandle =
+                    getTemporaryFileHandle(RPC_ASYNC_INTERFACE_FILE_NAME);
+            rpcAsyncAdapterTempFileHandle =
+                    getTemporaryFileHandle(RPC_ASYNC_ADAPTER_FILE_NAME);
+        }
     }
 
     /**
@@ -102,6 +137,24 @@ public class TempJavaServiceFragmentFiles extends TempJavaFragmentFiles {
         return rpcInterfaceTempFileHandle;
     }
 
+    /**
+     * Returns asynchronous rpc method's temporary file handle.
+     *
+     * @return temporary file handle
+     */
+    public File getRpcAsyncInterfaceTempFileHandle() {
+        return rpcAsyncInterfaceTempFileHandle;
+    }
+
+    /**
+     * Returns asynchronous rpc adapter's temporary file handle.
+     *
+     * @return temporary file handle
+     */
+    public File getRpcAsyncAdapterTempFileHandle() {
+        return rpcAsyncAdapterTempFileHandle;
+    }
+
     /**
      * Constructs java code exit.
      *
@@ -167,6 +220,36 @@ public class TempJavaServiceFragmentFiles extends TempJavaFragmentFiles {
         appendToFile(rpcInterfaceTempFileHandle,
                      generateJavaDocForRpc(rpcName, rpcIn, rpcOutput) +
                              getRpcServiceMethod(rpcName, rpcInput, rpcOutput));
+        if (rpcAsyncInterfaceTempFileHandle != null) {
+            addAsyncRpcImport();
+            appendToFile(rpcAsyncInterfaceTempFileHandle,
+                         getAsyncRpcMethod(rpcName, rpcInput, rpcOutput));
+            appendToFile(rpcAsyncAdapterTempFileHandle,
+                         getAsyncAdapterRpcMethods(rpcName, rpcInput,
+                                                   rpcOutput));
+        }
+    }
+
+    /**
+     * Adds imports of completable future returned by asynchronous rpc
+     * methods, and of completion exception unwrapped by the adapter, to
+     * service.
+     */
+    private void addAsyncRpcImport() {
+        addConcurrentImport(COMPLETABLE_FUTURE);
+        addConcurrentImport(COMPLETION_EXCEPTION);
+    }
+
+    // Adds import of a concurrent type to service.
+    private void addConcurrentImport(String type) {
+        JavaQualifiedTypeInfoTranslator info =
+                new JavaQualifiedTypeInfoTranslator();
+        info.setClassInfo(type);
+        info.setPkgInfo(CONCURRENT_IMPORTS);
+        String service = getCapitalCase(getJavaFileInfo().getJavaName()) +
+                SERVICE;
+        getJavaImportData().addImportInfo(info, service,
+                                          getJavaFileInfo().getPackage());
     }
 
     /**
@@ -304,6 +387,8 @@ public class TempJavaServiceFragmentFiles extends TempJavaFragmentFiles {
             throws IOException {
         closeFile(serviceJavaFileHandle, errorOccurred);
         closeFile(rpcInterfaceTempFileHandle);
+        closeFile(rpcAsyncInterfaceTempFileHandle);
+        closeFile(rpcAsyncAdapterTempFileHandle);
         closeFile(getGetterInterfaceTempFileHandle());
         closeFile(getSetterInterfaceTempFileHandle());
         closeFile(getSetterImplTempFileHandle());
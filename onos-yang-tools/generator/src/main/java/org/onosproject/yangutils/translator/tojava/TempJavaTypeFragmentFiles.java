@@ -565,9 +565,16 @@ public class TempJavaTypeFragmentFiles
      */
     private void addOfStringMethod(JavaAttributeInfo attr, YangPluginConfig pluginConfig)
             throws IOException {
-        appendToFile(getOfStringImplTempFileHandle(), getOfMethodStringAndJavaDoc(attr,
-                                                                                  getGeneratedJavaClassName())
-                + NEW_LINE);
+        String ofMethod;
+        if ((getGeneratedJavaFiles() & GENERATE_TYPEDEF_CLASS) != 0) {
+            ofMethod = getOfMethodStringAndJavaDoc(
+                    attr, getGeneratedJavaClassName(),
+                    pluginConfig.getTypedefCacheLimit());
+        } else {
+            ofMethod = getOfMethodStringAndJavaDoc(
+                    attr, getGeneratedJavaClassName());
+        }
+        appendToFile(getOfStringImplTempFileHandle(), ofMethod + NEW_LINE);
     }
 
     /**
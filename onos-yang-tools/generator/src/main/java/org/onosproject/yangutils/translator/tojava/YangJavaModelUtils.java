@@ -19,10 +19,13 @@ package org.onosproject.yangutils.translator.tojava;
 import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
 import org.onosproject.yangutils.datamodel.YangAtomicPath;
 import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangAugmentableNode;
 import org.onosproject.yangutils.datamodel.YangBit;
 import org.onosproject.yangutils.datamodel.YangBits;
 import org.onosproject.yangutils.datamodel.YangCase;
 import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangCompilerAnnotation;
+import org.onosproject.yangutils.datamodel.YangDataStructure;
 import org.onosproject.yangutils.datamodel.YangEnum;
 import org.onosproject.yangutils.datamodel.YangEnumeration;
 import org.onosproject.yangutils.datamodel.YangGrouping;
@@ -50,10 +53,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static org.onosproject.yangutils.datamodel.YangDataStructure.MAP;
+import static org.onosproject.yangutils.datamodel.YangDataStructure.QUEUE;
+import static org.onosproject.yangutils.datamodel.YangDataStructure.SET;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.getParentNodeInGenCode;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.isRpcChildNodePresent;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_BINARY_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_INTERFACE_WITH_BUILDER;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_JSON_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_SERVICE_AND_MANAGER;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_XML_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.TempJavaFragmentFiles.addCurNodeInfoInParentTempFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGenerator.generateInterfaceFile;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaIdentifierSyntax.getRootPackage;
@@ -64,6 +74,7 @@ import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.
 import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.getErrorMsg;
 import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.getErrorMsgForCodeGenerator;
 import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED;
+import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED_INFO;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_CURLY_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.HYPHEN;
 import static org.onosproject.yangutils.utils.UtilConstants.INPUT_KEYWORD;
@@ -272,7 +283,7 @@ public final class YangJavaModelUtils {
                 bean.addIsSubTreeFilteredFlag(config);
                 if (isLeafPresent) {
                     //Add select leaf flag attribute to temp file.
-                    bean.addSelectLeafFlag(config);
+                    bean.addSelectLeafFlag(config, (YangNode) info);
                 }
             }
         } else if (info instanceof YangTypeHolder) {
@@ -684,6 +695,151 @@ public final class YangJavaModelUtils {
                                            config.getConflictResolver()));
     }
 
+    /**
+     * Returns true if compiler annotation asks for the list entries to be
+     * stored in map by keys.
+     *
+     * @param annotation compiler annotation
+     * @return true if list is stored in map
+     */
+    public static boolean isMapDataStructure(YangCompilerAnnotation annotation) {
+        return annotation != null &&
+                annotation.getYangAppDataStructure() != null &&
+                annotation.getYangAppDataStructure().getDataStructure() == MAP;
+    }
+
+    /**
+     * Returns true if compiler annotation asks for the list entries to be
+     * stored in queue or set.
+     *
+     * @param annotation compiler annotation
+     * @return true if list is stored in queue or set
+     */
+    public static boolean isQueueOrSetDataStructure(
+            YangCompilerAnnotation annotation) {
+        if (annotation == null ||
+                annotation.getYangAppDataStructure() == null) {
+            return false;
+        }
+        YangDataStructure structure =
+                annotation.getYangAppDataStructure().getDataStructure();
+        return structure == QUEUE || structure == SET;
+    }
+
+    /**
+     * Returns true if the class generated for the node supports operation
+     * type. A node cloned from a grouping uses the class generated for the
+     * last referred node, which decides it.
+     *
+     * @param node YANG node
+     * @return true if class of node supports operation type
+     */
+    public static boolean isOpTypeClassNode(YangNode node) {
+        return getLastReferredNode(node).isOpTypeReq();
+    }
+
+    /**
+     * Returns true if the class generated for the node is generated in the
+     * module of the holder node. It is false for a node cloned from a
+     * grouping of another module, whose class takes the types nested in
+     * that module.
+     *
+     * @param node   YANG node
+     * @param holder node holding the node
+     * @return true if class of node is generated in module of holder
+     */
+    public static boolean isModuleClassNode(YangNode node, YangNode holder) {
+        return getRootNode(getLastReferredNode(node)) == getRootNode(holder);
+    }
+
+    /**
+     * Returns the last referred node of node cloned from grouping, or the
+     * node itself.
+     *
+     * @param node YANG node
+     * @return last referred node
+     */
+    private static YangNode getLastReferredNode(YangNode node) {
+        YangNode refNode = node;
+        while (refNode.getReferredSchema() != null) {
+            refNode = (YangNode) refNode.getReferredSchema();
+        }
+        return refNode;
+    }
+
+    /**
+     * Returns the module or sub-module holding the node.
+     *
+     * @param node YANG node
+     * @return module or sub-module node
+     */
+    private static YangNode getRootNode(YangNode node) {
+        YangNode root = node;
+        while (!(root instanceof RpcNotificationContainer)) {
+            root = root.getParent();
+        }
+        return root;
+    }
+
+    /**
+     * Returns true if the augmented info of node is subtree filtered by the
+     * augmented info itself, through the augmented info interface generated
+     * for node.
+     *
+     * @param node YANG node
+     * @return true if augmented info filters itself
+     */
+    public static boolean isAugmentedInfoFiltered(YangNode node) {
+        return node instanceof YangAugmentableNode &&
+                !(node instanceof YangChoice) && node.isOpTypeReq();
+    }
+
+    /**
+     * Returns qualified name of the augmented info interface which augment
+     * implements, null if the augmented info of its target node is not
+     * filtered.
+     *
+     * @param augment YANG augment
+     * @param config  plugin configurations
+     * @return qualified augmented info interface name
+     */
+    public static String getAugmentedInfoName(YangAugment augment,
+                                              YangPluginConfig config) {
+        YangNode target = augment.getAugmentedNode();
+        if (target == null || !augment.isOpTypeReq() ||
+                !isAugmentedInfoFiltered(target)) {
+            return null;
+        }
+        String name = getQualifiedNodeName(target, config);
+        return name + PERIOD + name.substring(name.lastIndexOf(PERIOD) + 1) +
+                AUGMENTED_INFO;
+    }
+
+    /**
+     * Returns qualified name of the interface generated for node. The node
+     * may not be translated yet when it is referred from another node, in
+     * that case the name is derived from the data model.
+     *
+     * @param node   YANG node
+     * @param config plugin configurations
+     * @return qualified interface name of node
+     */
+    public static String getQualifiedNodeName(YangNode node,
+                                              YangPluginConfig config) {
+        JavaFileInfoTranslator info = ((JavaFileInfoContainer) node)
+                .getJavaFileInfo();
+        if (info.getJavaName() != null && info.getPackage() != null) {
+            return info.getPackage() + PERIOD +
+                    getCapitalCase(info.getJavaName());
+        }
+        if (node instanceof YangAugment) {
+            return getNodesPackage(node, config) + PERIOD +
+                    getAugmentClassName((YangAugment) node, config);
+        }
+        return getNodesPackage(node, config) + PERIOD + getCapitalCase(
+                getCamelCase(node.getName(), config.getConflictResolver()));
+    }
+
     /**
      * Generated java code during exit.
      *
@@ -702,6 +858,35 @@ public final class YangJavaModelUtils {
         }
     }
 
+    /**
+     * Returns the generated java file types of a data node, which includes
+     * the JSON, XML and binary codec classes when they are enabled in plugin
+     * configurations.
+     *
+     * @param info YANG java file info node
+     * @return generated java file types
+     */
+    public static int getDataNodeFileTypes(JavaFileInfoContainer info) {
+        int fileTypes = GENERATE_INTERFACE_WITH_BUILDER;
+        /*
+         * Code of cloned node is generated under grouping, whose java file
+         * info may not be updated yet when grouping comes later.
+         */
+        if (((YangNode) info).getReferredSchema() != null) {
+            return fileTypes;
+        }
+        if (info.getJavaFileInfo().getPluginConfig().isJsonCodec()) {
+            fileTypes |= GENERATE_JSON_CODEC_CLASS;
+        }
+        if (info.getJavaFileInfo().getPluginConfig().isXmlCodec()) {
+            fileTypes |= GENERATE_XML_CODEC_CLASS;
+        }
+        if (info.getJavaFileInfo().getPluginConfig().isBinaryCodec()) {
+            fileTypes |= GENERATE_BINARY_CODEC_CLASS;
+        }
+        return fileTypes;
+    }
+
     private static void createAndAddEnum(String name, int value,
                                          YangEnumeration enumeration) {
         YangEnum yangEnum = new YangEnum();
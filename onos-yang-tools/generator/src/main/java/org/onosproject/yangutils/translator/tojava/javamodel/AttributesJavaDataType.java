@@ -124,6 +124,29 @@ public final class AttributesJavaDataType {
         }
     }
 
+    /**
+     * Returns primitive type of the array which can store a leaf-list of the
+     * YANG type, in place of the list of wrapper objects.
+     *
+     * @param yangType YANG type
+     * @return primitive type, or null if type is not stored in primitive array
+     */
+    public static String getJavaPrimitiveListType(YangType<?> yangType) {
+        switch (yangType.getDataType()) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+            case BOOLEAN:
+                return getJavaDataType(yangType);
+            default:
+                return null;
+        }
+    }
+
     /**
      * Returns java import class.
      *
@@ -29,6 +29,7 @@ import org.onosproject.yangutils.utils.io.YangPluginConfig;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_INTERFACE_WITH_BUILDER;
 import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.generateCodeAndUpdateInParent;
 import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.generateJava;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.getDataNodeFileTypes;
 
 /**
  * Represents YANG list information extended to support java code generation.
@@ -130,7 +131,7 @@ public class YangJavaListTranslator
     @Override
     public void generateCodeExit() throws TranslatorException {
         try {
-            generateJava(GENERATE_INTERFACE_WITH_BUILDER, this);
+            generateJava(getDataNodeFileTypes(this), this);
         } catch (IOException e) {
             throw new TranslatorException("Failed to generate code for list node " +
                     getName() + " in " +
@@ -30,8 +30,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_ALL_EVENT_CLASS_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_BINARY_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_INTERFACE_WITH_BUILDER;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_JSON_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_SERVICE_AND_MANAGER;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_XML_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.generateCodeOfRootNode;
 import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.generateInterfaceFileForNonDataNodes;
 import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isRootNodesCodeGenRequired;
@@ -188,6 +191,21 @@ public class YangJavaSubModuleTranslator
                 }
             }
 
+            if (getJavaFileInfo().getPluginConfig().isJsonCodec()) {
+                getTempJavaCodeFragmentFiles()
+                        .generateJavaFile(GENERATE_JSON_CODEC_CLASS, this);
+            }
+
+            if (getJavaFileInfo().getPluginConfig().isXmlCodec()) {
+                getTempJavaCodeFragmentFiles()
+                        .generateJavaFile(GENERATE_XML_CODEC_CLASS, this);
+            }
+
+            if (getJavaFileInfo().getPluginConfig().isBinaryCodec()) {
+                getTempJavaCodeFragmentFiles()
+                        .generateJavaFile(GENERATE_BINARY_CODEC_CLASS, this);
+            }
+
             searchAndDeleteTempDir(getJavaFileInfo().getBaseCodeGenPath() +
                                            getJavaFileInfo().getPackageFilePath());
             removeEmptyDirectory(getJavaFileInfo().getBaseCodeGenPath() +
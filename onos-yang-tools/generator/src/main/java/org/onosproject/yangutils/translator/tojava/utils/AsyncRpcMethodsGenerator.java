@@ -0,0 +1,177 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import static org.onosproject.yangutils.utils.UtilConstants.ASYNC;
+import static org.onosproject.yangutils.utils.UtilConstants.COMPLETABLE_FUTURE;
+import static org.onosproject.yangutils.utils.UtilConstants.COMPLETION_EXCEPTION;
+import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.RPC_INPUT_VAR_NAME;
+import static org.onosproject.yangutils.utils.UtilConstants.VOID;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator for asynchronous rpc methods of service interfaces.
+ * <p>
+ * When enabled in plugin configurations, the service interface gets an
+ * asynchronous variant of each rpc method returning a completable future of
+ * the rpc output. Its default completes the future with the blocking method,
+ * so existing implementations serve asynchronous callers unchanged. An
+ * abstract adapter nested in the service interface does the reverse for
+ * implementations completing rpc asynchronously, such as ones waiting on
+ * devices over the network: they implement only the asynchronous methods,
+ * and the blocking methods wait for them, throwing the runtime exception
+ * the future completed with rather than its completion exception wrapper.
+ */
+public final class AsyncRpcMethodsGenerator {
+
+    /**
+     * Suffix of the adapter class generated in the service interface.
+     */
+    private static final String ASYNC_ADAPTER = "AsyncAdapter";
+
+    private static final String FUTURE = "future";
+
+    // No instantiation.
+    private AsyncRpcMethodsGenerator() {
+    }
+
+    /**
+     * Returns the default asynchronous rpc method of service interface.
+     *
+     * @param rpcName name of rpc method
+     * @param input   type of rpc input, null when rpc has no input
+     * @param output  type of rpc output, void when rpc has no output
+     * @return asynchronous rpc method
+     */
+    public static String getAsyncRpcMethod(String rpcName, String input,
+                                           String output) {
+        String futureType = getFutureType(output);
+        StringBuilder builder = new StringBuilder()
+                .append("    /**\n")
+                .append("     * Invokes ").append(rpcName)
+                .append(" asynchronously. The default completes the ")
+                .append("returned\n")
+                .append("     * future with the blocking method, in the ")
+                .append("calling thread.\n")
+                .append("     *\n");
+        if (input != null) {
+            builder.append("     * @param ").append(RPC_INPUT_VAR_NAME)
+                    .append(" input of ").append(rpcName).append("\n");
+        }
+        builder.append("     * @return future of output of ").append(rpcName)
+                .append("\n")
+                .append("     */\n")
+                .append("    default ").append(futureType).append(" ")
+                .append(getAsyncSignature(rpcName, input)).append(" {\n")
+                .append("        ").append(futureType).append(" ")
+                .append(FUTURE).append(" = new ").append(COMPLETABLE_FUTURE)
+                .append("<>();\n")
+                .append("        try {\n");
+        String call = rpcName + "(" + getArg(input) + ")";
+        if (output.equals(VOID)) {
+            builder.append("            ").append(call).append(";\n")
+                    .append("            ").append(FUTURE)
+                    .append(".complete(null);\n");
+        } else {
+            builder.append("            ").append(FUTURE).append(".complete(")
+                    .append(call).append(");\n");
+        }
+        return builder.append("        } catch (RuntimeException e) {\n")
+                .append("            ").append(FUTURE)
+                .append(".completeExceptionally(e);\n")
+                .append("        }\n")
+                .append("        return ").append(FUTURE).append(";\n")
+                .append("    }\n\n").toString();
+    }
+
+    /**
+     * Returns the methods of adapter class for an rpc; the blocking method
+     * waiting for the asynchronous one, which is left abstract. The runtime
+     * exception the future completed with is thrown as is by the blocking
+     * method.
+     *
+     * @param rpcName name of rpc method
+     * @param input   type of rpc input, null when rpc has no input
+     * @param output  type of rpc output, void when rpc has no output
+     * @return adapter methods of rpc
+     */
+    public static String getAsyncAdapterRpcMethods(String rpcName,
+                                                   String input,
+                                                   String output) {
+        String param = input == null ? EMPTY_STRING :
+                input + " " + RPC_INPUT_VAR_NAME;
+        String join = rpcName + ASYNC + "(" + getArg(input) + ").join();\n";
+        return "        @Override\n" +
+                "        public " + output + " " + rpcName + "(" + param +
+                ") {\n" +
+                "            try {\n" +
+                "                " + (output.equals(VOID) ? EMPTY_STRING :
+                "return ") + join +
+                "            } catch (" + COMPLETION_EXCEPTION + " e) {\n" +
+                "                if (e.getCause() instanceof " +
+                "RuntimeException) {\n" +
+                "                    throw (RuntimeException) e.getCause();\n" +
+                "                }\n" +
+                "                throw e;\n" +
+                "            }\n" +
+                "        }\n\n" +
+                "        @Override\n" +
+                "        public abstract " + getFutureType(output) + " " +
+                getAsyncSignature(rpcName, input) + ";\n\n";
+    }
+
+    /**
+     * Returns the adapter class nested in service interface, for
+     * implementations completing rpc asynchronously.
+     *
+     * @param service name of service interface
+     * @param methods adapter methods of rpc
+     * @return adapter class
+     */
+    static String getAsyncAdapterClass(String service, String methods) {
+        return "    /**\n" +
+                "     * Adapter of " + service + " for implementations " +
+                "completing rpc\n" +
+                "     * asynchronously. Blocking rpc methods wait for " +
+                "the asynchronous ones.\n" +
+                "     */\n" +
+                "    abstract class " + service + ASYNC_ADAPTER +
+                " implements " + service + " {\n\n" +
+                methods.substring(0, methods.length() - 1) +
+                "    }\n";
+    }
+
+    // Returns the future type of rpc output.
+    private static String getFutureType(String output) {
+        String type = output.equals(VOID) ? getCapitalCase(VOID) : output;
+        return COMPLETABLE_FUTURE + "<" + type + ">";
+    }
+
+    // Returns the name and parameter of asynchronous rpc method.
+    private static String getAsyncSignature(String rpcName, String input) {
+        if (input == null) {
+            return rpcName + ASYNC + "()";
+        }
+        return rpcName + ASYNC + "(" + input + " " + RPC_INPUT_VAR_NAME + ")";
+    }
+
+    // Returns the argument passing rpc input.
+    private static String getArg(String input) {
+        return input == null ? EMPTY_STRING : RPC_INPUT_VAR_NAME;
+    }
+}
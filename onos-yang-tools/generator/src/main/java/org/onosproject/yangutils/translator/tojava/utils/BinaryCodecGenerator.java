@@ -0,0 +1,668 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.javadatamodel.JavaQualifiedTypeInfo;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
+import org.onosproject.yangutils.translator.tojava.javamodel.JavaLeafInfoContainer;
+import org.onosproject.yangutils.utils.io.YangToJavaNamingConflictUtil;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isRootNodesCodeGenRequired;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.addCodecImports;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getClassNode;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getModuleNode;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getTypeName;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getValueParser;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.isPrimitive;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.getInternalBuild;
+import static org.onosproject.yangutils.utils.UtilConstants.BIG_DECIMAL;
+import static org.onosproject.yangutils.utils.UtilConstants.BIG_INTEGER;
+import static org.onosproject.yangutils.utils.UtilConstants.BINARY_CODEC;
+import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
+import static org.onosproject.yangutils.utils.UtilConstants.DATA_INPUT;
+import static org.onosproject.yangutils.utils.UtilConstants.DATA_OUTPUT;
+import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.IO_EXCEPTION;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_IO;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_MATH;
+import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
+import static org.onosproject.yangutils.utils.UtilConstants.OP_PARAM;
+import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
+import static org.onosproject.yangutils.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator for compact binary codec of generated files.
+ * <p>
+ * A codec class is generated for every container, list and module. An
+ * object is written as a sequence of members, each a varint tag followed by
+ * its value, ended by tag zero; no class name or field metadata is written.
+ * Leaves are tagged in the order of their leaf identifier indices, and the
+ * leaf-lists and child nodes are tagged after the leaves. Only leaves whose
+ * value is set are written. Each value of a leaf-list and each entry of a
+ * list is written as a member of its own, so the collections need not be
+ * counted.
+ * The varint and string helpers are nested in the codec of the module, which
+ * is shared by the codecs of all its data nodes.
+ * <p>
+ * Leaves of bits and identityref type, leaves referring to a leafref in
+ * grouping, choice and augmented nodes are not encoded yet. Since the
+ * encoding carries no type information, a member with an unknown tag can not
+ * be skipped and fails the read.
+ */
+public final class BinaryCodecGenerator {
+
+    private static final String OBJ = "obj";
+    private static final String OUT = "out";
+    private static final String IN = "in";
+    private static final String VALUE = "v";
+    private static final String TAG = "tag";
+    private static final String CODEC_BUILDER = "builder";
+
+    // No instantiation.
+    private BinaryCodecGenerator() {
+    }
+
+    /**
+     * Returns the body of the binary codec class of current node, and adds
+     * the imports needed by it to the import list.
+     *
+     * @param curNode current YANG node
+     * @param imports import list
+     * @return binary codec class body
+     */
+    public static String getBinaryCodecClassBody(YangNode curNode,
+                                                 List<String> imports) {
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo();
+        String pkg = info.getPackage();
+        String name = getCapitalCase(info.getJavaName());
+        String codecName = name + BINARY_CODEC;
+        YangNode module = getModuleNode(curNode);
+        boolean root = curNode instanceof RpcNotificationContainer;
+
+        Map<String, String> types = new LinkedHashMap<>();
+        types.put(codecName, pkg + PERIOD + codecName);
+        String defaultName = root ? name + OP_PARAM : DEFAULT_CAPS + name;
+        types.put(name, pkg + PERIOD + name);
+        types.put(defaultName, pkg + PERIOD + defaultName);
+
+        JavaFileInfoTranslator moduleInfo =
+                ((JavaFileInfoContainer) module).getJavaFileInfo();
+        String codec = getTypeName(moduleInfo.getPackage(), getCapitalCase(
+                moduleInfo.getJavaName()) + BINARY_CODEC, types);
+
+        StringBuilder builder = new StringBuilder(NEW_LINE)
+                .append("    // No instantiation.\n    private ")
+                .append(codecName).append("() {\n    }\n");
+        if (!root || isRootNodesCodeGenRequired(curNode)) {
+            builder.append(getWriteMethod(curNode, name, codec, types))
+                    .append(getReadMethod(curNode, name, defaultName, codec,
+                                          types));
+        }
+        if (root) {
+            builder.append(getBinaryHelpers(getTypeName(
+                    "java.nio.charset", "StandardCharsets", types)));
+        }
+
+        getTypeName(JAVA_IO, DATA_OUTPUT, types);
+        getTypeName(JAVA_IO, DATA_INPUT, types);
+        getTypeName(JAVA_IO, IO_EXCEPTION, types);
+        addCodecImports(types, pkg, imports);
+        return builder.toString();
+    }
+
+    // Returns the method writing the node as tagged members.
+    private static String getWriteMethod(YangNode curNode, String name,
+                                         String codec,
+                                         Map<String, String> types) {
+        StringBuilder members = new StringBuilder();
+        YangToJavaNamingConflictUtil resolver =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo()
+                        .getPluginConfig().getConflictResolver();
+        int tag = 0;
+        if (curNode instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) curNode;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    tag++;
+                    members.append(getLeafWriter(
+                            (JavaLeafInfoContainer) leaf, tag, name, codec,
+                            resolver));
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    tag++;
+                    members.append(getLeafListWriter(
+                            (JavaLeafInfoContainer) leafList, tag, codec,
+                            resolver, types));
+                }
+            }
+        }
+        YangNode child = curNode.getChild();
+        while (child != null) {
+            if (child instanceof YangContainer || child instanceof YangList) {
+                tag++;
+                members.append(getChildWriter(child, tag, codec, types));
+            }
+            child = child.getNextSibling();
+        }
+        return "\n    /**\n" +
+                "     * Writes " + curNode.getName() + " as tagged members, " +
+                "ended by tag zero.\n" +
+                "     *\n" +
+                "     * @param " + OBJ + " object to be written\n" +
+                "     * @param " + OUT + " output the members are written " +
+                "to\n" +
+                "     * @throws IOException when fails to write to the " +
+                "output\n" +
+                "     */\n" +
+                "    public static void writeTo(" + name + " " + OBJ +
+                ", DataOutput " + OUT + ")\n" +
+                "            throws IOException {\n" + members +
+                EIGHT_SPACE_INDENTATION + OUT + ".writeByte(0);\n" +
+                "    }\n";
+    }
+
+    // Returns the statements writing a leaf when its value is set.
+    private static String getLeafWriter(JavaLeafInfoContainer leaf, int tag,
+                                        String name, String codec,
+                                        YangToJavaNamingConflictUtil resolver) {
+        String attr = leaf.getJavaName(resolver);
+        String getter = OBJ + PERIOD + attr + "()";
+        String value = getValueWriter(leaf.getDataType(), getter, codec);
+        if (value == null) {
+            return EMPTY_STRING;
+        }
+        String condition = OBJ + ".isLeafValueSet(" + name +
+                ".LeafIdentifier." + attr.toUpperCase() + ")";
+        if (leaf.getDataType().getDataType() == YangDataTypes.EMPTY) {
+            condition = condition + " && " + getter;
+        } else if (!isPrimitive(leaf.getJavaQualifiedInfo())) {
+            condition = condition + " && " + getter + " != null";
+        }
+        StringBuilder builder = new StringBuilder(EIGHT_SPACE_INDENTATION)
+                .append("if (").append(condition).append(") {\n")
+                .append(TWELVE_SPACE_INDENTATION).append(codec)
+                .append(".writeVarLong(").append(OUT).append(", ").append(tag)
+                .append(");\n");
+        if (!value.isEmpty()) {
+            builder.append(TWELVE_SPACE_INDENTATION).append(value)
+                    .append(NEW_LINE);
+        }
+        return builder.append(EIGHT_SPACE_INDENTATION).append("}\n")
+                .toString();
+    }
+
+    // Returns the statements writing each value of a leaf-list as a member.
+    private static String getLeafListWriter(JavaLeafInfoContainer leafList,
+                                            int tag, String codec,
+                                            YangToJavaNamingConflictUtil resolver,
+                                            Map<String, String> types) {
+        String value = getValueWriter(leafList.getDataType(), VALUE, codec);
+        if (value == null) {
+            return EMPTY_STRING;
+        }
+        JavaQualifiedTypeInfo info = leafList.getJavaQualifiedInfo();
+        String type = getTypeName(info.getPkgInfo(), info.getClassInfo(),
+                                  types);
+        String getter = OBJ + PERIOD + leafList.getJavaName(resolver) + "()";
+        return getEachWriter(getter, getter, type, tag, codec, value);
+    }
+
+    // Returns the statements writing a child container or list.
+    private static String getChildWriter(YangNode child, int tag,
+                                         String codec,
+                                         Map<String, String> types) {
+        YangNode classNode = getClassNode(child);
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) classNode).getJavaFileInfo();
+        String className = getCapitalCase(info.getJavaName());
+        String childCodec = getTypeName(info.getPackage(),
+                                        className + BINARY_CODEC, types);
+        String getter = OBJ + PERIOD + info.getJavaName() + "()";
+        if (child instanceof YangList) {
+            String values = getter;
+            if (isMapDataStructure(((YangList) classNode)
+                                           .getCompilerAnnotation())) {
+                values = getter + ".values()";
+            }
+            String type = getTypeName(info.getPackage(), className, types);
+            return getEachWriter(getter, values, type, tag, codec,
+                                 childCodec + ".writeTo(" + VALUE + ", " +
+                                         OUT + ");");
+        }
+        return EIGHT_SPACE_INDENTATION + "if (" + getter + " != null) {\n" +
+                TWELVE_SPACE_INDENTATION + codec + ".writeVarLong(" + OUT +
+                ", " + tag + ");\n" +
+                TWELVE_SPACE_INDENTATION + childCodec + ".writeTo(" + getter +
+                ", " + OUT + ");\n" +
+                EIGHT_SPACE_INDENTATION + "}\n";
+    }
+
+    // Returns the statements writing each of the values as a member.
+    private static String getEachWriter(String getter, String values,
+                                        String type, int tag, String codec,
+                                        String value) {
+        return EIGHT_SPACE_INDENTATION + "if (" + getter + " != null) {\n" +
+                TWELVE_SPACE_INDENTATION + "for (" + type + " " + VALUE +
+                " : " + values + ") {\n" +
+                SIXTEEN_SPACE_INDENTATION + codec + ".writeVarLong(" + OUT +
+                ", " + tag + ");\n" +
+                SIXTEEN_SPACE_INDENTATION + value + NEW_LINE +
+                TWELVE_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION + "}\n";
+    }
+
+    /*
+     * Returns the statement writing the value, empty when the tag carries the
+     * value, or null when the type is not supported by the codec.
+     */
+    private static String getValueWriter(YangType<?> type, String value,
+                                         String codec) {
+        switch (type.getDataType()) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+                return codec + ".writeSignedVarLong(" + OUT + ", " + value +
+                        ");";
+
+            case UINT8:
+            case UINT16:
+            case UINT32:
+                return codec + ".writeVarLong(" + OUT + ", " + value + ");";
+
+            case UINT64:
+                return codec + ".writeVarLong(" + OUT + ", " + value +
+                        ".longValue());";
+
+            case BOOLEAN:
+                return OUT + ".writeBoolean(" + value + ");";
+
+            case EMPTY:
+                return EMPTY_STRING;
+
+            case BINARY:
+                return codec + ".writeBytes(" + OUT + ", " + value + ");";
+
+            case DECIMAL64:
+                return codec + ".writeString(" + OUT + ", " + value +
+                        ".toPlainString());";
+
+            case STRING:
+            case INSTANCE_IDENTIFIER:
+                return codec + ".writeString(" + OUT + ", " + value + ");";
+
+            case ENUMERATION:
+            case UNION:
+                return codec + ".writeString(" + OUT + ", " + value +
+                        ".toString());";
+
+            case DERIVED:
+                YangDataTypes builtIn = ((YangDerivedInfo<?>) type
+                        .getDataTypeExtendedInfo()).getEffectiveBuiltInType();
+                if (builtIn == YangDataTypes.IDENTITYREF ||
+                        builtIn == YangDataTypes.EMPTY) {
+                    return null;
+                }
+                return codec + ".writeString(" + OUT + ", " + value +
+                        ".toString());";
+
+            case LEAFREF:
+                YangLeafRef<?> leafRef = (YangLeafRef<?>) type
+                        .getDataTypeExtendedInfo();
+                if (leafRef.isInGrouping() ||
+                        leafRef.getEffectiveDataType() == null) {
+                    return null;
+                }
+                return getValueWriter(leafRef.getEffectiveDataType(), value,
+                                      codec);
+
+            default:
+                return null;
+        }
+    }
+
+    // Returns the expression reading the value written for the type.
+    private static String getValueReader(YangType<?> type, String javaType,
+                                         String codec,
+                                         Map<String, String> types) {
+        switch (type.getDataType()) {
+            case INT8:
+                return "(byte) " + codec + ".readSignedVarLong(" + IN + ")";
+            case INT16:
+                return "(short) " + codec + ".readSignedVarLong(" + IN + ")";
+            case INT32:
+                return "(int) " + codec + ".readSignedVarLong(" + IN + ")";
+            case INT64:
+                return codec + ".readSignedVarLong(" + IN + ")";
+            case UINT8:
+                return "(short) " + codec + ".readVarLong(" + IN + ")";
+            case UINT16:
+                return "(int) " + codec + ".readVarLong(" + IN + ")";
+            case UINT32:
+                return codec + ".readVarLong(" + IN + ")";
+
+            case UINT64:
+                return "new " + getTypeName(JAVA_MATH, BIG_INTEGER, types) +
+                        "(Long.toUnsignedString(" + codec + ".readVarLong(" +
+                        IN + ")))";
+
+            case BOOLEAN:
+                return IN + ".readBoolean()";
+
+            case BINARY:
+                return codec + ".readBytes(" + IN + ")";
+
+            case DECIMAL64:
+                return "new " + getTypeName(JAVA_MATH, BIG_DECIMAL, types) +
+                        "(" + codec + ".readString(" + IN + "))";
+
+            case LEAFREF:
+                return getValueReader(((YangLeafRef<?>) type
+                        .getDataTypeExtendedInfo()).getEffectiveDataType(),
+                                      javaType, codec, types);
+
+            default:
+                return getValueParser(type, javaType, codec +
+                        ".readString(" + IN + ")", types);
+        }
+    }
+
+    // Returns the method reading the node from tagged members.
+    private static String getReadMethod(YangNode curNode, String name,
+                                        String defaultName, String codec,
+                                        Map<String, String> types) {
+        StringBuilder cases = new StringBuilder();
+        YangToJavaNamingConflictUtil resolver =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo()
+                        .getPluginConfig().getConflictResolver();
+        int tag = 0;
+        if (curNode instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) curNode;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    tag++;
+                    cases.append(getLeafReader(
+                            (JavaLeafInfoContainer) leaf, tag, resolver, codec,
+                            types));
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    tag++;
+                    cases.append(getLeafReader(
+                            (JavaLeafInfoContainer) leafList, tag, resolver,
+                            codec, types));
+                }
+            }
+        }
+        YangNode child = curNode.getChild();
+        while (child != null) {
+            if (child instanceof YangContainer || child instanceof YangList) {
+                tag++;
+                cases.append(getChildReader(child, tag, types));
+            }
+            child = child.getNextSibling();
+        }
+        String readTag = "(int) " + codec + ".readVarLong(" + IN + ");\n";
+        String unknown = "throw new IOException(\"Unknown tag \" + " + TAG +
+                ");\n";
+        String members;
+        if (cases.length() == 0) {
+            members = EIGHT_SPACE_INDENTATION + "if (" + TAG + " != 0) {\n" +
+                    TWELVE_SPACE_INDENTATION + unknown +
+                    EIGHT_SPACE_INDENTATION + "}\n";
+        } else {
+            members = EIGHT_SPACE_INDENTATION + "while (" + TAG + " != 0) {\n" +
+                    TWELVE_SPACE_INDENTATION + "switch (" + TAG + ") {\n" +
+                    cases +
+                    SIXTEEN_SPACE_INDENTATION + "default:\n" +
+                    TWENTY_SPACE_INDENTATION + unknown +
+                    TWELVE_SPACE_INDENTATION + "}\n" +
+                    TWELVE_SPACE_INDENTATION + TAG + " = " + readTag +
+                    EIGHT_SPACE_INDENTATION + "}\n";
+        }
+        return "\n    /**\n" +
+                "     * Reads " + curNode.getName() + " from tagged members, " +
+                "up to tag zero.\n" +
+                "     *\n" +
+                "     * @param " + IN + " input the members are read from\n" +
+                "     * @return " + curNode.getName() + " read from the " +
+                "input\n" +
+                "     * @throws IOException when fails to read from the " +
+                "input, or a member\n" +
+                "     *                     is not known\n" +
+                "     */\n" +
+                "    public static " + name + " readFrom(DataInput " + IN +
+                ")\n" +
+                "            throws IOException {\n" +
+                EIGHT_SPACE_INDENTATION + defaultName + PERIOD + name +
+                BUILDER + " " + CODEC_BUILDER + " = " + defaultName +
+                ".builder();\n" +
+                EIGHT_SPACE_INDENTATION + "int " + TAG + " = " + readTag +
+                members +
+                EIGHT_SPACE_INDENTATION + "return " + CODEC_BUILDER + "." +
+                getInternalBuild(curNode) + "();\n" +
+                "    }\n";
+    }
+
+    // Returns the switch case reading a leaf or a leaf-list value.
+    private static String getLeafReader(JavaLeafInfoContainer leaf, int tag,
+                                        YangToJavaNamingConflictUtil resolver,
+                                        String codec,
+                                        Map<String, String> types) {
+        YangType<?> type = leaf.getDataType();
+        if (getValueWriter(type, VALUE, codec) == null) {
+            return EMPTY_STRING;
+        }
+        String attr = leaf.getJavaName(resolver);
+        String value;
+        if (type.getDataType() == YangDataTypes.EMPTY) {
+            value = "true";
+        } else {
+            JavaQualifiedTypeInfo info = leaf.getJavaQualifiedInfo();
+            value = getValueReader(type, getTypeName(
+                    info.getPkgInfo(), info.getClassInfo(), types), codec,
+                                   types);
+        }
+        String setter = leaf.isLeafList() ? "addTo" + getCapitalCase(attr) :
+                attr;
+        return SIXTEEN_SPACE_INDENTATION + "case " + tag + ":\n" +
+                TWENTY_SPACE_INDENTATION + CODEC_BUILDER + PERIOD + setter +
+                "(" + value + ");\n" +
+                TWENTY_SPACE_INDENTATION + "break;\n";
+    }
+
+    // Returns the switch case reading a child container or a list entry.
+    private static String getChildReader(YangNode child, int tag,
+                                         Map<String, String> types) {
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) getClassNode(child)).getJavaFileInfo();
+        String childCodec = getTypeName(info.getPackage(), getCapitalCase(
+                info.getJavaName()) + BINARY_CODEC, types);
+        String setter = info.getJavaName();
+        if (child instanceof YangList) {
+            setter = "addTo" + getCapitalCase(setter);
+        }
+        return SIXTEEN_SPACE_INDENTATION + "case " + tag + ":\n" +
+                TWENTY_SPACE_INDENTATION + CODEC_BUILDER + PERIOD + setter +
+                "(" + childCodec + ".readFrom(" + IN + "));\n" +
+                TWENTY_SPACE_INDENTATION + "break;\n";
+    }
+
+    /*
+     * Returns the helpers shared by the codecs of a module, to write and read
+     * varints, byte arrays and strings.
+     */
+    private static String getBinaryHelpers(String charsets) {
+        return "\n    /**\n" +
+                "     * Writes the value as unsigned varint, seven bits per " +
+                "byte.\n" +
+                "     *\n" +
+                "     * @param out   output the value is written to\n" +
+                "     * @param value value to be written\n" +
+                "     * @throws IOException when fails to write to the " +
+                "output\n" +
+                "     */\n" +
+                "    public static void writeVarLong(DataOutput out, long " +
+                "value)\n" +
+                "            throws IOException {\n" +
+                "        long v = value;\n" +
+                "        while ((v & ~0x7FL) != 0) {\n" +
+                "            out.writeByte((int) (v & 0x7F) | 0x80);\n" +
+                "            v >>>= 7;\n" +
+                "        }\n" +
+                "        out.writeByte((int) v);\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Reads an unsigned varint.\n" +
+                "     *\n" +
+                "     * @param in input the value is read from\n" +
+                "     * @return value read\n" +
+                "     * @throws IOException when fails to read from the " +
+                "input, or the varint\n" +
+                "     *                     is longer than ten bytes\n" +
+                "     */\n" +
+                "    public static long readVarLong(DataInput in) throws " +
+                "IOException {\n" +
+                "        long value = 0;\n" +
+                "        for (int shift = 0; shift < 64; shift += 7) {\n" +
+                "            byte b = in.readByte();\n" +
+                "            value |= (long) (b & 0x7F) << shift;\n" +
+                "            if ((b & 0x80) == 0) {\n" +
+                "                return value;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        throw new IOException(\"Malformed varint\");\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Writes the value as zigzag encoded varint, so small " +
+                "negative values\n" +
+                "     * take few bytes.\n" +
+                "     *\n" +
+                "     * @param out   output the value is written to\n" +
+                "     * @param value value to be written\n" +
+                "     * @throws IOException when fails to write to the " +
+                "output\n" +
+                "     */\n" +
+                "    public static void writeSignedVarLong(DataOutput out, " +
+                "long value)\n" +
+                "            throws IOException {\n" +
+                "        writeVarLong(out, (value << 1) ^ (value >> 63));\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Reads a zigzag encoded varint.\n" +
+                "     *\n" +
+                "     * @param in input the value is read from\n" +
+                "     * @return value read\n" +
+                "     * @throws IOException when fails to read from the " +
+                "input\n" +
+                "     */\n" +
+                "    public static long readSignedVarLong(DataInput in) " +
+                "throws IOException {\n" +
+                "        long value = readVarLong(in);\n" +
+                "        return (value >>> 1) ^ -(value & 1);\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Writes the bytes preceded by their length.\n" +
+                "     *\n" +
+                "     * @param out   output the value is written to\n" +
+                "     * @param value bytes to be written\n" +
+                "     * @throws IOException when fails to write to the " +
+                "output\n" +
+                "     */\n" +
+                "    public static void writeBytes(DataOutput out, byte[] " +
+                "value)\n" +
+                "            throws IOException {\n" +
+                "        writeVarLong(out, value.length);\n" +
+                "        out.write(value);\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Reads bytes preceded by their length.\n" +
+                "     *\n" +
+                "     * @param in input the value is read from\n" +
+                "     * @return bytes read\n" +
+                "     * @throws IOException when fails to read from the " +
+                "input, or the length\n" +
+                "     *                     is malformed\n" +
+                "     */\n" +
+                "    public static byte[] readBytes(DataInput in) throws " +
+                "IOException {\n" +
+                "        long length = readVarLong(in);\n" +
+                "        if (length < 0 || length > Integer.MAX_VALUE) {\n" +
+                "            throw new IOException(\"Malformed length \" + " +
+                "length);\n" +
+                "        }\n" +
+                "        byte[] value = new byte[(int) length];\n" +
+                "        in.readFully(value);\n" +
+                "        return value;\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Writes the string as UTF-8 bytes preceded by their " +
+                "length.\n" +
+                "     *\n" +
+                "     * @param out   output the value is written to\n" +
+                "     * @param value string to be written\n" +
+                "     * @throws IOException when fails to write to the " +
+                "output\n" +
+                "     */\n" +
+                "    public static void writeString(DataOutput out, String " +
+                "value)\n" +
+                "            throws IOException {\n" +
+                "        writeBytes(out, value.getBytes(" + charsets +
+                ".UTF_8));\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Reads a string written as UTF-8 bytes preceded by " +
+                "their length.\n" +
+                "     *\n" +
+                "     * @param in input the value is read from\n" +
+                "     * @return string read\n" +
+                "     * @throws IOException when fails to read from the " +
+                "input\n" +
+                "     */\n" +
+                "    public static String readString(DataInput in) throws " +
+                "IOException {\n" +
+                "        return new String(readBytes(in), " + charsets +
+                ".UTF_8);\n" +
+                "    }\n";
+    }
+}
@@ -31,15 +31,21 @@ import org.onosproject.yangutils.translator.tojava.TempJavaCodeFragmentFilesCont
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.BUILDER_CLASS_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.BUILDER_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.DEFAULT_CLASS_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_BINARY_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_BATCH_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_COALESCER_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_LISTENER_INTERFACE;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_SUBJECT_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_IDENTITY_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_JSON_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_SERVICE_AND_MANAGER;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_TYPEDEF_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_UNION_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_XML_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.INTERFACE_MASK;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.getAugmentedInfoName;
 import static org.onosproject.yangutils.translator.tojava.utils.BracketType.OPEN_CLOSE_DIAMOND_WITH_VALUE;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.brackets;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getBuilderImplStringClassDef;
@@ -109,6 +115,9 @@ final class ClassDefinitionGenerator {
         switch (genFileTypes) {
             case GENERATE_TYPEDEF_CLASS:
             case GENERATE_UNION_CLASS:
+            case GENERATE_JSON_CODEC_CLASS:
+            case GENERATE_XML_CODEC_CLASS:
+            case GENERATE_BINARY_CODEC_CLASS:
                 return getTypeClassDefinition(yangName);
             case GENERATE_ENUM_CLASS:
                 return getEnumClassDefinition(yangName);
@@ -150,6 +159,9 @@ final class ClassDefinitionGenerator {
                 return getEventListenerDefinition(yangName);
             case GENERATE_EVENT_SUBJECT_CLASS:
                 return getClassDefinition(yangName);
+            case GENERATE_EVENT_BATCH_CLASS:
+            case GENERATE_EVENT_COALESCER_CLASS:
+                return getTypeClassDefinition(yangName);
             case GENERATE_IDENTITY_CLASS:
                 return getIdentityClassDefinition(yangName, curNode);
             default:
@@ -181,6 +193,16 @@ final class ClassDefinitionGenerator {
         if (clsDef != null) {
             return clsDef;
         }
+        if (curNode instanceof YangAugment) {
+            // Augmentation filters the augmented info of its target node.
+            String augmentedInfo = getAugmentedInfoName(
+                    (YangAugment) curNode, ((JavaFileInfoContainer) curNode)
+                            .getJavaFileInfo().getPluginConfig());
+            if (augmentedInfo != null) {
+                return getDefaultDefinitionWithExtends(INTERFACE, yangName,
+                                                       PUBLIC, augmentedInfo);
+            }
+        }
         return getDefaultDefinition(INTERFACE, yangName, PUBLIC);
     }
 
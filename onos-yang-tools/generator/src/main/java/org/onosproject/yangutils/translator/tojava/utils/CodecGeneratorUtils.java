@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSubModule;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.javadatamodel.JavaQualifiedTypeInfo;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getImportString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getParseFromStringMethod;
+import static org.onosproject.yangutils.utils.UtilConstants.BASE64;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_LANG;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_PKG;
+import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
+
+/**
+ * Represents utilities shared by the generators of data node codecs.
+ */
+final class CodecGeneratorUtils {
+
+    // No instantiation.
+    private CodecGeneratorUtils() {
+    }
+
+    /**
+     * Returns the name to be used for the type in the codec, adding it to the
+     * types to be imported; qualified name is returned when another type with
+     * same name is already in use.
+     *
+     * @param pkg   package of the type
+     * @param cls   class name of the type
+     * @param types types used by the codec, by their simple names
+     * @return name of the type to be used
+     */
+    static String getTypeName(String pkg, String cls,
+                              Map<String, String> types) {
+        if (pkg == null || pkg.equals(JAVA_LANG)) {
+            return cls;
+        }
+        String qualified = pkg + PERIOD + cls;
+        String used = types.get(cls);
+        if (used == null) {
+            types.put(cls, qualified);
+            return cls;
+        }
+        return used.equals(qualified) ? cls : qualified;
+    }
+
+    /**
+     * Adds imports of the types used by the codec, which are not in its
+     * package, to the import list.
+     *
+     * @param types   types used by the codec, by their simple names
+     * @param pkg     package of the codec
+     * @param imports import list
+     */
+    static void addCodecImports(Map<String, String> types, String pkg,
+                                List<String> imports) {
+        for (Map.Entry<String, String> type : types.entrySet()) {
+            String qualified = type.getValue();
+            String typePkg = qualified.substring(
+                    0, qualified.length() - type.getKey().length() - 1);
+            if (!typePkg.equals(pkg)) {
+                imports.add(getImportString(typePkg, type.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Returns the module or sub module holding the node.
+     *
+     * @param node YANG node
+     * @return module or sub module
+     */
+    static YangNode getModuleNode(YangNode node) {
+        YangNode module = node;
+        while (!(module instanceof RpcNotificationContainer)) {
+            module = module.getParent();
+        }
+        return module;
+    }
+
+    /**
+     * Returns the module name used to qualify top level nodes, which is the
+     * belongs to module name for a sub module.
+     *
+     * @param module module or sub module
+     * @return module name
+     */
+    static String getModuleName(YangNode module) {
+        if (module instanceof YangSubModule) {
+            return ((YangSubModule) module).getBelongsTo()
+                    .getBelongsToModuleName();
+        }
+        return module.getName();
+    }
+
+    /**
+     * Returns the last referred node, whose class is used for a cloned node.
+     *
+     * @param node YANG node
+     * @return node of the generated class
+     */
+    static YangNode getClassNode(YangNode node) {
+        YangNode classNode = node;
+        while (classNode.getReferredSchema() != null) {
+            classNode = (YangNode) classNode.getReferredSchema();
+        }
+        return classNode;
+    }
+
+    /**
+     * Returns true if the java type of the leaf is primitive.
+     *
+     * @param info java type of the leaf
+     * @return true if the java type is primitive
+     */
+    static boolean isPrimitive(JavaQualifiedTypeInfo info) {
+        String type = info.getClassInfo();
+        return info.getPkgInfo() == null && !type.endsWith("[]") &&
+                Character.isLowerCase(type.charAt(0));
+    }
+
+    /**
+     * Returns the expression parsing the lexical value into the java type.
+     *
+     * @param type     YANG type of the leaf
+     * @param javaType java type of the leaf
+     * @param value    expression of the lexical value
+     * @param types    types used by the codec, by their simple names
+     * @return expression of the parsed value
+     */
+    static String getValueParser(YangType<?> type, String javaType,
+                                 String value, Map<String, String> types) {
+        switch (type.getDataType()) {
+            case BINARY:
+                return getTypeName(JAVA_UTIL_PKG, BASE64, types) +
+                        ".getDecoder().decode(" + value + ")";
+
+            case LEAFREF:
+                return getValueParser(((YangLeafRef<?>) type
+                        .getDataTypeExtendedInfo()).getEffectiveDataType(),
+                                      javaType, value, types);
+
+            default:
+                String parse = getParseFromStringMethod(javaType, type);
+                if (parse.isEmpty()) {
+                    return value;
+                }
+                return parse + "(" + value + ")";
+        }
+    }
+}
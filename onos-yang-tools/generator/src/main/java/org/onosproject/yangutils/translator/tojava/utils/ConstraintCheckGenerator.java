@@ -0,0 +1,722 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangMaxElement;
+import org.onosproject.yangutils.datamodel.YangMinElement;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangRangeInterval;
+import org.onosproject.yangutils.datamodel.YangRangeRestriction;
+import org.onosproject.yangutils.datamodel.YangStringRestriction;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangBuiltInDataTypeInfo;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint16;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint32;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint64;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint8;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
+import org.onosproject.yangutils.translator.tojava.javamodel.JavaLeafInfoContainer;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.YangToJavaNamingConflictUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.javamodel.AttributesJavaDataType.getJavaPrimitiveListType;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getClassNode;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getFromStringPatterns;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getPatternLiteral;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getImportString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagWords;
+import static org.onosproject.yangutils.translator.tojava.utils.TypeDefCacheGenerator.getRangeValue;
+import static org.onosproject.yangutils.utils.UtilConstants.ARRAYS;
+import static org.onosproject.yangutils.utils.UtilConstants.BUILD;
+import static org.onosproject.yangutils.utils.UtilConstants.COLON;
+import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.GET;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_SET;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_PKG;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_REGEX_PKG;
+import static org.onosproject.yangutils.utils.UtilConstants.LEAF_IDENTIFIER;
+import static org.onosproject.yangutils.utils.UtilConstants.LEAF_INDEX;
+import static org.onosproject.yangutils.utils.UtilConstants.OP_PARAM;
+import static org.onosproject.yangutils.utils.UtilConstants.PATTERN;
+import static org.onosproject.yangutils.utils.UtilConstants.PATTERN_SUFFIX;
+import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
+import static org.onosproject.yangutils.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.SIZE;
+import static org.onosproject.yangutils.utils.UtilConstants.SLASH_FOR_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_FOUR_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator of schema constraint checks of builder classes.
+ * <p>
+ * When enabled in plugin configurations, the builder of a node checks the
+ * range, length and pattern restrictions of the leaves set in it, the
+ * number of elements of its lists and leaf-lists and the unique constraints
+ * of its lists, before it builds the node. Range bounds and compiled
+ * patterns are resolved at code generation and kept in static final tables
+ * of the builder class. Leaves of derived type are checked by their typedef
+ * classes, unique constraints only on leaves of the list entry itself.
+ */
+public final class ConstraintCheckGenerator {
+
+    private static final String RANGE_SUFFIX = "_RANGE";
+    private static final String LENGTH_SUFFIX = "_LENGTH";
+    private static final String ELEMENTS_SUFFIX = "_ELEMENTS";
+    private static final String CHECK_CONSTRAINTS = "checkConstraints";
+    private static final String BUILD_UNCHECKED = "buildUnchecked";
+    private static final String IS_IN_RANGES = "isInRanges";
+    private static final String ENTRY = "entry";
+    private static final String UNIQUES = "uniques";
+    private static final String THROW = "throw new IllegalStateException(";
+
+    // No instantiation.
+    private ConstraintCheckGenerator() {
+    }
+
+    /**
+     * Returns true if the builder of node checks schema constraints, which
+     * is when constraint checks are enabled and the node has constrained
+     * leaves, leaf-lists or lists.
+     *
+     * @param curNode current YANG node
+     * @return true if builder checks schema constraints
+     */
+    public static boolean isConstraintCheckRequired(YangNode curNode) {
+        return getConstraints(curNode, null).checks.length() != 0;
+    }
+
+    /**
+     * Returns true if constraint checks are enabled in the plugin
+     * configurations of node, in which case its builder can also build it
+     * without checking them.
+     *
+     * @param curNode current YANG node
+     * @return true if constraint checks are enabled
+     */
+    public static boolean isConstraintCheckEnabled(YangNode curNode) {
+        YangPluginConfig config = ((JavaFileInfoContainer) curNode)
+                .getJavaFileInfo().getPluginConfig();
+        return config != null && config.isConstraintCheck();
+    }
+
+    /**
+     * Returns the name of the builder method the generated code builds a
+     * node with for its own use: the empty node merged into or compared
+     * with, and the node decoded by a codec. These are partial content,
+     * which needs not meet the schema constraints on its own, so they are
+     * built without checking them.
+     *
+     * @param curNode YANG node being built
+     * @return name of build method
+     */
+    public static String getInternalBuild(YangNode curNode) {
+        return getInternalBuild(((JavaFileInfoContainer) curNode)
+                                        .getJavaFileInfo().getPluginConfig());
+    }
+
+    /**
+     * Returns the name of the builder method the generated code builds a
+     * node with for its own use, as per plugin configurations.
+     *
+     * @param config plugin configurations
+     * @return name of build method
+     */
+    public static String getInternalBuild(YangPluginConfig config) {
+        return config != null && config.isConstraintCheck() ?
+                BUILD_UNCHECKED : BUILD;
+    }
+
+    /**
+     * Returns the build method of builder which does not check the schema
+     * constraints, used by the generated code for partial content.
+     *
+     * @param curNode current YANG node
+     * @return build method without constraint check
+     */
+    public static String getUncheckedBuildMethod(YangNode curNode) {
+        String name = getCapitalCase(curNode.getJavaClassNameOrBuiltInType());
+        String def = DEFAULT_CAPS + name;
+        if (curNode instanceof RpcNotificationContainer) {
+            def = name + OP_PARAM;
+        }
+        return "\n    /**\n" +
+                "     * Builds object of " + curNode.getName() +
+                " without checking the schema\n" +
+                "     * constraints, for partial content such as edit " +
+                "content or a decoded\n" +
+                "     * payload.\n" +
+                "     *\n" +
+                "     * @return " + curNode.getName() + "\n" +
+                "     */\n" +
+                "    public " + name + " " + BUILD_UNCHECKED + "() {\n" +
+                "        return new " + def + "(this);\n" +
+                "    }\n";
+    }
+
+    /**
+     * Adds the imports used by the constraint checks of builder to the
+     * import list.
+     *
+     * @param curNode current YANG node
+     * @param imports import list
+     */
+    public static void addConstraintCheckImports(YangNode curNode,
+                                                 List<String> imports) {
+        Constraints constraints = getConstraints(curNode, null);
+        if (constraints.isPattern) {
+            addImport(imports, getImportString(JAVA_UTIL_REGEX_PKG, PATTERN));
+        }
+        if (constraints.isUnique) {
+            addImport(imports, getImportString(JAVA_UTIL_PKG, HASH_SET));
+        }
+        if (constraints.isUniqueTuple) {
+            addImport(imports, getImportString(JAVA_UTIL_PKG, ARRAYS));
+        }
+    }
+
+    /**
+     * Returns the static final tables of range bounds and compiled patterns
+     * used by the constraint checks of builder.
+     *
+     * @param curNode current YANG node
+     * @return constraint tables
+     */
+    public static String getConstraintTables(YangNode curNode) {
+        return getConstraints(curNode, null).tables.toString();
+    }
+
+    /**
+     * Returns the method checking the schema constraints of the node being
+     * built, and the helper it uses.
+     *
+     * @param curNode current YANG node
+     * @param imports imports of default class, used to name list entry
+     *                types which are not imported by their qualified name
+     * @return constraint check methods
+     */
+    public static String getConstraintCheckMethods(YangNode curNode,
+                                                   List<String> imports) {
+        Constraints constraints = getConstraints(curNode, imports);
+        StringBuilder builder = new StringBuilder()
+                .append("\n    /**\n")
+                .append("     * Checks the values set in builder against the " +
+                                "schema constraints\n")
+                .append("     * of the node, before the node is built.\n")
+                .append("     */\n")
+                .append("    private void ").append(CHECK_CONSTRAINTS)
+                .append("() {\n").append(constraints.checks)
+                .append("    }\n");
+        if (constraints.isRange) {
+            builder.append("\n    /**\n")
+                    .append("     * Returns true if value is in one of the " +
+                                    "ranges, which are given as\n")
+                    .append("     * pairs of lowest and highest value.\n")
+                    .append("     *\n")
+                    .append("     * @param value  value\n")
+                    .append("     * @param ranges ranges of values\n")
+                    .append("     * @return true if value is in ranges\n")
+                    .append("     */\n")
+                    .append("    private static boolean ").append(IS_IN_RANGES)
+                    .append("(long value, long[] ranges) {\n")
+                    .append("        for (int i = 0; i < ranges.length; " +
+                                    "i += 2) {\n")
+                    .append("            if (value >= ranges[i] && value <= " +
+                                    "ranges[i + 1]) {\n")
+                    .append("                return true;\n")
+                    .append("            }\n")
+                    .append("        }\n")
+                    .append("        return false;\n")
+                    .append("    }\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the statement of build method calling the constraint check.
+     *
+     * @return constraint check call
+     */
+    public static String getConstraintCheckCall() {
+        return EIGHT_SPACE_INDENTATION + CHECK_CONSTRAINTS + "();\n";
+    }
+
+    /**
+     * Returns the constraints of the leaves, leaf-lists and lists of node.
+     *
+     * @param curNode current YANG node
+     * @param imports imports of default class, null if only the tables or
+     *                imports are needed
+     * @return constraints
+     */
+    private static Constraints getConstraints(YangNode curNode,
+                                              List<String> imports) {
+        Constraints constraints = new Constraints();
+        YangPluginConfig config = ((JavaFileInfoContainer) curNode)
+                .getJavaFileInfo().getPluginConfig();
+        if (config == null || !config.isConstraintCheck()) {
+            return constraints;
+        }
+        YangToJavaNamingConflictUtil resolver = config.getConflictResolver();
+        if (curNode instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) curNode;
+            int words = getLeafFlagWords(curNode);
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    addLeafConstraints(constraints,
+                                       (JavaLeafInfoContainer) leaf, words,
+                                       resolver);
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    String name = ((JavaLeafInfoContainer) leafList)
+                            .getJavaName(resolver);
+                    String count = name + " == null ? 0 : " + name +
+                            ".size()";
+                    if (config.isPrimitiveLeafList() &&
+                            getJavaPrimitiveListType(
+                                    leafList.getDataType()) != null) {
+                        count = name + SIZE;
+                    }
+                    addElementsConstraint(constraints, name,
+                                          leafList.getName(), count,
+                                          leafList.getMinElements(),
+                                          leafList.getMaxElements());
+                }
+            }
+        }
+        for (YangNode child = curNode.getChild(); child != null;
+             child = child.getNextSibling()) {
+            if (child instanceof YangList) {
+                addListConstraints(constraints, (YangList) child, resolver,
+                                   imports);
+            }
+        }
+        return constraints;
+    }
+
+    /**
+     * Adds the range, length and pattern constraints of a leaf, checked
+     * when its value is set.
+     *
+     * @param constraints constraints of node
+     * @param leaf        leaf
+     * @param words       number of long words storing the leaf flags
+     * @param resolver    naming conflict resolver
+     */
+    private static void addLeafConstraints(Constraints constraints,
+                                           JavaLeafInfoContainer leaf,
+                                           int words,
+                                           YangToJavaNamingConflictUtil resolver) {
+        YangType<?> type = leaf.getDataType();
+        String name = leaf.getJavaName(resolver);
+        String table = name.toUpperCase();
+        String isSet = getLeafFlagString(
+                VALUE_LEAF, LEAF_IDENTIFIER + PERIOD + table + PERIOD +
+                        LEAF_INDEX, GET, words);
+        Object info = type.getDataTypeExtendedInfo();
+        switch (type.getDataType()) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+                List<Long> ranges = getRanges(info);
+                if (ranges.isEmpty()) {
+                    ranges = getUnsignedRange(type.getDataType());
+                }
+                if (ranges.isEmpty()) {
+                    return;
+                }
+                constraints.addTable(table + RANGE_SUFFIX, ranges);
+                constraints.checks
+                        .append(EIGHT_SPACE_INDENTATION).append("if (")
+                        .append(isSet).append(" &&\n")
+                        .append(SIXTEEN_SPACE_INDENTATION).append("!")
+                        .append(IS_IN_RANGES).append("(").append(name)
+                        .append(", ").append(table).append(RANGE_SUFFIX)
+                        .append(")) {\n")
+                        .append(getThrow(TWELVE_SPACE_INDENTATION,
+                                         "Value of " + leaf.getName() +
+                                                 " is out of range: ", name))
+                        .append(EIGHT_SPACE_INDENTATION).append("}\n");
+                return;
+            case STRING:
+                if (!(info instanceof YangStringRestriction)) {
+                    return;
+                }
+                addValueConstraints(
+                        constraints, leaf.getName(), name, table, isSet,
+                        ((YangStringRestriction) info).getLengthRestriction(),
+                        name + ".codePointCount(0, " + name + ".length())",
+                        getFromStringPatterns(type));
+                return;
+            case BINARY:
+                if (!(info instanceof YangRangeRestriction)) {
+                    return;
+                }
+                addValueConstraints(constraints, leaf.getName(), name,
+                                    table, isSet, (YangRangeRestriction<?>) info,
+                                    name + ".length", new ArrayList<>());
+                return;
+            default:
+        }
+    }
+
+    /**
+     * Adds the length and pattern constraints of a string or binary leaf.
+     *
+     * @param constraints constraints of node
+     * @param yangName    YANG name of leaf
+     * @param name        java name of leaf
+     * @param table       prefix of table names
+     * @param isSet       expression checking the value of leaf is set
+     * @param length      length restriction, null if none
+     * @param count       expression of value length
+     * @param patterns    patterns the value matches
+     */
+    private static void addValueConstraints(Constraints constraints,
+                                            String yangName, String name,
+                                            String table, String isSet,
+                                            YangRangeRestriction<?> length,
+                                            String count,
+                                            List<String> patterns) {
+        List<Long> ranges = getRanges(length);
+        if (ranges.isEmpty() && patterns.isEmpty()) {
+            return;
+        }
+        StringBuilder checks = constraints.checks
+                .append(EIGHT_SPACE_INDENTATION).append("if (").append(isSet)
+                .append(" && ").append(name).append(" != null) {\n");
+        if (!ranges.isEmpty()) {
+            constraints.addTable(table + LENGTH_SUFFIX, ranges);
+            checks.append(TWELVE_SPACE_INDENTATION).append("if (!")
+                    .append(IS_IN_RANGES).append("(").append(count)
+                    .append(", ").append(table).append(LENGTH_SUFFIX)
+                    .append(")) {\n")
+                    .append(getThrow(SIXTEEN_SPACE_INDENTATION, "Length of " +
+                            yangName + " is out of range", null))
+                    .append(TWELVE_SPACE_INDENTATION).append("}\n");
+        }
+        for (int i = 0; i < patterns.size(); i++) {
+            String pattern = table + PATTERN_SUFFIX;
+            if (i != 0) {
+                pattern = pattern + i;
+            }
+            constraints.isPattern = true;
+            constraints.tables.append("    private static final ")
+                    .append(PATTERN).append(" ").append(pattern)
+                    .append(" =\n").append(TWELVE_SPACE_INDENTATION)
+                    .append(PATTERN).append(".compile(")
+                    .append(getPatternLiteral(patterns.get(i))).append(");\n");
+            checks.append(TWELVE_SPACE_INDENTATION).append("if (!")
+                    .append(pattern).append(".matcher(").append(name)
+                    .append(").matches()) {\n")
+                    .append(getThrow(SIXTEEN_SPACE_INDENTATION, "Value of " +
+                            yangName + " does not match pattern: ", name))
+                    .append(TWELVE_SPACE_INDENTATION).append("}\n");
+        }
+        checks.append(EIGHT_SPACE_INDENTATION).append("}\n");
+    }
+
+    /**
+     * Adds the number of elements constraint of a list or leaf-list.
+     *
+     * @param constraints constraints of node
+     * @param name        java name of list or leaf-list
+     * @param yangName    YANG name of list or leaf-list
+     * @param count       expression of number of elements
+     * @param min         min elements, null if not given
+     * @param max         max elements, null if not given
+     */
+    private static void addElementsConstraint(Constraints constraints,
+                                              String name, String yangName,
+                                              String count, YangMinElement min,
+                                              YangMaxElement max) {
+        long lowest = min == null ? 0 : min.getMinElement();
+        long highest = max == null ? Integer.MAX_VALUE : max.getMaxElement();
+        if (lowest <= 0 && highest == Integer.MAX_VALUE) {
+            return;
+        }
+        List<Long> ranges = new ArrayList<>();
+        ranges.add(lowest);
+        ranges.add(highest);
+        String table = name.toUpperCase() + ELEMENTS_SUFFIX;
+        constraints.addTable(table, ranges);
+        constraints.checks.append(EIGHT_SPACE_INDENTATION).append("if (!")
+                .append(IS_IN_RANGES).append("(").append(count).append(", ")
+                .append(table).append(")) {\n")
+                .append(getThrow(TWELVE_SPACE_INDENTATION, "Number of " +
+                        yangName + " elements is out of range", null))
+                .append(EIGHT_SPACE_INDENTATION).append("}\n");
+    }
+
+    /**
+     * Adds the number of entries and unique constraints of a child list.
+     *
+     * @param constraints constraints of node
+     * @param list        child list
+     * @param resolver    naming conflict resolver
+     * @param imports     imports of default class, null if only the tables
+     *                    or imports are needed
+     */
+    private static void addListConstraints(Constraints constraints,
+                                           YangList list,
+                                           YangToJavaNamingConflictUtil resolver,
+                                           List<String> imports) {
+        YangNode classNode = getClassNode(list);
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) classNode).getJavaFileInfo();
+        String name = info.getJavaName();
+        if (name == null) {
+            return;
+        }
+        addElementsConstraint(constraints, name, list.getName(),
+                              name + " == null ? 0 : " + name + ".size()",
+                              list.getMinElements(), list.getMaxElements());
+        if (list.getUniqueStatementList() == null) {
+            return;
+        }
+        String type = getCapitalCase(name);
+        if (imports != null && !imports.contains(
+                getImportString(info.getPackage(), type))) {
+            type = info.getPackage() + PERIOD + type;
+        }
+        String entries = name;
+        if (isMapDataStructure(((YangList) classNode).getCompilerAnnotation())) {
+            entries = name + ".values()";
+        }
+        for (List<String> unique : list.getUniqueStatementList()) {
+            List<YangLeaf> leaves = getUniqueLeaves((YangList) classNode,
+                                                    unique);
+            if (leaves == null) {
+                continue;
+            }
+            constraints.isUnique = true;
+            StringBuilder isSet = new StringBuilder();
+            StringBuilder values = new StringBuilder();
+            for (YangLeaf leaf : leaves) {
+                String leafName = ((JavaLeafInfoContainer) leaf)
+                        .getJavaName(resolver);
+                isSet.append(ENTRY).append(".isLeafValueSet(").append(type)
+                        .append(PERIOD).append(LEAF_IDENTIFIER).append(PERIOD)
+                        .append(leafName.toUpperCase()).append(") &&\n")
+                        .append(TWENTY_FOUR_SPACE_INDENTATION);
+                if (values.length() != 0) {
+                    values.append(", ");
+                }
+                values.append(ENTRY).append(PERIOD).append(leafName)
+                        .append("()");
+            }
+            String key = values.toString();
+            if (leaves.size() > 1) {
+                constraints.isUniqueTuple = true;
+                key = ARRAYS + ".asList(" + key + ")";
+            }
+            constraints.checks
+                    .append(EIGHT_SPACE_INDENTATION).append("if (").append(name)
+                    .append(" != null && ").append(name)
+                    .append(".size() > 1) {\n")
+                    .append(TWELVE_SPACE_INDENTATION).append(HASH_SET)
+                    .append("<Object> ").append(UNIQUES).append(" = new ")
+                    .append(HASH_SET).append("<>(").append(name)
+                    .append(".size() * 2);\n")
+                    .append(TWELVE_SPACE_INDENTATION).append("for (")
+                    .append(type).append(" ").append(ENTRY).append(" : ")
+                    .append(entries).append(") {\n")
+                    .append(SIXTEEN_SPACE_INDENTATION).append("if (")
+                    .append(isSet).append("!").append(UNIQUES).append(".add(")
+                    .append(key).append(")) {\n")
+                    .append(getThrow(TWENTY_SPACE_INDENTATION, "Entries of " +
+                            list.getName() + " are not unique by " +
+                            String.join(" ", unique), null))
+                    .append(SIXTEEN_SPACE_INDENTATION).append("}\n")
+                    .append(TWELVE_SPACE_INDENTATION).append("}\n")
+                    .append(EIGHT_SPACE_INDENTATION).append("}\n");
+        }
+    }
+
+    /**
+     * Returns the leaves of a unique statement, null if it refers to a leaf
+     * of a descendant node, or to a leaf of binary type whose values are
+     * not compared by equals.
+     *
+     * @param list   list node of generated class
+     * @param unique unique leaf names of statement
+     * @return unique leaves
+     */
+    private static List<YangLeaf> getUniqueLeaves(YangList list,
+                                                  List<String> unique) {
+        List<YangLeaf> leaves = new ArrayList<>();
+        for (String id : unique) {
+            if (id.contains(SLASH_FOR_STRING)) {
+                return null;
+            }
+            String leafName = id.substring(id.indexOf(COLON) + 1);
+            YangLeaf found = null;
+            for (YangLeaf leaf : list.getListOfLeaf()) {
+                if (leaf.getName().equals(leafName)) {
+                    found = leaf;
+                }
+            }
+            if (found == null ||
+                    found.getDataType().getDataType() == YangDataTypes.BINARY) {
+                return null;
+            }
+            leaves.add(found);
+        }
+        return leaves.isEmpty() ? null : leaves;
+    }
+
+    /**
+     * Returns the ranges of a range or length restriction, as pairs of
+     * lowest and highest value.
+     *
+     * @param info extended info of type
+     * @return ranges, empty if type is not restricted
+     */
+    private static List<Long> getRanges(Object info) {
+        List<Long> ranges = new ArrayList<>();
+        if (!(info instanceof YangRangeRestriction)) {
+            return ranges;
+        }
+        List<? extends YangRangeInterval<?>> intervals =
+                ((YangRangeRestriction<?>) info).getAscendingRangeIntervals();
+        if (intervals == null) {
+            return ranges;
+        }
+        for (YangRangeInterval<?> interval : intervals) {
+            ranges.add(getBoundary(interval.getStartValue()));
+            ranges.add(getBoundary(interval.getEndValue()));
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the value of a range or length boundary. Lengths beyond the
+     * long values are not reached by java values, they are capped.
+     *
+     * @param boundary range or length boundary
+     * @return boundary value
+     */
+    private static long getBoundary(YangBuiltInDataTypeInfo<?> boundary) {
+        if (boundary instanceof YangUint64) {
+            return ((YangUint64) boundary).getValue()
+                    .min(BigInteger.valueOf(Long.MAX_VALUE)).longValue();
+        }
+        return getRangeValue(boundary);
+    }
+
+    /**
+     * Returns the range of unsigned type without range restriction, since
+     * its java type also holds values beyond it.
+     *
+     * @param dataType YANG data type
+     * @return range, empty if type is signed
+     */
+    private static List<Long> getUnsignedRange(YangDataTypes dataType) {
+        List<Long> ranges = new ArrayList<>();
+        switch (dataType) {
+            case UINT8:
+                ranges.add((long) YangUint8.MIN_VALUE);
+                ranges.add((long) YangUint8.MAX_VALUE);
+                break;
+            case UINT16:
+                ranges.add((long) YangUint16.MIN_VALUE);
+                ranges.add((long) YangUint16.MAX_VALUE);
+                break;
+            case UINT32:
+                ranges.add(YangUint32.MIN_VALUE);
+                ranges.add(YangUint32.MAX_VALUE);
+                break;
+            default:
+        }
+        return ranges;
+    }
+
+    // Returns the statement throwing the exception of a failed check.
+    private static String getThrow(String indentation, String message,
+                                   String value) {
+        String argument = "\"" + message + "\"";
+        if (value != null) {
+            argument = argument + " + " + value;
+        }
+        return indentation + THROW + argument + ");\n";
+    }
+
+    // Adds an import to the import list, if it is not there.
+    private static void addImport(List<String> imports, String imp) {
+        if (!imports.contains(imp)) {
+            imports.add(imp);
+        }
+    }
+
+    /**
+     * Represents the constraint tables and checks of a node.
+     */
+    private static final class Constraints {
+
+        private final StringBuilder tables = new StringBuilder();
+        private final StringBuilder checks = new StringBuilder();
+        private boolean isRange;
+        private boolean isPattern;
+        private boolean isUnique;
+        private boolean isUniqueTuple;
+
+        /**
+         * Adds a table of ranges, as pairs of lowest and highest value.
+         *
+         * @param name   table name
+         * @param ranges ranges
+         */
+        private void addTable(String name, List<Long> ranges) {
+            isRange = true;
+            tables.append("    private static final long[] ").append(name)
+                    .append(" = {");
+            for (int i = 0; i < ranges.size(); i++) {
+                long value = ranges.get(i);
+                if (i != 0) {
+                    tables.append(", ");
+                }
+                tables.append(value);
+                if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                    tables.append("L");
+                }
+            }
+            tables.append("};\n");
+        }
+    }
+}
@@ -0,0 +1,653 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.YangCase;
+import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.translator.tojava.JavaAttributeInfo;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.getQualifiedNodeName;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isOpTypeClassNode;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isQueueOrSetDataStructure;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.getInternalBuild;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getListKeysClassName;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getChoiceCases;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getListKeyNames;
+import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED_INFO_SINK;
+import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED_INFO_SUPPORT;
+import static org.onosproject.yangutils.utils.UtilConstants.BOOLEAN_DATA_TYPE;
+import static org.onosproject.yangutils.utils.UtilConstants.BYTE;
+import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.DOUBLE;
+import static org.onosproject.yangutils.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.INT;
+import static org.onosproject.yangutils.utils.UtilConstants.LONG;
+import static org.onosproject.yangutils.utils.UtilConstants.OPERATION_TYPE_ATTRIBUTE;
+import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
+import static org.onosproject.yangutils.utils.UtilConstants.SELECT_LEAF;
+import static org.onosproject.yangutils.utils.UtilConstants.SHORT;
+import static org.onosproject.yangutils.utils.UtilConstants.SUBTREE_FILTERED;
+import static org.onosproject.yangutils.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_MAP;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator for diff method of generated default classes.
+ * <p>
+ * Default classes of nodes supporting operation type get a diff method,
+ * which compares the object with another instance and streams the
+ * differences to a diff sink: leaves and leaf-list values created, modified
+ * or deleted, and list entries and child nodes created or deleted. A child
+ * node or list entry present in both is entered and compared in turn, so no
+ * intermediate tree is built. Equal subtrees are skipped by reference
+ * equality first and then by the equals method, which compares the cached
+ * hash codes before the attributes.
+ * <p>
+ * Keyed list entries are matched by their keys. Entries of lists without
+ * key, and of queue and set lists, are matched by equality, so a changed
+ * entry is reported as deleted and created. The case of a choice is not a
+ * data node, so the content of a case present in both is compared in place.
+ */
+public final class DiffMethodsGenerator {
+
+    /**
+     * Name of the diff sink interface generated in the module interface.
+     */
+    public static final String DIFF_SINK = "DiffSink";
+
+    private static final String OTHER = "other";
+    private static final String SINK = "sink";
+    private static final String THIS = "this.";
+
+    // No instantiation.
+    private DiffMethodsGenerator() {
+    }
+
+    /**
+     * Returns the diff of an attribute of default class, which compares the
+     * attribute of this object with the one of the other object and reports
+     * the differences to the sink.
+     *
+     * @param attr     attribute info
+     * @param attrNode YANG node of the attribute, if attribute is a node
+     * @param config   plugin configurations
+     * @return diff of attribute
+     */
+    public static String getDiffForAttribute(JavaAttributeInfo attr,
+                                             YangNode attrNode,
+                                             YangPluginConfig config) {
+        String name = attr.getAttributeName();
+        if (name.equals(VALUE_LEAF) || name.equals(SELECT_LEAF) ||
+                name.equals(SUBTREE_FILTERED) ||
+                name.endsWith(OPERATION_TYPE_ATTRIBUTE)) {
+            // Not part of the data.
+            return EMPTY_STRING;
+        }
+        if (name.equals(YANG_AUGMENTED_INFO_MAP)) {
+            return config.isRuntimeSupport() ?
+                    getRuntimeAugmentedInfoDiff() : getAugmentedInfoDiff();
+        }
+        if (attr.getAttributeType() != null) {
+            if (!attr.isListAttr()) {
+                return getLeafDiff(attr);
+            }
+            return getValuesDiff(name, attr.getYangName(),
+                                 getTypeName(attr), false);
+        }
+        if (attrNode instanceof YangChoice) {
+            return getChoiceDiff((YangChoice) attrNode, name, config);
+        }
+        String yangName = attrNode == null ? name : attrNode.getName();
+        if (attrNode == null || !isOpTypeClassNode(attrNode)) {
+            return getWholeDiff(name, yangName);
+        }
+        String type = getTypeName(attr);
+        String defaultType = DEFAULT_CAPS + attr.getImportInfo()
+                .getClassInfo();
+        if (attr.isQualifiedName()) {
+            defaultType = attr.getImportInfo().getPkgInfo() + PERIOD +
+                    defaultType;
+        }
+        if (!attr.isListAttr()) {
+            return getChildNodeDiff(name, yangName, defaultType);
+        }
+        if (isMapDataStructure(attr.getCompilerAnnotation())) {
+            return getKeyedListDiff(name, yangName, type, defaultType, true);
+        }
+        if (isQueueOrSetDataStructure(attr.getCompilerAnnotation()) ||
+                getListKeyNames(attrNode).isEmpty()) {
+            return getValuesDiff(name, yangName, type, true);
+        }
+        return getKeyedListDiff(name, yangName, type, defaultType, false);
+    }
+
+    /**
+     * Returns the diff method of default class.
+     *
+     * @param curNode     current YANG node
+     * @param defaultName name of default class
+     * @param diff        diff of the attributes
+     * @return diff method
+     */
+    static String getDiffMethod(YangNode curNode, String defaultName,
+                                String diff) {
+        String name = getCapitalCase(((JavaFileInfoContainer) curNode)
+                                             .getJavaFileInfo().getJavaName());
+        String yangName = curNode.getName();
+        return "\n" +
+                "    /**\n" +
+                "     * Reports the differences of given " + yangName +
+                " from this " + yangName + " to\n" +
+                "     * the sink. Child nodes and list entries present in " +
+                "both are entered and\n" +
+                "     * compared in turn; a null " + yangName + " is compared" +
+                " as an empty one.\n" +
+                "     *\n" +
+                "     * @param " + OTHER + " " + yangName + " compared with " +
+                "this " + yangName + "\n" +
+                "     * @param " + SINK + "  sink receiving the differences\n" +
+                "     */\n" +
+                "    public void diff(" + name + " " + OTHER + ", " +
+                DIFF_SINK + " " + SINK + ") {\n" +
+                "        if (equals(" + OTHER + ")) {\n" +
+                "            return;\n" +
+                "        }\n" +
+                "        if (" + OTHER + " == null) {\n" +
+                "            " + OTHER + " = " + defaultName +
+                ".builder()." + getInternalBuild(curNode) + "();\n" +
+                "        }\n" +
+                diff +
+                "    }\n";
+    }
+
+    /**
+     * Returns the diff sink interface generated in the module interface.
+     *
+     * @param runtime true if runtime support library is called
+     * @return diff sink interface
+     */
+    static String getDiffSinkInterface(boolean runtime) {
+        return "\n" +
+                "    /**\n" +
+                "     * Receives the differences between two instances of a " +
+                "class generated\n" +
+                "     * for this module, as reported by their diff method. " +
+                "Differences of a\n" +
+                "     * child node or list entry are reported between its " +
+                "enter and exit.\n" +
+                "     */\n" +
+                "    public interface " + DIFF_SINK +
+                (runtime ? " extends " + AUGMENTED_INFO_SINK : EMPTY_STRING) +
+                " {\n" +
+                "\n" +
+                "        /**\n" +
+                "         * Reports a leaf, leaf-list value, list entry or " +
+                "child node present\n" +
+                "         * only in the compared instance.\n" +
+                "         *\n" +
+                "         * @param name  YANG name\n" +
+                "         * @param value created value\n" +
+                "         */\n" +
+                "        void created(String name, Object value);\n" +
+                "\n" +
+                "        /**\n" +
+                "         * Reports a leaf whose value is changed in the " +
+                "compared instance.\n" +
+                "         *\n" +
+                "         * @param name     YANG name\n" +
+                "         * @param oldValue value of this instance\n" +
+                "         * @param newValue value of the compared instance\n" +
+                "         */\n" +
+                "        void modified(String name, Object oldValue, Object " +
+                "newValue);\n" +
+                "\n" +
+                "        /**\n" +
+                "         * Reports a leaf, leaf-list value, list entry or " +
+                "child node present\n" +
+                "         * only in this instance.\n" +
+                "         *\n" +
+                "         * @param name  YANG name\n" +
+                "         * @param value deleted value\n" +
+                "         */\n" +
+                "        void deleted(String name, Object value);\n" +
+                "\n" +
+                "        /**\n" +
+                "         * Reports the start of the differences within a " +
+                "child node or list\n" +
+                "         * entry present in both instances.\n" +
+                "         *\n" +
+                "         * @param name YANG name\n" +
+                "         * @param key  key of the list entry, null for a " +
+                "child node\n" +
+                "         */\n" +
+                "        void enter(String name, Object key);\n" +
+                "\n" +
+                "        /**\n" +
+                "         * Reports the end of the differences within the " +
+                "last entered child\n" +
+                "         * node or list entry.\n" +
+                "         */\n" +
+                "        void exit();\n" +
+                "    }\n";
+    }
+
+    /**
+     * Returns the diff of a leaf, as per the value leaf flags of both
+     * objects. Primitive values are compared without boxing.
+     *
+     * @param attr attribute info
+     * @return diff of leaf
+     */
+    private static String getLeafDiff(JavaAttributeInfo attr) {
+        /* Generate code will look like this.
+        if (isLeafValueSet(LeafIdentifier.MTU)) {
+            if (!other.isLeafValueSet(LeafIdentifier.MTU)) {
+                sink.deleted("mtu", mtu);
+            } else if (mtu != other.mtu()) {
+                sink.modified("mtu", mtu, other.mtu());
+            }
+        } else if (other.isLeafValueSet(LeafIdentifier.MTU)) {
+            sink.created("mtu", other.mtu());
+        }*/
+        String name = attr.getAttributeName();
+        String yangName = "\"" + attr.getYangName() + "\"";
+        String leafId = "LeafIdentifier." + name.toUpperCase();
+        String cur = THIS + name;
+        String value = OTHER + PERIOD + name + "()";
+        String changed;
+        if (isPrimitive(attr)) {
+            changed = cur + " != " + value;
+        } else {
+            changed = "!Objects.deepEquals(" + cur + ", " + value + ")";
+        }
+        return "        if (isLeafValueSet(" + leafId + ")) {\n" +
+                "            if (!" + OTHER + ".isLeafValueSet(" + leafId +
+                ")) {\n" +
+                "                " + SINK + ".deleted(" + yangName + ", " +
+                cur + ");\n" +
+                "            } else if (" + changed + ") {\n" +
+                "                " + SINK + ".modified(" + yangName + ", " +
+                cur + ", " + value + ");\n" +
+                "            }\n" +
+                "        } else if (" + OTHER + ".isLeafValueSet(" + leafId +
+                ")) {\n" +
+                "            " + SINK + ".created(" + yangName + ", " + value +
+                ");\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the diff of a leaf-list or of a list whose entries are matched
+     * by equality. Values present only in this object are reported deleted
+     * and values present only in the other are reported created; the order
+     * of values is not compared.
+     *
+     * @param name     attribute name
+     * @param yangName YANG name
+     * @param type     value type
+     * @param field    true if values are read from the field, false if read
+     *                 by the getter
+     * @return diff of values
+     */
+    private static String getValuesDiff(String name, String yangName,
+                                        String type, boolean field) {
+        /* Generate code will look like this.
+        if (!Objects.equals(vlan(), other.vlan())) {
+            Set<Integer> vlanOld = new LinkedHashSet<>();
+            Set<Integer> vlanNew = new LinkedHashSet<>();
+            if (vlan() != null) {
+                vlanOld.addAll(vlan());
+            }
+            if (other.vlan() != null) {
+                vlanNew.addAll(other.vlan());
+            }
+            for (Integer value : vlanOld) {
+                if (!vlanNew.contains(value)) {
+                    sink.deleted("vlan", value);
+                }
+            }
+            for (Integer value : vlanNew) {
+                if (!vlanOld.contains(value)) {
+                    sink.created("vlan", value);
+                }
+            }
+        }*/
+        // Primitive leaf-lists are stored in arrays, read as list by getter.
+        String cur = field ? THIS + name : name + "()";
+        String value = OTHER + PERIOD + name + "()";
+        String oldValues = name + "Old";
+        String newValues = name + "New";
+        return "        if (!Objects.equals(" + cur + ", " + value + ")) {\n" +
+                "            Set<" + type + "> " + oldValues +
+                " = new LinkedHashSet<>();\n" +
+                "            Set<" + type + "> " + newValues +
+                " = new LinkedHashSet<>();\n" +
+                "            if (" + cur + " != null) {\n" +
+                "                " + oldValues + ".addAll(" + cur + ");\n" +
+                "            }\n" +
+                "            if (" + value + " != null) {\n" +
+                "                " + newValues + ".addAll(" + value + ");\n" +
+                "            }\n" +
+                getReportMissing(oldValues, newValues, type, yangName,
+                                 "deleted") +
+                getReportMissing(newValues, oldValues, type, yangName,
+                                 "created") +
+                "        }\n";
+    }
+
+    // Returns the loop reporting the values not present in other values.
+    private static String getReportMissing(String values, String others,
+                                           String type, String yangName,
+                                           String event) {
+        return "            for (" + type + " value : " + values + ") {\n" +
+                "                if (!" + others + ".contains(value)) {\n" +
+                "                    " + SINK + "." + event + "(\"" +
+                yangName + "\", value);\n" +
+                "                }\n" +
+                "            }\n";
+    }
+
+    /**
+     * Returns the diff of a child container, which is entered when present
+     * in both objects.
+     *
+     * @param name        attribute name
+     * @param yangName    YANG name
+     * @param defaultType default class of child
+     * @return diff of child container
+     */
+    private static String getChildNodeDiff(String name, String yangName,
+                                           String defaultType) {
+        String cur = THIS + name;
+        String value = OTHER + PERIOD + name + "()";
+        return "        if (" + cur + " == null) {\n" +
+                "            if (" + value + " != null) {\n" +
+                "                " + SINK + ".created(\"" + yangName + "\", " +
+                value + ");\n" +
+                "            }\n" +
+                "        } else if (" + value + " == null) {\n" +
+                "            " + SINK + ".deleted(\"" + yangName + "\", " +
+                cur + ");\n" +
+                "        } else if (!" + cur + ".equals(" + value + ")) {\n" +
+                "            " + SINK + ".enter(\"" + yangName + "\", null);\n" +
+                "            ((" + defaultType + ") " + cur + ").diff(" +
+                value + ", " + SINK + ");\n" +
+                "            " + SINK + ".exit();\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the diff of a keyed list. Entries are matched by key; matched
+     * entries which are not equal are entered with their key, and entries
+     * present only in one object are reported created or deleted.
+     *
+     * @param name        attribute name
+     * @param yangName    YANG name
+     * @param type        list entry type
+     * @param defaultType default class of list entry
+     * @param map         true if entries are stored in map by keys
+     * @return diff of keyed list
+     */
+    private static String getKeyedListDiff(String name, String yangName,
+                                           String type, String defaultType,
+                                           boolean map) {
+        /* Generate code will look like this.
+        if (!Objects.equals(this.interfaces, other.interfaces())) {
+            Map<Object, Interfaces> interfacesOld = new LinkedHashMap<>();
+            if (this.interfaces != null) {
+                for (Interfaces entry : this.interfaces) {
+                    interfacesOld.put(
+                            DefaultInterfaces.processSubtreeFilteringKey(entry), entry);
+                }
+            }
+            if (other.interfaces() != null) {
+                for (Interfaces entry : other.interfaces()) {
+                    Object key = DefaultInterfaces.processSubtreeFilteringKey(entry);
+                    Interfaces cur = interfacesOld.remove(key);
+                    if (cur == null) {
+                        sink.created("interfaces", entry);
+                    } else if (!cur.equals(entry)) {
+                        sink.enter("interfaces", key);
+                        ((DefaultInterfaces) cur).diff(entry, sink);
+                        sink.exit();
+                    }
+                }
+            }
+            for (Interfaces entry : interfacesOld.values()) {
+                sink.deleted("interfaces", entry);
+            }
+        }*/
+        String cur = THIS + name;
+        String value = OTHER + PERIOD + name + "()";
+        String entries = name + "Old";
+        String keyType;
+        String key;
+        String copy;
+        String values = value;
+        if (map) {
+            keyType = getListKeysClassName(type);
+            key = keyType + ".of(entry)";
+            copy = "                " + entries + ".putAll(" + cur + ");\n";
+            values = value + ".values()";
+        } else {
+            keyType = "Object";
+            key = defaultType + ".processSubtreeFilteringKey(entry)";
+            copy = "                for (" + type + " entry : " + cur +
+                    ") {\n" +
+                    "                    " + entries + ".put(\n" +
+                    "                            " + key + ", entry);\n" +
+                    "                }\n";
+        }
+        String quoted = "\"" + yangName + "\"";
+        return "        if (!Objects.equals(" + cur + ", " + value + ")) {\n" +
+                "            Map<" + keyType + ", " + type + "> " + entries +
+                " = new LinkedHashMap<>();\n" +
+                "            if (" + cur + " != null) {\n" +
+                copy +
+                "            }\n" +
+                "            if (" + value + " != null) {\n" +
+                "                for (" + type + " entry : " + values +
+                ") {\n" +
+                "                    " + keyType + " key = " + key + ";\n" +
+                "                    " + type + " cur = " + entries +
+                ".remove(key);\n" +
+                "                    if (cur == null) {\n" +
+                "                        " + SINK + ".created(" + quoted +
+                ", entry);\n" +
+                "                    } else if (!cur.equals(entry)) {\n" +
+                "                        " + SINK + ".enter(" + quoted +
+                ", key);\n" +
+                "                        ((" + defaultType + ") cur).diff(" +
+                "entry, " + SINK + ");\n" +
+                "                        " + SINK + ".exit();\n" +
+                "                    }\n" +
+                "                }\n" +
+                "            }\n" +
+                "            for (" + type + " entry : " + entries +
+                ".values()) {\n" +
+                "                " + SINK + ".deleted(" + quoted +
+                ", entry);\n" +
+                "            }\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the diff of a choice. When both objects hold the same case,
+     * the content of the case is compared in place; otherwise the case of
+     * this object is reported deleted and the one of the other created.
+     *
+     * @param choice YANG choice
+     * @param name   attribute name
+     * @param config plugin configurations
+     * @return diff of choice
+     */
+    private static String getChoiceDiff(YangChoice choice, String name,
+                                        YangPluginConfig config) {
+        /* Generate code will look like this.
+        if (!Objects.equals(this.snack, other.snack())) {
+            if (this.snack instanceof SportsArena &&
+                    other.snack() instanceof SportsArena) {
+                ((DefaultSportsArena) this.snack).diff((SportsArena) other.snack(), sink);
+            } else {
+                ...
+            }
+        }*/
+        String cur = THIS + name;
+        String value = OTHER + PERIOD + name + "()";
+        StringBuilder builder = new StringBuilder()
+                .append("        if (!Objects.equals(").append(cur)
+                .append(", ").append(value).append(")) {\n");
+        String indent = TWELVE_SPACE_INDENTATION;
+        for (YangCase yangCase : getChoiceCases(choice)) {
+            if (!isOpTypeClassNode(yangCase)) {
+                continue;
+            }
+            String caseName = getQualifiedNodeName(yangCase, config);
+            int index = caseName.lastIndexOf(PERIOD);
+            String defaultName = caseName.substring(0, index + 1) +
+                    DEFAULT_CAPS + caseName.substring(index + 1);
+            builder.append(indent).append("if (").append(cur)
+                    .append(" instanceof ").append(caseName).append(" &&\n")
+                    .append("                    ").append(value)
+                    .append(" instanceof ").append(caseName).append(") {\n")
+                    .append("                ((").append(defaultName)
+                    .append(") ").append(cur).append(").diff(\n")
+                    .append("                        (").append(caseName)
+                    .append(") ").append(value).append(", ").append(SINK)
+                    .append(");\n")
+                    .append("            } else ");
+            indent = EMPTY_STRING;
+        }
+        String yangName = "\"" + choice.getName() + "\"";
+        return builder.append(indent).append("{\n")
+                .append("                if (").append(cur)
+                .append(" != null) {\n")
+                .append("                    ").append(SINK)
+                .append(".deleted(").append(yangName).append(", ")
+                .append(cur).append(");\n")
+                .append("                }\n")
+                .append("                if (").append(value)
+                .append(" != null) {\n")
+                .append("                    ").append(SINK)
+                .append(".created(").append(yangName).append(", ")
+                .append(value).append(");\n")
+                .append("                }\n")
+                .append("            }\n")
+                .append("        }\n").toString();
+    }
+
+    /**
+     * Returns the diff of a child which is compared as a whole.
+     *
+     * @param name     attribute name
+     * @param yangName YANG name
+     * @return diff of child
+     */
+    private static String getWholeDiff(String name, String yangName) {
+        String cur = THIS + name;
+        String value = OTHER + PERIOD + name + "()";
+        return getWholeValueDiff(EIGHT_SPACE_INDENTATION, cur, value,
+                                 "\"" + yangName + "\"");
+    }
+
+    /**
+     * Returns the diff of augmented info, compared per augmentation class
+     * whose name is reported.
+     *
+     * @return diff of augmented info
+     */
+    private static String getAugmentedInfoDiff() {
+        String map = YANG_AUGMENTED_INFO_MAP;
+        String other = OTHER + PERIOD + map + "()";
+        return "        if (!" + THIS + map + ".equals(" + other + ")) {\n" +
+                "            Set<Class<?>> augmentations =\n" +
+                "                    new LinkedHashSet<>(" + THIS + map +
+                ".keySet());\n" +
+                "            augmentations.addAll(" + other + ".keySet());\n" +
+                "            for (Class<?> augmentation : augmentations) {\n" +
+                "                Object cur = " + THIS + map +
+                ".get(augmentation);\n" +
+                "                Object value = " + other +
+                ".get(augmentation);\n" +
+                getWholeValueDiff("                ", "cur", "value",
+                                  "augmentation.getName()") +
+                "            }\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the diff of augmented info done by runtime support library.
+     *
+     * @return diff of augmented info
+     */
+    private static String getRuntimeAugmentedInfoDiff() {
+        String map = YANG_AUGMENTED_INFO_MAP;
+        return "        " + AUGMENTED_INFO_SUPPORT + ".diffAugmentedInfo(\n" +
+                "                " + THIS + map + ", " + OTHER + PERIOD + map +
+                "(), " + SINK + ");\n";
+    }
+
+    // Returns the statements reporting a value compared as a whole.
+    private static String getWholeValueDiff(String indent, String cur,
+                                            String value, String yangName) {
+        return indent + "if (" + cur + " == null) {\n" +
+                indent + "    if (" + value + " != null) {\n" +
+                indent + "        " + SINK + ".created(" + yangName + ", " +
+                value + ");\n" +
+                indent + "    }\n" +
+                indent + "} else if (" + value + " == null) {\n" +
+                indent + "    " + SINK + ".deleted(" + yangName + ", " + cur +
+                ");\n" +
+                indent + "} else if (!" + cur + ".equals(" + value + ")) {\n" +
+                indent + "    " + SINK + ".modified(" + yangName + ", " + cur +
+                ", " + value + ");\n" +
+                indent + "}\n";
+    }
+
+    // Returns the type of the attribute, qualified when it conflicts.
+    private static String getTypeName(JavaAttributeInfo attr) {
+        String type = attr.getImportInfo().getClassInfo();
+        if (attr.isQualifiedName()) {
+            return attr.getImportInfo().getPkgInfo() + PERIOD + type;
+        }
+        return type;
+    }
+
+    // Returns true if the java type of the leaf is primitive.
+    private static boolean isPrimitive(JavaAttributeInfo attr) {
+        if (attr.isQualifiedName()) {
+            return false;
+        }
+        switch (attr.getImportInfo().getClassInfo()) {
+            case BOOLEAN_DATA_TYPE:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
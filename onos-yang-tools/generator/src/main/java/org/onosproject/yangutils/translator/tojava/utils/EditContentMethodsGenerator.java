@@ -0,0 +1,693 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.YangCase;
+import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.translator.tojava.JavaAttributeInfo;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.getQualifiedNodeName;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isOpTypeClassNode;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isQueueOrSetDataStructure;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.getInternalBuild;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagClearString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagSetString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getListKeysClassName;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getChoiceCases;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getListKeyNames;
+import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED_INFO_SUPPORT;
+import static org.onosproject.yangutils.utils.UtilConstants.BOOLEAN_DATA_TYPE;
+import static org.onosproject.yangutils.utils.UtilConstants.BYTE;
+import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.DOUBLE;
+import static org.onosproject.yangutils.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.FALSE;
+import static org.onosproject.yangutils.utils.UtilConstants.INT;
+import static org.onosproject.yangutils.utils.UtilConstants.LONG;
+import static org.onosproject.yangutils.utils.UtilConstants.NULL;
+import static org.onosproject.yangutils.utils.UtilConstants.OPERATION_TYPE_ATTRIBUTE;
+import static org.onosproject.yangutils.utils.UtilConstants.OPERATION_TYPE_CLASS;
+import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
+import static org.onosproject.yangutils.utils.UtilConstants.RESULT;
+import static org.onosproject.yangutils.utils.UtilConstants.SELECT_LEAF;
+import static org.onosproject.yangutils.utils.UtilConstants.SET_METHOD_PREFIX;
+import static org.onosproject.yangutils.utils.UtilConstants.SHORT;
+import static org.onosproject.yangutils.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.SIZE;
+import static org.onosproject.yangutils.utils.UtilConstants.SUBTREE_FILTERED;
+import static org.onosproject.yangutils.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_MAP;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator for edit content methods of generated default
+ * classes.
+ * <p>
+ * Default classes of nodes supporting operation type get merge, replace and
+ * delete methods, which apply a NETCONF edit-config content to an existing
+ * object. Generated objects are immutable, so an edit returns a new object
+ * which shares every attribute the edit does not change with the edited one:
+ * a small edit of a large tree only copies the nodes on the path to the
+ * changed data. Child nodes and list entries are edited as per their own
+ * operation type, and list entries are matched by their keys.
+ * <p>
+ * Operations create and none are applied as merge, since whether the data
+ * exists is known to the caller rather than to the object. Augmented info
+ * is replaced per augmentation, and the case of a choice is merged only
+ * when the case of the edit is the same as the existing one.
+ */
+public final class EditContentMethodsGenerator {
+
+    private static final String OTHER = "other";
+    private static final String CONTENT_SET = "isContentSet";
+    private static final String THIS = "this.";
+
+    // No instantiation.
+    private EditContentMethodsGenerator() {
+    }
+
+    /**
+     * Returns the edit content of an attribute of default class, which
+     * copies the attribute from this object to the result of the edit and
+     * applies the edit on it.
+     *
+     * @param attr     attribute info
+     * @param attrNode YANG node of the attribute, if attribute is a node
+     * @param words    number of long words storing the leaf flags
+     * @param listKey  true if attribute is a key leaf of list
+     * @param config   plugin configurations
+     * @return edit content of attribute
+     */
+    public static String getEditContentForAttribute(JavaAttributeInfo attr,
+                                                    YangNode attrNode,
+                                                    int words,
+                                                    boolean listKey,
+                                                    YangPluginConfig config) {
+        String name = attr.getAttributeName();
+        if (name.equals(VALUE_LEAF)) {
+            // Copied when the result is created, set per leaf.
+            return EMPTY_STRING;
+        }
+        String copy = EIGHT_SPACE_INDENTATION + RESULT + PERIOD + name +
+                " = " + THIS + name + ";\n";
+        if (name.equals(SELECT_LEAF) || name.equals(SUBTREE_FILTERED) ||
+                name.endsWith(OPERATION_TYPE_ATTRIBUTE)) {
+            return copy;
+        }
+        if (name.equals(YANG_AUGMENTED_INFO_MAP)) {
+            return config.isRuntimeSupport() ?
+                    getRuntimeAugmentedInfoEdit() : getAugmentedInfoEdit();
+        }
+        if (attr.getAttributeType() != null) {
+            if (!attr.isListAttr()) {
+                return copy + getLeafEdit(attr, words, listKey);
+            }
+            return copy + getLeafListEdit(attr);
+        }
+        if (attrNode instanceof YangChoice) {
+            return copy + getChoiceEdit((YangChoice) attrNode, name, config);
+        }
+        String type = attr.getImportInfo().getClassInfo();
+        String defaultType = DEFAULT_CAPS + type;
+        if (attr.isQualifiedName()) {
+            String pkg = attr.getImportInfo().getPkgInfo() + PERIOD;
+            type = pkg + type;
+            defaultType = pkg + defaultType;
+        }
+        if (attrNode == null || !isOpTypeClassNode(attrNode)) {
+            return copy + getReplaceEdit(name);
+        }
+        String build = getInternalBuild(config);
+        if (!attr.isListAttr()) {
+            return copy + getChildNodeEdit(name, defaultType, build);
+        }
+        if (isMapDataStructure(attr.getCompilerAnnotation())) {
+            return copy + getKeyedListEdit(name, type, defaultType, build,
+                                           true);
+        }
+        if (isQueueOrSetDataStructure(attr.getCompilerAnnotation())) {
+            // Queue and set of entries are replaced as a whole.
+            return copy + getReplaceEdit(name);
+        }
+        if (getListKeyNames(attrNode).isEmpty()) {
+            return copy + getKeylessListEdit(name, type);
+        }
+        return copy + getKeyedListEdit(name, type, defaultType, build,
+                                       false);
+    }
+
+    /**
+     * Returns the merge, replace and delete methods of default class.
+     *
+     * @param curNode     current YANG node
+     * @param defaultName name of default class
+     * @param words       number of long words storing the leaf flags, zero
+     *                    if node has no leaf
+     * @param editContent edit content of the attributes
+     * @return edit content methods
+     */
+    static String getEditContentMethods(YangNode curNode, String defaultName,
+                                        int words, String editContent) {
+        String name = getCapitalCase(((JavaFileInfoContainer) curNode)
+                                             .getJavaFileInfo().getJavaName());
+        String yangName = curNode.getName();
+        String opType = OTHER + PERIOD + YANG + name +
+                OPERATION_TYPE_ATTRIBUTE + "()";
+        String flags = EMPTY_STRING;
+        if (words == 1) {
+            flags = "        result.valueLeafFlags = valueLeafFlags;\n";
+        } else if (words > 1) {
+            flags = "        result.valueLeafFlags = valueLeafFlags.clone();\n";
+        }
+        return "\n" +
+                "    /**\n" +
+                "     * Returns the result of applying given edit content to " +
+                "this " + yangName + "\n" +
+                "     * as per the operation type of the edit, which is merge" +
+                " when not set.\n" +
+                "     * The attributes not changed by the edit are shared with" +
+                " this object.\n" +
+                "     *\n" +
+                "     * @param other edit content\n" +
+                "     * @return result of the edit, null if the edit deletes " +
+                "this " + yangName + "\n" +
+                "     */\n" +
+                "    public " + name + " merge(" + name + " other) {\n" +
+                "        if (other == null) {\n" +
+                "            return this;\n" +
+                "        }\n" +
+                "        " + OPERATION_TYPE_CLASS + " opType = " + opType +
+                ";\n" +
+                "        if (opType == " + OPERATION_TYPE_CLASS +
+                ".REPLACE) {\n" +
+                "            return replace(other);\n" +
+                "        }\n" +
+                "        if (opType == " + OPERATION_TYPE_CLASS +
+                ".DELETE ||\n" +
+                "                opType == " + OPERATION_TYPE_CLASS +
+                ".REMOVE) {\n" +
+                "            return delete(other);\n" +
+                "        }\n" +
+                "        return editContent(other, false);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the result of replacing this " + yangName +
+                " by given edit content.\n" +
+                "     *\n" +
+                "     * @param other edit content\n" +
+                "     * @return result of the edit\n" +
+                "     */\n" +
+                "    public " + name + " replace(" + name + " other) {\n" +
+                "        return other;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the result of deleting the content of given " +
+                "edit from this\n" +
+                "     * " + yangName + ". Leaves set in the edit are unset, " +
+                "and child nodes present in\n" +
+                "     * the edit are deleted as per their own content. An " +
+                "edit with no content\n" +
+                "     * other than list keys deletes this " + yangName +
+                ".\n" +
+                "     *\n" +
+                "     * @param other edit content\n" +
+                "     * @return result of the edit, null if the edit deletes " +
+                "this " + yangName + "\n" +
+                "     */\n" +
+                "    public " + name + " delete(" + name + " other) {\n" +
+                "        if (other == null) {\n" +
+                "            return this;\n" +
+                "        }\n" +
+                "        return editContent(other, true);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the result of merging or deleting the content" +
+                " of given edit.\n" +
+                "     *\n" +
+                "     * @param other  edit content\n" +
+                "     * @param delete true to delete the content, false to " +
+                "merge it\n" +
+                "     * @return result of the edit\n" +
+                "     */\n" +
+                "    private " + defaultName + " editContent(" + name +
+                " other, boolean delete) {\n" +
+                "        " + defaultName + " result = new " + defaultName +
+                "();\n" +
+                flags +
+                "        boolean " + CONTENT_SET + " = false;\n" +
+                editContent +
+                "        if (delete && !" + CONTENT_SET + ") {\n" +
+                "            return null;\n" +
+                "        }\n" +
+                "        return result;\n" +
+                "    }\n";
+    }
+
+    /**
+     * Returns the edit of a leaf. The value leaf flag of the result is set
+     * on merge and unset on delete. Key leaves identify the list entry, so
+     * they are neither deleted nor counted as content of a delete.
+     *
+     * @param attr    attribute info
+     * @param words   number of long words storing the leaf flags
+     * @param listKey true if leaf is a key of list
+     * @return edit of leaf
+     */
+    private static String getLeafEdit(JavaAttributeInfo attr, int words,
+                                      boolean listKey) {
+        /* Generate code will look like this.
+        if (other.isLeafValueSet(LeafIdentifier.MTU)) {
+            isContentSet = true;
+            if (delete) {
+                result.mtu = 0;
+                result.valueLeafFlags &= ~(1L << LeafIdentifier.MTU.getLeafIndex());
+            } else {
+                result.mtu = other.mtu();
+                result.valueLeafFlags |= 1L << LeafIdentifier.MTU.getLeafIndex();
+            }
+        }*/
+        String name = attr.getAttributeName();
+        String flag = RESULT + PERIOD + VALUE_LEAF;
+        String cond = "other.isLeafValueSet(LeafIdentifier." +
+                name.toUpperCase() + ")";
+        if (listKey) {
+            return "        if (!delete && " + cond + ") {\n" +
+                    "            result." + name + " = other." + name +
+                    "();\n" +
+                    getLeafFlagSetString(name, flag, TWELVE_SPACE_INDENTATION,
+                                         SET_METHOD_PREFIX, words) + ";\n" +
+                    "        }\n";
+        }
+        String set = "                result." + name + " = other." + name +
+                "();\n" +
+                getLeafFlagSetString(name, flag, SIXTEEN_SPACE_INDENTATION,
+                                     SET_METHOD_PREFIX, words) + ";\n";
+        return "        if (" + cond + ") {\n" +
+                "            " + CONTENT_SET + " = true;\n" +
+                "            if (delete) {\n" +
+                "                result." + name + " = " +
+                getDefaultValue(attr) + ";\n" +
+                getLeafFlagClearString(name, flag, SIXTEEN_SPACE_INDENTATION,
+                                       words) + ";\n" +
+                "            } else {\n" +
+                set +
+                "            }\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the edit of a leaf-list. Merge adds the values of the edit
+     * which are not present, delete removes them; the order of values is
+     * kept.
+     *
+     * @param attr attribute info
+     * @return edit of leaf-list
+     */
+    private static String getLeafListEdit(JavaAttributeInfo attr) {
+        String name = attr.getAttributeName();
+        String type = attr.getImportInfo().getClassInfo();
+        if (attr.isQualifiedName()) {
+            type = attr.getImportInfo().getPkgInfo() + PERIOD + type;
+        }
+        String values = name + "Values";
+        StringBuilder builder = new StringBuilder()
+                .append("        if (other.").append(name).append("() != ")
+                .append("null) {\n")
+                .append("            ").append(CONTENT_SET).append(" = true;\n")
+                .append("            Set<").append(type).append("> ")
+                .append(values).append(" = new LinkedHashSet<>();\n")
+                .append("            if (").append(name).append("() != null)")
+                .append(" {\n")
+                .append("                ").append(values).append(".addAll(")
+                .append(name).append("());\n")
+                .append("            }\n")
+                .append("            if (delete) {\n")
+                .append("                ").append(values)
+                .append(".removeAll(other.").append(name).append("());\n")
+                .append("            } else {\n")
+                .append("                ").append(values)
+                .append(".addAll(other.").append(name).append("());\n")
+                .append("            }\n");
+        String primitive = attr.getPrimitiveListType();
+        if (primitive == null) {
+            return builder.append("            result.").append(name)
+                    .append(" = ").append(values).append(".isEmpty() ? null")
+                    .append(" :\n                    Collections.unmodifiableList(")
+                    .append("new ArrayList<>(").append(values).append("));\n")
+                    .append("        }\n").toString();
+        }
+        /* Generate code will look like this.
+            result.vlan = null;
+            result.vlanSize = 0;
+            if (!vlanValues.isEmpty()) {
+                result.vlan = new int[vlanValues.size()];
+                for (int value : vlanValues) {
+                    result.vlan[result.vlanSize++] = value;
+                }
+            }*/
+        String size = name + SIZE;
+        return builder.append("            result.").append(name)
+                .append(" = null;\n")
+                .append("            result.").append(size).append(" = 0;\n")
+                .append("            if (!").append(values).append(".isEmpty()")
+                .append(") {\n")
+                .append("                result.").append(name).append(" = new ")
+                .append(primitive).append("[").append(values)
+                .append(".size()];\n")
+                .append("                for (").append(primitive)
+                .append(" value : ").append(values).append(") {\n")
+                .append("                    result.").append(name)
+                .append("[result.").append(size).append("++] = value;\n")
+                .append("                }\n")
+                .append("            }\n")
+                .append("        }\n").toString();
+    }
+
+    /**
+     * Returns the edit of a child container, which is edited as per its own
+     * operation type. A child not present in this object is merged into an
+     * empty one, so the operations set within the edit are honored.
+     *
+     * @param name        attribute name
+     * @param defaultType default class of child
+     * @param build       name of build method of child builder
+     * @return edit of child container
+     */
+    private static String getChildNodeEdit(String name, String defaultType,
+                                           String build) {
+        String base = name + "Base";
+        return "        if (other." + name + "() != null) {\n" +
+                "            " + CONTENT_SET + " = true;\n" +
+                "            if (!delete) {\n" +
+                "                " + defaultType + " " + base + " = (" +
+                defaultType + ") (" + THIS + name + " == null ?\n" +
+                "                        " + defaultType +
+                ".builder()." + build + "() : " + THIS + name + ");\n" +
+                "                result." + name + " = " + base +
+                ".merge(other." + name + "());\n" +
+                "            } else if (" + THIS + name + " != null) {\n" +
+                "                result." + name + " = ((" + defaultType +
+                ") " + THIS + name + ").delete(other." + name + "());\n" +
+                "            }\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the edit of a keyed list. Entries of the edit are matched
+     * with the entries of this object by key, and each matched entry is
+     * edited as per its own operation type. Entries which are not matched
+     * are added on merge and ignored on delete.
+     *
+     * @param name        attribute name
+     * @param type        list entry type
+     * @param defaultType default class of list entry
+     * @param build       name of build method of list entry builder
+     * @param map         true if entries are stored in map by keys
+     * @return edit of keyed list
+     */
+    private static String getKeyedListEdit(String name, String type,
+                                           String defaultType, String build,
+                                           boolean map) {
+        /* Generate code will look like this.
+        if (other.interfaces() != null) {
+            isContentSet = true;
+            Map<Object, Interfaces> interfacesEntries = new LinkedHashMap<>();
+            if (this.interfaces != null) {
+                for (Interfaces entry : this.interfaces) {
+                    interfacesEntries.put(
+                            DefaultInterfaces.processSubtreeFilteringKey(entry), entry);
+                }
+            }
+            for (Interfaces entry : other.interfaces()) {
+                Object key = DefaultInterfaces.processSubtreeFilteringKey(entry);
+                Interfaces cur = interfacesEntries.get(key);
+                Interfaces edited = null;
+                if (!delete) {
+                    edited = ((DefaultInterfaces) (cur == null ?
+                            DefaultInterfaces.builder().build() : cur)).merge(entry);
+                } else if (cur != null) {
+                    edited = ((DefaultInterfaces) cur).delete(entry);
+                }
+                if (edited == null) {
+                    interfacesEntries.remove(key);
+                } else {
+                    interfacesEntries.put(key, edited);
+                }
+            }
+            result.interfaces = interfacesEntries.isEmpty() ? null :
+                    Collections.unmodifiableList(
+                            new ArrayList<>(interfacesEntries.values()));
+        }*/
+        String entries = name + "Entries";
+        String keyType;
+        String key;
+        String copy;
+        String value;
+        if (map) {
+            keyType = getListKeysClassName(type);
+            key = keyType + ".of(entry)";
+            copy = "            if (" + THIS + name + " != null) {\n" +
+                    "                " + entries + ".putAll(" + THIS + name +
+                    ");\n" +
+                    "            }\n";
+            value = "Collections.unmodifiableMap(" + entries + ")";
+        } else {
+            keyType = "Object";
+            key = defaultType + ".processSubtreeFilteringKey(entry)";
+            copy = "            if (" + THIS + name + " != null) {\n" +
+                    "                for (" + type + " entry : " + THIS +
+                    name + ") {\n" +
+                    "                    " + entries + ".put(\n" +
+                    "                            " + key + ", entry);\n" +
+                    "                }\n" +
+                    "            }\n";
+            value = "Collections.unmodifiableList(\n" +
+                    "                            new ArrayList<>(" + entries +
+                    ".values()))";
+        }
+        String entryList = OTHER + PERIOD + name + "()";
+        if (map) {
+            entryList = entryList + ".values()";
+        }
+        return "        if (other." + name + "() != null) {\n" +
+                "            " + CONTENT_SET + " = true;\n" +
+                "            Map<" + keyType + ", " + type + "> " + entries +
+                " = new LinkedHashMap<>();\n" +
+                copy +
+                "            for (" + type + " entry : " + entryList +
+                ") {\n" +
+                "                " + keyType + " key = " + key + ";\n" +
+                "                " + type + " cur = " + entries +
+                ".get(key);\n" +
+                "                " + type + " edited = null;\n" +
+                "                if (!delete) {\n" +
+                "                    edited = ((" + defaultType + ") (cur ==" +
+                " null ?\n" +
+                "                            " + defaultType +
+                ".builder()." + build + "() : cur)).merge(entry);\n" +
+                "                } else if (cur != null) {\n" +
+                "                    edited = ((" + defaultType +
+                ") cur).delete(entry);\n" +
+                "                }\n" +
+                "                if (edited == null) {\n" +
+                "                    " + entries + ".remove(key);\n" +
+                "                } else {\n" +
+                "                    " + entries + ".put(key, edited);\n" +
+                "                }\n" +
+                "            }\n" +
+                "            result." + name + " = " + entries +
+                ".isEmpty() ? null :\n" +
+                "                    " + value + ";\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the edit of a list without key. Entries can not be matched,
+     * so merge adds the entries of the edit and delete removes the equal
+     * entries.
+     *
+     * @param name attribute name
+     * @param type list entry type
+     * @return edit of list without key
+     */
+    private static String getKeylessListEdit(String name, String type) {
+        String entries = name + "Entries";
+        return "        if (other." + name + "() != null) {\n" +
+                "            " + CONTENT_SET + " = true;\n" +
+                "            List<" + type + "> " + entries + " = new " +
+                "ArrayList<>();\n" +
+                "            if (" + THIS + name + " != null) {\n" +
+                "                " + entries + ".addAll(" + THIS + name +
+                ");\n" +
+                "            }\n" +
+                "            if (delete) {\n" +
+                "                " + entries + ".removeAll(other." + name +
+                "());\n" +
+                "            } else {\n" +
+                "                " + entries + ".addAll(other." + name +
+                "());\n" +
+                "            }\n" +
+                "            result." + name + " = " + entries +
+                ".isEmpty() ? null :\n" +
+                "                    Collections.unmodifiableList(" + entries +
+                ");\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the edit of a choice. When the edit holds the case this object
+     * holds, the case is edited; otherwise a merge switches to the case of
+     * the edit and a delete leaves the choice unchanged.
+     *
+     * @param choice YANG choice
+     * @param name   attribute name
+     * @param config plugin configurations
+     * @return edit of choice
+     */
+    private static String getChoiceEdit(YangChoice choice, String name,
+                                        YangPluginConfig config) {
+        /* Generate code will look like this.
+        if (other.snack() != null) {
+            isContentSet = true;
+            if (this.snack instanceof SportsArena &&
+                    other.snack() instanceof SportsArena) {
+                result.snack = delete ?
+                        ((DefaultSportsArena) this.snack).delete((SportsArena) other.snack()) :
+                        ((DefaultSportsArena) this.snack).merge((SportsArena) other.snack());
+            } else if (!delete) {
+                result.snack = other.snack();
+            }
+        }*/
+        String call = OTHER + PERIOD + name + "()";
+        StringBuilder builder = new StringBuilder()
+                .append("        if (").append(call).append(" != null) {\n")
+                .append("            ").append(CONTENT_SET).append(" = true;\n");
+        String indent = TWELVE_SPACE_INDENTATION;
+        for (YangCase yangCase : getChoiceCases(choice)) {
+            if (!isOpTypeClassNode(yangCase)) {
+                continue;
+            }
+            String caseName = getQualifiedNodeName(yangCase, config);
+            int index = caseName.lastIndexOf(PERIOD);
+            String defaultName = caseName.substring(0, index + 1) +
+                    DEFAULT_CAPS + caseName.substring(index + 1);
+            String cur = "((" + defaultName + ") " + THIS + name + ")";
+            String edit = "((" + caseName + ") " + call + ")";
+            builder.append(indent).append("if (").append(THIS).append(name)
+                    .append(" instanceof ").append(caseName).append(" &&\n")
+                    .append("                    ").append(call)
+                    .append(" instanceof ").append(caseName).append(") {\n")
+                    .append("                result.").append(name)
+                    .append(" = delete ?\n")
+                    .append("                        ").append(cur)
+                    .append(".delete(").append(edit).append(") :\n")
+                    .append("                        ").append(cur)
+                    .append(".merge(").append(edit).append(");\n")
+                    .append("            } else ");
+            indent = EMPTY_STRING;
+        }
+        return builder.append(indent).append("if (!delete) {\n")
+                .append("                result.").append(name).append(" = ")
+                .append(call).append(";\n")
+                .append("            }\n")
+                .append("        }\n").toString();
+    }
+
+    /**
+     * Returns the edit of a child which is replaced as a whole on merge and
+     * removed on delete.
+     *
+     * @param name attribute name
+     * @return edit of child
+     */
+    private static String getReplaceEdit(String name) {
+        return "        if (other." + name + "() != null) {\n" +
+                "            " + CONTENT_SET + " = true;\n" +
+                "            result." + name + " = delete ? null : other." +
+                name + "();\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the edit of augmented info, which is replaced per
+     * augmentation class.
+     *
+     * @return edit of augmented info
+     */
+    private static String getAugmentedInfoEdit() {
+        String map = YANG_AUGMENTED_INFO_MAP;
+        return "        result." + map + " = " + THIS + map + ";\n" +
+                "        if (!other." + map + "().isEmpty()) {\n" +
+                "            " + CONTENT_SET + " = true;\n" +
+                "            Map<Class<?>, Object> augmented = new HashMap<>(" +
+                THIS + map + ");\n" +
+                "            if (delete) {\n" +
+                "                augmented.keySet().removeAll(\n" +
+                "                        other." + map + "().keySet());\n" +
+                "            } else {\n" +
+                "                augmented.putAll(other." + map + "());\n" +
+                "            }\n" +
+                "            result." + map +
+                " = Collections.unmodifiableMap(augmented);\n" +
+                "        }\n";
+    }
+
+    /**
+     * Returns the edit of augmented info done by runtime support library.
+     *
+     * @return edit of augmented info
+     */
+    private static String getRuntimeAugmentedInfoEdit() {
+        String map = YANG_AUGMENTED_INFO_MAP;
+        return "        result." + map + " = " + AUGMENTED_INFO_SUPPORT +
+                ".editAugmentedInfo(\n" +
+                "                " + THIS + map + ", other." + map +
+                "(), delete);\n" +
+                "        if (!other." + map + "().isEmpty()) {\n" +
+                "            " + CONTENT_SET + " = true;\n" +
+                "        }\n";
+    }
+
+    // Returns the value of an unset leaf.
+    private static String getDefaultValue(JavaAttributeInfo attr) {
+        if (attr.isQualifiedName()) {
+            return NULL;
+        }
+        switch (attr.getImportInfo().getClassInfo()) {
+            case BOOLEAN_DATA_TYPE:
+                return FALSE;
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case DOUBLE:
+                return "0";
+            default:
+                return NULL;
+        }
+    }
+}
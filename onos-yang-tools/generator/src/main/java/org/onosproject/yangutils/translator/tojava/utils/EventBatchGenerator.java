@@ -0,0 +1,365 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import static org.onosproject.yangutils.utils.UtilConstants.EVENT_STRING;
+
+/**
+ * Represents generator for batched delivery of notification events.
+ * <p>
+ * When enabled in plugin configurations, a module with notifications gets a
+ * batch class, holding notifications as parallel arrays of event types,
+ * subjects and times, and a coalescer collecting posted notifications into
+ * batches within a time window. Notifications of the same type having the
+ * same key are merged in a batch, the latest subject replacing the earlier
+ * one at its position. The event listener gets a default method delivering
+ * a batch event by event, so existing listeners accept batches unchanged
+ * while listeners overriding it walk the arrays without creating events.
+ */
+public final class EventBatchGenerator {
+
+    /**
+     * Suffix of the batched event class.
+     */
+    public static final String EVENT_BATCH = "EventBatch";
+
+    /**
+     * Suffix of the event coalescer class.
+     */
+    public static final String EVENT_COALESCER = "EventCoalescer";
+
+    private static final String EVENT_SUBJECT = "EventSubject";
+
+    // No instantiation.
+    private EventBatchGenerator() {
+    }
+
+    /**
+     * Returns the contents of batched event class.
+     *
+     * @param name capital java name of module
+     * @return contents of batched event class
+     */
+    public static String getEventBatchContents(String name) {
+        String batch = name + EVENT_BATCH;
+        String event = name + EVENT_STRING;
+        String type = event + ".Type";
+        String subject = name + EVENT_SUBJECT;
+        return "\n" +
+                "    private static final int INITIAL_CAPACITY = 16;\n\n" +
+                "    private " + type + "[] types;\n" +
+                "    private " + subject + "[] subjects;\n" +
+                "    private long[] times;\n" +
+                "    private int size;\n\n" +
+                "    /**\n" +
+                "     * Creates an empty batch.\n" +
+                "     */\n" +
+                "    public " + batch + "() {\n" +
+                "        this(INITIAL_CAPACITY);\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Creates an empty batch with initial capacity.\n" +
+                "     *\n" +
+                "     * @param capacity initial capacity of batch\n" +
+                "     */\n" +
+                "    public " + batch + "(int capacity) {\n" +
+                "        if (capacity < 1) {\n" +
+                "            throw new IllegalArgumentException(\"capacity " +
+                "must be positive\");\n" +
+                "        }\n" +
+                "        types = new " + type + "[capacity];\n" +
+                "        subjects = new " + subject + "[capacity];\n" +
+                "        times = new long[capacity];\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Adds a notification at the current time.\n" +
+                "     *\n" +
+                "     * @param type    event type\n" +
+                "     * @param subject event subject\n" +
+                "     */\n" +
+                "    public void add(" + type + " type, " + subject +
+                " subject) {\n" +
+                "        add(type, subject, System.currentTimeMillis());\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Adds a notification.\n" +
+                "     *\n" +
+                "     * @param type    event type\n" +
+                "     * @param subject event subject\n" +
+                "     * @param time    time of event\n" +
+                "     */\n" +
+                "    public void add(" + type + " type, " + subject +
+                " subject, long time) {\n" +
+                "        if (size == types.length) {\n" +
+                "            int capacity = size << 1;\n" +
+                "            types = Arrays.copyOf(types, capacity);\n" +
+                "            subjects = Arrays.copyOf(subjects, capacity);\n" +
+                "            times = Arrays.copyOf(times, capacity);\n" +
+                "        }\n" +
+                "        types[size] = type;\n" +
+                "        subjects[size] = subject;\n" +
+                "        times[size] = time;\n" +
+                "        size++;\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Adds the notification of an event.\n" +
+                "     *\n" +
+                "     * @param event event of notification\n" +
+                "     */\n" +
+                "    public void add(" + event + " event) {\n" +
+                "        add(event.type(), event.subject(), event.time());\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Replaces the subject and time of notification at " +
+                "index.\n" +
+                "     *\n" +
+                "     * @param index   index of notification\n" +
+                "     * @param subject event subject\n" +
+                "     * @param time    time of event\n" +
+                "     */\n" +
+                "    void set(int index, " + subject + " subject, long time)" +
+                " {\n" +
+                "        checkIndex(index);\n" +
+                "        subjects[index] = subject;\n" +
+                "        times[index] = time;\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Returns the number of notifications in batch.\n" +
+                "     *\n" +
+                "     * @return number of notifications\n" +
+                "     */\n" +
+                "    public int size() {\n" +
+                "        return size;\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Returns true if batch has no notification.\n" +
+                "     *\n" +
+                "     * @return true if batch is empty\n" +
+                "     */\n" +
+                "    public boolean isEmpty() {\n" +
+                "        return size == 0;\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Returns the event type of notification at index.\n" +
+                "     *\n" +
+                "     * @param index index of notification\n" +
+                "     * @return event type\n" +
+                "     */\n" +
+                "    public " + type + " type(int index) {\n" +
+                "        checkIndex(index);\n" +
+                "        return types[index];\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Returns the event subject of notification at index.\n" +
+                "     *\n" +
+                "     * @param index index of notification\n" +
+                "     * @return event subject\n" +
+                "     */\n" +
+                "    public " + subject + " subject(int index) {\n" +
+                "        checkIndex(index);\n" +
+                "        return subjects[index];\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Returns the time of notification at index.\n" +
+                "     *\n" +
+                "     * @param index index of notification\n" +
+                "     * @return time of event\n" +
+                "     */\n" +
+                "    public long time(int index) {\n" +
+                "        checkIndex(index);\n" +
+                "        return times[index];\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Returns the event of notification at index.\n" +
+                "     *\n" +
+                "     * @param index index of notification\n" +
+                "     * @return event of notification\n" +
+                "     */\n" +
+                "    public " + event + " event(int index) {\n" +
+                "        checkIndex(index);\n" +
+                "        return new " + event + "(types[index], " +
+                "subjects[index], times[index]);\n" +
+                "    }\n\n" +
+                "    private void checkIndex(int index) {\n" +
+                "        if (index < 0 || index >= size) {\n" +
+                "            throw new IndexOutOfBoundsException(\"index \" + " +
+                "index + \", size \" + size);\n" +
+                "        }\n" +
+                "    }\n";
+    }
+
+    /**
+     * Returns the contents of event coalescer class.
+     *
+     * @param name capital java name of module
+     * @return contents of event coalescer class
+     */
+    public static String getEventCoalescerContents(String name) {
+        String batch = name + EVENT_BATCH;
+        String coalescer = name + EVENT_COALESCER;
+        String type = name + EVENT_STRING + ".Type";
+        String subject = name + EVENT_SUBJECT;
+        return "\n" +
+                "    private final long window;\n" +
+                "    private final BiFunction<" + type + ", " + subject +
+                ", Object> key;\n" +
+                "    private final Consumer<" + batch + "> sink;\n" +
+                "    private final Map<" + type + ", Map<Object, Integer>> " +
+                "index =\n" +
+                "            new EnumMap<>(" + type + ".class);\n" +
+                "    private " + batch + " batch = new " + batch + "();\n" +
+                "    private long start;\n\n" +
+                "    /**\n" +
+                "     * Creates a coalescer of notifications. Notifications " +
+                "of the same type\n" +
+                "     * with equal keys are merged in a batch; a null key " +
+                "is never merged.\n" +
+                "     * The sink is called outside the lock of coalescer, " +
+                "so batches reach it\n" +
+                "     * in order only when notifications are posted from " +
+                "a single thread.\n" +
+                "     *\n" +
+                "     * @param window time window of batch in milliseconds\n" +
+                "     * @param key    merge key of notification\n" +
+                "     * @param sink   consumer of completed batches\n" +
+                "     */\n" +
+                "    public " + coalescer + "(long window, BiFunction<" + type +
+                ", " + subject + ", Object> key,\n" +
+                "            Consumer<" + batch + "> sink) {\n" +
+                "        if (window < 0) {\n" +
+                "            throw new IllegalArgumentException(\"window " +
+                "must not be negative\");\n" +
+                "        }\n" +
+                "        this.window = window;\n" +
+                "        this.key = key;\n" +
+                "        this.sink = sink;\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Posts a notification at the current time.\n" +
+                "     *\n" +
+                "     * @param type    event type\n" +
+                "     * @param subject event subject\n" +
+                "     */\n" +
+                "    public void post(" + type + " type, " + subject +
+                " subject) {\n" +
+                "        post(type, subject, System.currentTimeMillis());\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Posts a notification. The pending batch is " +
+                "completed first when its\n" +
+                "     * window has elapsed.\n" +
+                "     *\n" +
+                "     * @param type    event type\n" +
+                "     * @param subject event subject\n" +
+                "     * @param time    time of event\n" +
+                "     */\n" +
+                "    public void post(" + type + " type, " + subject +
+                " subject, long time) {\n" +
+                "        " + batch + " done = null;\n" +
+                "        synchronized (this) {\n" +
+                "            if (!batch.isEmpty() && time - start >= window) " +
+                "{\n" +
+                "                done = complete();\n" +
+                "            }\n" +
+                "            if (batch.isEmpty()) {\n" +
+                "                start = time;\n" +
+                "            }\n" +
+                "            Object k = key.apply(type, subject);\n" +
+                "            if (k == null) {\n" +
+                "                batch.add(type, subject, time);\n" +
+                "            } else {\n" +
+                "                Map<Object, Integer> keys = index" +
+                ".computeIfAbsent(\n" +
+                "                        type, t -> new HashMap<>());\n" +
+                "                Integer pos = keys.get(k);\n" +
+                "                if (pos == null) {\n" +
+                "                    keys.put(k, batch.size());\n" +
+                "                    batch.add(type, subject, time);\n" +
+                "                } else {\n" +
+                "                    batch.set(pos, subject, time);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "        if (done != null) {\n" +
+                "            sink.accept(done);\n" +
+                "        }\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Completes the pending batch if its window has " +
+                "elapsed at time.\n" +
+                "     *\n" +
+                "     * @param time current time\n" +
+                "     */\n" +
+                "    public void poll(long time) {\n" +
+                "        " + batch + " done = null;\n" +
+                "        synchronized (this) {\n" +
+                "            if (!batch.isEmpty() && time - start >= window) " +
+                "{\n" +
+                "                done = complete();\n" +
+                "            }\n" +
+                "        }\n" +
+                "        if (done != null) {\n" +
+                "            sink.accept(done);\n" +
+                "        }\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Completes the pending batch regardless of its " +
+                "window.\n" +
+                "     */\n" +
+                "    public void flush() {\n" +
+                "        " + batch + " done;\n" +
+                "        synchronized (this) {\n" +
+                "            if (batch.isEmpty()) {\n" +
+                "                return;\n" +
+                "            }\n" +
+                "            done = complete();\n" +
+                "        }\n" +
+                "        sink.accept(done);\n" +
+                "    }\n\n" +
+                "    private " + batch + " complete() {\n" +
+                "        " + batch + " done = batch;\n" +
+                "        batch = new " + batch + "();\n" +
+                "        index.clear();\n" +
+                "        return done;\n" +
+                "    }\n";
+    }
+
+    /**
+     * Returns the default method of event listener delivering a batch.
+     *
+     * @param name capital java name of module
+     * @return batch delivery method of event listener
+     */
+    public static String getEventBatchListenerMethod(String name) {
+        String event = name + EVENT_STRING;
+        return "\n" +
+                "    /**\n" +
+                "     * Delivers the relevant events of batch in order.\n" +
+                "     *\n" +
+                "     * @param batch batch of events\n" +
+                "     */\n" +
+                "    default void events(" + name + EVENT_BATCH + " batch) " +
+                "{\n" +
+                "        for (int i = 0; i < batch.size(); i++) {\n" +
+                "            " + event + " event = batch.event(i);\n" +
+                "            if (isRelevant(event)) {\n" +
+                "                event(event);\n" +
+                "            }\n" +
+                "        }\n" +
+                "    }\n";
+    }
+}
@@ -30,9 +30,12 @@ import static java.util.Collections.sort;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaIdentifierSyntax.getEnumJavaAttribute;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getDefaultDefinition;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getImportString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getListKeysClassName;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getOpenCloseParaWithValue;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.signatureClose;
 import static org.onosproject.yangutils.utils.UtilConstants.BIT_SET;
+import static org.onosproject.yangutils.utils.UtilConstants.CACHED_HASH_CODE;
+import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_SQUARE_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.COMMA;
 import static org.onosproject.yangutils.utils.UtilConstants.DIAMOND_CLOSE_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.DIAMOND_OPEN_BRACKET;
@@ -46,24 +49,27 @@ import static org.onosproject.yangutils.utils.UtilConstants.INT;
 import static org.onosproject.yangutils.utils.UtilConstants.INT_MAX_RANGE_ATTR;
 import static org.onosproject.yangutils.utils.UtilConstants.INT_MIN_RANGE_ATTR;
 import static org.onosproject.yangutils.utils.UtilConstants.LIST;
+import static org.onosproject.yangutils.utils.UtilConstants.LONG;
 import static org.onosproject.yangutils.utils.UtilConstants.LONG_MAX_RANGE_ATTR;
 import static org.onosproject.yangutils.utils.UtilConstants.LONG_MIN_RANGE_ATTR;
+import static org.onosproject.yangutils.utils.UtilConstants.MAP;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_CLOSE_BRACKET_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_CLOSE_DIAMOND_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.OPEN_SQUARE_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
 import static org.onosproject.yangutils.utils.UtilConstants.PRIVATE;
 import static org.onosproject.yangutils.utils.UtilConstants.PUBLIC;
 import static org.onosproject.yangutils.utils.UtilConstants.QUEUE;
 import static org.onosproject.yangutils.utils.UtilConstants.QUOTES;
 import static org.onosproject.yangutils.utils.UtilConstants.SCHEMA_NAME;
-import static org.onosproject.yangutils.utils.UtilConstants.SELECT_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.SEMI_COLON;
 import static org.onosproject.yangutils.utils.UtilConstants.SET;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_VALUE_PARA;
 import static org.onosproject.yangutils.utils.UtilConstants.SHORT_MAX_RANGE_ATTR;
 import static org.onosproject.yangutils.utils.UtilConstants.SHORT_MIN_RANGE_ATTR;
+import static org.onosproject.yangutils.utils.UtilConstants.SIZE;
 import static org.onosproject.yangutils.utils.UtilConstants.SPACE;
 import static org.onosproject.yangutils.utils.UtilConstants.STRING_DATA_TYPE;
 import static org.onosproject.yangutils.utils.UtilConstants.TYPE;
@@ -73,7 +79,6 @@ import static org.onosproject.yangutils.utils.UtilConstants.UINT_MAX_RANGE_ATTR;
 import static org.onosproject.yangutils.utils.UtilConstants.UINT_MIN_RANGE_ATTR;
 import static org.onosproject.yangutils.utils.UtilConstants.ULONG_MAX_RANGE_ATTR;
 import static org.onosproject.yangutils.utils.UtilConstants.ULONG_MIN_RANGE_ATTR;
-import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_MAP;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.ENUM_ATTRIBUTE;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.enumJavaDocForInnerClass;
@@ -142,12 +147,8 @@ public final class JavaCodeSnippetGen {
 
             attrDef.append(attrType).append(SPACE)
                     .append(attrName);
-            //Initialize select leaf/value leaf/ augment map attribute.
-            if (attrName.equals(SELECT_LEAF) || attrName.equals(VALUE_LEAF)) {
-                attrDef.append(SPACE).append(EQUAL).append(SPACE).append(NEW)
-                        .append(SPACE).append(BIT_SET)
-                        .append(OPEN_CLOSE_BRACKET_STRING);
-            } else if (attrName.equals(YANG_AUGMENTED_INFO_MAP)) {
+            //Initialize augment map attribute.
+            if (attrName.equals(YANG_AUGMENTED_INFO_MAP)) {
                 attrDef.append(SPACE).append(EQUAL).append(SPACE).append(NEW)
                         .append(SPACE).append(HASH_MAP)
                         .append(OPEN_CLOSE_DIAMOND_STRING)
@@ -156,14 +157,15 @@ public final class JavaCodeSnippetGen {
 
             attrDef.append(signatureClose());
         } else {
-            // Add starting definition.
-            addAttrStartDef(annotation, attrDef);
-
+            String type = attrType;
             if (typePkg != null) {
-                attrDef.append(typePkg).append(PERIOD);
+                type = typePkg + PERIOD + attrType;
             }
 
-            attrDef.append(attrType);
+            // Add starting definition.
+            addAttrStartDef(annotation, attrDef, type);
+
+            attrDef.append(type);
 
             // Add ending definition.
             addAttrEndDef(attrDef, attrName);
@@ -171,14 +173,68 @@ public final class JavaCodeSnippetGen {
         return attrDef.toString();
     }
 
+    /**
+     * Returns the textual java code for definition of leaf-list attribute
+     * stored in primitive array, along with its size attribute.
+     *
+     * @param primitive  primitive type of array
+     * @param attrName   name of the attribute
+     * @param accessType attribute access type
+     * @return the textual java code for primitive array attribute definition
+     */
+    public static String getPrimitiveListAttributeDefinition(String primitive,
+                                                             String attrName,
+                                                             String accessType) {
+        return FOUR_SPACE_INDENTATION + accessType + SPACE + primitive +
+                "[] " + attrName + signatureClose() + FOUR_SPACE_INDENTATION +
+                accessType + SPACE + INT + SPACE + attrName + SIZE +
+                signatureClose();
+    }
+
+    /**
+     * Returns the textual java code for definition of value or select leaf
+     * flags attribute, which is a long or a long array when leaf indexes do
+     * not fit in one long.
+     *
+     * @param attrName   name of the attribute
+     * @param words      number of long words storing the flags
+     * @param accessType attribute access type
+     * @return the textual java code for leaf flags attribute definition
+     */
+    public static String getLeafFlagAttributeDefinition(String attrName,
+                                                        int words,
+                                                        String accessType) {
+        if (words > 1) {
+            return FOUR_SPACE_INDENTATION + accessType + SPACE + LONG +
+                    "[] " + attrName + SPACE + EQUAL + SPACE + NEW + SPACE +
+                    LONG + OPEN_SQUARE_BRACKET + words +
+                    CLOSE_SQUARE_BRACKET + signatureClose();
+        }
+        return FOUR_SPACE_INDENTATION + accessType + SPACE + LONG + SPACE +
+                attrName + signatureClose();
+    }
+
+    /**
+     * Returns the textual java code for definition of attribute which caches
+     * the hash code of default class.
+     *
+     * @return the textual java code for cached hash code attribute definition
+     */
+    public static String getCachedHashCodeAttributeDefinition() {
+        return FOUR_SPACE_INDENTATION + PRIVATE + SPACE + INT + SPACE +
+                CACHED_HASH_CODE + signatureClose();
+    }
+
     /**
      * Adds starting attribute definition.
      *
      * @param annotation compiler annotation
      * @param attrDef    JAVA attribute definition
+     * @param attrType   JAVA attribute type
      */
     private static void addAttrStartDef(YangCompilerAnnotation annotation,
-                                        StringBuilder attrDef) {
+                                        StringBuilder attrDef,
+                                        String attrType) {
         if (annotation != null &&
                 annotation.getYangAppDataStructure() != null) {
             switch (annotation.getYangAppDataStructure().getDataStructure()) {
@@ -192,6 +248,13 @@ public final class JavaCodeSnippetGen {
                             .append(DIAMOND_OPEN_BRACKET);
                     break;
                 }
+                case MAP: {
+                    attrDef.append(MAP)
+                            .append(DIAMOND_OPEN_BRACKET)
+                            .append(getListKeysClassName(attrType))
+                            .append(COMMA).append(SPACE);
+                    break;
+                }
                 default: {
                     attrDef.append(LIST)
                             .append(DIAMOND_OPEN_BRACKET);
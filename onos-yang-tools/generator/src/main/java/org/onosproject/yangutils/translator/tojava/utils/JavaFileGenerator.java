@@ -17,11 +17,13 @@
 package org.onosproject.yangutils.translator.tojava.utils;
 
 import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangAugment;
 import org.onosproject.yangutils.datamodel.YangAugmentableNode;
 import org.onosproject.yangutils.datamodel.YangChoice;
 import org.onosproject.yangutils.datamodel.YangDerivedInfo;
 import org.onosproject.yangutils.datamodel.YangEnumeration;
 import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangType;
 import org.onosproject.yangutils.datamodel.YangTypeDef;
@@ -49,19 +51,27 @@ import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangData
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.BUILDER_CLASS_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.BUILDER_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.DEFAULT_CLASS_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_BINARY_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_BATCH_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_COALESCER_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_LISTENER_INTERFACE;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_SUBJECT_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_JSON_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_SERVICE_AND_MANAGER;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_TYPEDEF_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_UNION_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_XML_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.INTERFACE_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ACCEPT_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ADD_TO_LIST_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ADD_TO_LIST_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ATTRIBUTES_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.CONSTRUCTOR_FOR_TYPE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.CONSTRUCTOR_IMPL_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.DIFF_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.EDIT_CONTENT_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ENUM_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.EQUALS_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.EVENT_ENUM_MASK;
@@ -75,19 +85,42 @@ import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.HASH_CODE_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.LEAF_IDENTIFIER_ENUM_ATTRIBUTES_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.OF_STRING_IMPL_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.RPC_ASYNC_ADAPTER_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.RPC_ASYNC_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.RPC_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.SETTER_FOR_CLASS_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.SETTER_FOR_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.TO_STRING_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.TempJavaFragmentFiles.getCurNodeAsAttributeInTarget;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.getAugmentedInfoName;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isAugmentedInfoFiltered;
 import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isGetSetOfRootNodeRequired;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.utils.AsyncRpcMethodsGenerator.getAsyncAdapterClass;
+import static org.onosproject.yangutils.translator.tojava.utils.BinaryCodecGenerator.getBinaryCodecClassBody;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.getConstraintCheckMethods;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.getConstraintTables;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.getUncheckedBuildMethod;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.isConstraintCheckEnabled;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.isConstraintCheckRequired;
+import static org.onosproject.yangutils.translator.tojava.utils.DiffMethodsGenerator.getDiffMethod;
+import static org.onosproject.yangutils.translator.tojava.utils.DiffMethodsGenerator.getDiffSinkInterface;
+import static org.onosproject.yangutils.translator.tojava.utils.EditContentMethodsGenerator.getEditContentMethods;
+import static org.onosproject.yangutils.translator.tojava.utils.EventBatchGenerator.EVENT_BATCH;
+import static org.onosproject.yangutils.translator.tojava.utils.EventBatchGenerator.EVENT_COALESCER;
+import static org.onosproject.yangutils.translator.tojava.utils.EventBatchGenerator.getEventBatchContents;
+import static org.onosproject.yangutils.translator.tojava.utils.EventBatchGenerator.getEventBatchListenerMethod;
+import static org.onosproject.yangutils.translator.tojava.utils.EventBatchGenerator.getEventCoalescerContents;
 import static org.onosproject.yangutils.translator.tojava.utils.IndentationType.FOUR_SPACE;
+import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.getCachedHashCodeAttributeDefinition;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.getEnumsValueAttribute;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.getEventEnumTypeStart;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.getOperationTypeEnum;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.getSetValueParaForUnionClass;
+import static org.onosproject.yangutils.translator.tojava.utils.JavaCodeSnippetGen.sortImports;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGeneratorUtils.getDataFromTempFileHandle;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGeneratorUtils.initiateJavaFileGeneration;
+import static org.onosproject.yangutils.translator.tojava.utils.JsonCodecGenerator.getJsonCodecClassBody;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodBodyTypes.ENUM_METHOD_INT_VALUE;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodBodyTypes.ENUM_METHOD_STRING_VALUE;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.builderMethod;
@@ -100,15 +133,17 @@ import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getConstructorStart;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getEnumsConstructor;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getEnumsOfValueMethod;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getEqualsMethodBody;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getEqualsMethodClose;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getEqualsMethodOpen;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getFromStringMethodClose;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getFromStringMethodSignature;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getFromStringPreCheckMethods;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getGetter;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getGetterString;
-import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getHashCodeMethodClose;
-import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getHashCodeMethodOpen;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getHashCodeMethodImpl;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getInterfaceLeafIdEnumSignature;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getListKeysClass;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getRangeValidatorMethodForUnion;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterForSelectLeaf;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterString;
@@ -122,12 +157,18 @@ import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.isLeafValueSetInterface;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.isSelectLeafSetInterface;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.setSelectLeafSetInterface;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getImportString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getInterfaceLeafIdEnumMethods;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getIsSelectLeafSet;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getIsValueLeafSet;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagWords;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.methodClose;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.signatureClose;
 import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getAugmentableSubTreeFiltering;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getAugmentedInfoInterface;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getFilterAugmentedInfoImpl;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getListKeyMethods;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getListKeyNames;
 import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getProcessChildNodeSubtreeFiltering;
 import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getProcessLeafListSubtreeFiltering;
 import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getProcessLeafSubtreeFiltering;
@@ -138,7 +179,12 @@ import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFiltering
 import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.addDefaultConstructor;
 import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.getBeanFiles;
 import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.getTypeFiles;
+import static org.onosproject.yangutils.translator.tojava.utils.VisitorMethodsGenerator.getAcceptMethods;
+import static org.onosproject.yangutils.translator.tojava.utils.VisitorMethodsGenerator.getVisitorInterface;
+import static org.onosproject.yangutils.translator.tojava.utils.XmlCodecGenerator.getXmlCodecClassBody;
+import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED_INFO_SINK;
 import static org.onosproject.yangutils.utils.UtilConstants.BIG_INTEGER;
+import static org.onosproject.yangutils.utils.UtilConstants.BINARY_CODEC;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER_CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER_INTERFACE;
@@ -155,16 +201,19 @@ import static org.onosproject.yangutils.utils.UtilConstants.EVENT_SUBJECT_NAME_S
 import static org.onosproject.yangutils.utils.UtilConstants.IMPL_CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.INT;
 import static org.onosproject.yangutils.utils.UtilConstants.INTERFACE;
+import static org.onosproject.yangutils.utils.UtilConstants.JSON_CODEC;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yangutils.utils.UtilConstants.OP_PARAM;
 import static org.onosproject.yangutils.utils.UtilConstants.PRIVATE;
 import static org.onosproject.yangutils.utils.UtilConstants.PROTECTED;
 import static org.onosproject.yangutils.utils.UtilConstants.PUBLIC;
 import static org.onosproject.yangutils.utils.UtilConstants.RPC_CLASS;
+import static org.onosproject.yangutils.utils.UtilConstants.RUNTIME_IMPORTS;
 import static org.onosproject.yangutils.utils.UtilConstants.SEMI_COLON;
 import static org.onosproject.yangutils.utils.UtilConstants.SERVICE_METHOD_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.TYPEDEF_CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.UNION_CLASS;
+import static org.onosproject.yangutils.utils.UtilConstants.XML_CODEC;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.GETTER_METHOD;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.getJavaDoc;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCamelCase;
@@ -221,12 +270,24 @@ public final class JavaFileGenerator {
             leavesPresent = false;
         }
 
+        boolean runtime = fileInfo.getPluginConfig().isRuntimeSupport();
+        if (runtime && curNode instanceof RpcNotificationContainer) {
+            // Interface of module without data nodes has no imports.
+            if (imports == null) {
+                imports = new ArrayList<>();
+            }
+            imports.add(getImportString(RUNTIME_IMPORTS, AUGMENTED_INFO_SINK));
+            sortImports(imports);
+        }
+
         initiateJavaFileGeneration(file, INTERFACE_MASK, imports, curNode,
                                    className);
 
         // Generate ENUM interface
         if (curNode instanceof RpcNotificationContainer) {
             insertDataIntoJavaFile(file, getOperationTypeEnum());
+            insertDataIntoJavaFile(file, getDiffSinkInterface(runtime));
+            insertDataIntoJavaFile(file, getVisitorInterface(curNode));
         }
         List<String> methods = new ArrayList<>();
 
@@ -273,6 +334,14 @@ public final class JavaFileGenerator {
         for (String method : methods) {
             insertDataIntoJavaFile(file, method);
         }
+        if (isAugmentedInfoFiltered(curNode)) {
+            insertDataIntoJavaFile(file, getAugmentedInfoInterface(className));
+        }
+        if (curNode instanceof YangList && isMapDataStructure(
+                ((YangList) curNode).getCompilerAnnotation())) {
+            insertDataIntoJavaFile(file, getListKeysClass((YangList) curNode,
+                                                          imports));
+        }
         return file;
     }
 
@@ -364,11 +433,13 @@ public final class JavaFileGenerator {
      * @param file        file
      * @param curNode     current YANG node
      * @param attrPresent if any attribute is present or not
+     * @param imports     list of imports of default class
      * @return builder class file
      * @throws IOException when fails to write in file
      */
     public static File generateBuilderClassFile(File file, YangNode curNode,
-                                                boolean attrPresent)
+                                                boolean attrPresent,
+                                                List<String> imports)
             throws IOException {
 
         JavaFileInfoTranslator fileInfo =
@@ -395,6 +466,12 @@ public final class JavaFileGenerator {
 
         initiateJavaFileGeneration(file, BUILDER_CLASS_MASK, null, curNode,
                                    className);
+        boolean checkConstraints = isConstraintCheckRequired(curNode);
+        if (checkConstraints) {
+            //Add constraint tables.
+            insertDataIntoJavaFile(file, getConstraintTables(curNode) +
+                    NEW_LINE);
+        }
         List<String> methods = new ArrayList<>();
         if (attrPresent) {
 
@@ -422,7 +499,8 @@ public final class JavaFileGenerator {
                 //Add operation attribute methods.
                 if (leavesPresent && curNode.isOpTypeReq()) {
                     insertDataIntoJavaFile(file, NEW_LINE);
-                    methods.add(getSetterForSelectLeaf(className));
+                    methods.add(getSetterForSelectLeaf(
+                            className, getLeafFlagWords(curNode)));
                 }
             } catch (IOException e) {
                 throw new IOException(getErrorMsg(className, BUILDER_CLASS));
@@ -439,7 +517,13 @@ public final class JavaFileGenerator {
         // Add default constructor and build method impl.
         methods.add(((TempJavaCodeFragmentFilesContainer) curNode)
                             .getTempJavaCodeFragmentFiles()
-                            .addBuildMethodImpl());
+                            .addBuildMethodImpl(checkConstraints));
+        if (checkConstraints) {
+            methods.add(getConstraintCheckMethods(curNode, imports));
+        }
+        if (isConstraintCheckEnabled(curNode)) {
+            methods.add(getUncheckedBuildMethod(curNode));
+        }
         if (curNode.isOpTypeReq()) {
             methods.add(generateBuildMethodForSubTree(curNode));
         }
@@ -522,7 +606,8 @@ public final class JavaFileGenerator {
                 String augmentableSubTreeFiltering = EMPTY_STRING;
                 if (curNode instanceof YangAugmentableNode) {
                     // add is filter content match.
-                    augmentableSubTreeFiltering = getAugmentableSubTreeFiltering();
+                    augmentableSubTreeFiltering =
+                            getAugmentableSubTreeFiltering(curNode);
                 }
                 methods.add(getProcessSubtreeFilteringStart(curNode) +
                                     getProcessSubtreeFunctionBody(curNode) +
@@ -546,6 +631,30 @@ public final class JavaFileGenerator {
                     methods.add(getProcessChildNodeSubtreeFiltering(curNode,
                                                                     path));
                 }
+
+                if (!getListKeyNames(curNode).isEmpty()) {
+                    methods.add(getListKeyMethods(curNode));
+                }
+
+                // Edit content methods.
+                int words = leavesPresent ? getLeafFlagWords(curNode) : 0;
+                methods.add(getEditContentMethods(
+                        curNode, name, words, getDataFromTempFileHandle(
+                                EDIT_CONTENT_MASK, getBeanFiles(curNode),
+                                path)));
+
+                // Diff method.
+                methods.add(getDiffMethod(curNode, name, getDataFromTempFileHandle(
+                        DIFF_MASK, getBeanFiles(curNode), path)));
+
+                // Accept methods.
+                methods.add(getAcceptMethods(curNode, words, getDataFromTempFileHandle(
+                        ACCEPT_MASK, getBeanFiles(curNode), path)));
+
+                if (curNode instanceof YangAugment && getAugmentedInfoName(
+                        (YangAugment) curNode, fileInfo.getPluginConfig()) != null) {
+                    methods.add(getFilterAugmentedInfoImpl(className));
+                }
             }
         } catch (IOException e) {
             throw new IOException(getErrorMsg(className, IMPL_CLASS));
@@ -555,9 +664,10 @@ public final class JavaFileGenerator {
 
         methods.add(builderMethod(className));
         if (leavesPresent) {
-            methods.add(getIsValueLeafSet());
+            int words = getLeafFlagWords(curNode);
+            methods.add(getIsValueLeafSet(words));
             if (curNode.isOpTypeReq()) {
-                methods.add(getIsSelectLeafSet());
+                methods.add(getIsSelectLeafSet(words));
             }
         }
         // Add methods in impl class.
@@ -590,7 +700,8 @@ public final class JavaFileGenerator {
         //Add attribute strings.
         try {
             insertDataIntoJavaFile(file, getDataFromTempFileHandle(
-                    ATTRIBUTES_MASK, getBeanFiles(curNode), path));
+                    ATTRIBUTES_MASK, getBeanFiles(curNode), path) +
+                    getCachedHashCodeAttributeDefinition());
         } catch (IOException e) {
             throw new IOException(getErrorMsg(className, IMPL_CLASS));
         }
@@ -600,25 +711,20 @@ public final class JavaFileGenerator {
             methods.add(getDataFromTempFileHandle(
                     GETTER_FOR_CLASS_MASK, getBeanFiles(curNode), path));
 
-            // Hash code method.
-            methods.add(getHashCodeMethodClose(
-                    getHashCodeMethodOpen() + getDataFromTempFileHandle(
-                            HASH_CODE_IMPL_MASK, getBeanFiles(curNode), path)
-                            .replace(NEW_LINE, EMPTY_STRING)));
+            // Hash code method, cached as default class is immutable.
+            methods.add(getHashCodeMethodImpl(getDataFromTempFileHandle(
+                    HASH_CODE_IMPL_MASK, getBeanFiles(curNode), path), true));
 
             //Equals method.
+            String equals = getEqualsMethodBody(getDataFromTempFileHandle(
+                    EQUALS_IMPL_MASK, getBeanFiles(curNode), path), true);
             if (rootNode) {
                 methods.add(getEqualsMethodClose(
-                        getEqualsMethodOpen(opParamClassName) +
-                                getDataFromTempFileHandle(
-                                        EQUALS_IMPL_MASK,
-                                        getBeanFiles(curNode), path)));
+                        getEqualsMethodOpen(opParamClassName) + equals));
             } else {
                 methods.add(getEqualsMethodClose(
                         getEqualsMethodOpen(DEFAULT_CAPS + className) +
-                                getDataFromTempFileHandle(EQUALS_IMPL_MASK,
-                                                          getBeanFiles(curNode),
-                                                          path)));
+                                equals));
             }
             // To string method.
             methods.add(getToStringMethodOpen() + getDataFromTempFileHandle(
@@ -684,16 +790,15 @@ public final class JavaFileGenerator {
                     GETTER_FOR_CLASS_MASK, getTypeFiles(curNode), path));
 
             // Hash code method.
-            methods.add(getHashCodeMethodClose(
-                    getHashCodeMethodOpen() + getDataFromTempFileHandle(
-                            HASH_CODE_IMPL_MASK, getTypeFiles(curNode), path)
-                            .replace(NEW_LINE, EMPTY_STRING)));
+            methods.add(getHashCodeMethodImpl(getDataFromTempFileHandle(
+                    HASH_CODE_IMPL_MASK, getTypeFiles(curNode), path), false));
 
             //Equals method.
             methods.add(getEqualsMethodClose(
                     getEqualsMethodOpen(className + EMPTY_STRING) +
-                            getDataFromTempFileHandle(EQUALS_IMPL_MASK,
-                                                      getTypeFiles(curNode), path)));
+                            getEqualsMethodBody(getDataFromTempFileHandle(
+                                    EQUALS_IMPL_MASK, getTypeFiles(curNode),
+                                    path), false)));
 
             // To string method.
             addTypedefToString(curNode, methods);
@@ -713,12 +818,13 @@ public final class JavaFileGenerator {
             }
 
             if (yangDataTypes != IDENTITYREF) {
+                String fromString = getDataFromTempFileHandle(
+                        FROM_STRING_IMPL_MASK,
+                        javaGenInfo.getTempJavaCodeFragmentFiles()
+                                .getTypeTempFiles(), path);
                 methods.add(getFromStringMethodSignature(className) +
-                                    getDataFromTempFileHandle(
-                                            FROM_STRING_IMPL_MASK,
-                                            javaGenInfo.getTempJavaCodeFragmentFiles()
-                                                    .getTypeTempFiles(), path) +
-                                    getFromStringMethodClose());
+                                    fromString + getFromStringMethodClose());
+                methods.add(getFromStringPreCheckMethods(fromString));
             }
         } catch (IOException e) {
             throw new IOException(getErrorMsg(className, TYPEDEF_CLASS));
@@ -840,29 +946,26 @@ public final class JavaFileGenerator {
                     GETTER_FOR_CLASS_MASK, getTypeFiles(curNode), path));
 
             //Hash code method.
-            methods.add(getHashCodeMethodClose(
-                    getHashCodeMethodOpen() +
-                            getDataFromTempFileHandle(
-                                    HASH_CODE_IMPL_MASK, getTypeFiles(curNode),
-                                    path).replace(NEW_LINE, EMPTY_STRING)));
+            methods.add(getHashCodeMethodImpl(getDataFromTempFileHandle(
+                    HASH_CODE_IMPL_MASK, getTypeFiles(curNode), path), false));
 
             //Equals method.
             methods.add(getEqualsMethodClose(
                     getEqualsMethodOpen(className) +
-                            getDataFromTempFileHandle(
+                            getEqualsMethodBody(getDataFromTempFileHandle(
                                     EQUALS_IMPL_MASK, getTypeFiles(curNode),
-                                    path)));
+                                    path), false)));
 
             //To string method.
             methods.add(getUnionToStringMethod(
                     ((YangUnion) curNode).getTypeList()));
 
             //From string method.
-            methods.add(getFromStringMethodSignature(className) +
-                                getDataFromTempFileHandle(
-                                        FROM_STRING_IMPL_MASK,
-                                        getTypeFiles(curNode), path) +
+            String fromString = getDataFromTempFileHandle(
+                    FROM_STRING_IMPL_MASK, getTypeFiles(curNode), path);
+            methods.add(getFromStringMethodSignature(className) + fromString +
                                 getFromStringMethodClose());
+            methods.add(getFromStringPreCheckMethods(fromString));
 
             if (intConflict) {
                 methods.add(getRangeValidatorMethodForUnion(INT));
@@ -1010,6 +1113,108 @@ public final class JavaFileGenerator {
         return validateLineLength(file);
     }
 
+    /**
+     * Generates RFC 7951 JSON codec class file for current node.
+     *
+     * @param file    generated file
+     * @param curNode current YANG node
+     * @return JSON codec class file
+     * @throws IOException when fails to generate class file
+     */
+    public static File generateJsonCodecClassFile(File file, YangNode curNode)
+            throws IOException {
+
+        JavaFileInfoTranslator fileInfo =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo();
+
+        String path;
+        if (curNode instanceof RpcNotificationContainer) {
+            path = fileInfo.getPluginConfig().getCodeGenDir() +
+                    fileInfo.getPackageFilePath();
+        } else {
+            path = fileInfo.getBaseCodeGenPath() +
+                    fileInfo.getPackageFilePath();
+        }
+
+        String className = getCapitalCase(fileInfo.getJavaName()) + JSON_CODEC;
+        List<String> imports = new ArrayList<>();
+        String body = getJsonCodecClassBody(curNode, imports);
+        initiateJavaFileGeneration(file, className, GENERATE_JSON_CODEC_CLASS,
+                                   sortImports(imports), path);
+        insertDataIntoJavaFile(file, body + CLOSE_CURLY_BRACKET + NEW_LINE);
+
+        return validateLineLength(file);
+    }
+
+    /**
+     * Generates NETCONF XML codec class file for current node.
+     *
+     * @param file    generated file
+     * @param curNode current YANG node
+     * @return XML codec class file
+     * @throws IOException when fails to generate class file
+     */
+    public static File generateXmlCodecClassFile(File file, YangNode curNode)
+            throws IOException {
+
+        JavaFileInfoTranslator fileInfo =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo();
+
+        String path;
+        if (curNode instanceof RpcNotificationContainer) {
+            path = fileInfo.getPluginConfig().getCodeGenDir() +
+                    fileInfo.getPackageFilePath();
+        } else {
+            path = fileInfo.getBaseCodeGenPath() +
+                    fileInfo.getPackageFilePath();
+        }
+
+        String className = getCapitalCase(fileInfo.getJavaName()) + XML_CODEC;
+        List<String> imports = new ArrayList<>();
+        String body = getXmlCodecClassBody(curNode, imports);
+        initiateJavaFileGeneration(file, className, GENERATE_XML_CODEC_CLASS,
+                                   sortImports(imports), path);
+        insertDataIntoJavaFile(file, body + CLOSE_CURLY_BRACKET + NEW_LINE);
+
+        return validateLineLength(file);
+    }
+
+    /**
+     * Generates compact binary codec class file for current node.
+     *
+     * @param file    generated file
+     * @param curNode current YANG node
+     * @return binary codec class file
+     * @throws IOException when fails to generate class file
+     */
+    public static File generateBinaryCodecClassFile(File file,
+                                                    YangNode curNode)
+            throws IOException {
+
+        JavaFileInfoTranslator fileInfo =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo();
+
+        String path;
+        if (curNode instanceof RpcNotificationContainer) {
+            path = fileInfo.getPluginConfig().getCodeGenDir() +
+                    fileInfo.getPackageFilePath();
+        } else {
+            path = fileInfo.getBaseCodeGenPath() +
+                    fileInfo.getPackageFilePath();
+        }
+
+        String className = getCapitalCase(fileInfo.getJavaName()) +
+                BINARY_CODEC;
+        List<String> imports = new ArrayList<>();
+        String body = getBinaryCodecClassBody(curNode, imports);
+        initiateJavaFileGeneration(file, className,
+                                   GENERATE_BINARY_CODEC_CLASS,
+                                   sortImports(imports), path);
+        insertDataIntoJavaFile(file, body + CLOSE_CURLY_BRACKET + NEW_LINE);
+
+        return validateLineLength(file);
+    }
+
     /**
      * Generates interface file for rpc.
      *
@@ -1066,6 +1271,17 @@ public final class JavaFileGenerator {
                         RPC_INTERFACE_MASK,
                         javaGenInfo.getTempJavaCodeFragmentFiles()
                                 .getServiceTempFiles(), path));
+
+                // Asynchronous rpc methods and adapter.
+                if (fileInfo.getPluginConfig().isAsyncRpc()) {
+                    methods.add(getDataFromTempFileHandle(
+                            RPC_ASYNC_INTERFACE_MASK, tempFiles, path));
+                    String adapter = getDataFromTempFileHandle(
+                            RPC_ASYNC_ADAPTER_MASK, tempFiles, path);
+                    if (!adapter.isEmpty()) {
+                        methods.add(getAsyncAdapterClass(className, adapter));
+                    }
+                }
             }
         } catch (IOException e) {
             throw new IOException(getErrorMsg(className, RPC_CLASS));
@@ -1140,6 +1356,56 @@ public final class JavaFileGenerator {
 
         initiateJavaFileGeneration(file, GENERATE_EVENT_LISTENER_INTERFACE,
                                    imports, curNode, className);
+        JavaFileInfoTranslator fileInfo =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo();
+        if (fileInfo.getPluginConfig().isBatchedEvents()) {
+            insertDataIntoJavaFile(file, getEventBatchListenerMethod(
+                    getCapitalCase(fileInfo.getJavaName())));
+        }
+        insertDataIntoJavaFile(file, CLOSE_CURLY_BRACKET + NEW_LINE);
+        validateLineLength(file);
+    }
+
+    /**
+     * Generates batched event file.
+     *
+     * @param file    generated file
+     * @param curNode current YANG node
+     * @param imports imports for file
+     * @throws IOException when fails to generate class file
+     */
+    public static void generateEventBatchFile(File file, YangNode curNode,
+                                              List<String> imports)
+            throws IOException {
+
+        String name = getCapitalCase(((JavaFileInfoContainer) curNode)
+                                             .getJavaFileInfo().getJavaName());
+
+        initiateJavaFileGeneration(file, GENERATE_EVENT_BATCH_CLASS, imports,
+                                   curNode, name + EVENT_BATCH);
+        insertDataIntoJavaFile(file, getEventBatchContents(name));
+        insertDataIntoJavaFile(file, CLOSE_CURLY_BRACKET + NEW_LINE);
+        validateLineLength(file);
+    }
+
+    /**
+     * Generates event coalescer file.
+     *
+     * @param file    generated file
+     * @param curNode current YANG node
+     * @param imports imports for file
+     * @throws IOException when fails to generate class file
+     */
+    public static void generateEventCoalescerFile(File file, YangNode curNode,
+                                                  List<String> imports)
+            throws IOException {
+
+        String name = getCapitalCase(((JavaFileInfoContainer) curNode)
+                                             .getJavaFileInfo().getJavaName());
+
+        initiateJavaFileGeneration(file, GENERATE_EVENT_COALESCER_CLASS,
+                                   imports, curNode, name + EVENT_COALESCER);
+        insertDataIntoJavaFile(file, getEventCoalescerContents(name));
         insertDataIntoJavaFile(file, CLOSE_CURLY_BRACKET + NEW_LINE);
         validateLineLength(file);
     }
@@ -49,20 +49,27 @@ import java.util.List;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.BUILDER_CLASS_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.BUILDER_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.DEFAULT_CLASS_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_BINARY_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_BATCH_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_COALESCER_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_LISTENER_INTERFACE;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_SUBJECT_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_IDENTITY_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_JSON_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_SERVICE_AND_MANAGER;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_TYPEDEF_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_UNION_CLASS;
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_XML_CODEC_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.INTERFACE_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ACCEPT_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ADD_TO_LIST_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ADD_TO_LIST_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ATTRIBUTES_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.CONSTRUCTOR_FOR_TYPE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.CONSTRUCTOR_IMPL_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.DIFF_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.EDIT_CONTENT_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.ENUM_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.EQUALS_IMPL_MASK;
@@ -80,6 +87,8 @@ import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.HASH_CODE_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.LEAF_IDENTIFIER_ENUM_ATTRIBUTES_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.OF_STRING_IMPL_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.RPC_ASYNC_ADAPTER_MASK;
+import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.RPC_ASYNC_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.RPC_INTERFACE_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.SETTER_FOR_CLASS_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.SETTER_FOR_INTERFACE_MASK;
@@ -99,15 +108,20 @@ import static org.onosproject.yangutils.utils.UtilConstants.SEMI_COLON;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_METHOD_PREFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.SLASH;
 import static org.onosproject.yangutils.utils.UtilConstants.SPACE;
+import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.BINARY_CODEC_CLASS;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.BUILDER_CLASS;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.BUILDER_INTERFACE;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.DEFAULT_CLASS;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.ENUM_CLASS;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.EVENT;
+import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.EVENT_BATCH_CLASS;
+import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.EVENT_COALESCER_CLASS;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.EVENT_LISTENER;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.EVENT_SUBJECT_CLASS;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.INTERFACE;
+import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.JSON_CODEC_CLASS;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.RPC_INTERFACE;
+import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.XML_CODEC_CLASS;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.getJavaDoc;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCamelCase;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
@@ -230,6 +244,14 @@ public final class JavaFileGeneratorUtils {
                     tempHandle.getEditContentTempFileHandle(),
                     path);
         }
+        if ((tempFiles & DIFF_MASK) != 0) {
+            return tempHandle.getTemporaryDataFromFileHandle(
+                    tempHandle.getDiffTempFileHandle(), path);
+        }
+        if ((tempFiles & ACCEPT_MASK) != 0) {
+            return tempHandle.getTemporaryDataFromFileHandle(
+                    tempHandle.getAcceptTempFileHandle(), path);
+        }
         if ((tempFiles & LEAF_IDENTIFIER_ENUM_ATTRIBUTES_MASK) != 0) {
             return tempHandle.getTemporaryDataFromFileHandle(
                     tempHandle.getLeafIdAttributeTempFileHandle(),
@@ -299,6 +321,24 @@ public final class JavaFileGeneratorUtils {
                     serviceHandle.getRpcInterfaceTempFileHandle(),
                     path);
         }
+        if ((tempFiles & RPC_ASYNC_INTERFACE_MASK) != 0) {
+            if (serviceHandle == null) {
+                throw new TranslatorException("Required asynchronous rpc " +
+                                                      "interface info is missing.");
+            }
+            return serviceHandle.getTemporaryDataFromFileHandle(
+                    serviceHandle.getRpcAsyncInterfaceTempFileHandle(),
+                    path);
+        }
+        if ((tempFiles & RPC_ASYNC_ADAPTER_MASK) != 0) {
+            if (serviceHandle == null) {
+                throw new TranslatorException("Required asynchronous rpc " +
+                                                      "adapter info is missing.");
+            }
+            return serviceHandle.getTemporaryDataFromFileHandle(
+                    serviceHandle.getRpcAsyncAdapterTempFileHandle(),
+                    path);
+        }
         if ((tempFiles & EVENT_ENUM_MASK) != 0) {
             if (eventHandle == null) {
                 throw new TranslatorException(
@@ -442,7 +482,9 @@ public final class JavaFileGeneratorUtils {
         String pkgString;
         if (genType == GENERATE_EVENT_CLASS ||
                 genType == GENERATE_EVENT_LISTENER_INTERFACE ||
-                genType == GENERATE_EVENT_SUBJECT_CLASS) {
+                genType == GENERATE_EVENT_SUBJECT_CLASS ||
+                genType == GENERATE_EVENT_BATCH_CLASS ||
+                genType == GENERATE_EVENT_COALESCER_CLASS) {
             pkgString = parsePackageString((path + PERIOD + name)
                                                    .toLowerCase(), importsList);
         } else {
@@ -479,6 +521,14 @@ public final class JavaFileGeneratorUtils {
                 appendHeaderContents(file, pkgString, importsList);
                 write(file, genType, EVENT_SUBJECT_CLASS, curNode, className);
                 break;
+            case GENERATE_EVENT_BATCH_CLASS:
+                appendHeaderContents(file, pkgString, importsList);
+                write(file, genType, EVENT_BATCH_CLASS, curNode, className);
+                break;
+            case GENERATE_EVENT_COALESCER_CLASS:
+                appendHeaderContents(file, pkgString, importsList);
+                write(file, genType, EVENT_COALESCER_CLASS, curNode, className);
+                break;
             case GENERATE_IDENTITY_CLASS:
                 appendHeaderContents(file, pkgString, importsList);
                 write(file, genType, EVENT_SUBJECT_CLASS, curNode, className);
@@ -518,6 +568,18 @@ public final class JavaFileGeneratorUtils {
                 appendHeaderContents(file, pkgString, importsList);
                 write(file, fileName, genType, ENUM_CLASS);
                 break;
+            case GENERATE_JSON_CODEC_CLASS:
+                appendHeaderContents(file, pkgString, importsList);
+                write(file, fileName, genType, JSON_CODEC_CLASS);
+                break;
+            case GENERATE_XML_CODEC_CLASS:
+                appendHeaderContents(file, pkgString, importsList);
+                write(file, fileName, genType, XML_CODEC_CLASS);
+                break;
+            case GENERATE_BINARY_CODEC_CLASS:
+                appendHeaderContents(file, pkgString, importsList);
+                write(file, fileName, genType, BINARY_CODEC_CLASS);
+                break;
             default:
                 break;
         }
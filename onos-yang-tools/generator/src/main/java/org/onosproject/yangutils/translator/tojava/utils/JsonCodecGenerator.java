@@ -0,0 +1,527 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.javadatamodel.JavaQualifiedTypeInfo;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
+import org.onosproject.yangutils.translator.tojava.javamodel.JavaLeafInfoContainer;
+import org.onosproject.yangutils.utils.io.YangToJavaNamingConflictUtil;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isRootNodesCodeGenRequired;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.addCodecImports;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getClassNode;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getModuleName;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getModuleNode;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getTypeName;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getValueParser;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.isPrimitive;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.getInternalBuild;
+import static org.onosproject.yangutils.utils.UtilConstants.BASE64;
+import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
+import static org.onosproject.yangutils.utils.UtilConstants.COLON;
+import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.IO_EXCEPTION;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_IO;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_PKG;
+import static org.onosproject.yangutils.utils.UtilConstants.JSON_CODEC;
+import static org.onosproject.yangutils.utils.UtilConstants.JSON_READER;
+import static org.onosproject.yangutils.utils.UtilConstants.JSON_WRITER;
+import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
+import static org.onosproject.yangutils.utils.UtilConstants.OP_PARAM;
+import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
+import static org.onosproject.yangutils.utils.UtilConstants.RUNTIME_IMPORTS;
+import static org.onosproject.yangutils.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_FOUR_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator for RFC 7951 JSON codec of generated files.
+ * <p>
+ * A codec class is generated for every container, list and module. It
+ * appends the JSON text of an object straight into an appendable and reads
+ * it back through the builder, without reflection or intermediate tree. The
+ * streaming reader and the string escaping come from the runtime library, so
+ * that codecs of groupings used across modules read and write the same way.
+ * <p>
+ * Leaves of bits and identityref type, leaves referring to a leafref in
+ * grouping, choice and augmented nodes are not encoded yet, and are skipped
+ * when they are read.
+ */
+public final class JsonCodecGenerator {
+
+    private static final String OBJ = "obj";
+    private static final String OUT = "out";
+    private static final String IN = "in";
+    private static final String VALUE = "v";
+    private static final String FIRST = "first";
+    private static final String CODEC_BUILDER = "builder";
+
+    // No instantiation.
+    private JsonCodecGenerator() {
+    }
+
+    /**
+     * Returns the body of the JSON codec class of current node, and adds the
+     * imports needed by it to the import list.
+     *
+     * @param curNode current YANG node
+     * @param imports import list
+     * @return JSON codec class body
+     */
+    public static String getJsonCodecClassBody(YangNode curNode,
+                                               List<String> imports) {
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo();
+        String pkg = info.getPackage();
+        String name = getCapitalCase(info.getJavaName());
+        String codecName = name + JSON_CODEC;
+        YangNode module = getModuleNode(curNode);
+        boolean root = curNode instanceof RpcNotificationContainer;
+
+        Map<String, String> types = new LinkedHashMap<>();
+        types.put(codecName, pkg + PERIOD + codecName);
+        String defaultName = root ? name + OP_PARAM : DEFAULT_CAPS + name;
+        types.put(name, pkg + PERIOD + name);
+        types.put(defaultName, pkg + PERIOD + defaultName);
+
+        StringBuilder builder = new StringBuilder(NEW_LINE)
+                .append("    // No instantiation.\n    private ")
+                .append(codecName).append("() {\n    }\n");
+        if (!root || isRootNodesCodeGenRequired(curNode)) {
+            String prefix = root ? getModuleName(module) + COLON : EMPTY_STRING;
+            String writer = getTypeName(RUNTIME_IMPORTS, JSON_WRITER, types);
+            builder.append(getWriteMethod(curNode, name, writer, prefix, types))
+                    .append(getReadMethods(curNode, name, defaultName, writer,
+                                           types));
+            getTypeName(JAVA_IO, IO_EXCEPTION, types);
+        }
+        addCodecImports(types, pkg, imports);
+        return builder.toString();
+    }
+
+    // Returns the method writing the node as JSON object.
+    private static String getWriteMethod(YangNode curNode, String name,
+                                         String writer, String prefix,
+                                         Map<String, String> types) {
+        StringBuilder members = new StringBuilder();
+        YangToJavaNamingConflictUtil resolver =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo()
+                        .getPluginConfig().getConflictResolver();
+        if (curNode instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) curNode;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    members.append(getLeafWriter(
+                            (JavaLeafInfoContainer) leaf, name, writer, prefix,
+                            resolver, types));
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    members.append(getLeafListWriter(
+                            (JavaLeafInfoContainer) leafList, writer, prefix,
+                            resolver, types));
+                }
+            }
+        }
+        YangNode child = curNode.getChild();
+        while (child != null) {
+            if (child instanceof YangContainer || child instanceof YangList) {
+                members.append(getChildWriter(child, writer, prefix, types));
+            }
+            child = child.getNextSibling();
+        }
+        String first = EMPTY_STRING;
+        if (members.length() != 0) {
+            first = EIGHT_SPACE_INDENTATION + "boolean " + FIRST + " = true;\n";
+        }
+        return "\n    /**\n" +
+                "     * Writes " + curNode.getName() + " as JSON object.\n" +
+                "     *\n" +
+                "     * @param " + OBJ + " object to be written\n" +
+                "     * @param " + OUT + " output the JSON text is appended " +
+                "to\n" +
+                "     * @throws IOException when fails to append to the " +
+                "output\n" +
+                "     */\n" +
+                "    public static void write(" + name + " " + OBJ +
+                ", Appendable " + OUT + ")\n" +
+                "            throws IOException {\n" + first +
+                "        out.append('{');\n" + members +
+                "        out.append('}');\n" +
+                "    }\n";
+    }
+
+    // Returns the statements writing a leaf when its value is set.
+    private static String getLeafWriter(JavaLeafInfoContainer leaf,
+                                        String name, String writer,
+                                        String prefix,
+                                        YangToJavaNamingConflictUtil resolver,
+                                        Map<String, String> types) {
+        String attr = leaf.getJavaName(resolver);
+        String getter = OBJ + PERIOD + attr + "()";
+        String value = getValueWriter(leaf.getDataType(), getter, writer,
+                                      types);
+        if (value == null) {
+            return EMPTY_STRING;
+        }
+        String condition = OBJ + ".isLeafValueSet(" + name +
+                ".LeafIdentifier." + attr.toUpperCase() + ")";
+        if (leaf.getDataType().getDataType() == YangDataTypes.EMPTY) {
+            condition = condition + " && " + getter;
+        } else if (!isPrimitive(leaf.getJavaQualifiedInfo())) {
+            condition = condition + " && " + getter + " != null";
+        }
+        return EIGHT_SPACE_INDENTATION + "if (" + condition + ") {\n" +
+                getMemberName(writer, prefix + leaf.getName()) +
+                TWELVE_SPACE_INDENTATION + value + "\n" +
+                EIGHT_SPACE_INDENTATION + "}\n";
+    }
+
+    // Returns the statements writing a leaf-list as JSON array.
+    private static String getLeafListWriter(JavaLeafInfoContainer leafList,
+                                            String writer, String prefix,
+                                            YangToJavaNamingConflictUtil resolver,
+                                            Map<String, String> types) {
+        String value = getValueWriter(leafList.getDataType(), VALUE, writer,
+                                      types);
+        if (value == null) {
+            return EMPTY_STRING;
+        }
+        JavaQualifiedTypeInfo info = leafList.getJavaQualifiedInfo();
+        String type = getTypeName(info.getPkgInfo(), info.getClassInfo(),
+                                  types);
+        String getter = OBJ + PERIOD + leafList.getJavaName(resolver) + "()";
+        return getArrayWriter(getter, getter, type,
+                              prefix + leafList.getName(), writer, value);
+    }
+
+    // Returns the statements writing a child container or list.
+    private static String getChildWriter(YangNode child, String writer,
+                                         String prefix,
+                                         Map<String, String> types) {
+        YangNode classNode = getClassNode(child);
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) classNode).getJavaFileInfo();
+        String className = getCapitalCase(info.getJavaName());
+        String childCodec = getTypeName(info.getPackage(),
+                                        className + JSON_CODEC, types);
+        String getter = OBJ + PERIOD + info.getJavaName() + "()";
+        if (child instanceof YangList) {
+            String values = getter;
+            if (isMapDataStructure(((YangList) classNode)
+                                           .getCompilerAnnotation())) {
+                values = getter + ".values()";
+            }
+            String type = getTypeName(info.getPackage(), className, types);
+            return getArrayWriter(getter, values, type,
+                                  prefix + child.getName(), writer,
+                                  childCodec + ".write(" + VALUE + ", " + OUT +
+                                          ");");
+        }
+        return EIGHT_SPACE_INDENTATION + "if (" + getter + " != null) {\n" +
+                getMemberName(writer, prefix + child.getName()) +
+                TWELVE_SPACE_INDENTATION + childCodec + ".write(" + getter +
+                ", " + OUT + ");\n" +
+                EIGHT_SPACE_INDENTATION + "}\n";
+    }
+
+    // Returns the statements writing the collection as JSON array.
+    private static String getArrayWriter(String getter, String values,
+                                         String type, String member,
+                                         String writer, String value) {
+        return EIGHT_SPACE_INDENTATION + "if (" + getter + " != null) {\n" +
+                getMemberName(writer, member) +
+                TWELVE_SPACE_INDENTATION + "boolean next = false;\n" +
+                TWELVE_SPACE_INDENTATION + "out.append('[');\n" +
+                TWELVE_SPACE_INDENTATION + "for (" + type + " " + VALUE +
+                " : " + values + ") {\n" +
+                SIXTEEN_SPACE_INDENTATION + "if (next) {\n" +
+                TWENTY_SPACE_INDENTATION + "out.append(',');\n" +
+                SIXTEEN_SPACE_INDENTATION + "}\n" +
+                SIXTEEN_SPACE_INDENTATION + "next = true;\n" +
+                SIXTEEN_SPACE_INDENTATION + value + "\n" +
+                TWELVE_SPACE_INDENTATION + "}\n" +
+                TWELVE_SPACE_INDENTATION + "out.append(']');\n" +
+                EIGHT_SPACE_INDENTATION + "}\n";
+    }
+
+    // Returns the statement writing the member name.
+    private static String getMemberName(String writer, String member) {
+        return TWELVE_SPACE_INDENTATION + FIRST + " = " + writer +
+                ".writeName(" + OUT + ", \"" + member + "\", " + FIRST +
+                ");\n";
+    }
+
+    /*
+     * Returns the statement writing the value in its RFC 7951 encoding, or
+     * null when the type is not supported by the codec.
+     */
+    private static String getValueWriter(YangType<?> type, String value,
+                                         String writer,
+                                         Map<String, String> types) {
+        switch (type.getDataType()) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+            case BOOLEAN:
+                return "out.append(String.valueOf(" + value + "));";
+
+            case INT64:
+            case UINT64:
+                return writer + ".writeString(out, String.valueOf(" + value +
+                        "));";
+
+            case DECIMAL64:
+                return writer + ".writeString(out, " + value +
+                        ".toPlainString());";
+
+            case STRING:
+            case INSTANCE_IDENTIFIER:
+                return writer + ".writeString(out, " + value + ");";
+
+            case ENUMERATION:
+            case UNION:
+                return writer + ".writeString(out, " + value + ".toString());";
+
+            case EMPTY:
+                return "out.append(\"[null]\");";
+
+            case BINARY:
+                return writer + ".writeString(out, " +
+                        getTypeName(JAVA_UTIL_PKG, BASE64, types) +
+                        ".getEncoder().encodeToString(" + value + "));";
+
+            case DERIVED:
+                YangDataTypes builtIn = ((YangDerivedInfo<?>) type
+                        .getDataTypeExtendedInfo()).getEffectiveBuiltInType();
+                if (builtIn == null) {
+                    return writer + ".writeString(out, " + value +
+                            ".toString());";
+                }
+                switch (builtIn) {
+                    case IDENTITYREF:
+                    case EMPTY:
+                        return null;
+                    case INT8:
+                    case INT16:
+                    case INT32:
+                    case UINT8:
+                    case UINT16:
+                    case UINT32:
+                    case BOOLEAN:
+                        return "out.append(" + value + ".toString());";
+                    default:
+                        return writer + ".writeString(out, " + value +
+                                ".toString());";
+                }
+
+            case LEAFREF:
+                YangLeafRef<?> leafRef = (YangLeafRef<?>) type
+                        .getDataTypeExtendedInfo();
+                if (leafRef.isInGrouping() ||
+                        leafRef.getEffectiveDataType() == null) {
+                    return null;
+                }
+                return getValueWriter(leafRef.getEffectiveDataType(), value,
+                                      writer, types);
+
+            default:
+                return null;
+        }
+    }
+
+    // Returns the methods reading the node from JSON text.
+    private static String getReadMethods(YangNode curNode, String name,
+                                         String defaultName, String writer,
+                                         Map<String, String> types) {
+        StringBuilder cases = new StringBuilder();
+        YangToJavaNamingConflictUtil resolver =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo()
+                        .getPluginConfig().getConflictResolver();
+        if (curNode instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) curNode;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    cases.append(getLeafReader(
+                            (JavaLeafInfoContainer) leaf, resolver, writer,
+                            types));
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    cases.append(getLeafReader(
+                            (JavaLeafInfoContainer) leafList, resolver, writer,
+                            types));
+                }
+            }
+        }
+        YangNode child = curNode.getChild();
+        while (child != null) {
+            if (child instanceof YangContainer || child instanceof YangList) {
+                cases.append(getChildReader(child, types));
+            }
+            child = child.getNextSibling();
+        }
+        String reader = getTypeName(RUNTIME_IMPORTS, JSON_READER, types);
+        String builderType = defaultName + PERIOD + name + BUILDER;
+        String yangName = curNode.getName();
+        String members;
+        if (cases.length() == 0) {
+            members = TWELVE_SPACE_INDENTATION + IN + ".nextName();\n" +
+                    TWELVE_SPACE_INDENTATION + IN + ".skipValue();\n";
+        } else {
+            members = TWELVE_SPACE_INDENTATION + "switch (" + IN +
+                    ".nextName()) {\n" + cases +
+                    SIXTEEN_SPACE_INDENTATION + "default:\n" +
+                    TWENTY_SPACE_INDENTATION + IN + ".skipValue();\n" +
+                    TWENTY_SPACE_INDENTATION + "break;\n" +
+                    TWELVE_SPACE_INDENTATION + "}\n";
+        }
+        return "\n    /**\n" +
+                "     * Reads " + yangName + " from JSON text.\n" +
+                "     *\n" +
+                "     * @param json JSON text of " + yangName + "\n" +
+                "     * @return " + yangName + " read from the JSON text\n" +
+                "     * @throws IllegalArgumentException when JSON text is " +
+                "malformed\n" +
+                "     */\n" +
+                "    public static " + name + " read(CharSequence json) {\n" +
+                EIGHT_SPACE_INDENTATION + reader + " " + IN + " = new " +
+                reader + "(json);\n" +
+                EIGHT_SPACE_INDENTATION + name + " " + OBJ + " = read(" + IN +
+                ");\n" +
+                EIGHT_SPACE_INDENTATION + IN + ".end();\n" +
+                EIGHT_SPACE_INDENTATION + "return " + OBJ + ";\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Reads " + yangName + " from the JSON object at the " +
+                "reader position.\n" +
+                "     *\n" +
+                "     * @param " + IN + " JSON reader\n" +
+                "     * @return " + yangName + " read from the JSON object\n" +
+                "     * @throws IllegalArgumentException when JSON text is " +
+                "malformed\n" +
+                "     */\n" +
+                "    public static " + name + " read(" + reader + " " + IN +
+                ") {\n" +
+                EIGHT_SPACE_INDENTATION + builderType + " " + CODEC_BUILDER +
+                " = " + defaultName + ".builder();\n" +
+                EIGHT_SPACE_INDENTATION + IN + ".beginObject();\n" +
+                EIGHT_SPACE_INDENTATION + "while (" + IN + ".hasNext()) {\n" +
+                members +
+                EIGHT_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION + "return " + CODEC_BUILDER + "." +
+                getInternalBuild(curNode) + "();\n" +
+                "    }\n";
+    }
+
+    // Returns the switch case reading a leaf or leaf-list.
+    private static String getLeafReader(JavaLeafInfoContainer leaf,
+                                        YangToJavaNamingConflictUtil resolver,
+                                        String writer,
+                                        Map<String, String> types) {
+        YangType<?> type = leaf.getDataType();
+        if (getValueWriter(type, VALUE, writer, types) == null) {
+            return EMPTY_STRING;
+        }
+        String attr = leaf.getJavaName(resolver);
+        StringBuilder builder = new StringBuilder(SIXTEEN_SPACE_INDENTATION)
+                .append("case \"").append(leaf.getName()).append("\":\n");
+        if (type.getDataType() == YangDataTypes.EMPTY) {
+            builder.append(TWENTY_SPACE_INDENTATION).append(IN)
+                    .append(".skipValue();\n")
+                    .append(TWENTY_SPACE_INDENTATION).append(CODEC_BUILDER)
+                    .append(PERIOD).append(attr).append("(true);\n");
+        } else {
+            JavaQualifiedTypeInfo info = leaf.getJavaQualifiedInfo();
+            String value = getValueParser(type, getTypeName(
+                    info.getPkgInfo(), info.getClassInfo(), types),
+                                          IN + ".nextValue()", types);
+            if (leaf.isLeafList()) {
+                builder.append(TWENTY_SPACE_INDENTATION).append(IN)
+                        .append(".beginArray();\n")
+                        .append(TWENTY_SPACE_INDENTATION).append("while (")
+                        .append(IN).append(".hasNext()) {\n")
+                        .append(TWENTY_FOUR_SPACE_INDENTATION)
+                        .append(CODEC_BUILDER).append(".addTo")
+                        .append(getCapitalCase(attr)).append("(")
+                        .append(value).append(");\n")
+                        .append(TWENTY_SPACE_INDENTATION).append("}\n");
+            } else {
+                builder.append(TWENTY_SPACE_INDENTATION).append(CODEC_BUILDER)
+                        .append(PERIOD).append(attr).append("(")
+                        .append(value).append(");\n");
+            }
+        }
+        return builder.append(TWENTY_SPACE_INDENTATION).append("break;\n")
+                .toString();
+    }
+
+    // Returns the switch case reading a child container or list.
+    private static String getChildReader(YangNode child,
+                                         Map<String, String> types) {
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) getClassNode(child)).getJavaFileInfo();
+        String childCodec = getTypeName(info.getPackage(), getCapitalCase(
+                info.getJavaName()) + JSON_CODEC, types);
+        String read = childCodec + ".read(" + IN + ")";
+        StringBuilder builder = new StringBuilder(SIXTEEN_SPACE_INDENTATION)
+                .append("case \"").append(child.getName()).append("\":\n");
+        if (child instanceof YangList) {
+            builder.append(TWENTY_SPACE_INDENTATION).append(IN)
+                    .append(".beginArray();\n")
+                    .append(TWENTY_SPACE_INDENTATION).append("while (")
+                    .append(IN).append(".hasNext()) {\n")
+                    .append(TWENTY_FOUR_SPACE_INDENTATION)
+                    .append(CODEC_BUILDER).append(".addTo")
+                    .append(getCapitalCase(info.getJavaName())).append("(")
+                    .append(read).append(");\n")
+                    .append(TWENTY_SPACE_INDENTATION).append("}\n");
+        } else {
+            builder.append(TWENTY_SPACE_INDENTATION).append(CODEC_BUILDER)
+                    .append(PERIOD).append(info.getJavaName()).append("(")
+                    .append(read).append(");\n");
+        }
+        return builder.append(TWENTY_SPACE_INDENTATION).append("break;\n")
+                .toString();
+    }
+}
@@ -16,30 +16,50 @@
 
 package org.onosproject.yangutils.translator.tojava.utils;
 
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import org.onosproject.yangutils.datamodel.InvalidOpTypeHolder;
 import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
 import org.onosproject.yangutils.datamodel.YangAtomicPath;
 import org.onosproject.yangutils.datamodel.YangCompilerAnnotation;
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
 import org.onosproject.yangutils.datamodel.YangEnum;
 import org.onosproject.yangutils.datamodel.YangEnumeration;
+import org.onosproject.yangutils.datamodel.YangLeaf;
 import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangList;
 import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangPatternRestriction;
+import org.onosproject.yangutils.datamodel.YangStringRestriction;
 import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.javadatamodel.JavaQualifiedTypeInfo;
 import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yangutils.translator.tojava.JavaAttributeInfo;
 import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
+import org.onosproject.yangutils.translator.tojava.JavaQualifiedTypeInfoTranslator;
+import org.onosproject.yangutils.translator.tojava.javamodel.JavaLeafInfoContainer;
 import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.YangToJavaNamingConflictUtil;
 import org.onosproject.yangutils.utils.io.impl.JavaDocGen;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.IDENTITYREF;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.STRING;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_SUBJECT_CLASS;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_SERVICE_AND_MANAGER;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_UNION_CLASS;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isQueueOrSetDataStructure;
 import static org.onosproject.yangutils.translator.tojava.utils.BracketType.OPEN_CLOSE_BRACKET;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.getConstraintCheckCall;
 import static org.onosproject.yangutils.translator.tojava.utils.IndentationType.EIGHT_SPACE;
 import static org.onosproject.yangutils.translator.tojava.utils.IndentationType.FOUR_SPACE;
+import static org.onosproject.yangutils.translator.tojava.utils.IndentationType.SIXTEEN_SPACE;
 import static org.onosproject.yangutils.translator.tojava.utils.IndentationType.TWELVE_SPACE;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGeneratorUtils.getAugmentedClassNameForDataMethods;
 import static org.onosproject.yangutils.translator.tojava.utils.JavaFileGeneratorUtils.getCurNodeName;
@@ -57,25 +77,29 @@ import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getBitSetAttr;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getCatchSubString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getCompareToString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getElseIfConditionBegin;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getForLoopString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getGreaterThanCondition;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getIfConditionBegin;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getImportString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagSetString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLesserThanCondition;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getListAttribute;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getListKeysClassName;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getNewInstance;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getNewLineAndSpace;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getOmitNullValueString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getOpenCloseParaWithValue;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getOverRideString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getParseFromStringMethod;
-import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getPatternQuoteString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getQuotedString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getReturnOfSubString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getReturnString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getSetValueParaCondition;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getStringBuilderAttr;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getToStringCall;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getToStringMethodsAddString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getTrySubString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.ifAndAndCondition;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.ifConditionForIntInTypeDefConstructor;
@@ -86,31 +110,51 @@ import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.methodSignatureClose;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.multiAttrMethodSignature;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.signatureClose;
+import static org.onosproject.yangutils.translator.tojava.utils.TypeDefCacheGenerator.getCachedOfMethodBody;
+import static org.onosproject.yangutils.translator.tojava.utils.TypeDefCacheGenerator.getCachedSpan;
+import static org.onosproject.yangutils.translator.tojava.utils.TypeDefCacheGenerator.getTypeDefCache;
+import static org.onosproject.yangutils.utils.UtilConstants.ABSTRACT_LIST;
 import static org.onosproject.yangutils.utils.UtilConstants.ADD;
 import static org.onosproject.yangutils.utils.UtilConstants.ADD_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.AND;
+import static org.onosproject.yangutils.utils.UtilConstants.AND_OPERATION;
 import static org.onosproject.yangutils.utils.UtilConstants.APPEND;
+import static org.onosproject.yangutils.utils.UtilConstants.ARRAYS;
 import static org.onosproject.yangutils.utils.UtilConstants.ARRAY_LIST;
+import static org.onosproject.yangutils.utils.UtilConstants.ARRAY_LIST_CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED;
+import static org.onosproject.yangutils.utils.UtilConstants.BACKSLASH;
 import static org.onosproject.yangutils.utils.UtilConstants.BASE64;
 import static org.onosproject.yangutils.utils.UtilConstants.BIG_INTEGER;
 import static org.onosproject.yangutils.utils.UtilConstants.BITS;
 import static org.onosproject.yangutils.utils.UtilConstants.BIT_SET;
 import static org.onosproject.yangutils.utils.UtilConstants.BOOLEAN_DATA_TYPE;
+import static org.onosproject.yangutils.utils.UtilConstants.BOOLEAN_WRAPPER;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILD;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER_LOWER_CASE;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILD_FOR_FILTER;
+import static org.onosproject.yangutils.utils.UtilConstants.BYTE;
+import static org.onosproject.yangutils.utils.UtilConstants.BYTE_WRAPPER;
+import static org.onosproject.yangutils.utils.UtilConstants.CACHED_HASH_CODE;
 import static org.onosproject.yangutils.utils.UtilConstants.CASE;
 import static org.onosproject.yangutils.utils.UtilConstants.CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.CLASS_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.CLONE;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_CURLY_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_PARENTHESIS;
+import static org.onosproject.yangutils.utils.UtilConstants.COLLECTIONS;
 import static org.onosproject.yangutils.utils.UtilConstants.COLON;
 import static org.onosproject.yangutils.utils.UtilConstants.COMMA;
+import static org.onosproject.yangutils.utils.UtilConstants.COMPARE;
+import static org.onosproject.yangutils.utils.UtilConstants.COMPILE;
 import static org.onosproject.yangutils.utils.UtilConstants.DECODE;
 import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT;
 import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.DIAMOND_CLOSE_BRACKET;
+import static org.onosproject.yangutils.utils.UtilConstants.DIAMOND_OPEN_BRACKET;
+import static org.onosproject.yangutils.utils.UtilConstants.DOUBLE;
+import static org.onosproject.yangutils.utils.UtilConstants.DOUBLE_WRAPPER;
 import static org.onosproject.yangutils.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.ELSE;
 import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
@@ -120,6 +164,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.EQUAL;
 import static org.onosproject.yangutils.utils.UtilConstants.EQUALS_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.EXCEPTION_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.FALSE;
+import static org.onosproject.yangutils.utils.UtilConstants.FINAL;
 import static org.onosproject.yangutils.utils.UtilConstants.FOR;
 import static org.onosproject.yangutils.utils.UtilConstants.FOR_TYPE_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.FOUR_SPACE_INDENTATION;
@@ -130,18 +175,35 @@ import static org.onosproject.yangutils.utils.UtilConstants.GET_DECODER;
 import static org.onosproject.yangutils.utils.UtilConstants.GET_ENCODER;
 import static org.onosproject.yangutils.utils.UtilConstants.GET_METHOD_PREFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.GOOGLE_MORE_OBJECT_METHOD_STRING;
-import static org.onosproject.yangutils.utils.UtilConstants.HASH;
 import static org.onosproject.yangutils.utils.UtilConstants.HASH_CODE_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_MULTIPLIER;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_VALUE;
 import static org.onosproject.yangutils.utils.UtilConstants.IF;
 import static org.onosproject.yangutils.utils.UtilConstants.INSTANCE_OF;
 import static org.onosproject.yangutils.utils.UtilConstants.INT;
+import static org.onosproject.yangutils.utils.UtilConstants.INTEGER_WRAPPER;
+import static org.onosproject.yangutils.utils.UtilConstants.IS_DECIMAL_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.IS_EMPTY;
+import static org.onosproject.yangutils.utils.UtilConstants.IS_IN_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.IS_SELECT_LEAF;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_LANG;
+import static org.onosproject.yangutils.utils.UtilConstants.KEYS;
 import static org.onosproject.yangutils.utils.UtilConstants.LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.LEAF_IDENTIFIER;
+import static org.onosproject.yangutils.utils.UtilConstants.LEAF_INDEX;
+import static org.onosproject.yangutils.utils.UtilConstants.LINKED_HASH_MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.LIST;
 import static org.onosproject.yangutils.utils.UtilConstants.LONG;
+import static org.onosproject.yangutils.utils.UtilConstants.LONG_WRAPPER;
+import static org.onosproject.yangutils.utils.UtilConstants.MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.MATCHER;
+import static org.onosproject.yangutils.utils.UtilConstants.MATCHES;
 import static org.onosproject.yangutils.utils.UtilConstants.MAX_RANGE;
+import static org.onosproject.yangutils.utils.UtilConstants.MAX_VALUE;
 import static org.onosproject.yangutils.utils.UtilConstants.MIN_RANGE;
+import static org.onosproject.yangutils.utils.UtilConstants.MIN_VALUE;
+import static org.onosproject.yangutils.utils.UtilConstants.MULTIPLY;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yangutils.utils.UtilConstants.NOT;
@@ -153,30 +215,37 @@ import static org.onosproject.yangutils.utils.UtilConstants.OF;
 import static org.onosproject.yangutils.utils.UtilConstants.OF_CAPS;
 import static org.onosproject.yangutils.utils.UtilConstants.ONE;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_CLOSE_BRACKET_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.OPEN_CLOSE_DIAMOND_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_CURLY_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_PARENTHESIS;
 import static org.onosproject.yangutils.utils.UtilConstants.OP_PARAM;
+import static org.onosproject.yangutils.utils.UtilConstants.OR_OPERATION;
 import static org.onosproject.yangutils.utils.UtilConstants.OTHER;
 import static org.onosproject.yangutils.utils.UtilConstants.OVERRIDE;
+import static org.onosproject.yangutils.utils.UtilConstants.PATTERN;
+import static org.onosproject.yangutils.utils.UtilConstants.PATTERN_SUFFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
 import static org.onosproject.yangutils.utils.UtilConstants.PRIVATE;
 import static org.onosproject.yangutils.utils.UtilConstants.PROCESS_SUBTREE_FILTERING;
 import static org.onosproject.yangutils.utils.UtilConstants.PROTECTED;
 import static org.onosproject.yangutils.utils.UtilConstants.PUBLIC;
+import static org.onosproject.yangutils.utils.UtilConstants.PUT;
 import static org.onosproject.yangutils.utils.UtilConstants.QUESTION_MARK;
 import static org.onosproject.yangutils.utils.UtilConstants.QUOTES;
 import static org.onosproject.yangutils.utils.UtilConstants.RETURN;
 import static org.onosproject.yangutils.utils.UtilConstants.RPC_INPUT_VAR_NAME;
 import static org.onosproject.yangutils.utils.UtilConstants.SCHEMA_NAME;
 import static org.onosproject.yangutils.utils.UtilConstants.SELECT_ALL_CHILD;
+import static org.onosproject.yangutils.utils.UtilConstants.SELECT_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.SEMI_COLON;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_METHOD_PREFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_SELECT_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_VALUE_PARA;
+import static org.onosproject.yangutils.utils.UtilConstants.SHORT;
+import static org.onosproject.yangutils.utils.UtilConstants.SHORT_WRAPPER;
 import static org.onosproject.yangutils.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.SIZE;
 import static org.onosproject.yangutils.utils.UtilConstants.SPACE;
-import static org.onosproject.yangutils.utils.UtilConstants.SPLIT_STRING;
-import static org.onosproject.yangutils.utils.UtilConstants.SQUARE_BRACKETS;
 import static org.onosproject.yangutils.utils.UtilConstants.STATIC;
 import static org.onosproject.yangutils.utils.UtilConstants.STRING_BUILDER_VAR;
 import static org.onosproject.yangutils.utils.UtilConstants.STRING_DATA_TYPE;
@@ -188,16 +257,20 @@ import static org.onosproject.yangutils.utils.UtilConstants.THROW_NEW;
 import static org.onosproject.yangutils.utils.UtilConstants.TMP_VAL;
 import static org.onosproject.yangutils.utils.UtilConstants.TO_CAPS;
 import static org.onosproject.yangutils.utils.UtilConstants.TO_STRING_METHOD;
-import static org.onosproject.yangutils.utils.UtilConstants.TRIM_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.TRUE;
 import static org.onosproject.yangutils.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_FOUR_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.VALIDATE_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF_SET;
+import static org.onosproject.yangutils.utils.UtilConstants.VALUE_OF;
 import static org.onosproject.yangutils.utils.UtilConstants.VOID;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_LOWER_CASE;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.ZERO;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.BUILD_METHOD;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.CONSTRUCTOR;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.DEFAULT_CONSTRUCTOR;
@@ -222,8 +295,14 @@ import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.trimAtLast;
  * Represents generator for methods of generated files based on the file type.
  */
 public final class MethodsGenerator {
-    private static final String BIT_NAMES_VAR = "bitNames";
-    private static final String BIT_NAME_VAR = "bitName";
+    private static final int PATTERN_LITERAL_LENGTH = 40;
+
+    /*
+     * When constraints are checked, lists and leaf-lists allowing no more
+     * elements are created with room for all of them when the first element
+     * is added.
+     */
+    private static final int PRESIZE_LIMIT = 16;
 
     /**
      * Creates an instance of method generator.
@@ -339,13 +418,16 @@ public final class MethodsGenerator {
     /**
      * Returns build method string.
      *
-     * @param name   class name
-     * @param isRoot true if root node
+     * @param name             class name
+     * @param isRoot           true if root node
+     * @param checkConstraints true if schema constraints are checked before
+     *                         build
      * @return build string
      */
-    public static String getBuildString(String name, boolean isRoot) {
+    public static String getBuildString(String name, boolean isRoot,
+                                        boolean checkConstraints) {
         return FOUR_SPACE_INDENTATION + OVERRIDE + NEW_LINE +
-                getBuild(name, isRoot);
+                getBuild(name, isRoot, checkConstraints);
     }
 
     /**
@@ -361,15 +443,125 @@ public final class MethodsGenerator {
         String attrQualifiedType = getReturnType(attr);
         String attributeName = attr.getAttributeName();
 
+        if (isLeafFlag(attr)) {
+            return getLeafFlagGetter(attrQualifiedType, attributeName,
+                                     attr.getLeafFlagWords());
+        }
         if (!attr.isListAttr()) {
             return getGetter(attrQualifiedType, attributeName,
                              generatedJavaFiles);
         }
         String attrParam = getListAttribute(attrQualifiedType,
                                             attr.getCompilerAnnotation());
+        if (attr.getPrimitiveListType() != null) {
+            return getPrimitiveListGetter(attrParam, attrQualifiedType,
+                                          attributeName);
+        }
         return getGetter(attrParam, attributeName, generatedJavaFiles);
     }
 
+    /**
+     * Returns true if attribute is the value or select leaf flags.
+     *
+     * @param attr attribute info
+     * @return true if attribute is leaf flags
+     */
+    private static boolean isLeafFlag(JavaAttributeInfo attr) {
+        String name = attr.getAttributeName();
+        return name.equals(VALUE_LEAF) || name.equals(SELECT_LEAF);
+    }
+
+    /**
+     * Returns getter for value or select leaf flags, which returns a copy of
+     * the flags as bit set.
+     *
+     * @param type  return type
+     * @param name  attribute name
+     * @param words number of long words storing the flags
+     * @return getter for leaf flags
+     */
+    private static String getLeafFlagGetter(String type, String name,
+                                            int words) {
+        /* Generate code will look like this.
+        public BitSet valueLeafFlags() {
+            return BitSet.valueOf(new long[]{valueLeafFlags});
+        }*/
+        String value = name;
+        if (words == 1) {
+            value = NEW + SPACE + LONG + "[]" + OPEN_CURLY_BRACKET + name +
+                    CLOSE_CURLY_BRACKET;
+        }
+        return methodSignature(name, EMPTY_STRING, PUBLIC, null, type, null,
+                               CLASS_TYPE) +
+                getReturnString(BIT_SET + PERIOD + VALUE_OF +
+                                        getOpenCloseParaWithValue(value),
+                                EIGHT_SPACE_INDENTATION) +
+                signatureClose() + methodClose(FOUR_SPACE);
+    }
+
+    /**
+     * Returns getter for leaf-list stored in primitive array, which returns
+     * an unmodifiable list view of the array.
+     *
+     * @param type     list type
+     * @param elemType list element type
+     * @param name     attribute name
+     * @return getter for leaf-list stored in primitive array
+     */
+    private static String getPrimitiveListGetter(String type, String elemType,
+                                                 String name) {
+        /* Generate code will look like this.
+        public List<Integer> vlan() {
+            if (vlan == null) {
+                return null;
+            }
+            return new AbstractList<Integer>() {
+                @Override
+                public Integer get(int index) {
+                    if (index >= vlanSize) {
+                        throw new IndexOutOfBoundsException(String.valueOf(index));
+                    }
+                    return vlan[index];
+                }
+
+                @Override
+                public int size() {
+                    return vlanSize;
+                }
+            };
+        }*/
+        String size = name + SIZE;
+        return methodSignature(name, EMPTY_STRING, PUBLIC, null, type, null,
+                               CLASS_TYPE) +
+                getIfConditionBegin(EIGHT_SPACE_INDENTATION,
+                                    name + SPACE + EQUAL + EQUAL + SPACE +
+                                            NULL) +
+                getReturnString(NULL, TWELVE_SPACE_INDENTATION) +
+                signatureClose() + methodClose(EIGHT_SPACE) +
+                getReturnString(NEW + SPACE + ABSTRACT_LIST +
+                                        DIAMOND_OPEN_BRACKET + elemType +
+                                        DIAMOND_CLOSE_BRACKET +
+                                        OPEN_CLOSE_BRACKET_STRING + SPACE +
+                                        OPEN_CURLY_BRACKET,
+                                EIGHT_SPACE_INDENTATION) + NEW_LINE +
+                TWELVE_SPACE_INDENTATION + OVERRIDE + NEW_LINE +
+                TWELVE_SPACE_INDENTATION + PUBLIC + SPACE + elemType + SPACE +
+                GET + "(int index) {\n" +
+                getIfConditionBegin(SIXTEEN_SPACE_INDENTATION,
+                                    "index >= " + size) +
+                TWENTY_SPACE_INDENTATION + "throw new " +
+                "IndexOutOfBoundsException(String.valueOf(index))" +
+                signatureClose() + methodClose(SIXTEEN_SPACE) +
+                getReturnString(name + "[index]", SIXTEEN_SPACE_INDENTATION) +
+                signatureClose() + methodClose(TWELVE_SPACE) + NEW_LINE +
+                TWELVE_SPACE_INDENTATION + OVERRIDE + NEW_LINE +
+                TWELVE_SPACE_INDENTATION + "public int size() {\n" +
+                getReturnString(size, SIXTEEN_SPACE_INDENTATION) +
+                signatureClose() + methodClose(TWELVE_SPACE) +
+                EIGHT_SPACE_INDENTATION + CLOSE_CURLY_BRACKET +
+                signatureClose() + methodClose(FOUR_SPACE);
+    }
+
     /**
      * Returns getter for attribute.
      *
@@ -426,12 +618,69 @@ public final class MethodsGenerator {
         }
         if (!attr.isListAttr()) {
             return getSetter(className, attributeName, attrQualifiedType,
-                             generatedJavaFiles, isTypeNull, false);
+                             generatedJavaFiles, isTypeNull, false,
+                             attr.getLeafFlagWords());
         }
         String attrParam = getListAttribute(attrQualifiedType,
                                             attr.getCompilerAnnotation());
+        if (attr.getPrimitiveListType() != null) {
+            return getPrimitiveListSetter(className, attributeName, attrParam,
+                                          attr.getPrimitiveListType());
+        }
         return getSetter(className, attributeName, attrParam,
-                         generatedJavaFiles, isTypeNull, true);
+                         generatedJavaFiles, isTypeNull, true,
+                         attr.getLeafFlagWords());
+    }
+
+    /**
+     * Returns setter for leaf-list stored in primitive array, which copies
+     * the list values to the array.
+     *
+     * @param className class name
+     * @param name      attribute name
+     * @param type      list type
+     * @param primitive primitive type of array
+     * @return setter for leaf-list stored in primitive array
+     */
+    private static String getPrimitiveListSetter(String className, String name,
+                                                 String type,
+                                                 String primitive) {
+        /* Generate code will look like this.
+        public InterfaceBuilder vlan(List<Integer> vlan) {
+            if (vlan == null) {
+                this.vlan = null;
+                vlanSize = 0;
+                return this;
+            }
+            this.vlan = new int[vlan.size()];
+            vlanSize = 0;
+            for (int value : vlan) {
+                this.vlan[vlanSize++] = value;
+            }
+            return this;
+        }*/
+        String size = name + SIZE;
+        String field = THIS + PERIOD + name;
+        return methodSignature(name, EMPTY_STRING, PUBLIC, name,
+                               getCapitalCase(className) + BUILDER, type,
+                               CLASS_TYPE) +
+                getIfConditionBegin(EIGHT_SPACE_INDENTATION,
+                                    name + SPACE + EQUAL + EQUAL + SPACE +
+                                            NULL) +
+                TWELVE_SPACE_INDENTATION + field + SPACE + EQUAL + SPACE +
+                NULL + signatureClose() +
+                TWELVE_SPACE_INDENTATION + size + " = 0" + signatureClose() +
+                getReturnString(THIS, TWELVE_SPACE_INDENTATION) +
+                signatureClose() + methodClose(EIGHT_SPACE) +
+                EIGHT_SPACE_INDENTATION + field + SPACE + EQUAL + SPACE + NEW +
+                SPACE + primitive + "[" + name + ".size()]" + signatureClose() +
+                EIGHT_SPACE_INDENTATION + size + " = 0" + signatureClose() +
+                getForLoopString(EIGHT_SPACE_INDENTATION, primitive, VALUE,
+                                 name) +
+                TWELVE_SPACE_INDENTATION + field + "[" + size + "++] = " +
+                VALUE + signatureClose() + methodClose(EIGHT_SPACE) +
+                getReturnString(THIS, EIGHT_SPACE_INDENTATION) +
+                signatureClose() + methodClose(FOUR_SPACE);
     }
 
     /**
@@ -442,11 +691,13 @@ public final class MethodsGenerator {
      * @param type       return type
      * @param isTypeNull if attribute type is null
      * @param isList     true if leaf-list
+     * @param words      number of long words storing the leaf flags
      * @return setter for attribute
      */
     private static String getSetter(String className, String name, String type,
                                     int genType,
-                                    boolean isTypeNull, boolean isList) {
+                                    boolean isTypeNull, boolean isList,
+                                    int words) {
         StringBuilder builder = new StringBuilder();
         if (genType == GENERATE_SERVICE_AND_MANAGER) {
             //Append method signature.
@@ -477,7 +728,8 @@ public final class MethodsGenerator {
                                                BUILDER, type, CLASS_TYPE));
         if (!isTypeNull && !isList) {
             builder.append(getLeafFlagSetString(name, VALUE_LEAF, EIGHT_SPACE_INDENTATION,
-                                                SET_METHOD_PREFIX)).append(signatureClose());
+                                                SET_METHOD_PREFIX, words))
+                    .append(signatureClose());
         } else {
             builder.append(EMPTY_STRING);
         }
@@ -673,12 +925,127 @@ public final class MethodsGenerator {
                                   attrCaps, EIGHT_SPACE_INDENTATION, GET, null,
                                   false, null);
             default:
+                if (attr.getPrimitiveListType() != null) {
+                    return getPrimitiveListConstructor(attrName);
+                }
+                if (isLeafFlag(attr)) {
+                    return getLeafFlagConstructor(attrName,
+                                                  attr.getLeafFlagWords());
+                }
+                if (attrName.equals(YANG_AUGMENTED_INFO_MAP)) {
+                    return getCollectionConstructor(attrName, MAP, HASH_MAP,
+                                                    false);
+                }
+                if (isCollectionCopied(attr)) {
+                    if (isMapDataStructure(attr.getCompilerAnnotation())) {
+                        return getCollectionConstructor(attrName, MAP,
+                                                        LINKED_HASH_MAP, true);
+                    }
+                    return getCollectionConstructor(attrName, LIST,
+                                                    ARRAY_LIST_CLASS, true);
+                }
                 return methodBody(MethodBodyTypes.CONSTRUCTOR, attrName,
                                   attrName, EIGHT_SPACE_INDENTATION, EMPTY_STRING,
                                   null, false, null);
         }
     }
 
+    /**
+     * Returns true if constructor of default class copies the collection of
+     * attribute into an unmodifiable one. Queue and set of list entries are
+     * kept as given, there being no unmodifiable view of queue.
+     *
+     * @param attr attribute info
+     * @return true if collection of attribute is copied
+     */
+    public static boolean isCollectionCopied(JavaAttributeInfo attr) {
+        if (attr.getAttributeName().equals(YANG_AUGMENTED_INFO_MAP)) {
+            return true;
+        }
+        return attr.isListAttr() && attr.getPrimitiveListType() == null &&
+                !isQueueOrSetDataStructure(attr.getCompilerAnnotation());
+    }
+
+    /**
+     * Returns constructor assignment for list or map, which copies the
+     * collection of builder into an unmodifiable one, so the default class
+     * does not share state with its builder and its hash code can be cached.
+     *
+     * @param name      attribute name
+     * @param type      collection interface, list or map
+     * @param copyType  class of the copy
+     * @param nullCheck true if builder collection may be null
+     * @return constructor assignment
+     */
+    private static String getCollectionConstructor(String name, String type,
+                                                   String copyType,
+                                                   boolean nullCheck) {
+        /* Generate code will look like this.
+        if (builderObject.list1() != null) {
+            list1 = Collections.unmodifiableList(
+                    new ArrayList<>(builderObject.list1()));
+        }*/
+        String value = BUILDER_LOWER_CASE + OBJECT + PERIOD + name +
+                OPEN_CLOSE_BRACKET_STRING;
+        String indent = nullCheck ? TWELVE_SPACE_INDENTATION :
+                EIGHT_SPACE_INDENTATION;
+        String copy = indent + name + SPACE + EQUAL + SPACE + COLLECTIONS +
+                PERIOD + "unmodifiable" + type + OPEN_PARENTHESIS + NEW_LINE +
+                indent + EIGHT_SPACE_INDENTATION + NEW + SPACE + copyType +
+                OPEN_CLOSE_DIAMOND_STRING + OPEN_PARENTHESIS + value +
+                CLOSE_PARENTHESIS + CLOSE_PARENTHESIS + signatureClose();
+        if (!nullCheck) {
+            return copy;
+        }
+        return getIfConditionBegin(EIGHT_SPACE_INDENTATION,
+                                   value + SPACE + NOT + EQUAL + SPACE +
+                                           NULL) +
+                copy + methodClose(EIGHT_SPACE);
+    }
+
+    /**
+     * Returns constructor assignment for value or select leaf flags, which
+     * copies the flags from builder.
+     *
+     * @param name  attribute name
+     * @param words number of long words storing the flags
+     * @return constructor assignment
+     */
+    private static String getLeafFlagConstructor(String name, int words) {
+        String value = BUILDER_LOWER_CASE + OBJECT + PERIOD + name;
+        if (words > 1) {
+            value = value + PERIOD + CLONE + OPEN_CLOSE_BRACKET_STRING;
+        }
+        return EIGHT_SPACE_INDENTATION + name + SPACE + EQUAL + SPACE + value +
+                signatureClose();
+    }
+
+    /**
+     * Returns constructor assignment for leaf-list stored in primitive array,
+     * which trims the builder array to the number of values.
+     *
+     * @param name attribute name
+     * @return constructor assignment
+     */
+    private static String getPrimitiveListConstructor(String name) {
+        /* Generate code will look like this.
+        if (builderObject.vlan != null) {
+            vlan = Arrays.copyOf(builderObject.vlan, builderObject.vlanSize);
+            vlanSize = builderObject.vlanSize;
+        }*/
+        String builder = BUILDER_LOWER_CASE + OBJECT + PERIOD;
+        String size = name + SIZE;
+        return getIfConditionBegin(EIGHT_SPACE_INDENTATION,
+                                   builder + name + SPACE + NOT + EQUAL +
+                                           SPACE + NULL) +
+                TWELVE_SPACE_INDENTATION + name + SPACE + EQUAL + SPACE +
+                ARRAYS + PERIOD + "copyOf" + getOpenCloseParaWithValue(
+                builder + name + COMMA + SPACE + builder + size) +
+                signatureClose() +
+                TWELVE_SPACE_INDENTATION + size + SPACE + EQUAL + SPACE +
+                builder + size + signatureClose() + methodClose(EIGHT_SPACE);
+    }
+
     /**
      * Returns the rpc strings for service interface.
      *
@@ -701,18 +1068,25 @@ public final class MethodsGenerator {
     /**
      * Returns the build method strings for class file.
      *
-     * @param yangName   class name
-     * @param isRootNode if root node
+     * @param yangName         class name
+     * @param isRootNode       if root node
+     * @param checkConstraints true if schema constraints are checked before
+     *                         build
      * @return build method string for class
      */
-    static String getBuild(String yangName, boolean isRootNode) {
+    static String getBuild(String yangName, boolean isRootNode,
+                           boolean checkConstraints) {
         String type = DEFAULT_CAPS + yangName;
         if (isRootNode) {
             type = yangName + OP_PARAM;
         }
+        String check = EMPTY_STRING;
+        if (checkConstraints) {
+            check = getConstraintCheckCall();
+        }
         return methodSignature(BUILD, EMPTY_STRING, PUBLIC, null,
                                yangName, null,
-                               CLASS_TYPE) +
+                               CLASS_TYPE) + check +
                 methodBody(MethodBodyTypes.BUILD, type, BUILD,
                            EIGHT_SPACE_INDENTATION, EMPTY_STRING,
                            null, false, null) +
@@ -767,6 +1141,19 @@ public final class MethodsGenerator {
      * @return to string method for class
      */
     public static String getToStringMethod(JavaAttributeInfo attr) {
+        if (isLeafFlag(attr)) {
+            String name = attr.getAttributeName();
+            return getToStringMethodsAddString(TWELVE_SPACE_INDENTATION,
+                                               name) + name +
+                    OPEN_CLOSE_BRACKET_STRING + CLOSE_PARENTHESIS;
+        }
+        if (attr.getPrimitiveListType() != null) {
+            String name = attr.getAttributeName();
+            return getToStringMethodsAddString(TWELVE_SPACE_INDENTATION,
+                                               name) + ARRAYS + PERIOD +
+                    TO_STRING_METHOD + getOpenCloseParaWithValue(name) +
+                    CLOSE_PARENTHESIS;
+        }
         return methodBody(TO_STRING, attr.getAttributeName(), null,
                           TWELVE_SPACE_INDENTATION, null, null, false, null);
     }
@@ -805,14 +1192,350 @@ public final class MethodsGenerator {
      */
     public static String getFromStringMethod(JavaAttributeInfo attr,
                                              JavaAttributeInfo fromAttr) {
+        YangType<?> type = fromAttr.getAttributeType();
+        YangDataTypes dataType = type.getDataType();
+        if (dataType == DERIVED && ((YangDerivedInfo<?>) type
+                .getDataTypeExtendedInfo()).getEffectiveBuiltInType() ==
+                IDENTITYREF) {
+            dataType = IDENTITYREF;
+        }
+        switch (dataType) {
+            case ENUMERATION:
+            case DERIVED:
+            case UNION:
+                /* Generate code will look like this, in a block of its own
+                as other members declare tmpVal too.
+                {
+                    Ipv4Address tmpVal = Ipv4Address.fromString(valInString);
+                    if (tmpVal != null) {
+                        return of(tmpVal);
+                    }
+                }*/
+                return EIGHT_SPACE_INDENTATION + OPEN_CURLY_BRACKET +
+                        getNewLineAndSpace(TWELVE_SPACE_INDENTATION) +
+                        getParsedSubString(attr, fromAttr) +
+                        getIfConditionBegin(TWELVE_SPACE_INDENTATION,
+                                            TMP_VAL + SPACE + NOT + EQUAL +
+                                                    SPACE + NULL) +
+                        getReturnString(OF, SIXTEEN_SPACE_INDENTATION) +
+                        getOpenCloseParaWithValue(TMP_VAL) + signatureClose() +
+                        TWELVE_SPACE_INDENTATION + CLOSE_CURLY_BRACKET +
+                        NEW_LINE + EIGHT_SPACE_INDENTATION +
+                        CLOSE_CURLY_BRACKET;
+            default:
+                String check = getFromStringPreCheck(attr, type);
+                if (check != null) {
+                    /* Generate code will look like this.
+                    if (isInRange(valInString, Integer.MIN_VALUE,
+                                  Integer.MAX_VALUE)) {
+                        int tmpVal = Integer.parseInt(valInString);
+                        return of(tmpVal);
+                    }*/
+                    return getIfConditionBegin(EIGHT_SPACE_INDENTATION,
+                                               check) +
+                            TWELVE_SPACE_INDENTATION +
+                            getParsedSubString(attr, fromAttr) +
+                            getReturnOfSubString() + EIGHT_SPACE_INDENTATION +
+                            CLOSE_CURLY_BRACKET;
+                }
+                /*
+                 * Types without lexical pre check can only fail by
+                 * exception, or always match.
+                 */
+                return EIGHT_SPACE_INDENTATION + getTrySubString() +
+                        getNewLineAndSpace(TWELVE_SPACE_INDENTATION) +
+                        getParsedSubString(attr, fromAttr) +
+                        getReturnOfSubString() + EIGHT_SPACE_INDENTATION +
+                        getCatchSubString() +
+                        getNewLineAndSpace(EIGHT_SPACE_INDENTATION) +
+                        CLOSE_CURLY_BRACKET;
+        }
+    }
+
+    /**
+     * Returns lexical pre check condition for from string method, which
+     * is true when value can be parsed to the type without exception.
+     *
+     * @param attr attribute info
+     * @param type YANG type
+     * @return pre check condition; null if type has no pre check
+     */
+    private static String getFromStringPreCheck(JavaAttributeInfo attr,
+                                                YangType<?> type) {
+        switch (type.getDataType()) {
+            case INT8:
+                return getRangePreCheck(BYTE_WRAPPER);
+            case INT16:
+            case UINT8:
+                return getRangePreCheck(SHORT_WRAPPER);
+            case INT32:
+            case UINT16:
+                return getRangePreCheck(INTEGER_WRAPPER);
+            case INT64:
+            case UINT32:
+                return getRangePreCheck(LONG_WRAPPER);
+            case UINT64:
+                return IS_DECIMAL_STRING + getOpenCloseParaWithValue(
+                        FROM_STRING_PARAM_NAME + COMMA + SPACE + FALSE);
+            case DECIMAL64:
+                return IS_DECIMAL_STRING + getOpenCloseParaWithValue(
+                        FROM_STRING_PARAM_NAME + COMMA + SPACE + TRUE);
+            case EMPTY:
+            case BOOLEAN:
+                return QUOTES + TRUE + QUOTES + PERIOD + EQUALS_STRING +
+                        getOpenCloseParaWithValue(FROM_STRING_PARAM_NAME) +
+                        SPACE + OR_OPERATION + SPACE + QUOTES + FALSE +
+                        QUOTES + PERIOD + EQUALS_STRING +
+                        getOpenCloseParaWithValue(FROM_STRING_PARAM_NAME);
+            case STRING:
+                List<String> patterns = getFromStringPatterns(type);
+                if (patterns.isEmpty()) {
+                    return null;
+                }
+                StringBuilder check = new StringBuilder();
+                for (int i = 0; i < patterns.size(); i++) {
+                    if (i != 0) {
+                        check.append(SPACE).append(AND_OPERATION)
+                                .append(NEW_LINE)
+                                .append(TWELVE_SPACE_INDENTATION);
+                    }
+                    check.append(getPatternAttributeName(attr, i))
+                            .append(PERIOD).append(MATCHER)
+                            .append(getOpenCloseParaWithValue(
+                                    FROM_STRING_PARAM_NAME)).append(PERIOD)
+                            .append(MATCHES)
+                            .append(OPEN_CLOSE_BRACKET_STRING);
+                }
+                return check.toString();
+            default:
+                return null;
+        }
+    }
 
-        return EIGHT_SPACE_INDENTATION + getTrySubString() +
-                getNewLineAndSpace(TWELVE_SPACE_INDENTATION) +
-                getParsedSubString(attr, fromAttr) +
-                getReturnOfSubString() + EIGHT_SPACE_INDENTATION +
-                getCatchSubString() +
-                getNewLineAndSpace(EIGHT_SPACE_INDENTATION) +
-                CLOSE_CURLY_BRACKET;
+    /**
+     * Returns range pre check condition for the java wrapper type.
+     *
+     * @param wrapper java wrapper type
+     * @return range pre check condition
+     */
+    private static String getRangePreCheck(String wrapper) {
+        return IS_IN_RANGE + getOpenCloseParaWithValue(
+                FROM_STRING_PARAM_NAME + COMMA + SPACE + wrapper + PERIOD +
+                        MIN_VALUE + COMMA + SPACE + wrapper + PERIOD +
+                        MAX_VALUE);
+    }
+
+    /**
+     * Returns the patterns of string type which are used for pre check in
+     * from string method.
+     *
+     * @param type YANG type
+     * @return patterns of string type
+     */
+    static List<String> getFromStringPatterns(YangType<?> type) {
+        List<String> patterns = new ArrayList<>();
+        Object info = type.getDataTypeExtendedInfo();
+        if (!(info instanceof YangStringRestriction)) {
+            return patterns;
+        }
+        YangPatternRestriction restriction =
+                ((YangStringRestriction) info).getPatternRestriction();
+        if (restriction == null) {
+            return patterns;
+        }
+        for (String pattern : restriction.getPatternList()) {
+            try {
+                Pattern.compile(pattern);
+                patterns.add(pattern);
+            } catch (PatternSyntaxException e) {
+                // Pattern can not be checked in generated code.
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Returns name of the compiled pattern attribute for from string pre
+     * check.
+     *
+     * @param attr  attribute info
+     * @param index index of the pattern
+     * @return name of the compiled pattern attribute
+     */
+    private static String getPatternAttributeName(JavaAttributeInfo attr,
+                                                  int index) {
+        String name = attr.getAttributeName().toUpperCase() + PATTERN_SUFFIX;
+        if (index != 0) {
+            return name + index;
+        }
+        return name;
+    }
+
+    /**
+     * Returns compiled pattern attributes used by pre check of from string
+     * method.
+     *
+     * @param attr     attribute info
+     * @param fromAttr attribute info for the from string wrapper type
+     * @return compiled pattern attributes
+     */
+    public static String getFromStringPatternAttributes(
+            JavaAttributeInfo attr, JavaAttributeInfo fromAttr) {
+        /* Generate code will look like this.
+        private static final Pattern STRING_PATTERN =
+                Pattern.compile(
+                        "[0-9a-fA-F]*");*/
+        StringBuilder builder = new StringBuilder();
+        YangType<?> type = fromAttr.getAttributeType();
+        if (type.getDataType() != STRING) {
+            return EMPTY_STRING;
+        }
+        List<String> patterns = getFromStringPatterns(type);
+        for (int i = 0; i < patterns.size(); i++) {
+            builder.append(FOUR_SPACE_INDENTATION).append(PRIVATE)
+                    .append(SPACE).append(STATIC).append(SPACE).append(FINAL)
+                    .append(SPACE).append(PATTERN).append(SPACE)
+                    .append(getPatternAttributeName(attr, i)).append(SPACE)
+                    .append(EQUAL).append(NEW_LINE)
+                    .append(TWELVE_SPACE_INDENTATION).append(PATTERN)
+                    .append(PERIOD).append(COMPILE).append(OPEN_PARENTHESIS)
+                    .append(getPatternLiteral(patterns.get(i)))
+                    .append(CLOSE_PARENTHESIS).append(signatureClose());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns java string literal of the pattern. Long patterns are split
+     * into concatenated literals, so that the line length validation of
+     * generated file does not break the literal.
+     *
+     * @param pattern pattern
+     * @return java string literal of the pattern
+     */
+    static String getPatternLiteral(String pattern) {
+        StringBuilder builder = new StringBuilder();
+        int index = 0;
+        while (index < pattern.length()) {
+            int end = Math.min(index + PATTERN_LITERAL_LENGTH,
+                               pattern.length());
+            // Escapes are added per part, so they are never split.
+            String part = pattern.substring(index, end)
+                    .replace(BACKSLASH, BACKSLASH + BACKSLASH)
+                    .replace(QUOTES, BACKSLASH + QUOTES);
+            if (index != 0) {
+                builder.append(SPACE).append(ADD);
+            }
+            builder.append(NEW_LINE).append(TWENTY_SPACE_INDENTATION)
+                    .append(QUOTES).append(part).append(QUOTES);
+            index = end;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the helper methods used by pre checks in from string method.
+     *
+     * @param fromString from string method body
+     * @return helper methods used by pre checks
+     */
+    static String getFromStringPreCheckMethods(String fromString) {
+        StringBuilder builder = new StringBuilder();
+        if (fromString.contains(IS_IN_RANGE + OPEN_PARENTHESIS)) {
+            builder.append(getIsInRangeMethod());
+        }
+        if (fromString.contains(IS_DECIMAL_STRING + OPEN_PARENTHESIS)) {
+            builder.append(getIsDecimalStringMethod());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns is in range method, which checks without exception whether a
+     * string is an integer in range, accepting the same input as the java
+     * wrapper parse methods.
+     *
+     * @return is in range method
+     */
+    private static String getIsInRangeMethod() {
+        return NEW_LINE + FOUR_SPACE_INDENTATION +
+                "private static boolean isInRange(String valInString, " +
+                "long min, long max) {\n" +
+                EIGHT_SPACE_INDENTATION +
+                "int length = valInString.length();\n" +
+                EIGHT_SPACE_INDENTATION + "int index = 0;\n" +
+                EIGHT_SPACE_INDENTATION + "boolean negative = false;\n" +
+                EIGHT_SPACE_INDENTATION + "if (length > 0) {\n" +
+                TWELVE_SPACE_INDENTATION +
+                "char sign = valInString.charAt(0);\n" +
+                TWELVE_SPACE_INDENTATION +
+                "if (sign == '-' || sign == '+') {\n" +
+                SIXTEEN_SPACE_INDENTATION + "negative = sign == '-';\n" +
+                SIXTEEN_SPACE_INDENTATION + "index++;\n" +
+                TWELVE_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION + "if (index == length) {\n" +
+                TWELVE_SPACE_INDENTATION + "return false;\n" +
+                EIGHT_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION +
+                "long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;\n" +
+                EIGHT_SPACE_INDENTATION + "long value = 0;\n" +
+                EIGHT_SPACE_INDENTATION + "for (; index < length; index++) {\n" +
+                TWELVE_SPACE_INDENTATION +
+                "int digit = valInString.charAt(index) - '0';\n" +
+                TWELVE_SPACE_INDENTATION +
+                "if (digit < 0 || digit > 9 || value < limit / 10) {\n" +
+                SIXTEEN_SPACE_INDENTATION + "return false;\n" +
+                TWELVE_SPACE_INDENTATION + "}\n" +
+                TWELVE_SPACE_INDENTATION + "value *= 10;\n" +
+                TWELVE_SPACE_INDENTATION +
+                "if (value < limit + digit) {\n" +
+                SIXTEEN_SPACE_INDENTATION + "return false;\n" +
+                TWELVE_SPACE_INDENTATION + "}\n" +
+                TWELVE_SPACE_INDENTATION + "value -= digit;\n" +
+                EIGHT_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION +
+                "value = negative ? value : -value;\n" +
+                EIGHT_SPACE_INDENTATION +
+                "return value >= min && value <= max;\n" +
+                FOUR_SPACE_INDENTATION + "}\n";
+    }
+
+    /**
+     * Returns is decimal string method, which checks without exception
+     * whether a string is a plain decimal number.
+     *
+     * @return is decimal string method
+     */
+    private static String getIsDecimalStringMethod() {
+        return NEW_LINE + FOUR_SPACE_INDENTATION +
+                "private static boolean isDecimalString(String valInString, " +
+                "boolean fraction) {\n" +
+                EIGHT_SPACE_INDENTATION +
+                "int length = valInString.length();\n" +
+                EIGHT_SPACE_INDENTATION + "int index = 0;\n" +
+                EIGHT_SPACE_INDENTATION + "if (length > 0 && " +
+                "(valInString.charAt(0) == '-' ||\n" +
+                SIXTEEN_SPACE_INDENTATION +
+                "valInString.charAt(0) == '+')) {\n" +
+                TWELVE_SPACE_INDENTATION + "index++;\n" +
+                EIGHT_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION + "boolean digits = false;\n" +
+                EIGHT_SPACE_INDENTATION + "boolean point = false;\n" +
+                EIGHT_SPACE_INDENTATION + "for (; index < length; index++) {\n" +
+                TWELVE_SPACE_INDENTATION +
+                "char c = valInString.charAt(index);\n" +
+                TWELVE_SPACE_INDENTATION + "if (c >= '0' && c <= '9') {\n" +
+                SIXTEEN_SPACE_INDENTATION + "digits = true;\n" +
+                TWELVE_SPACE_INDENTATION +
+                "} else if (c == '.' && fraction && !point) {\n" +
+                SIXTEEN_SPACE_INDENTATION + "point = true;\n" +
+                TWELVE_SPACE_INDENTATION + "} else {\n" +
+                SIXTEEN_SPACE_INDENTATION + "return false;\n" +
+                TWELVE_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION + "return digits;\n" +
+                FOUR_SPACE_INDENTATION + "}\n";
     }
 
     /**
@@ -877,42 +1600,129 @@ public final class MethodsGenerator {
     }
 
     /**
-     * Returns hash code method open strings.
+     * Returns hash code method. The attribute hash codes are combined without
+     * boxing or allocation; when the hash code is cached, it is computed once
+     * and kept in the cached hash code attribute.
      *
-     * @return hash code method open string
+     * @param hashcodeString hash code of attributes, one per line
+     * @param isCached       true if hash code is to be cached
+     * @return hash code method
      */
-    static String getHashCodeMethodOpen() {
-        String line;
+    static String getHashCodeMethodImpl(String hashcodeString,
+                                        boolean isCached) {
+        /* Generate code will look like this.
+        @Override
+        public int hashCode() {
+            int hashValue = cachedHashCode;
+            if (hashValue == 0) {
+                hashValue = 1;
+                hashValue = 31 * hashValue + leaf1;
+                hashValue = 31 * hashValue + Objects.hashCode(leaf2);
+                cachedHashCode = hashValue;
+            }
+            return hashValue;
+        }*/
         StringBuilder builder = new StringBuilder(getOverRideString());
         builder.append(methodSignature(HASH_CODE_STRING, EMPTY_STRING, PUBLIC,
                                        null, INT, null, CLASS_TYPE));
-        line = getReturnString(OBJECT_STRING + SUFFIX_S + PERIOD + HASH +
-                                       OPEN_PARENTHESIS, EIGHT_SPACE_INDENTATION);
-        builder.append(line);
-        return builder.toString();
+        String indent = EIGHT_SPACE_INDENTATION;
+        if (isCached) {
+            builder.append(EIGHT_SPACE_INDENTATION).append(INT).append(SPACE)
+                    .append(HASH_VALUE).append(SPACE).append(EQUAL)
+                    .append(SPACE).append(CACHED_HASH_CODE)
+                    .append(signatureClose())
+                    .append(getIfConditionBegin(
+                            EIGHT_SPACE_INDENTATION, HASH_VALUE + SPACE +
+                                    EQUAL + EQUAL + SPACE + ZERO));
+            indent = TWELVE_SPACE_INDENTATION;
+            builder.append(indent);
+        } else {
+            builder.append(indent).append(INT).append(SPACE);
+        }
+        builder.append(HASH_VALUE).append(SPACE).append(EQUAL).append(SPACE)
+                .append(ONE).append(signatureClose());
+        for (String hash : hashcodeString.split(NEW_LINE)) {
+            if (!hash.isEmpty()) {
+                builder.append(indent).append(HASH_VALUE).append(SPACE)
+                        .append(EQUAL).append(SPACE).append(HASH_MULTIPLIER)
+                        .append(SPACE).append(MULTIPLY).append(SPACE)
+                        .append(HASH_VALUE).append(SPACE).append(ADD)
+                        .append(SPACE).append(hash).append(signatureClose());
+            }
+        }
+        if (isCached) {
+            builder.append(indent).append(CACHED_HASH_CODE).append(SPACE)
+                    .append(EQUAL).append(SPACE).append(HASH_VALUE)
+                    .append(signatureClose()).append(methodClose(EIGHT_SPACE));
+        }
+        return builder.append(getReturnString(HASH_VALUE,
+                                              EIGHT_SPACE_INDENTATION))
+                .append(signatureClose()).append(methodClose(FOUR_SPACE))
+                .toString();
     }
 
     /**
-     * Returns hash code methods close string.
+     * Returns hash code of attribute to be combined in hash code method.
+     * Primitive attributes are hashed without boxing.
      *
-     * @param hashcodeString hash code string
-     * @return to hash code method close string
+     * @param attr attribute info
+     * @return hash code of attribute
      */
-    static String getHashCodeMethodClose(String hashcodeString) {
-        String[] array = {SPACE, COMMA};
-        hashcodeString = trimAtLast(hashcodeString, array);
-        return hashcodeString + CLOSE_PARENTHESIS + signatureClose() +
-                methodClose(FOUR_SPACE);
+    public static String getHashCodeMethod(JavaAttributeInfo attr) {
+        String name = attr.getAttributeName();
+        if (attr.getPrimitiveListType() != null ||
+                isLeafFlag(attr) && attr.getLeafFlagWords() > 1) {
+            return ARRAYS + PERIOD + HASH_CODE_STRING +
+                    getOpenCloseParaWithValue(name);
+        }
+        if (isLeafFlag(attr)) {
+            return LONG_WRAPPER + PERIOD + HASH_CODE_STRING +
+                    getOpenCloseParaWithValue(name);
+        }
+        String type = getPrimitiveAttrType(attr);
+        if (type == null) {
+            return OBJECT_STRING + SUFFIX_S + PERIOD + HASH_CODE_STRING +
+                    getOpenCloseParaWithValue(name);
+        }
+        switch (type) {
+            case LONG:
+                return LONG_WRAPPER + PERIOD + HASH_CODE_STRING +
+                        getOpenCloseParaWithValue(name);
+            case DOUBLE:
+                return DOUBLE_WRAPPER + PERIOD + HASH_CODE_STRING +
+                        getOpenCloseParaWithValue(name);
+            case BOOLEAN_DATA_TYPE:
+                return BOOLEAN_WRAPPER + PERIOD + HASH_CODE_STRING +
+                        getOpenCloseParaWithValue(name);
+            default:
+                // byte, short and int are their own hash code.
+                return name;
+        }
     }
 
     /**
-     * Returns hash code method for class.
+     * Returns the primitive java type of attribute, if it is not a list.
      *
      * @param attr attribute info
-     * @return hash code method
+     * @return primitive java type; null if attribute is not primitive
      */
-    public static String getHashCodeMethod(JavaAttributeInfo attr) {
-        return attr.getAttributeName() + COMMA + SPACE;
+    private static String getPrimitiveAttrType(JavaAttributeInfo attr) {
+        JavaQualifiedTypeInfoTranslator info = attr.getImportInfo();
+        if (attr.isListAttr() || info == null || info.getPkgInfo() != null ||
+                info.getClassInfo() == null) {
+            return null;
+        }
+        switch (info.getClassInfo()) {
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case DOUBLE:
+            case BOOLEAN_DATA_TYPE:
+                return info.getClassInfo();
+            default:
+                return null;
+        }
     }
 
     /**
@@ -958,6 +1768,42 @@ public final class MethodsGenerator {
                 NEW_LINE;
     }
 
+    /**
+     * Returns equals comparisons of attributes ordered for a fast mismatch.
+     * Primitive comparisons come first; when the hash code is cached, it is
+     * compared before the deep comparison of remaining attributes.
+     *
+     * @param equalMethodString equals comparisons, one per line
+     * @param isCached          true if hash code is cached
+     * @return ordered equals comparisons
+     */
+    static String getEqualsMethodBody(String equalMethodString,
+                                      boolean isCached) {
+        StringBuilder cheap = new StringBuilder();
+        StringBuilder deep = new StringBuilder();
+        for (String line : equalMethodString.split(NEW_LINE)) {
+            String cmp = line.trim();
+            if (cmp.isEmpty()) {
+                continue;
+            }
+            if (cmp.startsWith(OBJECT_STRING + SUFFIX_S + PERIOD) ||
+                    cmp.startsWith(ARRAYS + PERIOD)) {
+                deep.append(line).append(NEW_LINE);
+            } else {
+                cheap.append(line).append(NEW_LINE);
+            }
+        }
+        if (isCached && deep.length() != 0) {
+            cheap.append(SIXTEEN_SPACE_INDENTATION).append(HASH_CODE_STRING)
+                    .append(OPEN_CLOSE_BRACKET_STRING).append(SPACE)
+                    .append(EQUAL).append(EQUAL).append(SPACE).append(OTHER)
+                    .append(PERIOD).append(HASH_CODE_STRING)
+                    .append(OPEN_CLOSE_BRACKET_STRING).append(SPACE)
+                    .append(AND).append(AND).append(NEW_LINE);
+        }
+        return cheap.append(deep).toString();
+    }
+
     /**
      * Returns equals methods close string.
      *
@@ -981,6 +1827,29 @@ public final class MethodsGenerator {
      */
     public static String getEqualsMethod(JavaAttributeInfo attr) {
         String attributeName = attr.getAttributeName();
+        if (attr.getPrimitiveListType() != null ||
+                isLeafFlag(attr) && attr.getLeafFlagWords() > 1) {
+            return SIXTEEN_SPACE_INDENTATION + ARRAYS + PERIOD +
+                    EQUALS_STRING + OPEN_PARENTHESIS + attributeName + COMMA +
+                    SPACE + OTHER + PERIOD + attributeName +
+                    CLOSE_PARENTHESIS + SPACE + AND + AND;
+        }
+        String type = getPrimitiveAttrType(attr);
+        if (isLeafFlag(attr)) {
+            type = LONG;
+        }
+        if (DOUBLE.equals(type)) {
+            return SIXTEEN_SPACE_INDENTATION + DOUBLE_WRAPPER + PERIOD +
+                    COMPARE + OPEN_PARENTHESIS + attributeName + COMMA +
+                    SPACE + OTHER + PERIOD + attributeName +
+                    CLOSE_PARENTHESIS + SPACE + EQUAL + EQUAL + SPACE + ZERO +
+                    SPACE + AND + AND;
+        }
+        if (type != null) {
+            return SIXTEEN_SPACE_INDENTATION + attributeName + SPACE + EQUAL +
+                    EQUAL + SPACE + OTHER + PERIOD + attributeName + SPACE +
+                    AND + AND;
+        }
         return SIXTEEN_SPACE_INDENTATION + OBJECT_STRING + SUFFIX_S +
                 PERIOD + EQUALS_STRING + OPEN_PARENTHESIS + attributeName +
                 COMMA + SPACE + OTHER + PERIOD + attributeName +
@@ -1003,6 +1872,33 @@ public final class MethodsGenerator {
                           false, null) + getOfMethodString(attrType, className);
     }
 
+    /**
+     * Returns of method's string and java doc for typedef type, returning
+     * canonical instances when the range of typedef spans no more values
+     * than the cache limit.
+     *
+     * @param attr       attribute info
+     * @param className  class name
+     * @param cacheLimit maximum number of cached values, 0 if none
+     * @return of method's string and java doc for typedef type
+     */
+    public static String getOfMethodStringAndJavaDoc(JavaAttributeInfo attr,
+                                                     String className,
+                                                     int cacheLimit) {
+        long[] span = getCachedSpan(attr.getAttributeType(), cacheLimit);
+        if (span == null) {
+            return getOfMethodStringAndJavaDoc(attr, className);
+        }
+        String attrType = getReturnType(attr);
+        return getTypeDefCache(span, attrType, className) +
+                getJavaDoc(OF_METHOD, className + FOR_TYPE_STRING +
+                        attr.getAttributeName(), false, null) +
+                methodSignature(OF, EMPTY_STRING, PUBLIC + SPACE + STATIC,
+                                VALUE, className, attrType, CLASS_TYPE) +
+                getCachedOfMethodBody(span, attrType, className) +
+                methodClose(FOUR_SPACE);
+    }
+
     /**
      * Returns of method's string.
      *
@@ -1490,10 +2386,55 @@ public final class MethodsGenerator {
                                                getCapitalCase(attrName),
                                        EMPTY_STRING, PUBLIC, ADD_STRING + TO_CAPS,
                                        name + BUILDER, getReturnType(attr),
-                                       CLASS_TYPE))
-                .append(getIfConditionForAddToListMethod(attrName));
-        retString = EIGHT_SPACE_INDENTATION + attrName + PERIOD + ADD_STRING +
-                OPEN_PARENTHESIS + ADD_STRING + TO_CAPS + CLOSE_PARENTHESIS;
+                                       CLASS_TYPE));
+        String primitive = attr.getPrimitiveListType();
+        int capacity = attr.getMaxElements();
+        if (capacity > PRESIZE_LIMIT) {
+            capacity = 0;
+        }
+        if (primitive != null) {
+            // Grows the array when it is full.
+            String size = attrName + SIZE;
+            builder.append(getIfConditionBegin(
+                    EIGHT_SPACE_INDENTATION, attrName + SPACE + EQUAL + EQUAL +
+                            SPACE + NULL))
+                    .append(TWELVE_SPACE_INDENTATION).append(attrName)
+                    .append(SPACE).append(EQUAL).append(SPACE).append(NEW)
+                    .append(SPACE).append(primitive).append("[")
+                    .append(capacity == 0 ? 4 : capacity).append("]")
+                    .append(signatureClose())
+                    .append(getElseIfConditionBegin(
+                            EIGHT_SPACE_INDENTATION, size + SPACE + EQUAL +
+                                    EQUAL + SPACE + attrName + ".length"))
+                    .append(TWELVE_SPACE_INDENTATION).append(attrName)
+                    .append(SPACE).append(EQUAL).append(SPACE).append(ARRAYS)
+                    .append(PERIOD).append("copyOf")
+                    .append(getOpenCloseParaWithValue(
+                            attrName + COMMA + SPACE + size + " * 2 + 4"))
+                    .append(signatureClose())
+                    .append(methodClose(EIGHT_SPACE));
+            retString = EIGHT_SPACE_INDENTATION + attrName + "[" + size +
+                    "++] = " + ADD_STRING + TO_CAPS;
+        } else if (isMapDataStructure(attr.getCompilerAnnotation())) {
+            // Sized to hold all the entries without rehashing.
+            builder.append(getIfConditionForAddToListMethod(
+                    attrName, NEW + SPACE + LINKED_HASH_MAP +
+                            OPEN_CLOSE_DIAMOND_STRING + getCapacityArgument(
+                            capacity == 0 ? 0 : capacity * 4 / 3 + 1)));
+            retString = EIGHT_SPACE_INDENTATION + attrName + PERIOD + PUT +
+                    OPEN_PARENTHESIS + getListKeysClassName(
+                    getReturnType(attr)) + PERIOD + OF +
+                    getOpenCloseParaWithValue(ADD_STRING + TO_CAPS) + COMMA +
+                    SPACE + ADD_STRING + TO_CAPS + CLOSE_PARENTHESIS;
+        } else {
+            builder.append(getIfConditionForAddToListMethod(
+                    attrName, NEW + SPACE + ARRAY_LIST_CLASS +
+                            OPEN_CLOSE_DIAMOND_STRING +
+                            getCapacityArgument(capacity)));
+            retString = EIGHT_SPACE_INDENTATION + attrName + PERIOD +
+                    ADD_STRING + OPEN_PARENTHESIS + ADD_STRING + TO_CAPS +
+                    CLOSE_PARENTHESIS;
+        }
         builder.append(retString)
                 .append(signatureClose())
                 .append(getReturnString(THIS, EIGHT_SPACE_INDENTATION))
@@ -1504,11 +2445,237 @@ public final class MethodsGenerator {
 
     // Returns if condition for add to list method.
     static String getIfConditionForAddToListMethod(String name) {
+        return getIfConditionForAddToListMethod(name, NEW + SPACE + ARRAY_LIST);
+    }
+
+    // Returns the argument list of collection constructor with capacity.
+    private static String getCapacityArgument(int capacity) {
+        if (capacity == 0) {
+            return OPEN_CLOSE_BRACKET_STRING;
+        }
+        return getOpenCloseParaWithValue(String.valueOf(capacity));
+    }
+
+    // Returns if condition for add to list method with given collection.
+    private static String getIfConditionForAddToListMethod(String name,
+                                                           String collection) {
         return getIfConditionBegin(EIGHT_SPACE_INDENTATION, name + SPACE + EQUAL +
                 EQUAL + SPACE + NULL) + TWELVE_SPACE_INDENTATION +
-                name + SPACE + EQUAL + SPACE +
-                NEW + SPACE + ARRAY_LIST + signatureClose() + methodClose(
-                EIGHT_SPACE);
+                name + SPACE + EQUAL + SPACE + collection + signatureClose() +
+                methodClose(EIGHT_SPACE);
+    }
+
+    /**
+     * Returns the method to get list entry by keys, for list attribute
+     * stored in map.
+     *
+     * @param attr        java attribute
+     * @param isInterface true for interface method, false for implementation
+     * @return method to get list entry by keys
+     */
+    public static String getListEntryByKeysMethod(JavaAttributeInfo attr,
+                                                  boolean isInterface) {
+        /* Generate code will look like this.
+        @Override
+        public Ospf ospf(Ospf.OspfKeys keys) {
+            return ospf == null ? null : ospf.get(keys);
+        }*/
+        String name = attr.getAttributeName();
+        String type = getReturnType(attr);
+        String param = getListKeysClassName(type) + SPACE + KEYS.toLowerCase();
+        if (isInterface) {
+            return "    /**\n" +
+                    "     * Returns the " + name + " entry identified by" +
+                    " keys.\n" +
+                    "     *\n" +
+                    "     * @param keys keys of " + name + " entry\n" +
+                    "     * @return " + name + " entry, or null if there is no" +
+                    " entry with keys\n" +
+                    "     */\n" + FOUR_SPACE_INDENTATION + type + SPACE + name +
+                    getOpenCloseParaWithValue(param) + signatureClose() +
+                    NEW_LINE;
+        }
+        return getOverRideString() + FOUR_SPACE_INDENTATION + PUBLIC + SPACE +
+                type + SPACE + name + getOpenCloseParaWithValue(param) + SPACE +
+                OPEN_CURLY_BRACKET + NEW_LINE +
+                getReturnString(name + SPACE + EQUAL + EQUAL + SPACE + NULL +
+                                        SPACE + QUESTION_MARK + SPACE + NULL +
+                                        SPACE + COLON + SPACE + name + PERIOD +
+                                        GET + getOpenCloseParaWithValue(
+                        KEYS.toLowerCase()), EIGHT_SPACE_INDENTATION) +
+                signatureClose() + methodClose(FOUR_SPACE);
+    }
+
+    /**
+     * Returns the keys class of list whose entries are stored in map by
+     * keys. The keys class is generated as nested class of the list
+     * interface, it holds the values of the key leaves and computes its hash
+     * code once on creation, as it is used for every map look up.
+     *
+     * @param list    YANG list
+     * @param imports imports of list interface
+     * @return keys class of list
+     */
+    static String getListKeysClass(YangList list, List<String> imports) {
+        JavaFileInfoTranslator fileInfo = ((JavaFileInfoContainer) list)
+                .getJavaFileInfo();
+        String name = getCapitalCase(fileInfo.getJavaName());
+        String keys = name + KEYS;
+        YangToJavaNamingConflictUtil resolver = fileInfo.getPluginConfig() ==
+                null ? null : fileInfo.getPluginConfig().getConflictResolver();
+        List<String> names = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        for (String key : list.getKeyList()) {
+            for (YangLeaf leaf : list.getListOfLeaf()) {
+                if (leaf.getName().equals(key)) {
+                    JavaLeafInfoContainer info = (JavaLeafInfoContainer) leaf;
+                    names.add(info.getJavaName(resolver));
+                    types.add(getKeyLeafType(info, imports));
+                    break;
+                }
+            }
+        }
+        int width = 0;
+        for (String key : names) {
+            width = Math.max(width, key.length());
+        }
+
+        StringBuilder fields = new StringBuilder();
+        StringBuilder params = new StringBuilder();
+        StringBuilder paramDocs = new StringBuilder();
+        StringBuilder assigns = new StringBuilder();
+        StringBuilder args = new StringBuilder();
+        StringBuilder getters = new StringBuilder();
+        StringBuilder equals = new StringBuilder();
+        StringBuilder toString = new StringBuilder();
+        for (int i = 0; i < names.size(); i++) {
+            String key = names.get(i);
+            String type = types.get(i);
+            String sep = i == 0 ? EMPTY_STRING : COMMA + SPACE;
+            fields.append(EIGHT_SPACE_INDENTATION).append(PRIVATE).append(SPACE)
+                    .append(FINAL).append(SPACE).append(type).append(SPACE)
+                    .append(key).append(signatureClose());
+            params.append(sep).append(type).append(SPACE).append(key);
+            paramDocs.append("         * @param ").append(key);
+            for (int j = key.length(); j <= width; j++) {
+                paramDocs.append(SPACE);
+            }
+            paramDocs.append("value of ").append(key).append(" key leaf\n");
+            assigns.append(TWELVE_SPACE_INDENTATION).append(THIS).append(PERIOD)
+                    .append(key).append(SPACE).append(EQUAL).append(SPACE)
+                    .append(key).append(signatureClose());
+            args.append(sep).append(key);
+            getters.append("\n        /**\n" +
+                                   "         * Returns the value of ")
+                    .append(key).append(" key leaf.\n" +
+                                                "         *\n" +
+                                                "         * @return value of ")
+                    .append(key).append(" key leaf\n" +
+                                                "         */\n")
+                    .append(EIGHT_SPACE_INDENTATION).append(PUBLIC)
+                    .append(SPACE).append(type).append(SPACE).append(key)
+                    .append(OPEN_CLOSE_BRACKET_STRING).append(SPACE)
+                    .append(OPEN_CURLY_BRACKET).append(NEW_LINE)
+                    .append(getReturnString(key, TWELVE_SPACE_INDENTATION))
+                    .append(signatureClose())
+                    .append(methodClose(EIGHT_SPACE));
+            equals.append(" &&\n").append(TWENTY_FOUR_SPACE_INDENTATION);
+            if (Character.isLowerCase(type.charAt(0)) &&
+                    !type.contains(PERIOD)) {
+                // Primitive key leaf is compared without boxing.
+                equals.append(key).append(" == other.").append(key);
+            } else {
+                equals.append("Objects.equals(").append(key)
+                        .append(", other.").append(key)
+                        .append(CLOSE_PARENTHESIS);
+            }
+            toString.append(NEW_LINE).append(TWENTY_SPACE_INDENTATION)
+                    .append(".add(\"").append(key).append("\", ").append(key)
+                    .append(CLOSE_PARENTHESIS);
+        }
+        String entryArgs = args.toString().replaceAll(
+                "(\\w+)", "entry.$1()");
+
+        return "\n    /**\n" +
+                "     * Represents the keys of " + name + " entry, which" +
+                " identify the entry in\n" +
+                "     * map of " + name + " entries.\n" +
+                "     */\n" +
+                FOUR_SPACE_INDENTATION + FINAL + SPACE + CLASS + SPACE + keys +
+                SPACE + OPEN_CURLY_BRACKET + NEW_LINE + NEW_LINE +
+                fields +
+                EIGHT_SPACE_INDENTATION + PRIVATE + SPACE + FINAL + SPACE + INT +
+                " keysHash" + signatureClose() +
+                "\n        /**\n" +
+                "         * Creates an instance of " + getSmallCase(keys) +
+                ".\n" +
+                "         *\n" +
+                paramDocs +
+                "         */\n" +
+                EIGHT_SPACE_INDENTATION + PUBLIC + SPACE + keys +
+                getOpenCloseParaWithValue(params.toString()) + SPACE +
+                OPEN_CURLY_BRACKET + NEW_LINE +
+                assigns +
+                TWELVE_SPACE_INDENTATION + "keysHash = Objects.hash" +
+                getOpenCloseParaWithValue(args.toString()) + signatureClose() +
+                methodClose(EIGHT_SPACE) +
+                "\n        /**\n" +
+                "         * Returns the keys of " + name + " entry.\n" +
+                "         *\n" +
+                "         * @param entry " + name + " entry\n" +
+                "         * @return keys of " + name + " entry\n" +
+                "         */\n" +
+                EIGHT_SPACE_INDENTATION + PUBLIC + SPACE + STATIC + SPACE +
+                keys + SPACE + OF + getOpenCloseParaWithValue(
+                name + " entry") + SPACE + OPEN_CURLY_BRACKET + NEW_LINE +
+                getReturnString(NEW + SPACE + keys + getOpenCloseParaWithValue(
+                        entryArgs), TWELVE_SPACE_INDENTATION) +
+                signatureClose() + methodClose(EIGHT_SPACE) +
+                getters +
+                NEW_LINE + EIGHT_SPACE_INDENTATION + OVERRIDE + NEW_LINE +
+                EIGHT_SPACE_INDENTATION + "public int hashCode() {\n" +
+                getReturnString("keysHash", TWELVE_SPACE_INDENTATION) +
+                signatureClose() + methodClose(EIGHT_SPACE) +
+                NEW_LINE + EIGHT_SPACE_INDENTATION + OVERRIDE + NEW_LINE +
+                EIGHT_SPACE_INDENTATION +
+                "public boolean equals(Object obj) {\n" +
+                "            if (this == obj) {\n" +
+                "                return true;\n" +
+                "            }\n" +
+                "            if (obj instanceof " + keys + ") {\n" +
+                SIXTEEN_SPACE_INDENTATION + keys + " other = (" + keys +
+                ") obj;\n" +
+                SIXTEEN_SPACE_INDENTATION + "return keysHash == other.keysHash" +
+                equals + signatureClose() +
+                "            }\n" +
+                "            return false;\n" +
+                methodClose(EIGHT_SPACE) +
+                NEW_LINE + EIGHT_SPACE_INDENTATION + OVERRIDE + NEW_LINE +
+                EIGHT_SPACE_INDENTATION + "public String toString() {\n" +
+                TWELVE_SPACE_INDENTATION + "return MoreObjects.toStringHelper" +
+                "(getClass())" + toString + NEW_LINE + TWENTY_SPACE_INDENTATION +
+                ".toString()" + signatureClose() +
+                methodClose(EIGHT_SPACE) +
+                methodClose(FOUR_SPACE);
+    }
+
+    /**
+     * Returns the java type of key leaf for keys class. The type is
+     * qualified unless it is imported in the list interface.
+     *
+     * @param info    key leaf
+     * @param imports imports of list interface
+     * @return java type of key leaf
+     */
+    private static String getKeyLeafType(JavaLeafInfoContainer info,
+                                         List<String> imports) {
+        JavaQualifiedTypeInfo type = info.getJavaQualifiedInfo();
+        String pkg = type.getPkgInfo();
+        if (pkg == null || pkg.equals(JAVA_LANG) ||
+                imports.contains(getImportString(pkg, type.getClassInfo()))) {
+            return type.getClassInfo();
+        }
+        return pkg + PERIOD + type.getClassInfo();
     }
 
     /**
@@ -1598,15 +2765,17 @@ public final class MethodsGenerator {
     /**
      * Returns setter for select leaf.
      *
-     * @param name name of node
+     * @param name  name of node
+     * @param words number of long words storing the leaf flags
      * @return setter for select leaf
      */
-    static String getSetterForSelectLeaf(String name) {
+    static String getSetterForSelectLeaf(String name, int words) {
         return "\n" +
                 "    " + OVERRIDE + "\n" +
                 "    public " + name + BUILDER +
                 " selectLeaf(LeafIdentifier leaf) {\n" +
-                "        selectLeafFlags.set(leaf.getLeafIndex());\n" +
+                "        " + getLeafFlagString(SELECT_LEAF, LEAF + PERIOD +
+                LEAF_INDEX, SET_METHOD_PREFIX, words) + ";\n" +
                 "        return this;\n" +
                 "    }\n";
     }
@@ -1620,15 +2789,27 @@ public final class MethodsGenerator {
      /* generate code will look like this.
        public static BitSet fromString(String valInString) {
             BitSet tmpVal = new BitSet();
-            String[] bitNames = valInString.trim().split(Pattern.quote(" "));
-            for (String bitName : bitNames) {
-                Bits bits = of(bitName);
+            int length = valInString.length();
+            int end = 0;
+            while (end < length) {
+                int start = end;
+                while (start < length && valInString.charAt(start) <= ' ') {
+                    start++;
+                }
+                end = start;
+                while (end < length && valInString.charAt(end) > ' ') {
+                    end++;
+                }
+                if (start == end) {
+                    break;
+                }
+                Bits bits = of(valInString.substring(start, end));
                 if (bits != null) {
                     tmpVal.set(bits.bits());
                 }
             }
             if (tmpVal.isEmpty()) {
-                throw new NoSuchElementException("no such element found in bits");
+                throw new IllegalArgumentException("no such element found in bits");
             }
             return tmpVal;
         }*/
@@ -1639,21 +2820,31 @@ public final class MethodsGenerator {
                                       BIT_SET, STRING_DATA_TYPE, CLASS_TYPE))
                 .append(EIGHT_SPACE_INDENTATION)
                 .append(getBitSetAttr(EMPTY_STRING));
-        // Split the input string and check each bit name falls in configured yang file
-        sBuild.append(EIGHT_SPACE_INDENTATION).append(STRING_DATA_TYPE)
-                .append(SQUARE_BRACKETS).append(SPACE).append(BIT_NAMES_VAR)
-                .append(SPACE).append(EQUAL).append(SPACE).append(FROM_STRING_PARAM_NAME)
-                .append(PERIOD).append(TRIM_STRING).append(OPEN_CLOSE_BRACKET_STRING)
-                .append(PERIOD).append(SPLIT_STRING).append(getOpenCloseParaWithValue(
-                getPatternQuoteString(SPACE))).append(signatureClose()).append(
-                getForLoopString(EIGHT_SPACE_INDENTATION, STRING_DATA_TYPE, BIT_NAME_VAR,
-                                 BIT_NAMES_VAR));
+        // Walk the input string and check each space separated bit name
+        // falls in configured yang file
+        sBuild.append("        int length = valInString.length();\n" +
+                              "        int end = 0;\n" +
+                              "        while (end < length) {\n" +
+                              "            int start = end;\n" +
+                              "            while (start < length &&\n" +
+                              "                    valInString.charAt(start) <= ' ') {\n" +
+                              "                start++;\n" +
+                              "            }\n" +
+                              "            end = start;\n" +
+                              "            while (end < length &&\n" +
+                              "                    valInString.charAt(end) > ' ') {\n" +
+                              "                end++;\n" +
+                              "            }\n" +
+                              "            if (start == end) {\n" +
+                              "                break;\n" +
+                              "            }\n");
+        String bitName = FROM_STRING_PARAM_NAME + ".substring(start, end)";
 
         String small = getSmallCase(bitClassName);
         sBuild.append(TWELVE_SPACE_INDENTATION).append(bitClassName).append(
                 SPACE).append(small).append(SPACE).append(EQUAL).append(
                 SPACE).append(OF).append(
-                getOpenCloseParaWithValue(BIT_NAME_VAR)).append(signatureClose());
+                getOpenCloseParaWithValue(bitName)).append(signatureClose());
         String condition = small + SPACE + NOT + EQUAL + SPACE + NULL;
         sBuild.append(getIfConditionBegin(TWELVE_SPACE_INDENTATION, condition))
                 .append(SIXTEEN_SPACE_INDENTATION)
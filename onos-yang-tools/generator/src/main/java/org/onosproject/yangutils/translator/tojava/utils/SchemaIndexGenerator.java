@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangCase;
+import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangInput;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangNotification;
+import org.onosproject.yangutils.datamodel.YangOutput;
+import org.onosproject.yangutils.datamodel.YangRpc;
+import org.onosproject.yangutils.datamodel.YangSubModule;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaIndex.Entry;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.DEFAULT_CLASS_MASK;
+import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
+import static org.onosproject.yangutils.utils.UtilConstants.COLON;
+import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.OP_PARAM;
+import static org.onosproject.yangutils.utils.UtilConstants.SLASH_FOR_STRING;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator of schema index entries for the translated nodes of
+ * a module, written at build time so that generated classes are found at
+ * run time without scanning packages.
+ */
+public final class SchemaIndexGenerator {
+
+    private static final String NESTED = "$";
+
+    // No instantiation.
+    private SchemaIndexGenerator() {
+    }
+
+    /**
+     * Returns the schema index entries of a translated module or
+     * sub-module, and of its nodes generating classes.
+     *
+     * @param rootNode module or sub-module node
+     * @return schema index entries
+     */
+    public static List<Entry> getSchemaIndexEntries(YangNode rootNode) {
+        List<Entry> entries = new ArrayList<>();
+        String module = rootNode.getName();
+        if (rootNode instanceof YangSubModule) {
+            module = ((YangSubModule) rootNode).getBelongsTo()
+                    .getBelongsToModuleName();
+        }
+        addEntry(entries, rootNode, SLASH_FOR_STRING + rootNode.getName());
+        addChildEntries(entries, rootNode, SLASH_FOR_STRING + module + COLON);
+        return entries;
+    }
+
+    /**
+     * Adds the entries of child nodes generating classes, and of their
+     * descendants.
+     *
+     * @param entries schema index entries
+     * @param node    parent node
+     * @param prefix  schema path prefix of child nodes
+     */
+    private static void addChildEntries(List<Entry> entries, YangNode node,
+                                        String prefix) {
+        for (YangNode child = node.getChild(); child != null;
+             child = child.getNextSibling()) {
+            String path = prefix + child.getName();
+            if (child instanceof YangRpc) {
+                addChildEntries(entries, child, path + SLASH_FOR_STRING);
+            } else if (isIndexedNode(child)) {
+                // Augment of choice has no class of its own, but its cases.
+                if (!(child instanceof YangAugment) ||
+                        !(((YangAugment) child).getAugmentedNode()
+                                instanceof YangChoice)) {
+                    addEntry(entries, child, path);
+                }
+                addChildEntries(entries, child, path + SLASH_FOR_STRING);
+            }
+        }
+    }
+
+    /**
+     * Returns true if node is a data node generating classes.
+     *
+     * @param node YANG node
+     * @return true if node is indexed
+     */
+    private static boolean isIndexedNode(YangNode node) {
+        return node instanceof YangContainer || node instanceof YangList ||
+                node instanceof YangChoice || node instanceof YangCase ||
+                node instanceof YangNotification || node instanceof YangInput ||
+                node instanceof YangOutput || node instanceof YangAugment;
+    }
+
+    /**
+     * Adds the schema index entry of a node, if it is translated. Nodes
+     * cloned from a grouping use the classes generated for the grouping.
+     *
+     * @param entries schema index entries
+     * @param node    YANG node
+     * @param path    schema path of node
+     */
+    private static void addEntry(List<Entry> entries, YangNode node,
+                                 String path) {
+        YangNode javaNode = node;
+        while (javaNode.getReferredSchema() != null) {
+            javaNode = (YangNode) javaNode.getReferredSchema();
+        }
+        JavaFileInfoTranslator info = ((JavaFileInfoContainer) javaNode)
+                .getJavaFileInfo();
+        if (info.getJavaName() == null) {
+            return;
+        }
+        String name = getCapitalCase(info.getJavaName());
+        String builderName = null;
+        String defaultName = null;
+        if ((info.getGeneratedFileTypes() & DEFAULT_CLASS_MASK) != 0) {
+            if (javaNode instanceof RpcNotificationContainer) {
+                defaultName = name + OP_PARAM;
+            } else {
+                defaultName = DEFAULT_CAPS + name;
+            }
+            builderName = defaultName + NESTED + name + BUILDER;
+        }
+        entries.add(new Entry(path, info.getPackage(), name, builderName,
+                              defaultName, getLeafOrdinals(javaNode)));
+    }
+
+    /**
+     * Returns the leaf identifier ordinals of a node, which are assigned
+     * from one in the order of its leaves.
+     *
+     * @param node YANG node
+     * @return leaf identifier ordinals by leaf name
+     */
+    private static Map<String, Integer> getLeafOrdinals(YangNode node) {
+        Map<String, Integer> ordinals = new LinkedHashMap<>();
+        if (node instanceof YangLeavesHolder &&
+                ((YangLeavesHolder) node).getListOfLeaf() != null) {
+            int ordinal = 0;
+            for (YangLeaf leaf : ((YangLeavesHolder) node).getListOfLeaf()) {
+                ordinal++;
+                ordinals.put(leaf.getName(), ordinal);
+            }
+        }
+        return ordinals;
+    }
+}
@@ -17,6 +17,8 @@
 package org.onosproject.yangutils.translator.tojava.utils;
 
 import org.onosproject.yangutils.datamodel.YangCompilerAnnotation;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangType;
 import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yangutils.translator.exception.TranslatorException;
@@ -61,6 +63,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.CHECK_NOT_NULL_STRIN
 import static org.onosproject.yangutils.utils.UtilConstants.CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_CURLY_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_PARENTHESIS;
+import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_SQUARE_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.COLON;
 import static org.onosproject.yangutils.utils.UtilConstants.COMMA;
 import static org.onosproject.yangutils.utils.UtilConstants.COMPARE_TO;
@@ -90,37 +93,47 @@ import static org.onosproject.yangutils.utils.UtilConstants.INT;
 import static org.onosproject.yangutils.utils.UtilConstants.INTEGER_WRAPPER;
 import static org.onosproject.yangutils.utils.UtilConstants.INT_MAX_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.INT_MIN_RANGE;
+import static org.onosproject.yangutils.utils.UtilConstants.KEYS;
+import static org.onosproject.yangutils.utils.UtilConstants.LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.LEAF_IDENTIFIER;
+import static org.onosproject.yangutils.utils.UtilConstants.LEAF_INDEX;
+import static org.onosproject.yangutils.utils.UtilConstants.LEFT_SHIFT;
 import static org.onosproject.yangutils.utils.UtilConstants.LIST;
 import static org.onosproject.yangutils.utils.UtilConstants.LONG;
+import static org.onosproject.yangutils.utils.UtilConstants.LONG_BITS_SHIFT;
 import static org.onosproject.yangutils.utils.UtilConstants.LONG_MAX_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.LONG_MIN_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.LONG_WRAPPER;
+import static org.onosproject.yangutils.utils.UtilConstants.MAP;
 import static org.onosproject.yangutils.utils.UtilConstants.MORE_OBJ_ATTR;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
+import static org.onosproject.yangutils.utils.UtilConstants.NOT;
 import static org.onosproject.yangutils.utils.UtilConstants.OBJECT;
 import static org.onosproject.yangutils.utils.UtilConstants.OBJECT_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.OF;
 import static org.onosproject.yangutils.utils.UtilConstants.OMIT_NULL_VALUE_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.ONE_LONG;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_CLOSE_BRACKET_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_CURLY_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_PARENTHESIS;
+import static org.onosproject.yangutils.utils.UtilConstants.OPEN_SQUARE_BRACKET;
+import static org.onosproject.yangutils.utils.UtilConstants.OR;
 import static org.onosproject.yangutils.utils.UtilConstants.OVERRIDE;
 import static org.onosproject.yangutils.utils.UtilConstants.PARSE_BOOLEAN;
 import static org.onosproject.yangutils.utils.UtilConstants.PARSE_BYTE;
 import static org.onosproject.yangutils.utils.UtilConstants.PARSE_INT;
 import static org.onosproject.yangutils.utils.UtilConstants.PARSE_LONG;
 import static org.onosproject.yangutils.utils.UtilConstants.PARSE_SHORT;
-import static org.onosproject.yangutils.utils.UtilConstants.PATTERN;
 import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
 import static org.onosproject.yangutils.utils.UtilConstants.PUT;
 import static org.onosproject.yangutils.utils.UtilConstants.QUEUE;
 import static org.onosproject.yangutils.utils.UtilConstants.QUOTES;
-import static org.onosproject.yangutils.utils.UtilConstants.QUOTE_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.RETURN;
+import static org.onosproject.yangutils.utils.UtilConstants.SELECT_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.SEMI_COLON;
 import static org.onosproject.yangutils.utils.UtilConstants.SET;
+import static org.onosproject.yangutils.utils.UtilConstants.SET_METHOD_PREFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_VALUE_PARA;
 import static org.onosproject.yangutils.utils.UtilConstants.SHORT;
 import static org.onosproject.yangutils.utils.UtilConstants.SHORT_MAX_RANGE;
@@ -142,8 +155,10 @@ import static org.onosproject.yangutils.utils.UtilConstants.UINT_MAX_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.UINT_MIN_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.ULONG_MAX_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.ULONG_MIN_RANGE;
+import static org.onosproject.yangutils.utils.UtilConstants.UNSIGNED_RIGHT_SHIFT;
 import static org.onosproject.yangutils.utils.UtilConstants.VALIDATE_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE;
+import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_MAP;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_UTILS_TODO;
 import static org.onosproject.yangutils.utils.UtilConstants.ZERO;
@@ -603,6 +618,12 @@ public final class StringGenerator {
                             DIAMOND_CLOSE_BRACKET;
                     break;
                 }
+                case MAP: {
+                    listAttr = MAP + DIAMOND_OPEN_BRACKET +
+                            getListKeysClassName(attrType) + COMMA + SPACE +
+                            attrType + DIAMOND_CLOSE_BRACKET;
+                    break;
+                }
                 case LIST: {
                     listAttr = getListString() + attrType +
                             DIAMOND_CLOSE_BRACKET;
@@ -620,15 +641,30 @@ public final class StringGenerator {
     }
 
     /**
-     * Returns getters for value and select leaf.
+     * Returns keys class name of list entry type. The keys class is
+     * generated as nested class of the list interface.
+     *
+     * @param attrType list entry type
+     * @return keys class name
+     */
+    static String getListKeysClassName(String attrType) {
+        return attrType + PERIOD + attrType.substring(
+                attrType.lastIndexOf(PERIOD) + 1) + KEYS;
+    }
+
+    /**
+     * Returns is leaf value set method, which checks the bit of the leaf in
+     * value leaf flags.
      *
-     * @return getters for value and select leaf
+     * @param words number of long words storing the leaf flags
+     * @return is leaf value set method
      */
-    static String getIsValueLeafSet() {
+    static String getIsValueLeafSet(int words) {
         return "\n" +
                 "    @Override\n" +
                 "    public boolean isLeafValueSet(LeafIdentifier leaf) {\n" +
-                "        return valueLeafFlags.get(leaf.getLeafIndex());\n" +
+                "        return " + getLeafFlagString(VALUE_LEAF, LEAF + PERIOD +
+                LEAF_INDEX, GET, words) + ";\n" +
                 "    }\n" +
                 "\n";
     }
@@ -636,50 +672,17 @@ public final class StringGenerator {
     /**
      * Returns is select leaf set.
      *
+     * @param words number of long words storing the leaf flags
      * @return is select leaf set
      */
-    static String getIsSelectLeafSet() {
+    static String getIsSelectLeafSet(int words) {
         return "    @Override\n" +
                 "    public boolean isSelectLeaf(LeafIdentifier leaf) {\n" +
-                "        return selectLeafFlags.get(leaf.getLeafIndex());\n" +
+                "        return " + getLeafFlagString(SELECT_LEAF, LEAF + PERIOD +
+                LEAF_INDEX, GET, words) + ";\n" +
                 "    }\n";
     }
 
-    /**
-     * Returns getter methods for operation attributes.
-     *
-     * @return getter methods for operation attributes
-     */
-    static String getValueLeafGetters() {
-        return "\n" +
-                "    /**\n" +
-                "     * Returns the valueLeafFlags.\n" +
-                "     *\n" +
-                "     * @return value of valueLeafFlags\n" +
-                "     */\n" +
-                "    public BitSet getValueLeafFlags() {\n" +
-                "        return valueLeafFlags;\n" +
-                "    }\n" +
-                "\n";
-    }
-
-    /**
-     * Returns getter methods for operation attributes.
-     *
-     * @return getter methods for operation attributes
-     */
-    static String getSelectLeafGetters() {
-        return "    /**\n" +
-                "     * Returns the selectLeafFlags.\n" +
-                "     *\n" +
-                "     * @return value of selectLeafFlags\n" +
-                "     */\n" +
-                "    public BitSet getSelectLeafFlags() {\n" +
-                "        return selectLeafFlags;\n" +
-                "    }\n" +
-                "\n";
-    }
-
     /**
      * Returns interface leaf identifier enum method.
      *
@@ -929,12 +932,88 @@ public final class StringGenerator {
      * @param flag        flag to set values
      * @param indentation indentation
      * @param prefix      prefix of method
+     * @param words       number of long words storing the leaf flags
      * @return value leaf flag setter
      */
-    static String getLeafFlagSetString(String name, String flag, String indentation, String prefix) {
-        return indentation + flag + PERIOD + prefix +
-                getOpenCloseParaWithValue(LEAF_IDENTIFIER + PERIOD + name
-                        .toUpperCase() + ".getLeafIndex()");
+    static String getLeafFlagSetString(String name, String flag, String indentation,
+                                       String prefix, int words) {
+        return indentation + getLeafFlagString(
+                flag, LEAF_IDENTIFIER + PERIOD + name.toUpperCase() +
+                        PERIOD + LEAF_INDEX, prefix, words);
+    }
+
+    /**
+     * Returns value leaf flag clear expression.
+     *
+     * @param name        name of leaf
+     * @param flag        flag to clear values
+     * @param indentation indentation
+     * @param words       number of long words storing the leaf flags
+     * @return value leaf flag clear expression
+     */
+    static String getLeafFlagClearString(String name, String flag,
+                                         String indentation, int words) {
+        /* Generate code will look like this.
+        valueLeafFlags &= ~(1L << LeafIdentifier.LEAF.getLeafIndex())
+        */
+        String index = LEAF_IDENTIFIER + PERIOD + name.toUpperCase() +
+                PERIOD + LEAF_INDEX;
+        return indentation + getLeafFlagWord(flag, index, words) + SPACE +
+                AND + EQUAL + SPACE + "~" + OPEN_PARENTHESIS + ONE_LONG +
+                SPACE + LEFT_SHIFT + SPACE + index + CLOSE_PARENTHESIS;
+    }
+
+    /**
+     * Returns the expression which sets or checks the bit of a leaf in the
+     * leaf flags. Flags are kept in a long, or in a long array when the leaf
+     * indexes do not fit in one.
+     *
+     * @param flag   leaf flags attribute
+     * @param index  leaf index expression
+     * @param prefix set or get prefix
+     * @param words  number of long words storing the leaf flags
+     * @return leaf flag expression
+     */
+    static String getLeafFlagString(String flag, String index, String prefix,
+                                    int words) {
+        /* Generate code will look like this.
+        valueLeafFlags |= 1L << LeafIdentifier.LEAF.getLeafIndex()
+        (valueLeafFlags & 1L << LeafIdentifier.LEAF.getLeafIndex()) != 0
+        valueLeafFlags[LeafIdentifier.LEAF.getLeafIndex() >>> 6] |= 1L << LeafIdentifier.LEAF.getLeafIndex()
+        */
+        String word = getLeafFlagWord(flag, index, words);
+        String bit = ONE_LONG + SPACE + LEFT_SHIFT + SPACE + index;
+        if (prefix.equals(SET_METHOD_PREFIX)) {
+            return word + SPACE + OR + EQUAL + SPACE + bit;
+        }
+        return OPEN_PARENTHESIS + word + SPACE + AND + SPACE + bit +
+                CLOSE_PARENTHESIS + SPACE + NOT + EQUAL + SPACE + ZERO;
+    }
+
+    // Returns the long word of leaf flags holding the bit of a leaf.
+    private static String getLeafFlagWord(String flag, String index,
+                                          int words) {
+        if (words > 1) {
+            return flag + OPEN_SQUARE_BRACKET + index + SPACE +
+                    UNSIGNED_RIGHT_SHIFT + SPACE + LONG_BITS_SHIFT +
+                    CLOSE_SQUARE_BRACKET;
+        }
+        return flag;
+    }
+
+    /**
+     * Returns the number of long words needed to store the value and select
+     * leaf flags of given node. Leaf index starts from one.
+     *
+     * @param node YANG node
+     * @return number of long words
+     */
+    public static int getLeafFlagWords(YangNode node) {
+        if (!(node instanceof YangLeavesHolder) ||
+                ((YangLeavesHolder) node).getListOfLeaf() == null) {
+            return 1;
+        }
+        return ((YangLeavesHolder) node).getListOfLeaf().size() / Long.SIZE + 1;
     }
 
     /*Provides string to return for type.*/
@@ -1164,17 +1243,6 @@ public final class StringGenerator {
                 append + CLOSE_PARENTHESIS + signatureClose();
     }
 
-    /**
-     * Returns pattern quote string.
-     *
-     * @param type type for pattern is needed
-     * @return pattern quote string
-     */
-    static String getPatternQuoteString(String type) {
-        return PATTERN + PERIOD + QUOTE_STRING + getOpenCloseParaWithValue(
-                getQuotedString(type));
-    }
-
     /**
      * Returns bitset attribute.
      *
@@ -20,8 +20,10 @@ import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
 import org.onosproject.yangutils.datamodel.YangAugment;
 import org.onosproject.yangutils.datamodel.YangCase;
 import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangLeaf;
 import org.onosproject.yangutils.datamodel.YangLeafRef;
 import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangType;
 import org.onosproject.yangutils.translator.exception.TranslatorException;
@@ -29,15 +31,22 @@ import org.onosproject.yangutils.translator.tojava.JavaAttributeInfo;
 import org.onosproject.yangutils.translator.tojava.JavaCodeGeneratorInfo;
 import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
 import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
+import org.onosproject.yangutils.translator.tojava.javamodel.JavaLeafInfoContainer;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.YangToJavaNamingConflictUtil;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.LEAFREF;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.FILTER_CONTENT_MATCH_FOR_LEAF_LIST_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.FILTER_CONTENT_MATCH_FOR_LEAF_MASK;
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.FILTER_CONTENT_MATCH_FOR_NODES_MASK;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.getQualifiedNodeName;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
 import static org.onosproject.yangutils.translator.tojava.utils.IndentationType.EIGHT_SPACE;
 import static org.onosproject.yangutils.translator.tojava.utils.IndentationType.FOUR_SPACE;
 import static org.onosproject.yangutils.translator.tojava.utils.IndentationType.SIXTEEN_SPACE;
@@ -53,6 +62,8 @@ import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getForLoopString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getIfConditionBegin;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagSetString;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getLeafFlagWords;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getListKeysClassName;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getNewInstance;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getOpenCloseParaWithValue;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getReturnString;
@@ -64,33 +75,50 @@ import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.
 import static org.onosproject.yangutils.utils.UtilConstants.ADD_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.AND_OPERATION;
 import static org.onosproject.yangutils.utils.UtilConstants.APP_INSTANCE;
+import static org.onosproject.yangutils.utils.UtilConstants.ARRAYS;
+import static org.onosproject.yangutils.utils.UtilConstants.ARRAY_LIST;
+import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED_INFO;
+import static org.onosproject.yangutils.utils.UtilConstants.AUGMENTED_INFO_SUPPORT;
 import static org.onosproject.yangutils.utils.UtilConstants.BIT_SET;
 import static org.onosproject.yangutils.utils.UtilConstants.BOOLEAN_DATA_TYPE;
-import static org.onosproject.yangutils.utils.UtilConstants.BREAK;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER_LOWER_CASE;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILD_FOR_FILTER;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_CURLY_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_PARENTHESIS;
+import static org.onosproject.yangutils.utils.UtilConstants.COLLECTION;
+import static org.onosproject.yangutils.utils.UtilConstants.COLLECTIONS;
 import static org.onosproject.yangutils.utils.UtilConstants.COMMA;
 import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT;
 import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.DIAMOND_CLOSE_BRACKET;
+import static org.onosproject.yangutils.utils.UtilConstants.DIAMOND_OPEN_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.ELSE;
 import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.EQUAL;
-import static org.onosproject.yangutils.utils.UtilConstants.EQUALS_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.FALSE;
-import static org.onosproject.yangutils.utils.UtilConstants.FLAG;
+import static org.onosproject.yangutils.utils.UtilConstants.FILTER_AUGMENTED_INFO;
+import static org.onosproject.yangutils.utils.UtilConstants.FOUR_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.GET;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_SET;
+import static org.onosproject.yangutils.utils.UtilConstants.IF;
 import static org.onosproject.yangutils.utils.UtilConstants.INSTANCE;
+import static org.onosproject.yangutils.utils.UtilConstants.INSTANCE_OF;
 import static org.onosproject.yangutils.utils.UtilConstants.IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG;
 import static org.onosproject.yangutils.utils.UtilConstants.IS_EMPTY;
 import static org.onosproject.yangutils.utils.UtilConstants.IS_SELECT_ALL_SCHEMA_CHILD_FLAG;
+import static org.onosproject.yangutils.utils.UtilConstants.IS_SUBTREE_FILTERING_KEY_SET;
 import static org.onosproject.yangutils.utils.UtilConstants.LEAF_IDENTIFIER;
+import static org.onosproject.yangutils.utils.UtilConstants.LIST;
+import static org.onosproject.yangutils.utils.UtilConstants.MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.NEW;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yangutils.utils.UtilConstants.NOT;
 import static org.onosproject.yangutils.utils.UtilConstants.NULL;
+import static org.onosproject.yangutils.utils.UtilConstants.OBJECT;
+import static org.onosproject.yangutils.utils.UtilConstants.OF;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_CLOSE_BRACKET_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_CURLY_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.OPEN_PARENTHESIS;
@@ -102,6 +130,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.PROCESS_CHILD_NODE_S
 import static org.onosproject.yangutils.utils.UtilConstants.PROCESS_LEAF_LIST_STF_PARAM;
 import static org.onosproject.yangutils.utils.UtilConstants.PROCESS_LEAF_STF_PARAM;
 import static org.onosproject.yangutils.utils.UtilConstants.PROCESS_SUBTREE_FILTERING;
+import static org.onosproject.yangutils.utils.UtilConstants.PROCESS_SUBTREE_FILTERING_KEY;
 import static org.onosproject.yangutils.utils.UtilConstants.PUBLIC;
 import static org.onosproject.yangutils.utils.UtilConstants.RESULT;
 import static org.onosproject.yangutils.utils.UtilConstants.SELECT_ALL_CHILD;
@@ -109,9 +138,11 @@ import static org.onosproject.yangutils.utils.UtilConstants.SELECT_ALL_CHILD_SCH
 import static org.onosproject.yangutils.utils.UtilConstants.SELECT_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.SELECT_OR_CONTAINMENT_NODE_PARAM;
 import static org.onosproject.yangutils.utils.UtilConstants.SEMI_COLON;
+import static org.onosproject.yangutils.utils.UtilConstants.SET;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_METHOD_PREFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.SPACE;
+import static org.onosproject.yangutils.utils.UtilConstants.STATIC;
 import static org.onosproject.yangutils.utils.UtilConstants.STF_BUILDER_PARAM;
 import static org.onosproject.yangutils.utils.UtilConstants.SUBTREE_FILTERED;
 import static org.onosproject.yangutils.utils.UtilConstants.SUBTREE_FILTERING_RESULT_BUILDER;
@@ -123,6 +154,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_EIGHT_SPACE_I
 import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_FOUR_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.TWO;
+import static org.onosproject.yangutils.utils.UtilConstants.VALUES;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF_SET;
 import static org.onosproject.yangutils.utils.UtilConstants.ZERO;
@@ -194,9 +226,10 @@ public final class SubtreeFilteringMethodsGenerator {
             JavaAttributeInfo javaAttributeInfo, YangType<?> type) {
         String attrQualifiedType;
         String attributeName = javaAttributeInfo.getAttributeName();
+        int words = javaAttributeInfo.getLeafFlagWords();
         attrQualifiedType = getIfFilterContentMatchMethodImpl(attributeName,
                                                               type);
-        /* if (valueLeafFlags.get(LeafIdentifier.LEAF.getLeafIndex())) {
+        /* if ((valueLeafFlags & 1L << LeafIdentifier.LEAF.getLeafIndex()) != 0) {
          * if (appInstance.leaf() != leaf()) {
          * return false;
          * } else {
@@ -219,7 +252,7 @@ public final class SubtreeFilteringMethodsGenerator {
                 getOpenCloseParaWithValue(
                         LEAF_IDENTIFIER + PERIOD + attributeName.toUpperCase());
         return getIfConditionBegin(EIGHT_SPACE_INDENTATION, getLeafFlagSetString(
-                attributeName, VALUE_LEAF, EMPTY_STRING, GET)) +
+                attributeName, VALUE_LEAF, EMPTY_STRING, GET, words)) +
                 getIfConditionBegin(TWELVE_SPACE_INDENTATION, attrQualifiedType) +
                 getIfConditionBegin(SIXTEEN_SPACE_INDENTATION, condition) +
                 TWENTY_SPACE_INDENTATION + SUBTREE_FILTERING_RESULT_BUILDER +
@@ -234,7 +267,8 @@ public final class SubtreeFilteringMethodsGenerator {
                 getSubTreeBuilderCallString(SIXTEEN_SPACE_INDENTATION, attributeName,
                                             TWELVE_SPACE) +
                 getElseIfConditionBegin(EIGHT_SPACE_INDENTATION, getLeafFlagSetString(
-                        attributeName, SELECT_LEAF, EMPTY_STRING, GET) + SPACE +
+                        attributeName, SELECT_LEAF, EMPTY_STRING, GET, words) +
+                        SPACE +
                         OR_OPERATION + SPACE + IS_SELECT_ALL_SCHEMA_CHILD_FLAG) +
                 getSelectOrContainmentAssignString() +
                 getSubTreeBuilderCallString(TWELVE_SPACE_INDENTATION, attributeName,
@@ -310,7 +344,8 @@ public final class SubtreeFilteringMethodsGenerator {
      */
     public static String getSubtreeFilteringForLeafList(
             JavaAttributeInfo javaAttributeInfo) {
-        return getSubtreeFilteringForList(javaAttributeInfo, true, null);
+        return getSubtreeFilteringForList(javaAttributeInfo, true, null,
+                                          null);
     }
 
     /**
@@ -421,13 +456,14 @@ public final class SubtreeFilteringMethodsGenerator {
      /* Generate code will look like this.
       private boolean processLeafSubtreeFiltering(Link appInstance, LinkBuilder subTreeFilteringResultBuilder,
                 Boolean isAnySelectOrContainmentNode, boolean isSelectAllSchemaChild) {
-            if (valueLeafFlags.get(LeafIdentifier.PORT.getLeafIndex())) {
+            if ((valueLeafFlags & 1L << LeafIdentifier.PORT.getLeafIndex()) != 0) {
                 if (appInstance.port() != port()) {
                     return false;
                 } else {
                     subTreeFilteringResultBuilder.port(appInstance.port());
                 }
-            } else if (selectLeafFlags.get(LeafIdentifier.PORT.getLeafIndex()) || isSelectAllSchemaChild) {
+            } else if ((selectLeafFlags & 1L << LeafIdentifier.PORT.getLeafIndex()) != 0 ||
+                    isSelectAllSchemaChild) {
                 isAnySelectOrContainmentNode = true;
                 subTreeFilteringResultBuilder.port(appInstance.port());
             }
@@ -608,16 +644,18 @@ public final class SubtreeFilteringMethodsGenerator {
     /**
      * Returns is filter content match for node.
      *
-     * @param attr attribute info
-     * @param node YANG node
+     * @param attr   attribute info
+     * @param node   YANG node
+     * @param config plugin configurations
      * @return is filter content match for node
      */
-    public static String getSubtreeFilteringForNode(JavaAttributeInfo attr, YangNode node) {
+    public static String getSubtreeFilteringForNode(JavaAttributeInfo attr, YangNode node,
+                                                    YangPluginConfig config) {
         boolean isList = attr.isListAttr();
         if (isList) {
-            return getSubtreeFilteringForList(attr, false, node);
+            return getSubtreeFilteringForList(attr, false, node, config);
         } else {
-            return getSubtreeFilteringForChildNode(attr, node);
+            return getSubtreeFilteringForChildNode(attr, node, config);
         }
     }
 
@@ -657,12 +695,14 @@ public final class SubtreeFilteringMethodsGenerator {
     /**
      * Returns filter content match for child nodes.
      *
-     * @param attr attribute to be added
-     * @param node YANG node
+     * @param attr   attribute to be added
+     * @param node   YANG node
+     * @param config plugin configurations
      * @return filter content match for child nodes
      */
     private static String getSubtreeFilteringForChildNode(JavaAttributeInfo attr,
-                                                          YangNode node) {
+                                                          YangNode node,
+                                                          YangPluginConfig config) {
         StringBuilder builder = new StringBuilder();
         String name = attr.getAttributeName();
         String clsInfo = attr.getImportInfo()
@@ -706,7 +746,8 @@ public final class SubtreeFilteringMethodsGenerator {
                 .build())).processSubtreeFiltering(appInstance.interfaces(),
                                                    true);*/
 
-        assignment = getDummyObjectCreation(node, name, clsInfo, type, classCast, false);
+        assignment = getDummyObjectCreation(node, name, clsInfo, type, classCast,
+                                            false, config);
         builder.append(assignment).append(SIXTEEN_SPACE_INDENTATION).append(
                 CLOSE_CURLY_BRACKET).append(ELSE).append(OPEN_CURLY_BRACKET)
                 .append(NEW_LINE);
@@ -744,11 +785,12 @@ public final class SubtreeFilteringMethodsGenerator {
      * @param javaAttributeInfo attribute information
      * @param isLeafList        if for leaf list
      * @param node              YANG node
+     * @param config            plugin configurations
      * @return filter content match for list types
      */
     private static String getSubtreeFilteringForList(
             JavaAttributeInfo javaAttributeInfo, boolean isLeafList,
-            YangNode node) {
+            YangNode node, YangPluginConfig config) {
         StringBuilder builder = new StringBuilder();
         String caps = getCapitalCase(javaAttributeInfo.getAttributeName());
         String name = javaAttributeInfo.getAttributeName();
@@ -763,6 +805,13 @@ public final class SubtreeFilteringMethodsGenerator {
 
         String classCast = getOpenCloseParaWithValue(clsInfo) + SPACE;
         String cast = getOpenCloseParaWithValue(classCast + name);
+        // List stored in map by keys is iterated over its values.
+        boolean isMap = isMapDataStructure(
+                javaAttributeInfo.getCompilerAnnotation());
+        String values = EMPTY_STRING;
+        if (isMap) {
+            values = PERIOD + VALUES + OPEN_CLOSE_BRACKET_STRING;
+        }
 
         if (node != null && node instanceof YangChoice) {
             cast = name;
@@ -779,13 +828,14 @@ public final class SubtreeFilteringMethodsGenerator {
                 .append(getIfConditionBegin(TWELVE_SPACE_INDENTATION,
                                             getAppInstanceCondition(name, NOT)))
                 .append(getForLoopString(SIXTEEN_SPACE_INDENTATION, type, name,
-                                         getAppInstanceAttrString(name)));
+                                         getAppInstanceAttrString(name) +
+                                                 values));
         String assignment;
         if (!isLeafList) {
             builder.append(TWENTY_SPACE_INDENTATION).append(type).append(SPACE)
                     .append(RESULT).append(signatureClose());
             assignment = getDummyObjectCreation(node, name, type, clsInfo,
-                                                classCast, true);
+                                                classCast, true, config);
             builder.append(assignment);
             assignment = TWENTY_SPACE_INDENTATION +
                     SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + ADD_STRING +
@@ -833,43 +883,33 @@ public final class SubtreeFilteringMethodsGenerator {
             builder.append(getIfConditionBegin(SIXTEEN_SPACE_INDENTATION, cond))
                     .append(getReturnString(FALSE, TWENTY_SPACE_INDENTATION))
                     .append(signatureClose())
-                    .append(methodClose(SIXTEEN_SPACE))
+                    .append(methodClose(SIXTEEN_SPACE));
+
+            // Index the app instance values to match each query value.
+            String set = name + getCapitalCase(SET);
+            builder.append(SIXTEEN_SPACE_INDENTATION).append(SET)
+                    .append(DIAMOND_OPEN_BRACKET).append(type)
+                    .append(DIAMOND_CLOSE_BRACKET).append(SPACE).append(set)
+                    .append(SPACE).append(EQUAL).append(SPACE).append(NEW)
+                    .append(SPACE).append(HASH_SET).append(DIAMOND_OPEN_BRACKET)
+                    .append(DIAMOND_CLOSE_BRACKET)
+                    .append(getOpenCloseParaWithValue(
+                            getAppInstanceAttrString(name)))
+                    .append(signatureClose())
                     // for instance iterator
                     .append(getForLoopString(SIXTEEN_SPACE_INDENTATION, type, name,
                                              name + OPEN_CLOSE_BRACKET_STRING));
 
-            assignment = TWENTY_SPACE_INDENTATION + BOOLEAN_DATA_TYPE + SPACE +
-                    FLAG + SPACE + EQUAL + SPACE + FALSE + signatureClose();
-            builder.append(assignment)
-                    // for app instance iterator
-                    .append(getForLoopString(TWENTY_SPACE_INDENTATION, type,
-                                             name + TWO,
-                                             getAppInstanceAttrString(name)));
-
-            cond = name + PERIOD + EQUALS_STRING
-                    + OPEN_PARENTHESIS + name + TWO + CLOSE_PARENTHESIS;
-            //the content match leaf list attribute value matches
-            builder.append(getIfConditionBegin(TWENTY_FOUR_SPACE_INDENTATION,
-                                               cond));
-
-            assignment = TWENTY_EIGHT_SPACE_INDENTATION + FLAG + SPACE + EQUAL +
-                    SPACE + TRUE + SEMI_COLON + NEW_LINE;
-            builder.append(assignment);
-            assignment = TWENTY_EIGHT_SPACE_INDENTATION +
+            cond = NOT + set + ".contains" + getOpenCloseParaWithValue(name);
+            //if the content match failed
+            builder.append(getIfConditionBegin(TWENTY_SPACE_INDENTATION, cond))
+                    .append(getReturnString(FALSE, TWENTY_FOUR_SPACE_INDENTATION))
+                    .append(signatureClose()).append(methodClose(TWENTY_SPACE));
+            assignment = TWENTY_SPACE_INDENTATION +
                     SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + ADD_STRING +
                     getCapitalCase(TO) + caps + getOpenCloseParaWithValue(
-                    name + TWO) + signatureClose();
-            builder.append(assignment).append(TWENTY_EIGHT_SPACE_INDENTATION)
-                    .append(BREAK).append(signatureClose())
-                    //the content match leaf list attribute value matches
-                    .append(methodClose(TWENTY_FOUR_SPACE))
-                    // for app instance iterator
-                    .append(methodClose(TWENTY_SPACE))
-                    //if the content match failed
-                    .append(getIfConditionBegin(TWENTY_SPACE_INDENTATION, NOT +
-                            FLAG))
-                    .append(getReturnString(FALSE, TWENTY_FOUR_SPACE_INDENTATION))
-                    .append(signatureClose()).append(methodClose(TWENTY_SPACE))// if flag == false
+                    name) + signatureClose();
+            builder.append(assignment)
                     .append(methodClose(SIXTEEN_SPACE)); // for instance iterator
 
         } else {
@@ -878,13 +918,22 @@ public final class SubtreeFilteringMethodsGenerator {
                     PERIOD + IS_EMPTY;
             /*if there is any app instance entry*/
             builder.append(getIfConditionBegin(SIXTEEN_SPACE_INDENTATION,
-                                               cond))
-                    //loop all the app instance(s)
-                    .append(getForLoopString(SIXTEEN_SPACE_INDENTATION, type, name,
-                                             name + OPEN_CLOSE_BRACKET_STRING))
-                    .append(getForLoopString(TWENTY_SPACE_INDENTATION, type,
-                                             name + TWO,
-                                             getAppInstanceAttrString(name)));
+                                               cond));
+            if (getListKeyNames(node).isEmpty()) {
+                //loop all the app instance(s)
+                builder.append(getForLoopString(SIXTEEN_SPACE_INDENTATION, type,
+                                                name,
+                                                name + OPEN_CLOSE_BRACKET_STRING +
+                                                        values))
+                        .append(getForLoopString(TWENTY_SPACE_INDENTATION, type,
+                                                 name + TWO,
+                                                 getAppInstanceAttrString(name) +
+                                                         values));
+            } else if (isMap) {
+                builder.append(getKeyMappedListEntries(name, type, clsInfo));
+            } else {
+                builder.append(getKeyIndexedListEntries(name, type, clsInfo));
+            }
 
 
             assignment = TWENTY_EIGHT_SPACE_INDENTATION + type + SPACE +
@@ -918,7 +967,8 @@ public final class SubtreeFilteringMethodsGenerator {
                 SPACE + NOT + getAppInstanceAttrString(name) + PERIOD + IS_EMPTY;
         builder.append(getIfConditionBegin(SIXTEEN_SPACE_INDENTATION, cond))
                 .append(getForLoopString(SIXTEEN_SPACE_INDENTATION, type,
-                                         name, getAppInstanceAttrString(name)));
+                                         name, getAppInstanceAttrString(name) +
+                                                 values));
         assignment = TWENTY_FOUR_SPACE_INDENTATION +
                 SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + ADD_STRING +
                 getCapitalCase(TO) + caps + getOpenCloseParaWithValue(
@@ -932,103 +982,426 @@ public final class SubtreeFilteringMethodsGenerator {
         return builder.toString();
     }
 
-    public static String getAugmentableSubTreeFiltering() {
-        return "        if (yangAugmentedInfoMap.isEmpty()) {\n            " +
-                "Set<Map.Entry<Class<?>, Object>> augment = appInstance" +
-                ".yangAugmentedInfoMap().entrySet();\n            " +
-                "if (augment != null && !augment.isEmpty()) {\n" +
-                "                " +
-                "Iterator<Map.Entry<Class<?>, Object>> augItr = " +
-                "augment.iterator();\n                " +
-                "while (augItr.hasNext()) {\n                    " +
-                "Map.Entry<Class<?>, Object> aug = augItr.next();\n" +
-                "                    " +
-                "Class<?> augClass = aug.getKey();\n                    " +
-                "String augClassName = augClass.getName();\n" +
-                "                    " +
-                "int index = augClassName.lastIndexOf('.');\n" +
-                "                    " +
-                "String classPackage = augClassName.substring(0, index) +\n" +
-                "                            " +
-                "\".\" + \"Default\" + augClass.getSimpleName() + \"$\"\n" +
-                "                            " +
-                "+ augClass.getSimpleName() + \"Builder\";\n" +
-                "                    " +
-                "ClassLoader classLoader = augClass.getClassLoader();\n" +
-                "                    " +
-                "try {\n                        " +
-                "Class<?> builderClass;\n                        " +
-                "builderClass = classLoader.loadClass(classPackage);\n" +
-                "                        " +
-                "Object builderObj = builderClass.newInstance();\n" +
-                "                        " +
-                "Method method = builderClass.getMethod(\"build\");\n" +
-                "                        " +
-                "Object defaultObj = method.invoke(builderObj);\n" +
-                "                        " +
-                "Class<?> defaultClass = defaultObj.getClass();\n" +
-                "                        " +
-                "method = defaultClass.getMethod\n" +
-                "                                " +
-                "(\"processSubtreeFiltering\", augClass,\n" +
-                "                                 " +
-                "boolean.class);\n                        " +
-                "Object result = method.invoke(defaultObj, aug.getValue(),\n" +
-                "                                                      " +
-                "true);\n                        " +
-                "subTreeFilteringResultBuilder\n" +
-                "                                " +
-                ".addYangAugmentedInfo(result, augClass);\n" +
-                "                    " +
-                "} catch (ClassNotFoundException | InstantiationException\n" +
-                "                            | NoSuchMethodException |\n" +
-                "                            " +
-                "InvocationTargetException | IllegalAccessException e) {\n" +
-                "                        e.printStackTrace();\n" +
-                "                    }\n" +
-                "                }\n" +
+    /**
+     * Returns the loops over query condition entries of a keyed list with
+     * the app instance entries to be matched. Query condition entries with
+     * all key leaves set are matched only against the app instance entries
+     * with the same key, using an index of app instance entries by key which
+     * is created on first use.
+     *
+     * @param name    attribute name of list
+     * @param type    list entry type
+     * @param clsInfo list entry default class
+     * @return loops over list entries to be matched
+     */
+    private static String getKeyIndexedListEntries(String name, String type,
+                                                   String clsInfo) {
+        /* Generate code will look like this.
+        Map<Object, List<Ospf>> ospfIndex = null;
+        for (Ospf ospf : ospf()) {
+            List<Ospf> ospfList = appInstance.ospf();
+            if (((DefaultOspf) ospf).isSubtreeFilteringKeySet()) {
+                if (ospfIndex == null) {
+                    ospfIndex = new HashMap<>();
+                    for (Ospf ospf2 : appInstance.ospf()) {
+                        Object key = DefaultOspf.processSubtreeFilteringKey(ospf2);
+                        List<Ospf> entries = ospfIndex.get(key);
+                        if (entries == null) {
+                            entries = new ArrayList<>();
+                            ospfIndex.put(key, entries);
+                        }
+                        entries.add(ospf2);
+                    }
+                }
+                ospfList = ospfIndex.get(DefaultOspf.processSubtreeFilteringKey(ospf));
+                if (ospfList == null) {
+                    continue;
+                }
+            }
+            for (Ospf ospf2 : ospfList) {
+        */
+        String index = name + "Index";
+        String list = name + getCapitalCase(LIST);
+        String listType = LIST + DIAMOND_OPEN_BRACKET + type +
+                DIAMOND_CLOSE_BRACKET;
+        String key = clsInfo + PERIOD + PROCESS_SUBTREE_FILTERING_KEY;
+        return SIXTEEN_SPACE_INDENTATION + MAP + DIAMOND_OPEN_BRACKET +
+                OBJECT + COMMA + SPACE + listType + DIAMOND_CLOSE_BRACKET +
+                SPACE + index + SPACE + EQUAL + SPACE + NULL + signatureClose() +
+                getForLoopString(SIXTEEN_SPACE_INDENTATION, type, name,
+                                 name + OPEN_CLOSE_BRACKET_STRING) +
+                TWENTY_SPACE_INDENTATION + listType + SPACE + list + SPACE +
+                EQUAL + SPACE + getAppInstanceAttrString(name) +
+                signatureClose() +
+                getIfConditionBegin(TWENTY_SPACE_INDENTATION,
+                                    getOpenCloseParaWithValue(
+                                            getOpenCloseParaWithValue(clsInfo) +
+                                                    SPACE + name) + PERIOD +
+                                            IS_SUBTREE_FILTERING_KEY_SET +
+                                            OPEN_CLOSE_BRACKET_STRING) +
+                getIfConditionBegin(TWENTY_FOUR_SPACE_INDENTATION,
+                                    index + SPACE + EQUAL + EQUAL + SPACE +
+                                            NULL) +
+                TWENTY_EIGHT_SPACE_INDENTATION + index + SPACE + EQUAL + SPACE +
+                NEW + SPACE + HASH_MAP + DIAMOND_OPEN_BRACKET +
+                DIAMOND_CLOSE_BRACKET + OPEN_CLOSE_BRACKET_STRING +
+                signatureClose() +
+                getForLoopString(TWENTY_EIGHT_SPACE_INDENTATION, type,
+                                 name + TWO, getAppInstanceAttrString(name)) +
+                THIRTY_TWO_SPACE_INDENTATION + OBJECT + " key = " + key +
+                getOpenCloseParaWithValue(name + TWO) + signatureClose() +
+                THIRTY_TWO_SPACE_INDENTATION + listType + " entries = " +
+                index + ".get(key)" + signatureClose() +
+                getIfConditionBegin(THIRTY_TWO_SPACE_INDENTATION,
+                                    "entries == null") +
+                THIRTY_TWO_SPACE_INDENTATION + FOUR_SPACE_INDENTATION +
+                "entries = new " + ARRAY_LIST + signatureClose() +
+                THIRTY_TWO_SPACE_INDENTATION + FOUR_SPACE_INDENTATION + index +
+                ".put(key, entries)" + signatureClose() +
+                THIRTY_TWO_SPACE_INDENTATION + CLOSE_CURLY_BRACKET + NEW_LINE +
+                THIRTY_TWO_SPACE_INDENTATION + "entries.add" +
+                getOpenCloseParaWithValue(name + TWO) + signatureClose() +
+                methodClose(TWENTY_EIGHT_SPACE) +
+                methodClose(TWENTY_FOUR_SPACE) +
+                TWENTY_FOUR_SPACE_INDENTATION + list + SPACE + EQUAL + SPACE +
+                index + PERIOD + GET + getOpenCloseParaWithValue(
+                key + getOpenCloseParaWithValue(name)) + signatureClose() +
+                getIfConditionBegin(TWENTY_FOUR_SPACE_INDENTATION,
+                                    list + SPACE + EQUAL + EQUAL + SPACE +
+                                            NULL) +
+                TWENTY_EIGHT_SPACE_INDENTATION + "continue" + signatureClose() +
+                methodClose(TWENTY_FOUR_SPACE) +
+                methodClose(TWENTY_SPACE) +
+                getForLoopString(TWENTY_SPACE_INDENTATION, type, name + TWO,
+                                 list);
+    }
+
+    /**
+     * Returns the loops over query condition entries of a list stored in map
+     * by keys, with the app instance entries to be matched. Query condition
+     * entries with all key leaves set are matched only against the app
+     * instance entry with the same keys, which is found in the map.
+     *
+     * @param name    attribute name of list
+     * @param type    list entry type
+     * @param clsInfo list entry default class
+     * @return loops over list entries to be matched
+     */
+    private static String getKeyMappedListEntries(String name, String type,
+                                                  String clsInfo) {
+        /* Generate code will look like this.
+        for (Ospf ospf : ospf().values()) {
+            Collection<Ospf> ospfList = appInstance.ospf().values();
+            if (((DefaultOspf) ospf).isSubtreeFilteringKeySet()) {
+                Ospf ospfEntry = appInstance.ospf().get(Ospf.OspfKeys.of(ospf));
+                if (ospfEntry == null) {
+                    continue;
+                }
+                ospfList = Collections.singletonList(ospfEntry);
+            }
+            for (Ospf ospf2 : ospfList) {
+        */
+        String values = PERIOD + VALUES + OPEN_CLOSE_BRACKET_STRING;
+        String list = name + getCapitalCase(LIST);
+        String entry = name + "Entry";
+        return getForLoopString(SIXTEEN_SPACE_INDENTATION, type, name,
+                                name + OPEN_CLOSE_BRACKET_STRING + values) +
+                TWENTY_SPACE_INDENTATION + COLLECTION + DIAMOND_OPEN_BRACKET +
+                type + DIAMOND_CLOSE_BRACKET + SPACE + list + SPACE + EQUAL +
+                SPACE + getAppInstanceAttrString(name) + values +
+                signatureClose() +
+                getIfConditionBegin(TWENTY_SPACE_INDENTATION,
+                                    getOpenCloseParaWithValue(
+                                            getOpenCloseParaWithValue(clsInfo) +
+                                                    SPACE + name) + PERIOD +
+                                            IS_SUBTREE_FILTERING_KEY_SET +
+                                            OPEN_CLOSE_BRACKET_STRING) +
+                TWENTY_FOUR_SPACE_INDENTATION + type + SPACE + entry + SPACE +
+                EQUAL + SPACE + getAppInstanceAttrString(name) + PERIOD + GET +
+                getOpenCloseParaWithValue(getListKeysClassName(type) + PERIOD +
+                                                  OF + getOpenCloseParaWithValue(
+                        name)) + signatureClose() +
+                getIfConditionBegin(TWENTY_FOUR_SPACE_INDENTATION,
+                                    entry + SPACE + EQUAL + EQUAL + SPACE +
+                                            NULL) +
+                TWENTY_EIGHT_SPACE_INDENTATION + "continue" + signatureClose() +
+                methodClose(TWENTY_FOUR_SPACE) +
+                TWENTY_FOUR_SPACE_INDENTATION + list + SPACE + EQUAL + SPACE +
+                COLLECTIONS + PERIOD + "singletonList" +
+                getOpenCloseParaWithValue(entry) + signatureClose() +
+                methodClose(TWENTY_SPACE) +
+                getForLoopString(TWENTY_SPACE_INDENTATION, type, name + TWO,
+                                 list);
+    }
+
+    /**
+     * Returns the java names of the key leaves of list, which are used to
+     * match list entries by key in subtree filtering. An empty list is
+     * returned if the node is not a keyed list requiring subtree filtering.
+     *
+     * @param node YANG node
+     * @return java names of key leaves
+     */
+    public static List<String> getListKeyNames(YangNode node) {
+        List<String> names = new ArrayList<>();
+        if (!(node instanceof YangList) || !node.isOpTypeReq()) {
+            return names;
+        }
+        YangList list = (YangList) node;
+        YangPluginConfig config = ((JavaFileInfoContainer) node)
+                .getJavaFileInfo().getPluginConfig();
+        YangToJavaNamingConflictUtil resolver = config == null ? null :
+                config.getConflictResolver();
+        for (String key : list.getKeyList()) {
+            String keyName = null;
+            for (YangLeaf leaf : list.getListOfLeaf()) {
+                if (leaf.getName().equals(key)) {
+                    keyName = ((JavaLeafInfoContainer) leaf)
+                            .getJavaName(resolver);
+                    break;
+                }
+            }
+            if (keyName == null) {
+                return new ArrayList<>();
+            }
+            names.add(keyName);
+        }
+        return names;
+    }
+
+    /**
+     * Returns the methods of list default class which are used to match
+     * list entries by key in subtree filtering.
+     *
+     * @param node YANG list
+     * @return key methods of list default class
+     */
+    static String getListKeyMethods(YangNode node) {
+        /* Generate code will look like this.
+        public static Object processSubtreeFilteringKey(Ospf entry) {
+            return Arrays.asList(entry.name(), entry.area());
+        }
+
+        public boolean isSubtreeFilteringKeySet() {
+            return !isSubTreeFiltered &&
+                    (valueLeafFlags & 1L << LeafIdentifier.NAME.getLeafIndex()) != 0 &&
+                    (valueLeafFlags & 1L << LeafIdentifier.AREA.getLeafIndex()) != 0;
+        }*/
+        List<String> keys = getListKeyNames(node);
+        int words = getLeafFlagWords(node);
+        String name = getCapitalCase(((JavaFileInfoContainer) node)
+                                             .getJavaFileInfo().getJavaName());
+        StringBuilder value = new StringBuilder();
+        StringBuilder cond = new StringBuilder(NOT + SUBTREE_FILTERED);
+        for (String key : keys) {
+            if (value.length() != 0) {
+                value.append(COMMA).append(SPACE);
+            }
+            value.append("entry").append(PERIOD).append(key)
+                    .append(OPEN_CLOSE_BRACKET_STRING);
+            cond.append(SPACE).append(AND_OPERATION).append(NEW_LINE)
+                    .append(SIXTEEN_SPACE_INDENTATION)
+                    .append(getLeafFlagSetString(key, VALUE_LEAF, EMPTY_STRING,
+                                                 GET, words));
+        }
+        String key = value.toString();
+        if (keys.size() > 1) {
+            key = ARRAYS + PERIOD + "asList" + getOpenCloseParaWithValue(key);
+        }
+        return "\n    /**\n" +
+                "     * Returns the key of " + name + " entry which is used to" +
+                " match\n     * list entries in subtree filtering.\n" +
+                "     *\n" +
+                "     * @param entry list entry\n" +
+                "     * @return key of list entry\n" +
+                "     */\n" +
+                FOUR_SPACE_INDENTATION + PUBLIC + SPACE + STATIC + SPACE +
+                OBJECT + SPACE + PROCESS_SUBTREE_FILTERING_KEY +
+                getOpenCloseParaWithValue(name + " entry") + SPACE +
+                OPEN_CURLY_BRACKET + NEW_LINE +
+                getReturnString(key, EIGHT_SPACE_INDENTATION) +
+                signatureClose() + methodClose(FOUR_SPACE) + NEW_LINE +
+                "    /**\n" +
+                "     * Returns true if all the key leaves are set for content" +
+                " match, so the\n     * matching list entries can be found" +
+                " by key.\n" +
+                "     *\n" +
+                "     * @return true if all the key leaves are set\n" +
+                "     */\n" +
+                FOUR_SPACE_INDENTATION + PUBLIC + SPACE + BOOLEAN_DATA_TYPE +
+                SPACE + IS_SUBTREE_FILTERING_KEY_SET +
+                OPEN_CLOSE_BRACKET_STRING + SPACE + OPEN_CURLY_BRACKET +
+                NEW_LINE + getReturnString(cond.toString(),
+                                           EIGHT_SPACE_INDENTATION) +
+                signatureClose() + methodClose(FOUR_SPACE);
+    }
+
+    /**
+     * Returns subtree filtering for augmented info of augmentable node. The
+     * augmented info of filter filters that of app instance through the
+     * augmented info interface of node, so no reflection is required while
+     * filtering.
+     *
+     * @param curNode augmentable node
+     * @return subtree filtering for augmented info
+     */
+    public static String getAugmentableSubTreeFiltering(YangNode curNode) {
+        JavaFileInfoTranslator info = ((JavaFileInfoContainer) curNode)
+                .getJavaFileInfo();
+        String name = getCapitalCase(info.getJavaName()) + AUGMENTED_INFO;
+        if (info.getPluginConfig().isRuntimeSupport()) {
+            return getRuntimeAugmentableSubTreeFiltering(name);
+        }
+        /* Generate code will look like this.
+        if (yangAugmentedInfoMap.isEmpty()) {
+            for (Map.Entry<Class<?>, Object> aug : appInstance
+                    .yangAugmentedInfoMap().entrySet()) {
+                subTreeFilteringResultBuilder
+                        .addYangAugmentedInfo(aug.getValue(), aug.getKey());
+            }
+        } else {
+            for (Map.Entry<Class<?>, Object> aug : yangAugmentedInfoMap
+                    .entrySet()) {
+                Class<?> augClass = aug.getKey();
+                Object appInstanceInfo = appInstance.yangAugmentedInfo(augClass);
+                if (appInstanceInfo == null) {
+                    subTreeFilteringResultBuilder
+                            .addYangAugmentedInfo(aug.getValue(), augClass);
+                } else {
+                    Object filterInfo = aug.getValue();
+                    Object processSubtreeFiltering;
+                    if (filterInfo instanceof Cont2AugmentedInfo) {
+                        processSubtreeFiltering = ((Cont2AugmentedInfo) filterInfo)
+                                .filterAugmentedInfo(appInstanceInfo);
+                    } else {
+                        processSubtreeFiltering = appInstanceInfo;
+                    }
+                    if (processSubtreeFiltering != null) {
+                        subTreeFilteringResultBuilder
+                                .addYangAugmentedInfo(processSubtreeFiltering, augClass);
+                    }
+                }
+            }
+        }*/
+        return "        if (yangAugmentedInfoMap.isEmpty()) {\n" +
+                "            for (Map.Entry<Class<?>, Object> aug : appInstance\n" +
+                "                    .yangAugmentedInfoMap().entrySet()) {\n" +
+                "                subTreeFilteringResultBuilder\n" +
+                "                        .addYangAugmentedInfo(aug.getValue(), " +
+                "aug.getKey());\n" +
                 "            }\n" +
-                "        } else {\n            " +
-                "Set<Map.Entry<Class<?>, Object>> augment = " +
-                "yangAugmentedInfoMap\n                    .entrySet();\n" +
-                "            " +
-                "Iterator<Map.Entry<Class<?>, Object>> augItr = " +
-                "augment.iterator();\n            " +
-                "while (augItr.hasNext()) {\n                " +
-                "Map.Entry<Class<?>, Object> aug = augItr.next();\n" +
+                "        } else {\n" +
+                "            for (Map.Entry<Class<?>, Object> aug : " +
+                "yangAugmentedInfoMap\n" +
+                "                    .entrySet()) {\n" +
                 "                Class<?> augClass = aug.getKey();\n" +
-                "                " +
-                "Object appInstanceInfo = appInstance.yangAugmentedInfo(" +
-                "augClass);\n                if (appInstanceInfo == null) {\n" +
-                "                    " +
-                "subTreeFilteringResultBuilder.addYangAugmentedInfo\n" +
-                "                            " +
-                "(aug.getValue(), aug.getKey());\n" +
-                "                } else {\n                    " +
-                "Object processSubtreeFiltering;\n                    try {\n" +
-                "                        " +
-                "processSubtreeFiltering = aug.getValue().getClass()\n" +
-                "                                " +
-                ".getMethod(\"processSubtreeFiltering\",\n" +
-                "                                           " +
-                "aug.getKey(), boolean.class)\n" +
-                "                                .invoke(aug.getValue(),\n" +
-                "                                        " +
-                "appInstanceInfo, true);\n                        " +
-                "if (processSubtreeFiltering != null) {\n" +
-                "                            " +
-                "subTreeFilteringResultBuilder\n                            " +
-                "        .addYangAugmentedInfo(processSubtreeFiltering, " +
-                "aug.getKey());\n                        }\n" +
-                "                    } catch (NoSuchMethodException | " +
-                "InvocationTargetException | IllegalAccessException e) {\n" +
-                "                        e.printStackTrace();\n" +
+                "                Object appInstanceInfo = appInstance" +
+                ".yangAugmentedInfo(augClass);\n" +
+                "                if (appInstanceInfo == null) {\n" +
+                "                    subTreeFilteringResultBuilder\n" +
+                "                            .addYangAugmentedInfo(" +
+                "aug.getValue(), augClass);\n" +
+                "                } else {\n" +
+                "                    Object filterInfo = aug.getValue();\n" +
+                "                    Object processSubtreeFiltering;\n" +
+                "                    if (filterInfo instanceof " + name +
+                ") {\n" +
+                "                        processSubtreeFiltering = ((" + name +
+                ") filterInfo)\n" +
+                "                                ." + FILTER_AUGMENTED_INFO +
+                "(appInstanceInfo);\n" +
+                "                    } else {\n" +
+                "                        processSubtreeFiltering = " +
+                "appInstanceInfo;\n" +
+                "                    }\n" +
+                "                    if (processSubtreeFiltering != null) {\n" +
+                "                        subTreeFilteringResultBuilder\n" +
+                "                                .addYangAugmentedInfo(" +
+                "processSubtreeFiltering, augClass);\n" +
                 "                    }\n" +
                 "                }\n" +
                 "            }\n" +
                 "        }\n";
     }
 
+    /**
+     * Returns subtree filtering for augmented info of augmentable node done
+     * by runtime support library. The augmented info of filter filters that
+     * of app instance through the augmented info interface of node.
+     *
+     * @param name augmented info interface name of augmentable node
+     * @return subtree filtering for augmented info
+     */
+    private static String getRuntimeAugmentableSubTreeFiltering(String name) {
+        /* Generate code will look like this.
+        AugmentedInfoSupport.filterAugmentedInfo(
+                yangAugmentedInfoMap, appInstance.yangAugmentedInfoMap(),
+                subTreeFilteringResultBuilder.yangAugmentedInfoMap(),
+                (augClass, filterInfo, appInstanceInfo) ->
+                        filterInfo instanceof Cont2AugmentedInfo ?
+                                ((Cont2AugmentedInfo) filterInfo)
+                                        .filterAugmentedInfo(appInstanceInfo) :
+                                appInstanceInfo);*/
+        return EIGHT_SPACE_INDENTATION + AUGMENTED_INFO_SUPPORT +
+                ".filterAugmentedInfo(\n" +
+                "                yangAugmentedInfoMap, appInstance" +
+                ".yangAugmentedInfoMap(),\n" +
+                "                subTreeFilteringResultBuilder" +
+                ".yangAugmentedInfoMap(),\n" +
+                "                (augClass, filterInfo, appInstanceInfo) ->\n" +
+                "                        filterInfo instanceof " + name +
+                " ?\n" +
+                "                                ((" + name + ") filterInfo)\n" +
+                "                                        ." +
+                FILTER_AUGMENTED_INFO + "(appInstanceInfo) :\n" +
+                "                                appInstanceInfo);\n";
+    }
+
+    /**
+     * Returns the augmented info interface of augmentable node, which the
+     * augmentations of node implement to subtree filter augmented info.
+     *
+     * @param className class name of augmentable node
+     * @return augmented info interface
+     */
+    static String getAugmentedInfoInterface(String className) {
+        return "\n" +
+                "    /**\n" +
+                "     * Represents augmented info of " + className +
+                ", which subtree filters\n" +
+                "     * the augmented info of an app instance.\n" +
+                "     */\n" +
+                "    interface " + className + AUGMENTED_INFO + " {\n" +
+                "\n" +
+                "        /**\n" +
+                "         * Returns the augmented info of app instance " +
+                "filtered by this\n" +
+                "         * augmented info, null if it does not match.\n" +
+                "         *\n" +
+                "         * @param appInstanceInfo augmented info of app " +
+                "instance\n" +
+                "         * @return filtered augmented info\n" +
+                "         */\n" +
+                "        Object " + FILTER_AUGMENTED_INFO +
+                "(Object appInstanceInfo);\n" +
+                "    }\n";
+    }
+
+    /**
+     * Returns the implementation of augmented info interface by augment.
+     *
+     * @param className class name of augment
+     * @return filter augmented info implementation
+     */
+    static String getFilterAugmentedInfoImpl(String className) {
+        return "\n" +
+                "    @Override\n" +
+                "    public Object " + FILTER_AUGMENTED_INFO +
+                "(Object appInstanceInfo) {\n" +
+                "        return processSubtreeFiltering((" + className +
+                ") appInstanceInfo, true);\n" +
+                "    }\n";
+    }
 
     private static String getSubTreeFilteredCondition(String name) {
         StringBuilder builder = new StringBuilder();
@@ -1039,7 +1412,8 @@ public final class SubtreeFilteringMethodsGenerator {
                 .append(getIfConditionBegin(SIXTEEN_SPACE_INDENTATION, cond))
                 .append(TWENTY_SPACE_INDENTATION)
                 .append(SUBTREE_FILTERING_RESULT_BUILDER).append(PERIOD)
-                .append(name).append(getOpenCloseParaWithValue(name)).append(
+                .append(name).append(getOpenCloseParaWithValue(
+                name + OPEN_CLOSE_BRACKET_STRING)).append(
                 signatureClose()).append(SIXTEEN_SPACE_INDENTATION).append(
                 CLOSE_CURLY_BRACKET).append(NEW_LINE).append(TWELVE_SPACE_INDENTATION)
                 .append(CLOSE_CURLY_BRACKET).append(NEW_LINE);
@@ -1083,13 +1457,14 @@ public final class SubtreeFilteringMethodsGenerator {
 
     private static String getDummyObjectCreation(YangNode node, String name,
                                                  String clsInfo, String type,
-                                                 String classCast, boolean isList) {
+                                                 String classCast, boolean isList,
+                                                 YangPluginConfig config) {
         String para = getAppInstanceAttrString(name);
         if (isList) {
             para = name;
         }
         if (node != null && node instanceof YangChoice) {
-            return getChoiceReflectionResult(name, clsInfo);
+            return getChoiceCaseDispatch((YangChoice) node, name, config);
         }
         return TWENTY_SPACE_INDENTATION + RESULT + SPACE + EQUAL + SPACE +
                 getOpenCloseParaWithValue(
@@ -1102,26 +1477,86 @@ public final class SubtreeFilteringMethodsGenerator {
 
     }
 
-    private static String getChoiceReflectionResult(String name, String returnType) {
-        String call = "appInstance." + name + "()";
-        return "                    Class<?>[] classArray = " + call + "" +
-                ".getClass()" +
-                ".getInterfaces();\n" +
-                "                    Class<?> caseClass = classArray[0];\n" +
-                "                    try {\n" +
-                "                        Object obj1 = caseClass.newInstance();\n" +
-                "                        Method method = caseClass.getMethod(\"builder\", caseClass);\n" +
-                "                        Object obj = method.invoke(obj1," +
-                " (Object) null);\n" +
-                "                        method = caseClass.getMethod(\"build\", caseClass);\n" +
-                "                        Object obj2 = method.invoke(obj, " +
-                "(Object) null);\n" +
-                "                        method = caseClass.getMethod(\"processSubtreeFiltering\", caseClass);\n" +
-                "                        result = (" + returnType + ") method.invoke" +
-                "(obj2, " + call + ", true);\n" +
-                "                    } catch (NoSuchMethodException | InstantiationException |\n" +
-                "                            IllegalAccessException | InvocationTargetException e) {\n" +
-                "                        e.printStackTrace();\n" +
-                "                    }\n";
+    /**
+     * Returns the dispatch of choice instance to the subtree filtering of
+     * the case classes known for the choice, including the cases added by
+     * augments.
+     *
+     * @param choice YANG choice
+     * @param name   attribute name of choice
+     * @param config plugin configurations
+     * @return choice case dispatch
+     */
+    private static String getChoiceCaseDispatch(YangChoice choice,
+                                                String name,
+                                                YangPluginConfig config) {
+        /* Generate code will look like this.
+        if (appInstance.snack() instanceof SportsArena) {
+            result = ((DefaultSportsArena) DefaultSportsArena.builder()
+                    .buildForFilter()).processSubtreeFiltering(
+                            appInstance.snack(), true);
+        } else if (appInstance.snack() instanceof LateNight) {
+            ...
+        }*/
+        StringBuilder builder = new StringBuilder();
+        String call = getAppInstanceAttrString(name);
+        String indent = TWENTY_SPACE_INDENTATION;
+        for (YangCase yangCase : getChoiceCases(choice)) {
+            String caseName = getQualifiedNodeName(yangCase, config);
+            int index = caseName.lastIndexOf(PERIOD);
+            String defaultName = caseName.substring(0, index + 1) +
+                    DEFAULT_CAPS + caseName.substring(index + 1);
+            builder.append(indent).append(IF).append(SPACE)
+                    .append(getOpenCloseParaWithValue(
+                            call + INSTANCE_OF + caseName))
+                    .append(SPACE).append(OPEN_CURLY_BRACKET).append(NEW_LINE)
+                    .append(TWENTY_FOUR_SPACE_INDENTATION).append(RESULT)
+                    .append(SPACE).append(EQUAL).append(SPACE)
+                    .append(getOpenCloseParaWithValue(
+                            getOpenCloseParaWithValue(defaultName) + SPACE +
+                                    defaultName + PERIOD + BUILDER_LOWER_CASE +
+                                    OPEN_CLOSE_BRACKET_STRING + NEW_LINE +
+                                    THIRTY_TWO_SPACE_INDENTATION + PERIOD +
+                                    BUILD_FOR_FILTER + OPEN_CLOSE_BRACKET_STRING))
+                    .append(PERIOD).append(PROCESS_SUBTREE_FILTERING)
+                    .append(getOpenCloseParaWithValue(
+                            NEW_LINE + THIRTY_TWO_SPACE_INDENTATION + call +
+                                    COMMA + SPACE + TRUE))
+                    .append(signatureClose())
+                    .append(TWENTY_SPACE_INDENTATION)
+                    .append(CLOSE_CURLY_BRACKET).append(ELSE);
+            indent = EMPTY_STRING;
+        }
+        if (builder.length() == 0) {
+            return EMPTY_STRING;
+        }
+        // Remove the trailing else of last case.
+        builder.setLength(builder.length() - ELSE.length());
+        return builder.append(NEW_LINE).toString();
+    }
+
+    /**
+     * Returns the cases of choice, including the cases added to the choice
+     * by augments.
+     *
+     * @param choice YANG choice
+     * @return cases of choice
+     */
+    static List<YangCase> getChoiceCases(YangChoice choice) {
+        List<YangCase> cases = new ArrayList<>();
+        addCases(choice.getChild(), cases);
+        for (YangAugment augment : choice.getAugmentedInfoList()) {
+            addCases(augment.getChild(), cases);
+        }
+        return cases;
+    }
+
+    private static void addCases(YangNode child, List<YangCase> cases) {
+        while (child != null) {
+            if (child instanceof YangCase) {
+                cases.add((YangCase) child);
+            }
+            child = child.getNextSibling();
+        }
     }
 }
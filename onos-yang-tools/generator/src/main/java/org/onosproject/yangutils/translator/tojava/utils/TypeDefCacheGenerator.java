@@ -0,0 +1,218 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.YangRangeInterval;
+import org.onosproject.yangutils.datamodel.YangRangeRestriction;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangBuiltInDataTypeInfo;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangInt16;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangInt32;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangInt64;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangInt8;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint16;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint32;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint8;
+
+import java.util.List;
+
+import static org.onosproject.yangutils.utils.UtilConstants.BOOLEAN_DATA_TYPE;
+import static org.onosproject.yangutils.utils.UtilConstants.INT;
+import static org.onosproject.yangutils.utils.UtilConstants.LONG;
+
+/**
+ * Represents generator of instance caches of typedef classes.
+ * <p>
+ * When the value range of a typedef of boolean or integer type, up to
+ * uint32, spans no more values than the limit in plugin configurations, its
+ * of method returns canonical instances preallocated for the whole span,
+ * like Integer.valueOf. Values outside the span get new instances as
+ * before. For a range of several intervals the span is from the lowest to
+ * the highest value.
+ */
+public final class TypeDefCacheGenerator {
+
+    private static final String CACHE = "CACHE";
+    private static final String TRUE_INSTANCE = "TRUE_INSTANCE";
+    private static final String FALSE_INSTANCE = "FALSE_INSTANCE";
+
+    // No instantiation.
+    private TypeDefCacheGenerator() {
+    }
+
+    /**
+     * Returns the span of values cached for a typedef type, as its lowest
+     * and highest value, null when its instances are not cached.
+     *
+     * @param type  YANG type of typedef
+     * @param limit maximum number of cached values
+     * @return lowest and highest cached value
+     */
+    static long[] getCachedSpan(YangType<?> type, int limit) {
+        if (type == null) {
+            return null;
+        }
+        long[] span;
+        switch (type.getDataType()) {
+            case BOOLEAN:
+                span = new long[]{0, 1};
+                break;
+            case INT8:
+                span = new long[]{YangInt8.MIN_VALUE, YangInt8.MAX_VALUE};
+                break;
+            case INT16:
+                span = new long[]{YangInt16.MIN_VALUE, YangInt16.MAX_VALUE};
+                break;
+            case INT32:
+                span = new long[]{YangInt32.MIN_VALUE, YangInt32.MAX_VALUE};
+                break;
+            case INT64:
+                span = new long[]{YangInt64.MIN_VALUE, YangInt64.MAX_VALUE};
+                break;
+            case UINT8:
+                span = new long[]{YangUint8.MIN_VALUE, YangUint8.MAX_VALUE};
+                break;
+            case UINT16:
+                span = new long[]{YangUint16.MIN_VALUE, YangUint16.MAX_VALUE};
+                break;
+            case UINT32:
+                span = new long[]{YangUint32.MIN_VALUE, YangUint32.MAX_VALUE};
+                break;
+            default:
+                return null;
+        }
+        Object info = type.getDataTypeExtendedInfo();
+        if (info instanceof YangRangeRestriction) {
+            List<? extends YangRangeInterval<?>> intervals =
+                    ((YangRangeRestriction<?>) info).getAscendingRangeIntervals();
+            if (intervals != null && !intervals.isEmpty()) {
+                span[0] = getRangeValue(intervals.get(0).getStartValue());
+                span[1] = getRangeValue(intervals.get(intervals.size() - 1)
+                                                .getEndValue());
+            }
+        }
+        long count = span[1] - span[0];
+        if (count < 0 || count >= limit) {
+            return null;
+        }
+        return span;
+    }
+
+    /**
+     * Returns the cache of canonical instances of typedef class.
+     *
+     * @param span      lowest and highest cached value
+     * @param javaType  java type of typedef value
+     * @param className typedef class name
+     * @return instance cache
+     */
+    static String getTypeDefCache(long[] span, String javaType,
+                                  String className) {
+        if (javaType.equals(BOOLEAN_DATA_TYPE)) {
+            return "    private static final " + className + " " +
+                    TRUE_INSTANCE + " = new " + className + "(true);\n" +
+                    "    private static final " + className + " " +
+                    FALSE_INSTANCE + " = new " + className + "(false);\n\n";
+        }
+        String value = getOffset("i", span[0], javaType);
+        if (!javaType.equals(INT) && !javaType.equals(LONG)) {
+            value = "(" + javaType + ") " +
+                    (span[0] == 0 ? value : "(" + value + ")");
+        }
+        return "    private static final " + className + "[] " + CACHE +
+                " = new " + className + "[" + (span[1] - span[0] + 1) +
+                "];\n\n" +
+                "    static {\n" +
+                "        for (int i = 0; i < " + CACHE + ".length; i++) {\n" +
+                "            " + CACHE + "[i] = new " + className + "(" +
+                value + ");\n" +
+                "        }\n" +
+                "    }\n\n";
+    }
+
+    /**
+     * Returns the body of of method returning canonical instances.
+     *
+     * @param span      lowest and highest cached value
+     * @param javaType  java type of typedef value
+     * @param className typedef class name
+     * @return of method body
+     */
+    static String getCachedOfMethodBody(long[] span, String javaType,
+                                        String className) {
+        if (javaType.equals(BOOLEAN_DATA_TYPE)) {
+            return "        return value ? " + TRUE_INSTANCE + " : " +
+                    FALSE_INSTANCE + ";\n";
+        }
+        String index = getOffset("value", -span[0], javaType);
+        if (javaType.equals(LONG)) {
+            index = "(int) " + (span[0] == 0 ? index : "(" + index + ")");
+        }
+        return "        if (value >= " + getLiteral(span[0], javaType) +
+                " && value <= " + getLiteral(span[1], javaType) + ") {\n" +
+                "            return " + CACHE + "[" + index + "];\n" +
+                "        }\n" +
+                "        return new " + className + "(value);\n";
+    }
+
+    // Returns the expression adding an offset to a variable.
+    private static String getOffset(String var, long offset, String javaType) {
+        if (offset == 0) {
+            return var;
+        }
+        if (offset < 0) {
+            return var + " - " + getLiteral(-offset, javaType);
+        }
+        return var + " + " + getLiteral(offset, javaType);
+    }
+
+    // Returns the literal of a value of java type.
+    private static String getLiteral(long value, String javaType) {
+        if (javaType.equals(LONG)) {
+            return value + "L";
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Returns the value of a range boundary of integer type up to int64.
+     *
+     * @param boundary range boundary
+     * @return boundary value
+     */
+    static long getRangeValue(YangBuiltInDataTypeInfo<?> boundary) {
+        if (boundary instanceof YangInt8) {
+            return ((YangInt8) boundary).getValue();
+        }
+        if (boundary instanceof YangInt16) {
+            return ((YangInt16) boundary).getValue();
+        }
+        if (boundary instanceof YangInt32) {
+            return ((YangInt32) boundary).getValue();
+        }
+        if (boundary instanceof YangInt64) {
+            return ((YangInt64) boundary).getValue();
+        }
+        if (boundary instanceof YangUint8) {
+            return ((YangUint8) boundary).getValue();
+        }
+        if (boundary instanceof YangUint16) {
+            return ((YangUint16) boundary).getValue();
+        }
+        return ((YangUint32) boundary).getValue();
+    }
+}
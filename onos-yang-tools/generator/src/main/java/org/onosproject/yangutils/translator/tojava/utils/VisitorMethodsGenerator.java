@@ -0,0 +1,378 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.YangCase;
+import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.translator.tojava.JavaAttributeInfo;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.getQualifiedNodeName;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isModuleClassNode;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isOpTypeClassNode;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isQueueOrSetDataStructure;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getClassNode;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getModuleNode;
+import static org.onosproject.yangutils.translator.tojava.utils.SubtreeFilteringMethodsGenerator.getChoiceCases;
+import static org.onosproject.yangutils.utils.UtilConstants.BOOLEAN_DATA_TYPE;
+import static org.onosproject.yangutils.utils.UtilConstants.BYTE;
+import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.DOUBLE;
+import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.INT;
+import static org.onosproject.yangutils.utils.UtilConstants.LONG;
+import static org.onosproject.yangutils.utils.UtilConstants.OPERATION_TYPE_ATTRIBUTE;
+import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
+import static org.onosproject.yangutils.utils.UtilConstants.SELECT_LEAF;
+import static org.onosproject.yangutils.utils.UtilConstants.SHORT;
+import static org.onosproject.yangutils.utils.UtilConstants.SIZE;
+import static org.onosproject.yangutils.utils.UtilConstants.SUBTREE_FILTERED;
+import static org.onosproject.yangutils.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_MAP;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator for visitor interface of module and accept methods
+ * of generated default classes.
+ * <p>
+ * The interface of a module holds a visitor with a leaf method per java
+ * type of leaf, and an enter and exit method per container and list of the
+ * module. Default classes of nodes supporting operation type get accept
+ * methods which walk their content with the visitor: only the leaves whose
+ * value leaf flag is set are visited, primitive values are passed without
+ * boxing and lists are walked by index, so the walk allocates nothing per
+ * node. The content of a container or list entry is skipped when enter
+ * returns false, and the walk can be restricted to the selected leaves as
+ * per the select leaf flags.
+ * <p>
+ * The case of a choice is not a data node, so its content is visited as
+ * content of the node holding the choice. Augmentations are visited by the
+ * accept methods of the augmenting module.
+ */
+public final class VisitorMethodsGenerator {
+
+    /**
+     * Suffix of the visitor interface generated in the module interface.
+     */
+    public static final String VISITOR = "Visitor";
+
+    private static final String VISITOR_PARAM = "visitor";
+    private static final String SELECTED = "selected";
+    private static final String ALL = "all";
+    private static final String THIS = "this.";
+    private static final String[] LEAF_TYPES = {BOOLEAN_DATA_TYPE, BYTE,
+            SHORT, INT, LONG, DOUBLE, "Object"};
+
+    // No instantiation.
+    private VisitorMethodsGenerator() {
+    }
+
+    /**
+     * Returns the name of the visitor interface of the module.
+     *
+     * @param module module or sub module
+     * @return visitor interface name
+     */
+    public static String getVisitorName(YangNode module) {
+        return getCapitalCase(((JavaFileInfoContainer) module)
+                                      .getJavaFileInfo().getJavaName()) +
+                VISITOR;
+    }
+
+    /**
+     * Returns the accept content of an attribute of default class, which
+     * visits the attribute with the visitor.
+     *
+     * @param attr     attribute info
+     * @param attrNode YANG node of the attribute, if attribute is a node
+     * @param config   plugin configurations
+     * @return accept content of attribute
+     */
+    public static String getAcceptForAttribute(JavaAttributeInfo attr,
+                                               YangNode attrNode,
+                                               YangPluginConfig config) {
+        String name = attr.getAttributeName();
+        if (name.equals(VALUE_LEAF) || name.equals(SELECT_LEAF) ||
+                name.equals(SUBTREE_FILTERED) ||
+                name.endsWith(OPERATION_TYPE_ATTRIBUTE) ||
+                name.equals(YANG_AUGMENTED_INFO_MAP)) {
+            return EMPTY_STRING;
+        }
+        if (attr.getAttributeType() != null) {
+            if (!attr.isListAttr()) {
+                return getLeafAccept(name, attr.getYangName());
+            }
+            return getLeafListAccept(attr);
+        }
+        if (attrNode instanceof YangChoice) {
+            return getChoiceAccept((YangChoice) attrNode, name, config);
+        }
+        if (attrNode == null || !isOpTypeClassNode(attrNode)) {
+            // Node without accept method.
+            return EMPTY_STRING;
+        }
+        String type = attr.getImportInfo().getClassInfo();
+        String defaultType = DEFAULT_CAPS + type;
+        if (attr.isQualifiedName()) {
+            String pkg = attr.getImportInfo().getPkgInfo() + PERIOD;
+            type = pkg + type;
+            defaultType = pkg + defaultType;
+        }
+        if (!attr.isListAttr()) {
+            return "        if (" + THIS + name + " != null) {\n" +
+                    getEntryAccept(TWELVE_SPACE_INDENTATION, THIS + name,
+                                   defaultType);
+        }
+        String field = THIS + name;
+        if (isMapDataStructure(attr.getCompilerAnnotation()) ||
+                isQueueOrSetDataStructure(attr.getCompilerAnnotation())) {
+            String values = field;
+            if (isMapDataStructure(attr.getCompilerAnnotation())) {
+                values = field + ".values()";
+            }
+            return "        if (" + field + " != null) {\n" +
+                    "            for (" + type + " entry : " + values +
+                    ") {\n" +
+                    getEntryAccept("                ", "entry", defaultType) +
+                    "        }\n";
+        }
+        return "        if (" + field + " != null) {\n" +
+                "            for (int i = 0; i < " + field + ".size(); i++) " +
+                "{\n" +
+                "                " + type + " entry = " + field +
+                ".get(i);\n" +
+                getEntryAccept("                ", "entry", defaultType) +
+                "        }\n";
+    }
+
+    /**
+     * Returns the accept methods of default class.
+     *
+     * @param curNode current YANG node
+     * @param words   number of long words storing the leaf flags, zero if
+     *                node has no leaf
+     * @param accept  accept content of the attributes
+     * @return accept methods
+     */
+    static String getAcceptMethods(YangNode curNode, int words,
+                                   String accept) {
+        String visitor = getVisitorName(getModuleNode(curNode));
+        String yangName = curNode.getName();
+        String all = EMPTY_STRING;
+        if (words == 1) {
+            all = "        boolean " + ALL + " = !" + SELECTED + " || " +
+                    SELECT_LEAF + " == 0L;\n";
+        } else if (words > 1) {
+            all = "        boolean " + ALL + " = true;\n" +
+                    "        if (" + SELECTED + ") {\n" +
+                    "            for (long word : " + SELECT_LEAF + ") {\n" +
+                    "                " + ALL + " &= word == 0L;\n" +
+                    "            }\n" +
+                    "        }\n";
+        }
+        return "\n" +
+                "    /**\n" +
+                "     * Visits the content of this " + yangName + " with " +
+                "given visitor.\n" +
+                "     *\n" +
+                "     * @param " + VISITOR_PARAM + " visitor\n" +
+                "     */\n" +
+                "    public void accept(" + visitor + " " + VISITOR_PARAM +
+                ") {\n" +
+                "        accept(" + VISITOR_PARAM + ", false);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Visits the content of this " + yangName + " with " +
+                "given visitor: the leaves\n" +
+                "     * whose value is set, the values of leaf-lists and the" +
+                " child nodes. When\n" +
+                "     * selected is true, a node having selected leaves " +
+                "visits only those.\n" +
+                "     *\n" +
+                "     * @param " + VISITOR_PARAM + "  visitor\n" +
+                "     * @param " + SELECTED + " true to visit only the " +
+                "selected leaves of nodes having\n" +
+                "     *                 selected leaves\n" +
+                "     */\n" +
+                "    public void accept(" + visitor + " " + VISITOR_PARAM +
+                ", boolean " + SELECTED + ") {\n" +
+                all + accept +
+                "    }\n";
+    }
+
+    /**
+     * Returns the visitor interface generated in the module interface, with
+     * an enter and exit method for each container and list of the module.
+     *
+     * @param module module or sub module
+     * @return visitor interface
+     */
+    static String getVisitorInterface(YangNode module) {
+        YangPluginConfig config = ((JavaFileInfoContainer) module)
+                .getJavaFileInfo().getPluginConfig();
+        Set<String> types = new LinkedHashSet<>();
+        addVisitedTypes(module.getChild(), config, types);
+        String name = getVisitorName(module);
+        StringBuilder builder = new StringBuilder()
+                .append("\n")
+                .append("    /**\n")
+                .append("     * Visitor of the objects of the classes " +
+                                "generated for this module, walked\n")
+                .append("     * by their accept method. Leaves are visited " +
+                                "by the java type of their\n")
+                .append("     * value, and the content of a container or " +
+                                "list entry is visited between\n")
+                .append("     * its enter and exit.\n")
+                .append("     */\n")
+                .append("    public interface ").append(name).append(" {\n");
+        for (String type : LEAF_TYPES) {
+            builder.append("\n")
+                    .append("        /**\n")
+                    .append("         * Visits a leaf whose value is set, " +
+                                    "or a value of a leaf-list.\n")
+                    .append("         *\n")
+                    .append("         * @param name  YANG name\n")
+                    .append("         * @param value value\n")
+                    .append("         */\n")
+                    .append("        default void leaf(String name, ")
+                    .append(type).append(" value) {\n")
+                    .append("        }\n");
+        }
+        for (String type : types) {
+            builder.append("\n")
+                    .append("        /**\n")
+                    .append("         * Enters a node, whose content is " +
+                                    "visited when true is returned.\n")
+                    .append("         *\n")
+                    .append("         * @param node node\n")
+                    .append("         * @return true to visit the content " +
+                                    "of the node\n")
+                    .append("         */\n")
+                    .append("        default boolean enter(").append(type)
+                    .append(" node) {\n")
+                    .append("            return true;\n")
+                    .append("        }\n")
+                    .append("\n")
+                    .append("        /**\n")
+                    .append("         * Exits a node after its content is " +
+                                    "visited.\n")
+                    .append("         *\n")
+                    .append("         * @param node node\n")
+                    .append("         */\n")
+                    .append("        default void exit(").append(type)
+                    .append(" node) {\n")
+                    .append("        }\n");
+        }
+        return builder.append("    }\n").toString();
+    }
+
+    // Adds the qualified types of the containers and lists in the subtree.
+    private static void addVisitedTypes(YangNode node, YangPluginConfig config,
+                                        Set<String> types) {
+        while (node != null) {
+            if ((node instanceof YangContainer || node instanceof YangList) &&
+                    isOpTypeClassNode(node) && isModuleClassNode(node, node)) {
+                types.add(getQualifiedNodeName(getClassNode(node), config));
+            }
+            addVisitedTypes(node.getChild(), config, types);
+            node = node.getNextSibling();
+        }
+    }
+
+    // Returns the statements visiting a leaf when its value is set.
+    private static String getLeafAccept(String name, String yangName) {
+        String leafId = "LeafIdentifier." + name.toUpperCase();
+        return "        if (isLeafValueSet(" + leafId + ") &&\n" +
+                "                (" + ALL + " || isSelectLeaf(" + leafId +
+                "))) {\n" +
+                "            " + VISITOR_PARAM + ".leaf(\"" + yangName +
+                "\", " + THIS + name + ");\n" +
+                "        }\n";
+    }
+
+    // Returns the statements visiting the values of a leaf-list.
+    private static String getLeafListAccept(JavaAttributeInfo attr) {
+        String name = attr.getAttributeName();
+        String field = THIS + name;
+        String visit = VISITOR_PARAM + ".leaf(\"" + attr.getYangName() +
+                "\", ";
+        if (attr.getPrimitiveListType() != null) {
+            return "        for (int i = 0; i < " + field + SIZE +
+                    "; i++) {\n" +
+                    "            " + visit + field + "[i]);\n" +
+                    "        }\n";
+        }
+        return "        if (" + field + " != null) {\n" +
+                "            for (int i = 0; i < " + field + ".size(); i++) " +
+                "{\n" +
+                "                " + visit + field + ".get(i));\n" +
+                "            }\n" +
+                "        }\n";
+    }
+
+    /*
+     * Returns the statements visiting a child node or list entry between
+     * enter and exit, closing the enclosing block.
+     */
+    private static String getEntryAccept(String indent, String entry,
+                                         String defaultType) {
+        return indent + "if (" + VISITOR_PARAM + ".enter(" + entry + ")) {\n" +
+                indent + "    ((" + defaultType + ") " + entry + ").accept(" +
+                VISITOR_PARAM + ", " + SELECTED + ");\n" +
+                indent + "    " + VISITOR_PARAM + ".exit(" + entry + ");\n" +
+                indent + "}\n" +
+                indent.substring(4) + "}\n";
+    }
+
+    // Returns the statements visiting the content of the case of a choice.
+    private static String getChoiceAccept(YangChoice choice, String name,
+                                          YangPluginConfig config) {
+        StringBuilder builder = new StringBuilder();
+        String indent = "        ";
+        for (YangCase yangCase : getChoiceCases(choice)) {
+            if (!isOpTypeClassNode(yangCase)) {
+                continue;
+            }
+            String caseName = getQualifiedNodeName(yangCase, config);
+            int index = caseName.lastIndexOf(PERIOD);
+            String defaultName = caseName.substring(0, index + 1) +
+                    DEFAULT_CAPS + caseName.substring(index + 1);
+            builder.append(indent).append("if (").append(THIS).append(name)
+                    .append(" instanceof ").append(caseName).append(") {\n")
+                    .append("            ((").append(defaultName).append(") ")
+                    .append(THIS).append(name).append(").accept(")
+                    .append(VISITOR_PARAM).append(", ").append(SELECTED)
+                    .append(");\n")
+                    .append("        }");
+            indent = " else ";
+        }
+        if (builder.length() == 0) {
+            return EMPTY_STRING;
+        }
+        return builder.append("\n").toString();
+    }
+}
@@ -0,0 +1,629 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.translator.tojava.utils;
+
+import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNamespace;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.javadatamodel.JavaQualifiedTypeInfo;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
+import org.onosproject.yangutils.translator.tojava.javamodel.JavaLeafInfoContainer;
+import org.onosproject.yangutils.utils.io.YangToJavaNamingConflictUtil;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isMapDataStructure;
+import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.isRootNodesCodeGenRequired;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.addCodecImports;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getClassNode;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getModuleNode;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getTypeName;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.getValueParser;
+import static org.onosproject.yangutils.translator.tojava.utils.CodecGeneratorUtils.isPrimitive;
+import static org.onosproject.yangutils.translator.tojava.utils.ConstraintCheckGenerator.getInternalBuild;
+import static org.onosproject.yangutils.utils.UtilConstants.BASE64;
+import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
+import static org.onosproject.yangutils.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yangutils.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVAX_XML_STREAM;
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_UTIL_PKG;
+import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
+import static org.onosproject.yangutils.utils.UtilConstants.OPERATION_TYPE_ATTRIBUTE;
+import static org.onosproject.yangutils.utils.UtilConstants.OPERATION_TYPE_CLASS;
+import static org.onosproject.yangutils.utils.UtilConstants.OP_PARAM;
+import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
+import static org.onosproject.yangutils.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.XML_CODEC;
+import static org.onosproject.yangutils.utils.UtilConstants.XML_STREAM_EXCEPTION;
+import static org.onosproject.yangutils.utils.UtilConstants.XML_STREAM_READER;
+import static org.onosproject.yangutils.utils.UtilConstants.XML_STREAM_WRITER;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator for NETCONF XML codec of generated files.
+ * <p>
+ * A codec class is generated for every container, list and module. It
+ * writes the attributes and child elements of an object through a StAX
+ * stream writer and reads them back through the builder from a StAX stream
+ * reader, without building a document tree. The element of a node is
+ * written and consumed by the codec of its parent, so that the module codec
+ * fills the NETCONF config or data element given by the caller. The module
+ * codec also holds the namespace of the module and the helpers for the
+ * NETCONF operation attribute, shared by the codecs of all its data nodes.
+ * <p>
+ * Leaves of bits and identityref type, leaves referring to a leafref in
+ * grouping, choice and augmented nodes are not encoded yet, and are skipped
+ * when they are read.
+ */
+public final class XmlCodecGenerator {
+
+    private static final String OBJ = "obj";
+    private static final String OUT = "out";
+    private static final String IN = "in";
+    private static final String VALUE = "v";
+    private static final String CODEC_BUILDER = "builder";
+
+    // No instantiation.
+    private XmlCodecGenerator() {
+    }
+
+    /**
+     * Returns the body of the XML codec class of current node, and adds the
+     * imports needed by it to the import list.
+     *
+     * @param curNode current YANG node
+     * @param imports import list
+     * @return XML codec class body
+     */
+    public static String getXmlCodecClassBody(YangNode curNode,
+                                              List<String> imports) {
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo();
+        String pkg = info.getPackage();
+        String name = getCapitalCase(info.getJavaName());
+        String codecName = name + XML_CODEC;
+        YangNode module = getModuleNode(curNode);
+        boolean root = curNode instanceof RpcNotificationContainer;
+
+        Map<String, String> types = new LinkedHashMap<>();
+        types.put(codecName, pkg + PERIOD + codecName);
+        String defaultName = root ? name + OP_PARAM : DEFAULT_CAPS + name;
+        types.put(name, pkg + PERIOD + name);
+        types.put(defaultName, pkg + PERIOD + defaultName);
+
+        JavaFileInfoTranslator moduleInfo =
+                ((JavaFileInfoContainer) module).getJavaFileInfo();
+        String moduleName = getCapitalCase(moduleInfo.getJavaName());
+        String codec = getTypeName(moduleInfo.getPackage(),
+                                   moduleName + XML_CODEC, types);
+
+        StringBuilder builder = new StringBuilder(NEW_LINE);
+        if (root) {
+            builder.append(getNamespaceConstants(
+                    ((YangNamespace) module).getModuleNamespace()));
+        }
+        builder.append("    // No instantiation.\n    private ")
+                .append(codecName).append("() {\n    }\n");
+        if (!root || isRootNodesCodeGenRequired(curNode)) {
+            String opType = null;
+            if (!root && curNode.isOpTypeReq()) {
+                opType = YANG + name + OPERATION_TYPE_ATTRIBUTE;
+            }
+            builder.append(getWriteMethod(curNode, name, codec, root, opType,
+                                          types))
+                    .append(getReadMethod(curNode, name, defaultName, codec,
+                                          root, opType, types));
+        }
+        if (root) {
+            builder.append(getXmlHelpers(getTypeName(
+                    moduleInfo.getPackage(), moduleName, types) + PERIOD +
+                                                 OPERATION_TYPE_CLASS,
+                                         getTypeName(JAVA_UTIL_PKG, "Locale",
+                                                     types)));
+        }
+
+        getTypeName(JAVAX_XML_STREAM, XML_STREAM_WRITER, types);
+        getTypeName(JAVAX_XML_STREAM, XML_STREAM_READER, types);
+        getTypeName(JAVAX_XML_STREAM, XML_STREAM_EXCEPTION, types);
+        addCodecImports(types, pkg, imports);
+        return builder.toString();
+    }
+
+    // Returns the namespace constants of the module codec.
+    private static String getNamespaceConstants(String namespace) {
+        return "    /**\n" +
+                "     * Namespace of the module.\n" +
+                "     */\n" +
+                "    public static final String NAMESPACE =\n" +
+                "            \"" + namespace + "\";\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Namespace of the NETCONF base protocol, holding the " +
+                "operation\n" +
+                "     * attribute.\n" +
+                "     */\n" +
+                "    public static final String NETCONF_NAMESPACE =\n" +
+                "            \"urn:ietf:params:xml:ns:netconf:base:1.0\";\n" +
+                "\n";
+    }
+
+    // Returns the method writing the content of the node element.
+    private static String getWriteMethod(YangNode curNode, String name,
+                                         String codec, boolean root,
+                                         String opType,
+                                         Map<String, String> types) {
+        StringBuilder members = new StringBuilder();
+        if (opType != null) {
+            members.append(EIGHT_SPACE_INDENTATION).append(codec)
+                    .append(".writeOperation(").append(OUT).append(", ")
+                    .append(OBJ).append(PERIOD).append(opType)
+                    .append("());\n");
+        }
+        String ns = EMPTY_STRING;
+        if (root) {
+            ns = OUT + ".writeDefaultNamespace(" + codec + ".NAMESPACE);\n";
+        }
+        YangToJavaNamingConflictUtil resolver =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo()
+                        .getPluginConfig().getConflictResolver();
+        if (curNode instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) curNode;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    members.append(getLeafWriter(
+                            (JavaLeafInfoContainer) leaf, name, ns, resolver,
+                            types));
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    members.append(getLeafListWriter(
+                            (JavaLeafInfoContainer) leafList, ns, resolver,
+                            types));
+                }
+            }
+        }
+        YangNode child = curNode.getChild();
+        while (child != null) {
+            if (child instanceof YangContainer || child instanceof YangList) {
+                members.append(getChildWriter(child, ns, types));
+            }
+            child = child.getNextSibling();
+        }
+        String doc;
+        if (root) {
+            doc = "     * Writes the top level elements of " + curNode.getName() +
+                    " to the config or data\n" +
+                    "     * element, which is started and ended by the " +
+                    "caller.\n";
+        } else {
+            doc = "     * Writes the attributes and child elements of " +
+                    curNode.getName() + " to its\n" +
+                    "     * element, which is started and ended by the " +
+                    "caller.\n";
+        }
+        return "\n    /**\n" + doc +
+                "     *\n" +
+                "     * @param " + OBJ + " object to be written\n" +
+                "     * @param " + OUT + " XML stream writer\n" +
+                "     * @throws XMLStreamException when fails to write to " +
+                "the output\n" +
+                "     */\n" +
+                "    public static void write(" + name + " " + OBJ +
+                ", XMLStreamWriter " + OUT + ")\n" +
+                "            throws XMLStreamException {\n" + members +
+                "    }\n";
+    }
+
+    // Returns the statements writing a leaf element when its value is set.
+    private static String getLeafWriter(JavaLeafInfoContainer leaf,
+                                        String name, String ns,
+                                        YangToJavaNamingConflictUtil resolver,
+                                        Map<String, String> types) {
+        String attr = leaf.getJavaName(resolver);
+        String getter = OBJ + PERIOD + attr + "()";
+        String condition = OBJ + ".isLeafValueSet(" + name +
+                ".LeafIdentifier." + attr.toUpperCase() + ")";
+        if (leaf.getDataType().getDataType() == YangDataTypes.EMPTY) {
+            return EIGHT_SPACE_INDENTATION + "if (" + condition + " && " +
+                    getter + ") {\n" +
+                    TWELVE_SPACE_INDENTATION + OUT + ".writeEmptyElement(\"" +
+                    leaf.getName() + "\");\n" +
+                    getNamespaceWriter(ns, TWELVE_SPACE_INDENTATION) +
+                    EIGHT_SPACE_INDENTATION + "}\n";
+        }
+        String text = getValueText(leaf.getDataType(), getter, types);
+        if (text == null) {
+            return EMPTY_STRING;
+        }
+        if (!isPrimitive(leaf.getJavaQualifiedInfo())) {
+            condition = condition + " && " + getter + " != null";
+        }
+        return EIGHT_SPACE_INDENTATION + "if (" + condition + ") {\n" +
+                getElementWriter(leaf.getName(), ns, text,
+                                 TWELVE_SPACE_INDENTATION) +
+                EIGHT_SPACE_INDENTATION + "}\n";
+    }
+
+    // Returns the statements writing an element for each leaf-list value.
+    private static String getLeafListWriter(JavaLeafInfoContainer leafList,
+                                            String ns,
+                                            YangToJavaNamingConflictUtil resolver,
+                                            Map<String, String> types) {
+        String text = getValueText(leafList.getDataType(), VALUE, types);
+        if (text == null) {
+            return EMPTY_STRING;
+        }
+        JavaQualifiedTypeInfo info = leafList.getJavaQualifiedInfo();
+        String type = getTypeName(info.getPkgInfo(), info.getClassInfo(),
+                                  types);
+        String getter = OBJ + PERIOD + leafList.getJavaName(resolver) + "()";
+        return getEachWriter(getter, getter, type, getElementWriter(
+                leafList.getName(), ns, text, SIXTEEN_SPACE_INDENTATION));
+    }
+
+    // Returns the statements writing the element of a child container or list.
+    private static String getChildWriter(YangNode child, String ns,
+                                         Map<String, String> types) {
+        YangNode classNode = getClassNode(child);
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) classNode).getJavaFileInfo();
+        String className = getCapitalCase(info.getJavaName());
+        String childCodec = getTypeName(info.getPackage(),
+                                        className + XML_CODEC, types);
+        String getter = OBJ + PERIOD + info.getJavaName() + "()";
+        if (child instanceof YangList) {
+            String values = getter;
+            if (isMapDataStructure(((YangList) classNode)
+                                           .getCompilerAnnotation())) {
+                values = getter + ".values()";
+            }
+            String type = getTypeName(info.getPackage(), className, types);
+            return getEachWriter(getter, values, type, getChildElementWriter(
+                    child.getName(), ns, childCodec, VALUE,
+                    SIXTEEN_SPACE_INDENTATION));
+        }
+        return EIGHT_SPACE_INDENTATION + "if (" + getter + " != null) {\n" +
+                getChildElementWriter(child.getName(), ns, childCodec, getter,
+                                      TWELVE_SPACE_INDENTATION) +
+                EIGHT_SPACE_INDENTATION + "}\n";
+    }
+
+    // Returns the statements writing an element for each of the values.
+    private static String getEachWriter(String getter, String values,
+                                        String type, String element) {
+        return EIGHT_SPACE_INDENTATION + "if (" + getter + " != null) {\n" +
+                TWELVE_SPACE_INDENTATION + "for (" + type + " " + VALUE +
+                " : " + values + ") {\n" + element +
+                TWELVE_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION + "}\n";
+    }
+
+    // Returns the statements writing an element with text content.
+    private static String getElementWriter(String element, String ns,
+                                           String text, String indent) {
+        return indent + OUT + ".writeStartElement(\"" + element + "\");\n" +
+                getNamespaceWriter(ns, indent) +
+                indent + OUT + ".writeCharacters(" + text + ");\n" +
+                indent + OUT + ".writeEndElement();\n";
+    }
+
+    // Returns the statements writing an element with the child content.
+    private static String getChildElementWriter(String element, String ns,
+                                                String childCodec,
+                                                String value, String indent) {
+        return indent + OUT + ".writeStartElement(\"" + element + "\");\n" +
+                getNamespaceWriter(ns, indent) +
+                indent + childCodec + ".write(" + value + ", " + OUT +
+                ");\n" +
+                indent + OUT + ".writeEndElement();\n";
+    }
+
+    // Returns the statement declaring the namespace of a top level element.
+    private static String getNamespaceWriter(String ns, String indent) {
+        return ns.isEmpty() ? EMPTY_STRING : indent + ns;
+    }
+
+    /*
+     * Returns the expression of the value in its lexical representation, or
+     * null when the type is not supported by the codec.
+     */
+    private static String getValueText(YangType<?> type, String value,
+                                       Map<String, String> types) {
+        switch (type.getDataType()) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+            case UINT64:
+            case BOOLEAN:
+                return "String.valueOf(" + value + ")";
+
+            case DECIMAL64:
+                return value + ".toPlainString()";
+
+            case STRING:
+            case INSTANCE_IDENTIFIER:
+                return value;
+
+            case ENUMERATION:
+            case UNION:
+                return value + ".toString()";
+
+            case BINARY:
+                return getTypeName(JAVA_UTIL_PKG, BASE64, types) +
+                        ".getEncoder().encodeToString(" + value + ")";
+
+            case DERIVED:
+                YangDataTypes builtIn = ((YangDerivedInfo<?>) type
+                        .getDataTypeExtendedInfo()).getEffectiveBuiltInType();
+                if (builtIn == YangDataTypes.IDENTITYREF ||
+                        builtIn == YangDataTypes.EMPTY) {
+                    return null;
+                }
+                return value + ".toString()";
+
+            case LEAFREF:
+                YangLeafRef<?> leafRef = (YangLeafRef<?>) type
+                        .getDataTypeExtendedInfo();
+                if (leafRef.isInGrouping() ||
+                        leafRef.getEffectiveDataType() == null) {
+                    return null;
+                }
+                return getValueText(leafRef.getEffectiveDataType(), value,
+                                    types);
+
+            default:
+                return null;
+        }
+    }
+
+    // Returns the method reading the content of the node element.
+    private static String getReadMethod(YangNode curNode, String name,
+                                        String defaultName, String codec,
+                                        boolean root, String opType,
+                                        Map<String, String> types) {
+        StringBuilder cases = new StringBuilder();
+        YangToJavaNamingConflictUtil resolver =
+                ((JavaFileInfoContainer) curNode).getJavaFileInfo()
+                        .getPluginConfig().getConflictResolver();
+        if (curNode instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) curNode;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    cases.append(getLeafReader(
+                            (JavaLeafInfoContainer) leaf, resolver, types));
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    cases.append(getLeafReader(
+                            (JavaLeafInfoContainer) leafList, resolver,
+                            types));
+                }
+            }
+        }
+        YangNode child = curNode.getChild();
+        while (child != null) {
+            if (child instanceof YangContainer || child instanceof YangList) {
+                cases.append(getChildReader(child, types));
+            }
+            child = child.getNextSibling();
+        }
+
+        StringBuilder body = new StringBuilder();
+        if (root) {
+            body.append(TWELVE_SPACE_INDENTATION).append("if (!")
+                    .append(codec).append(".NAMESPACE.equals(").append(IN)
+                    .append(".getNamespaceURI())) {\n")
+                    .append(SIXTEEN_SPACE_INDENTATION).append(codec)
+                    .append(".skipElement(").append(IN).append(");\n")
+                    .append(SIXTEEN_SPACE_INDENTATION).append("continue;\n")
+                    .append(TWELVE_SPACE_INDENTATION).append("}\n");
+        }
+        if (cases.length() == 0) {
+            body.append(TWELVE_SPACE_INDENTATION).append(codec)
+                    .append(".skipElement(").append(IN).append(");\n");
+        } else {
+            body.append(TWELVE_SPACE_INDENTATION).append("switch (")
+                    .append(IN).append(".getLocalName()) {\n").append(cases)
+                    .append(SIXTEEN_SPACE_INDENTATION).append("default:\n")
+                    .append(TWENTY_SPACE_INDENTATION).append(codec)
+                    .append(".skipElement(").append(IN).append(");\n")
+                    .append(TWENTY_SPACE_INDENTATION).append("break;\n")
+                    .append(TWELVE_SPACE_INDENTATION).append("}\n");
+        }
+
+        String operation = EMPTY_STRING;
+        if (opType != null) {
+            operation = EIGHT_SPACE_INDENTATION + CODEC_BUILDER + PERIOD +
+                    opType + "(" + codec + ".readOperation(" + IN + "));\n";
+        }
+        String yangName = curNode.getName();
+        String doc;
+        if (root) {
+            doc = "     * Reads " + yangName + " from the top level elements " +
+                    "of the config or data\n" +
+                    "     * element at the reader position, leaving the " +
+                    "reader at its end element.\n";
+        } else {
+            doc = "     * Reads " + yangName + " from its element at the " +
+                    "reader position, leaving the\n" +
+                    "     * reader at the end element.\n";
+        }
+        return "\n    /**\n" + doc +
+                "     *\n" +
+                "     * @param " + IN + " XML stream reader\n" +
+                "     * @return " + yangName + " read from the element\n" +
+                "     * @throws XMLStreamException when XML text is " +
+                "malformed\n" +
+                "     */\n" +
+                "    public static " + name + " read(XMLStreamReader " + IN +
+                ")\n" +
+                "            throws XMLStreamException {\n" +
+                EIGHT_SPACE_INDENTATION + defaultName + PERIOD + name +
+                BUILDER + " " + CODEC_BUILDER + " = " + defaultName +
+                ".builder();\n" + operation +
+                EIGHT_SPACE_INDENTATION + "while (" + IN + ".nextTag() == " +
+                "XMLStreamReader.START_ELEMENT) {\n" + body +
+                EIGHT_SPACE_INDENTATION + "}\n" +
+                EIGHT_SPACE_INDENTATION + "return " + CODEC_BUILDER + "." +
+                getInternalBuild(curNode) + "();\n" +
+                "    }\n";
+    }
+
+    // Returns the switch case reading a leaf or leaf-list element.
+    private static String getLeafReader(JavaLeafInfoContainer leaf,
+                                        YangToJavaNamingConflictUtil resolver,
+                                        Map<String, String> types) {
+        YangType<?> type = leaf.getDataType();
+        String attr = leaf.getJavaName(resolver);
+        String text = IN + ".getElementText()";
+        StringBuilder builder = new StringBuilder(SIXTEEN_SPACE_INDENTATION)
+                .append("case \"").append(leaf.getName()).append("\":\n");
+        if (type.getDataType() == YangDataTypes.EMPTY) {
+            builder.append(TWENTY_SPACE_INDENTATION).append(text)
+                    .append(";\n")
+                    .append(TWENTY_SPACE_INDENTATION).append(CODEC_BUILDER)
+                    .append(PERIOD).append(attr).append("(true);\n");
+        } else {
+            if (getValueText(type, VALUE, types) == null) {
+                return EMPTY_STRING;
+            }
+            JavaQualifiedTypeInfo info = leaf.getJavaQualifiedInfo();
+            String value = getValueParser(type, getTypeName(
+                    info.getPkgInfo(), info.getClassInfo(), types), text,
+                                          types);
+            String setter = leaf.isLeafList() ? "addTo" +
+                    getCapitalCase(attr) : attr;
+            builder.append(TWENTY_SPACE_INDENTATION).append(CODEC_BUILDER)
+                    .append(PERIOD).append(setter).append("(").append(value)
+                    .append(");\n");
+        }
+        return builder.append(TWENTY_SPACE_INDENTATION).append("break;\n")
+                .toString();
+    }
+
+    // Returns the switch case reading a child container or list element.
+    private static String getChildReader(YangNode child,
+                                         Map<String, String> types) {
+        JavaFileInfoTranslator info =
+                ((JavaFileInfoContainer) getClassNode(child)).getJavaFileInfo();
+        String childCodec = getTypeName(info.getPackage(), getCapitalCase(
+                info.getJavaName()) + XML_CODEC, types);
+        String setter = info.getJavaName();
+        if (child instanceof YangList) {
+            setter = "addTo" + getCapitalCase(setter);
+        }
+        return SIXTEEN_SPACE_INDENTATION + "case \"" + child.getName() +
+                "\":\n" +
+                TWENTY_SPACE_INDENTATION + CODEC_BUILDER + PERIOD + setter +
+                "(" + childCodec + ".read(" + IN + "));\n" +
+                TWENTY_SPACE_INDENTATION + "break;\n";
+    }
+
+    /*
+     * Returns the helpers shared by the codecs of a module, for the NETCONF
+     * operation attribute and to skip unknown elements.
+     */
+    private static String getXmlHelpers(String opType, String locale) {
+        return "\n    /**\n" +
+                "     * Writes the NETCONF operation attribute to the current " +
+                "element, unless\n" +
+                "     * no operation is specified.\n" +
+                "     *\n" +
+                "     * @param out       XML stream writer\n" +
+                "     * @param operation operation type of the node\n" +
+                "     * @throws XMLStreamException when fails to write to " +
+                "the output\n" +
+                "     */\n" +
+                "    public static void writeOperation(XMLStreamWriter out,\n" +
+                "                                      " + opType +
+                " operation)\n" +
+                "            throws XMLStreamException {\n" +
+                "        if (operation != null && operation != " + opType +
+                ".NONE) {\n" +
+                "            out.writeNamespace(\"nc\", NETCONF_NAMESPACE);\n" +
+                "            out.writeAttribute(\"nc\", NETCONF_NAMESPACE, " +
+                "\"operation\",\n" +
+                "                               operation.name()" +
+                ".toLowerCase(" + locale + ".ROOT));\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Returns the NETCONF operation attribute of the " +
+                "current element.\n" +
+                "     *\n" +
+                "     * @param in XML stream reader\n" +
+                "     * @return operation type, or null when it is not " +
+                "specified\n" +
+                "     * @throws IllegalArgumentException when operation is " +
+                "not known\n" +
+                "     */\n" +
+                "    public static " + opType + " readOperation(" +
+                "XMLStreamReader in) {\n" +
+                "        String operation = in.getAttributeValue(" +
+                "NETCONF_NAMESPACE, \"operation\");\n" +
+                "        if (operation == null) {\n" +
+                "            return null;\n" +
+                "        }\n" +
+                "        return " + opType + ".valueOf(operation" +
+                ".toUpperCase(" + locale + ".ROOT));\n" +
+                "    }\n" +
+                "\n    /**\n" +
+                "     * Skips the current element, with its content, " +
+                "leaving the reader at\n" +
+                "     * its end element.\n" +
+                "     *\n" +
+                "     * @param in XML stream reader\n" +
+                "     * @throws XMLStreamException when XML text is " +
+                "malformed\n" +
+                "     */\n" +
+                "    public static void skipElement(XMLStreamReader in)\n" +
+                "            throws XMLStreamException {\n" +
+                "        int depth = 1;\n" +
+                "        while (depth > 0) {\n" +
+                "            int event = in.next();\n" +
+                "            if (event == XMLStreamReader.START_ELEMENT) {\n" +
+                "                depth++;\n" +
+                "            } else if (event == XMLStreamReader" +
+                ".END_ELEMENT) {\n" +
+                "                depth--;\n" +
+                "            }\n" +
+                "        }\n" +
+                "    }\n";
+    }
+}
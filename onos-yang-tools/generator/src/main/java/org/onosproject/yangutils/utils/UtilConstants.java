@@ -44,6 +44,24 @@ public final class UtilConstants {
             " * Abstraction of an entity which represents the functionality " +
                     "of ";
 
+    /**
+     * JavaDocs for JSON codec class.
+     */
+    public static final String JSON_CODEC_CLASS_JAVA_DOC =
+            " * Represents the RFC 7951 JSON codec of ";
+
+    /**
+     * JavaDocs for XML codec class.
+     */
+    public static final String XML_CODEC_CLASS_JAVA_DOC =
+            " * Represents the NETCONF XML codec of ";
+
+    /**
+     * JavaDocs for binary codec class.
+     */
+    public static final String BINARY_CODEC_CLASS_JAVA_DOC =
+            " * Represents the compact binary codec of ";
+
     /**
      * JavaDocs for event.
      */
@@ -62,6 +80,18 @@ public final class UtilConstants {
     public static final String EVENT_LISTENER_JAVA_DOC =
             " * Abstraction for event listener of ";
 
+    /**
+     * JavaDocs for batched event.
+     */
+    public static final String EVENT_BATCH_JAVA_DOC =
+            " * Represents batch of notification events of ";
+
+    /**
+     * JavaDocs for event coalescer.
+     */
+    public static final String EVENT_COALESCER_JAVA_DOC =
+            " * Represents coalescer of notification events of ";
+
     /**
      * JavaDocs for builder interface class.
      */
@@ -232,6 +262,11 @@ public final class UtilConstants {
      */
     public static final String COMPARE_TO = "compareTo";
 
+    /**
+     * Static attribute for compare.
+     */
+    public static final String COMPARE = "compare";
+
     /**
      * Static attribute for parse byte.
      */
@@ -550,11 +585,21 @@ public final class UtilConstants {
      */
     public static final String ADD = "+";
 
+    /**
+     * Static attribute for multiply syntax.
+     */
+    public static final String MULTIPLY = "*";
+
     /**
      * Static attribute for quotes.
      */
     public static final String QUOTES = "\"";
 
+    /**
+     * Static attribute for backslash.
+     */
+    public static final String BACKSLASH = "\\";
+
     /**
      * Static attribute for zero.
      */
@@ -605,6 +650,41 @@ public final class UtilConstants {
      */
     public static final String OPEN_SQUARE_BRACKET = "[";
 
+    /**
+     * Static attribute for close square bracket.
+     */
+    public static final String CLOSE_SQUARE_BRACKET = "]";
+
+    /**
+     * Static attribute for bitwise or.
+     */
+    public static final String OR = "|";
+
+    /**
+     * Static attribute for left shift.
+     */
+    public static final String LEFT_SHIFT = "<<";
+
+    /**
+     * Static attribute for unsigned right shift.
+     */
+    public static final String UNSIGNED_RIGHT_SHIFT = ">>>";
+
+    /**
+     * Static attribute for shift giving the long word of a bit index.
+     */
+    public static final String LONG_BITS_SHIFT = "6";
+
+    /**
+     * Static attribute for long one.
+     */
+    public static final String ONE_LONG = "1L";
+
+    /**
+     * Static attribute for get leaf index method.
+     */
+    public static final String LEAF_INDEX = "getLeafIndex()";
+
     /**
      * Static attribute for ancestor accessor.
      */
@@ -698,6 +778,16 @@ public final class UtilConstants {
      * Static attribute for of.
      */
     public static final String OF = "of";
+
+    /**
+     * Static attribute for value of.
+     */
+    public static final String VALUE_OF = "valueOf";
+
+    /**
+     * Static attribute for clone.
+     */
+    public static final String CLONE = "clone";
     /**
      * Static attribute for of.
      */
@@ -718,6 +808,21 @@ public final class UtilConstants {
      */
     public static final String HASH = "hash";
 
+    /**
+     * Static attribute for multiplier used to combine hash codes.
+     */
+    public static final String HASH_MULTIPLIER = "31";
+
+    /**
+     * Static attribute for hash value local variable.
+     */
+    public static final String HASH_VALUE = "hashValue";
+
+    /**
+     * Static attribute for cached hash code attribute.
+     */
+    public static final String CACHED_HASH_CODE = "cachedHashCode";
+
     /**
      * Static attribute for to syntax.
      */
@@ -798,6 +903,47 @@ public final class UtilConstants {
      */
     public static final String TMP_VAL = "tmpVal";
 
+    /**
+     * Static attribute for is in range method of from string pre check.
+     */
+    public static final String IS_IN_RANGE = "isInRange";
+
+    /**
+     * Static attribute for is decimal string method of from string pre
+     * check.
+     */
+    public static final String IS_DECIMAL_STRING = "isDecimalString";
+
+    /**
+     * Static attribute for minimum value constant of java wrapper types.
+     */
+    public static final String MIN_VALUE = "MIN_VALUE";
+
+    /**
+     * Static attribute for maximum value constant of java wrapper types.
+     */
+    public static final String MAX_VALUE = "MAX_VALUE";
+
+    /**
+     * Static attribute for suffix of compiled pattern attribute.
+     */
+    public static final String PATTERN_SUFFIX = "_PATTERN";
+
+    /**
+     * Static attribute for pattern compile method.
+     */
+    public static final String COMPILE = "compile";
+
+    /**
+     * Static attribute for pattern matcher method.
+     */
+    public static final String MATCHER = "matcher";
+
+    /**
+     * Static attribute for matcher matches method.
+     */
+    public static final String MATCHES = "matches";
+
     /**
      * Static attribute for close curly bracket syntax.
      */
@@ -860,6 +1006,18 @@ public final class UtilConstants {
     public static final String PROCESS_SUBTREE_FILTERING =
             "processSubtreeFiltering";
 
+    /**
+     * Static attribute for list key of subtree filtering method.
+     */
+    public static final String PROCESS_SUBTREE_FILTERING_KEY =
+            "processSubtreeFilteringKey";
+
+    /**
+     * Static attribute for is subtree filtering key set method.
+     */
+    public static final String IS_SUBTREE_FILTERING_KEY_SET =
+            "isSubtreeFilteringKeySet";
+
     /**
      * variable name of the subtree  filtering result builder.
      */
@@ -1064,6 +1222,86 @@ public final class UtilConstants {
      */
     public static final String JAVA_MATH = "java.math";
 
+    /**
+     * Java.io.* packages.
+     */
+    public static final String JAVA_IO = "java.io";
+
+    /**
+     * IO exception java type.
+     */
+    public static final String IO_EXCEPTION = "IOException";
+
+    /**
+     * Suffix of JSON codec class.
+     */
+    public static final String JSON_CODEC = "JsonCodec";
+
+    /**
+     * JSON reader class of runtime library.
+     */
+    public static final String JSON_READER = "JsonReader";
+
+    /**
+     * JSON writer class of runtime library.
+     */
+    public static final String JSON_WRITER = "JsonWriter";
+
+    /**
+     * Javax.xml.stream.* packages.
+     */
+    public static final String JAVAX_XML_STREAM = "javax.xml.stream";
+
+    /**
+     * XML stream writer java type.
+     */
+    public static final String XML_STREAM_WRITER = "XMLStreamWriter";
+
+    /**
+     * XML stream reader java type.
+     */
+    public static final String XML_STREAM_READER = "XMLStreamReader";
+
+    /**
+     * XML stream exception java type.
+     */
+    public static final String XML_STREAM_EXCEPTION = "XMLStreamException";
+
+    /**
+     * Suffix of XML codec class.
+     */
+    public static final String XML_CODEC = "XmlCodec";
+
+    /**
+     * Data output java type.
+     */
+    public static final String DATA_OUTPUT = "DataOutput";
+
+    /**
+     * Data input java type.
+     */
+    public static final String DATA_INPUT = "DataInput";
+
+    /**
+     * Suffix of binary codec class.
+     */
+    public static final String BINARY_CODEC = "BinaryCodec";
+
+    /**
+     * Completable future java type.
+     */
+    public static final String COMPLETABLE_FUTURE = "CompletableFuture";
+
+    /**
+     * Completion exception java type.
+     */
+    public static final String COMPLETION_EXCEPTION = "CompletionException";
+
+    /**
+     * Suffix of asynchronous rpc method.
+     */
+    public static final String ASYNC = "Async";
+
     /**
      * Boolean built in java type.
      */
@@ -1144,6 +1382,11 @@ public final class UtilConstants {
      */
     public static final String LONG_WRAPPER = "Long";
 
+    /**
+     * Double java built in wrapper type.
+     */
+    public static final String DOUBLE_WRAPPER = "Double";
+
     /**
      * Static variable for question mark.
      */
@@ -1388,6 +1631,43 @@ public final class UtilConstants {
      */
     public static final String COLLECTION_IMPORTS = "java.util";
 
+    /**
+     * Static attribute for concurrent utilities.
+     */
+    public static final String CONCURRENT_IMPORTS = "java.util.concurrent";
+
+    /**
+     * Static attribute for functional interfaces.
+     */
+    public static final String FUNCTION_IMPORTS = "java.util.function";
+
+    /**
+     * Static attribute for runtime support library package.
+     */
+    public static final String RUNTIME_IMPORTS =
+            "org.onosproject.yangutils.runtime";
+
+    /**
+     * Static attribute for augmented info support class of runtime library.
+     */
+    public static final String AUGMENTED_INFO_SUPPORT = "AugmentedInfoSupport";
+
+    /**
+     * Static attribute for augmented info sink of runtime library.
+     */
+    public static final String AUGMENTED_INFO_SINK = "AugmentedInfoSink";
+
+    /**
+     * Static attribute for suffix of augmented info interface, which
+     * augmentations of an augmentable node implement.
+     */
+    public static final String AUGMENTED_INFO = "AugmentedInfo";
+
+    /**
+     * Static attribute for filter augmented info method.
+     */
+    public static final String FILTER_AUGMENTED_INFO = "filterAugmentedInfo";
+
     /**
      * Static attribute for reflect.
      */
@@ -1403,6 +1683,66 @@ public final class UtilConstants {
      */
     public static final String HASH_MAP = "HashMap";
 
+    /**
+     * Static attribute for enum map.
+     */
+    public static final String ENUM_MAP = "EnumMap";
+
+    /**
+     * Static attribute for bi function.
+     */
+    public static final String BI_FUNCTION = "BiFunction";
+
+    /**
+     * Static attribute for consumer.
+     */
+    public static final String CONSUMER = "Consumer";
+
+    /**
+     * Static attribute for size suffix of leaf-list stored in primitive array.
+     */
+    public static final String SIZE = "Size";
+
+    /**
+     * Static attribute for abstract list.
+     */
+    public static final String ABSTRACT_LIST = "AbstractList";
+
+    /**
+     * Static attribute for linked hash map.
+     */
+    public static final String LINKED_HASH_MAP = "LinkedHashMap";
+
+    /**
+     * Static attribute for collection.
+     */
+    public static final String COLLECTION = "Collection";
+
+    /**
+     * Static attribute for collections.
+     */
+    public static final String COLLECTIONS = "Collections";
+
+    /**
+     * Static attribute for hash set.
+     */
+    public static final String HASH_SET = "HashSet";
+
+    /**
+     * Static attribute for linked hash set.
+     */
+    public static final String LINKED_HASH_SET = "LinkedHashSet";
+
+    /**
+     * Static attribute for array list class.
+     */
+    public static final String ARRAY_LIST_CLASS = "ArrayList";
+
+    /**
+     * Static attribute for arrays.
+     */
+    public static final String ARRAYS = "Arrays";
+
 
     /**
      * Static attribute for more object import package.
@@ -1501,6 +1841,16 @@ public final class UtilConstants {
      */
     public static final String SET = "Set";
 
+    /**
+     * Static attribute for values of map.
+     */
+    public static final String VALUES = "values";
+
+    /**
+     * Static attribute for suffix of list keys class.
+     */
+    public static final String KEYS = "Keys";
+
     /**
      * Comment to be added for auto generated impl methods.
      */
@@ -1620,6 +1970,13 @@ public final class UtilConstants {
      * Static attribute for invalid resolve entity error information.
      */
     public static final String INVALID_TARGET = "Invalid target node type ";
+
+    /**
+     * Static attribute for map data structure on list without keys error
+     * information.
+     */
+    public static final String INVALID_MAP_TARGET = "Map data structure " +
+            "requires keys in target list ";
     /**
      * Static attribute for typedef linker error information.
      */
@@ -46,6 +46,53 @@ public final class YangPluginConfig {
      */
     private String codeGenerateForSbi;
 
+    /**
+     * Numeric leaf-lists are stored in primitive arrays.
+     */
+    private boolean primitiveLeafList;
+
+    /**
+     * RFC 7951 JSON codec classes are generated for data nodes, calling the
+     * JSON reader and writer of the runtime support library.
+     */
+    private boolean jsonCodec;
+
+    /**
+     * NETCONF XML codec classes are generated for data nodes.
+     */
+    private boolean xmlCodec;
+
+    /**
+     * Compact binary codec classes are generated for data nodes.
+     */
+    private boolean binaryCodec;
+
+    /**
+     * Asynchronous variants of rpc methods are generated in services.
+     */
+    private boolean asyncRpc;
+
+    /**
+     * Batched event and coalescer are generated for notifications.
+     */
+    private boolean batchedEvents;
+
+    /**
+     * Generated classes call the shared runtime support library.
+     */
+    private boolean runtimeSupport;
+
+    /**
+     * Typedef classes whose value range spans fewer values have their
+     * instances cached, 0 if none.
+     */
+    private int typedefCacheLimit;
+
+    /**
+     * Builders check the schema constraints of the nodes they build.
+     */
+    private boolean constraintCheck;
+
     /**
      * Creates an object for YANG plugin config.
      */
@@ -106,6 +153,179 @@ public final class YangPluginConfig {
         return conflictResolver;
     }
 
+    /**
+     * Returns true if numeric leaf-lists are stored in primitive arrays.
+     *
+     * @return true if numeric leaf-lists are stored in primitive arrays
+     */
+    public boolean isPrimitiveLeafList() {
+        return primitiveLeafList;
+    }
+
+    /**
+     * Sets true if numeric leaf-lists are to be stored in primitive arrays.
+     *
+     * @param primitiveLeafList true if numeric leaf-lists are to be stored
+     *                          in primitive arrays
+     */
+    public void setPrimitiveLeafList(boolean primitiveLeafList) {
+        this.primitiveLeafList = primitiveLeafList;
+    }
+
+    /**
+     * Returns true if JSON codec classes are generated for data nodes.
+     *
+     * @return true if JSON codec classes are generated for data nodes
+     */
+    public boolean isJsonCodec() {
+        return jsonCodec;
+    }
+
+    /**
+     * Sets true if JSON codec classes are to be generated for data nodes.
+     *
+     * @param jsonCodec true if JSON codec classes are to be generated
+     */
+    public void setJsonCodec(boolean jsonCodec) {
+        this.jsonCodec = jsonCodec;
+    }
+
+    /**
+     * Returns true if XML codec classes are generated for data nodes.
+     *
+     * @return true if XML codec classes are generated for data nodes
+     */
+    public boolean isXmlCodec() {
+        return xmlCodec;
+    }
+
+    /**
+     * Sets true if XML codec classes are to be generated for data nodes.
+     *
+     * @param xmlCodec true if XML codec classes are to be generated
+     */
+    public void setXmlCodec(boolean xmlCodec) {
+        this.xmlCodec = xmlCodec;
+    }
+
+    /**
+     * Returns true if binary codec classes are generated for data nodes.
+     *
+     * @return true if binary codec classes are generated for data nodes
+     */
+    public boolean isBinaryCodec() {
+        return binaryCodec;
+    }
+
+    /**
+     * Sets true if binary codec classes are to be generated for data nodes.
+     *
+     * @param binaryCodec true if binary codec classes are to be generated
+     */
+    public void setBinaryCodec(boolean binaryCodec) {
+        this.binaryCodec = binaryCodec;
+    }
+
+    /**
+     * Returns true if asynchronous rpc methods are generated in services.
+     *
+     * @return true if asynchronous rpc methods are generated in services
+     */
+    public boolean isAsyncRpc() {
+        return asyncRpc;
+    }
+
+    /**
+     * Sets true if asynchronous rpc methods are to be generated in services.
+     *
+     * @param asyncRpc true if asynchronous rpc methods are to be generated
+     */
+    public void setAsyncRpc(boolean asyncRpc) {
+        this.asyncRpc = asyncRpc;
+    }
+
+    /**
+     * Returns true if batched event and coalescer are generated for
+     * notifications.
+     *
+     * @return true if batched event and coalescer are generated
+     */
+    public boolean isBatchedEvents() {
+        return batchedEvents;
+    }
+
+    /**
+     * Sets true if batched event and coalescer are to be generated for
+     * notifications.
+     *
+     * @param batchedEvents true if batched event and coalescer are to be
+     *                      generated
+     */
+    public void setBatchedEvents(boolean batchedEvents) {
+        this.batchedEvents = batchedEvents;
+    }
+
+    /**
+     * Returns true if generated classes call the shared runtime support
+     * library.
+     *
+     * @return true if generated classes call the runtime support library
+     */
+    public boolean isRuntimeSupport() {
+        return runtimeSupport;
+    }
+
+    /**
+     * Sets true if generated classes are to call the shared runtime support
+     * library.
+     *
+     * @param runtimeSupport true if generated classes are to call the runtime
+     *                       support library
+     */
+    public void setRuntimeSupport(boolean runtimeSupport) {
+        this.runtimeSupport = runtimeSupport;
+    }
+
+    /**
+     * Returns the number of values below which typedef classes cache their
+     * instances, 0 if none is cached.
+     *
+     * @return typedef cache limit
+     */
+    public int getTypedefCacheLimit() {
+        return typedefCacheLimit;
+    }
+
+    /**
+     * Sets the number of values below which typedef classes cache their
+     * instances, 0 if none is to be cached.
+     *
+     * @param typedefCacheLimit typedef cache limit
+     */
+    public void setTypedefCacheLimit(int typedefCacheLimit) {
+        this.typedefCacheLimit = typedefCacheLimit;
+    }
+
+    /**
+     * Returns true if builders check the schema constraints of the nodes
+     * they build.
+     *
+     * @return true if builders check schema constraints
+     */
+    public boolean isConstraintCheck() {
+        return constraintCheck;
+    }
+
+    /**
+     * Sets true if builders are to check the schema constraints of the nodes
+     * they build.
+     *
+     * @param constraintCheck true if builders are to check schema constraints
+     */
+    public void setConstraintCheck(boolean constraintCheck) {
+        this.constraintCheck = constraintCheck;
+    }
+
     /**
      * Compiles the generated code for unit tests.
      *
@@ -17,6 +17,7 @@
 package org.onosproject.yangutils.utils.io.impl;
 
 import static org.onosproject.yangutils.utils.UtilConstants.ADD_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.BINARY_CODEC_CLASS_JAVA_DOC;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER_CLASS_JAVA_DOC;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER_INTERFACE_JAVA_DOC;
@@ -27,6 +28,8 @@ import static org.onosproject.yangutils.utils.UtilConstants.EIGHT_SPACE_INDENTAT
 import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.ENUM_ATTRIBUTE_JAVADOC;
 import static org.onosproject.yangutils.utils.UtilConstants.ENUM_CLASS_JAVADOC;
+import static org.onosproject.yangutils.utils.UtilConstants.EVENT_BATCH_JAVA_DOC;
+import static org.onosproject.yangutils.utils.UtilConstants.EVENT_COALESCER_JAVA_DOC;
 import static org.onosproject.yangutils.utils.UtilConstants.EVENT_JAVA_DOC;
 import static org.onosproject.yangutils.utils.UtilConstants.EVENT_LISTENER_JAVA_DOC;
 import static org.onosproject.yangutils.utils.UtilConstants.FOUR_SPACE_INDENTATION;
@@ -50,7 +53,9 @@ import static org.onosproject.yangutils.utils.UtilConstants.JAVA_DOC_RETURN;
 import static org.onosproject.yangutils.utils.UtilConstants.JAVA_DOC_RPC;
 import static org.onosproject.yangutils.utils.UtilConstants.JAVA_DOC_SETTERS;
 import static org.onosproject.yangutils.utils.UtilConstants.JAVA_DOC_SETTERS_COMMON;
+import static org.onosproject.yangutils.utils.UtilConstants.JSON_CODEC_CLASS_JAVA_DOC;
 import static org.onosproject.yangutils.utils.UtilConstants.LIST;
+import static org.onosproject.yangutils.utils.UtilConstants.MAP;
 import static org.onosproject.yangutils.utils.UtilConstants.MAX_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.MIN_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
@@ -72,6 +77,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.TO_CAPS;
 import static org.onosproject.yangutils.utils.UtilConstants.VALIDATE_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE;
 import static org.onosproject.yangutils.utils.UtilConstants.VOID;
+import static org.onosproject.yangutils.utils.UtilConstants.XML_CODEC_CLASS_JAVA_DOC;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_LOWER_CASE;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getSmallCase;
@@ -173,6 +179,23 @@ public final class JavaDocGen {
             case ADD_TO_LIST: {
                 return generateForAddToList(name);
             }
+            case JSON_CODEC_CLASS: {
+                return generateForJsonCodec(name);
+            }
+            case XML_CODEC_CLASS: {
+                return generateForXmlCodec(name);
+            }
+            case BINARY_CODEC_CLASS: {
+                return generateForBinaryCodec(name);
+            }
+            case EVENT_BATCH_CLASS: {
+                return getJavaDocForClass(name, EVENT_BATCH_JAVA_DOC,
+                                          EMPTY_STRING);
+            }
+            case EVENT_COALESCER_CLASS: {
+                return getJavaDocForClass(name, EVENT_COALESCER_JAVA_DOC,
+                                          EMPTY_STRING);
+            }
             default: {
                 return generateForConstructors(name);
             }
@@ -272,6 +295,37 @@ public final class JavaDocGen {
         return getJavaDocForClass(name, EVENT_JAVA_DOC, EMPTY_STRING);
     }
 
+    /**
+     * Generates javaDoc for the JSON codec.
+     *
+     * @param name JSON codec class name
+     * @return javaDocs
+     */
+    private static String generateForJsonCodec(String name) {
+        return getJavaDocForClass(name, JSON_CODEC_CLASS_JAVA_DOC, EMPTY_STRING);
+    }
+
+    /**
+     * Generates javaDoc for the XML codec.
+     *
+     * @param name XML codec class name
+     * @return javaDocs
+     */
+    private static String generateForXmlCodec(String name) {
+        return getJavaDocForClass(name, XML_CODEC_CLASS_JAVA_DOC, EMPTY_STRING);
+    }
+
+    /**
+     * Generates javaDoc for the binary codec.
+     *
+     * @param name binary codec class name
+     * @return javaDocs
+     */
+    private static String generateForBinaryCodec(String name) {
+        return getJavaDocForClass(name, BINARY_CODEC_CLASS_JAVA_DOC,
+                                  EMPTY_STRING);
+    }
+
     /**
      * Generates javaDoc for the event listener.
      *
@@ -360,6 +414,11 @@ public final class JavaDocGen {
                     setter = setter + attributeParam;
                     break;
                 }
+                case MAP: {
+                    attributeParam = MAP.toLowerCase() + SPACE + OF + SPACE;
+                    setter = setter + attributeParam;
+                    break;
+                }
                 default: {
 
                 }
@@ -400,7 +459,9 @@ public final class JavaDocGen {
                 getJavaDocEmptyAsteriskLine() +
                 getJavaDocParamLine(INPUT + SPACE + STRING_DATA_TYPE,
                                     FROM_STRING_PARAM_NAME) +
-                getJavaDocReturnLine(attribute) +
+                FOUR_SPACE_INDENTATION + JAVA_DOC_RETURN +
+                getSmallCase(attribute) + ", or null when input is not a " +
+                "valid value" + NEW_LINE +
                 getJavaDocEndLine();
     }
 
@@ -869,5 +930,30 @@ public final class JavaDocGen {
          * For add to list.
          */
         ADD_TO_LIST,
+
+        /**
+         * For JSON codec.
+         */
+        JSON_CODEC_CLASS,
+
+        /**
+         * For XML codec.
+         */
+        XML_CODEC_CLASS,
+
+        /**
+         * For binary codec.
+         */
+        BINARY_CODEC_CLASS,
+
+        /**
+         * For batched event.
+         */
+        EVENT_BATCH_CLASS,
+
+        /**
+         * For event coalescer.
+         */
+        EVENT_COALESCER_CLASS,
     }
 }
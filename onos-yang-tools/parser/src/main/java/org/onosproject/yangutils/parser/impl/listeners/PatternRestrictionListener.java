@@ -16,6 +16,7 @@
 
 package org.onosproject.yangutils.parser.impl.listeners;
 
+import org.antlr.v4.runtime.tree.TerminalNode;
 import org.onosproject.yangutils.datamodel.YangDerivedInfo;
 import org.onosproject.yangutils.datamodel.YangPatternRestriction;
 import org.onosproject.yangutils.datamodel.YangStringRestriction;
@@ -180,7 +181,17 @@ public final class PatternRestrictionListener {
      * @return validated string
      */
     private static String getValidPattern(GeneratedYangParser.PatternStatementContext ctx) {
-        String userInputPattern = removeQuotesAndHandleConcat(ctx.string().getText());
+        String userInputPattern;
+        if (ctx.string().STRING().isEmpty()) {
+            userInputPattern = removeQuotesAndHandleConcat(ctx.string().getText());
+        } else {
+            // Concatenates the strings, keeping the plus signs inside them.
+            StringBuilder builder = new StringBuilder();
+            for (TerminalNode string : ctx.string().STRING()) {
+                builder.append(string.getText());
+            }
+            userInputPattern = builder.toString();
+        }
         userInputPattern = userInputPattern.replaceAll("[\'\"]", EMPTY_STRING);
         try {
             Pattern.compile(userInputPattern);
@@ -23,6 +23,9 @@ import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.TreeWalkListener;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.UNIQUE_DATA;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorLocation.ENTRY;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorMessageConstruction
@@ -87,6 +90,7 @@ public final class UniqueListener {
                                 ctx.unique().getText(), ENTRY, e.getMessage()));
                     }
                 }
+                yangList.addUniqueStatement(Arrays.asList(uniqueValues));
             } else {
                 try {
                     yangList.addUnique(tmpUniqueValue);
@@ -94,6 +98,7 @@ public final class UniqueListener {
                     throw new ParserException(constructExtendedListenerErrorMessage(UNHANDLED_PARSED_DATA, UNIQUE_DATA,
                             ctx.unique().getText(), ENTRY, e.getMessage()));
                 }
+                yangList.addUniqueStatement(Collections.singletonList(tmpUniqueValue));
             }
         } else {
             throw new ParserException(constructListenerErrorMessage(INVALID_HOLDER, UNIQUE_DATA, ctx.unique().getText(),
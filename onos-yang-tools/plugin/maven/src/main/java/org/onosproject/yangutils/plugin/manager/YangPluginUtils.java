@@ -21,6 +21,9 @@ import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Resource;
 import org.apache.maven.project.MavenProject;
 import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaArchive;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaIndex;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaIndex.Entry;
 import org.slf4j.Logger;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
@@ -39,6 +42,9 @@ import java.util.List;
 import java.util.Set;
 
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.parseJarFile;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaArchive.SCHEMA_ARCHIVE_EXTENSION;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaIndex.SCHEMA_INDEX_EXTENSION;
+import static org.onosproject.yangutils.translator.tojava.utils.SchemaIndexGenerator.getSchemaIndexEntries;
 import static org.onosproject.yangutils.utils.UtilConstants.HYPHEN;
 import static org.onosproject.yangutils.utils.UtilConstants.JAR;
 import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
@@ -125,10 +131,12 @@ public final class YangPluginUtils {
      * @param fileSet   YANG file info set
      * @param project   maven project
      * @param operation true if need to add to resource
+     * @param archive   true if schema archive is to be written
      * @throws IOException when fails to do IO operations
      */
     public static void serializeDataModel(String dir, Set<YangFileInfo> fileSet,
-                                          MavenProject project, boolean operation)
+                                          MavenProject project, boolean operation,
+                                          boolean archive)
             throws IOException {
         String serFileDirPath = dir + TARGET_RESOURCE_PATH;
         File dir1 = new File(serFileDirPath);
@@ -137,8 +145,12 @@ public final class YangPluginUtils {
             addToProjectResource(dir + SLASH + TEMP + SLASH, project);
         }
         Set<YangNode> nodes = new HashSet<>();
+        List<Entry> entries = new ArrayList<>();
         for (YangFileInfo fileInfo : fileSet) {
             nodes.add(fileInfo.getRootNode());
+            if (fileInfo.isForTranslator()) {
+                entries.addAll(getSchemaIndexEntries(fileInfo.getRootNode()));
+            }
         }
 
         String serFileName = serFileDirPath + YANG_META_DATA +
@@ -148,6 +160,17 @@ public final class YangPluginUtils {
         objectOutputStream.writeObject(nodes);
         objectOutputStream.close();
         out.close();
+
+        // Archive with module directory, for on demand loading of modules.
+        if (archive) {
+            YangSchemaArchive.write(nodes, serFileDirPath + YANG_META_DATA +
+                    SCHEMA_ARCHIVE_EXTENSION);
+        }
+
+        // Index of generated classes, for registering modules without
+        // scanning packages.
+        YangSchemaIndex.write(entries, serFileDirPath + YANG_META_DATA +
+                SCHEMA_INDEX_EXTENSION);
     }
 
     /**
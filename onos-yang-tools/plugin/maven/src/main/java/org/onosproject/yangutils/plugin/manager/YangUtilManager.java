@@ -173,6 +173,69 @@ public class YangUtilManager extends AbstractMojo {
     @Parameter(property = "generateJavaFileForSbi", defaultValue = "nbi")
     private String generateJavaFileForSbi;
 
+    /**
+     * Numeric leaf-lists are generated with primitive array storage.
+     */
+    @Parameter(property = "primitiveLeafList", defaultValue = "false")
+    private boolean primitiveLeafList;
+
+    /**
+     * RFC 7951 JSON codec classes are generated for data nodes, calling the
+     * JSON reader and writer of the runtime support library.
+     */
+    @Parameter(property = "jsonCodec", defaultValue = "false")
+    private boolean jsonCodec;
+
+    /**
+     * NETCONF XML codec classes are generated for data nodes.
+     */
+    @Parameter(property = "xmlCodec", defaultValue = "false")
+    private boolean xmlCodec;
+
+    /**
+     * Compact binary codec classes are generated for data nodes.
+     */
+    @Parameter(property = "binaryCodec", defaultValue = "false")
+    private boolean binaryCodec;
+
+    /**
+     * Asynchronous variants of rpc methods are generated in services.
+     */
+    @Parameter(property = "asyncRpc", defaultValue = "false")
+    private boolean asyncRpc;
+
+    /**
+     * Batched event and coalescer are generated for notifications.
+     */
+    @Parameter(property = "batchedEvents", defaultValue = "false")
+    private boolean batchedEvents;
+
+    /**
+     * Generated classes call the shared runtime support library.
+     */
+    @Parameter(property = "runtimeSupport", defaultValue = "false")
+    private boolean runtimeSupport;
+
+    /**
+     * Typedef classes whose value range spans fewer values have their
+     * instances cached, 0 if none.
+     */
+    @Parameter(property = "typedefCacheLimit", defaultValue = "0")
+    private int typedefCacheLimit;
+
+    /**
+     * Builders check the schema constraints of the nodes they build.
+     */
+    @Parameter(property = "constraintCheck", defaultValue = "false")
+    private boolean constraintCheck;
+
+    /**
+     * A schema archive, for on demand loading of modules, is packaged
+     * along with the serialized data model.
+     */
+    @Parameter(property = "schemaArchive", defaultValue = "false")
+    private boolean schemaArchive;
+
     /**
      * The Runtime information for the current instance of Maven.
      */
@@ -213,6 +276,15 @@ public class YangUtilManager extends AbstractMojo {
             yangPlugin.setConflictResolver(conflictResolver);
 
             yangPlugin.setCodeGenerateForSbi(generateJavaFileForSbi.toLowerCase());
+            yangPlugin.setPrimitiveLeafList(primitiveLeafList);
+            yangPlugin.setJsonCodec(jsonCodec);
+            yangPlugin.setXmlCodec(xmlCodec);
+            yangPlugin.setBinaryCodec(binaryCodec);
+            yangPlugin.setAsyncRpc(asyncRpc);
+            yangPlugin.setBatchedEvents(batchedEvents);
+            yangPlugin.setRuntimeSupport(runtimeSupport);
+            yangPlugin.setTypedefCacheLimit(typedefCacheLimit);
+            yangPlugin.setConstraintCheck(constraintCheck);
             /*
              * Obtain the YANG files at a path mentioned in plugin and creates
              * YANG file information set.
@@ -237,7 +309,8 @@ public class YangUtilManager extends AbstractMojo {
             translateToJava(yangPlugin);
 
             // Serialize data model.
-            serializeDataModel(outputDir, yangFileInfoSet, project, true);
+            serializeDataModel(outputDir, yangFileInfoSet, project, true,
+                               schemaArchive);
             addToCompilationRoot(codeGenDir, project, context);
 
             copyYangFilesToTarget(yangFileInfoSet, outputDir, project);
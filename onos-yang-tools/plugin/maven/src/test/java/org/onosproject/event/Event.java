@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.onosproject.event;
+
+/**
+ * Abstraction of an event, stub of the ONOS event API against which the
+ * generated events are compiled in tests.
+ *
+ * @param <T> type of event type
+ * @param <S> type of event subject
+ */
+public interface Event<T extends Enum, S> {
+
+    /**
+     * Returns the time of event.
+     *
+     * @return time in milliseconds
+     */
+    long time();
+
+    /**
+     * Returns the event type.
+     *
+     * @return event type
+     */
+    T type();
+
+    /**
+     * Returns the event subject.
+     *
+     * @return event subject
+     */
+    S subject();
+}
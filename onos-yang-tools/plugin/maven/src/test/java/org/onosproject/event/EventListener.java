@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.onosproject.event;
+
+/**
+ * Abstraction of event listener, stub of the ONOS event API against which
+ * the generated listeners are compiled in tests.
+ *
+ * @param <E> type of event
+ */
+public interface EventListener<E extends Event> {
+
+    /**
+     * Returns true if the event is relevant to the listener.
+     *
+     * @param event event
+     * @return true if event is relevant
+     */
+    default boolean isRelevant(E event) {
+        return true;
+    }
+
+    /**
+     * Reacts to the event.
+     *
+     * @param event event
+     */
+    void event(E event);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.onosproject.event;
+
+/**
+ * Abstraction of service accepting listeners, stub of the ONOS event API
+ * against which the generated services are compiled in tests.
+ *
+ * @param <E> type of event
+ * @param <L> type of event listener
+ */
+public interface ListenerService<E extends Event, L extends EventListener<E>> {
+
+    /**
+     * Adds the listener of events.
+     *
+     * @param listener event listener
+     */
+    void addListener(L listener);
+
+    /**
+     * Removes the listener of events.
+     *
+     * @param listener event listener
+     */
+    void removeListener(L listener);
+}
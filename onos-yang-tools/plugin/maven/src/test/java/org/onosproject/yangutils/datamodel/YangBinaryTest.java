@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.junit.Test;
+
+import java.util.Base64;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.datamodel.YangBinary.decodedLength;
+
+/**
+ * Test case for decoded length of base64 encoded binary values.
+ */
+public class YangBinaryTest {
+
+    /**
+     * Checks decoded length of padded values matches the decoded octets.
+     */
+    @Test
+    public void processPaddedValue() {
+        assertThat(decodedLength("QQ=="), is(1L));
+        assertThat(decodedLength("QUI="), is(2L));
+        assertThat(decodedLength("QUJD"), is(3L));
+        assertThat(decodedLength("QUJDRA=="), is(4L));
+        assertThat(decodedLength("QUJDREVGR0g="), is(8L));
+    }
+
+    /**
+     * Checks decoded length of values without padding matches the decoded
+     * octets.
+     */
+    @Test
+    public void processUnpaddedValue() {
+        assertThat(decodedLength("QQ"), is(1L));
+        assertThat(decodedLength("QUI"), is(2L));
+        assertThat(decodedLength("QUJDRA"), is(4L));
+        assertThat(decodedLength("QUJDREVGR0g"), is(8L));
+    }
+
+    /**
+     * Checks decoded length agrees with the base64 decoder for all lengths
+     * up to a few units, with and without padding.
+     */
+    @Test
+    public void processDecoderAgreement() {
+        for (int n = 0; n < 16; n++) {
+            byte[] data = new byte[n];
+            String padded = Base64.getEncoder().encodeToString(data);
+            String unpadded = Base64.getEncoder().withoutPadding()
+                    .encodeToString(data);
+            assertThat(decodedLength(padded), is((long) n));
+            assertThat(decodedLength(unpadded), is((long) n));
+        }
+    }
+
+    /**
+     * Checks value with a single character left after the last unit is
+     * not well-formed, padded or not.
+     */
+    @Test
+    public void processRemainderOfOne() {
+        assertThat(decodedLength("Q"), is(-1L));
+        assertThat(decodedLength("QUJDR"), is(-1L));
+        assertThat(decodedLength("QUJDR==="), is(-1L));
+        assertThat(decodedLength("QUJDR="), is(-1L));
+    }
+
+    /**
+     * Checks value with characters outside of base64 alphabet, or with
+     * misplaced padding, is not well-formed.
+     */
+    @Test
+    public void processInvalidCharacters() {
+        assertThat(decodedLength("QU I"), is(-1L));
+        assertThat(decodedLength("QUI\n"), is(-1L));
+        assertThat(decodedLength("QU-_"), is(-1L));
+        assertThat(decodedLength("QQ=A"), is(-1L));
+        assertThat(decodedLength("QQ==QUJD"), is(-1L));
+        assertThat(decodedLength("QUJD="), is(-1L));
+        assertThat(decodedLength("QUI=="), is(-1L));
+        assertThat(decodedLength("===="), is(-1L));
+    }
+
+    /**
+     * Checks empty value decodes to no octets.
+     */
+    @Test
+    public void processEmptyValue() {
+        assertThat(decodedLength(""), is(0L));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.parser.impl.listeners;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangBatchValidationResult;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.parser.impl.YangUtilsParserManager;
+import org.onosproject.yangutils.plugin.manager.YangUtilManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for testing batch validation of leaf values.
+ */
+public class BatchValidationTest {
+
+    private final YangUtilsParserManager manager = new YangUtilsParserManager();
+
+    /**
+     * Checks batch validation of values of leaves with restrictions.
+     */
+    @Test
+    public void processBatchValidation() throws IOException, ParserException, DataModelException {
+
+        YangNode node = manager.getDataModel("src/test/resources/batchvalidation/BatchValidation.yang");
+        ListIterator<YangLeaf> leafIterator = ((YangModule) node).getListOfLeaf().listIterator();
+
+        YangLeaf counter = leafIterator.next();
+        YangBatchValidationResult result = counter.isValueValid(
+                new CharSequence[]{"1", "100", "0", "abc", new StringBuilder("50")}, null);
+        assertThat(result.getSize(), is(5));
+        assertThat(result.isValid(0), is(true));
+        assertThat(result.isValid(1), is(true));
+        assertThat(result.isValid(2), is(false));
+        assertThat(result.isValid(3), is(false));
+        assertThat(result.isValid(4), is(true));
+        assertThat(result.isAllValid(), is(false));
+        assertThat(result.getFirstInvalidIndex(), is(2));
+
+        YangLeaf name = leafIterator.next();
+        result = name.isValueValid(new CharSequence[]{"ab", "abcde", "AB", ""}, null);
+        assertThat(result.isValid(0), is(true));
+        assertThat(result.isValid(1), is(false));
+        assertThat(result.isValid(2), is(false));
+        assertThat(result.isValid(3), is(false));
+        assertThat(result.getFirstErrorMessage(),
+                   is("YANG file error : Input value \"abcde\" is not a valid STRING"));
+
+        YangLeaf color = leafIterator.next();
+        byte[] buffer = "redbluegreen".getBytes(UTF_8);
+        result = color.isValueValid(buffer, new int[]{0, 3, 7, 12}, null);
+        assertThat(result.getSize(), is(3));
+        assertThat(result.isValid(0), is(true));
+        assertThat(result.isValid(1), is(false));
+        assertThat(result.isValid(2), is(true));
+
+        YangLeaf blob = leafIterator.next();
+        result = blob.isValueValid(new CharSequence[]{"AAE=", "AAEC", "AA=", "AAE"}, null);
+        assertThat(result.isValid(0), is(true));
+        assertThat(result.isValid(1), is(false));
+        assertThat(result.isValid(2), is(false));
+        assertThat(result.isValid(3), is(true));
+
+        YangLeaf speed = leafIterator.next();
+        result = speed.isValueValid(new CharSequence[]{"10", "auto", "fast"}, null);
+        assertThat(result.isValid(0), is(true));
+        assertThat(result.isValid(1), is(true));
+        assertThat(result.isValid(2), is(false));
+        assertThat(result.getFirstErrorMessage(),
+                   is("YANG file error : Input value \"fast\" is not a valid UNION"));
+
+        // Leafref is not linked by the parser alone, so it is not validated.
+        YangLeaf limit = leafIterator.next();
+        result = limit.isValueValid(new CharSequence[]{"0"}, null);
+        assertThat(result.isAllValid(), is(true));
+    }
+
+    /**
+     * Checks value which fails to be read from its source is recorded as
+     * invalid, without failing the rest of the batch.
+     */
+    @Test
+    public void processUnreadableValueBatchValidation() throws IOException, ParserException, DataModelException {
+
+        YangNode node = manager.getDataModel("src/test/resources/batchvalidation/BatchValidation.yang");
+        YangLeaf color = ((YangModule) node).getListOfLeaf().get(2);
+        byte[] buffer = "redgreen".getBytes(UTF_8);
+        YangBatchValidationResult result = color.isValueValid(buffer, new int[]{0, 3, 100, 8}, null);
+        assertThat(result.getSize(), is(3));
+        assertThat(result.isValid(0), is(true));
+        assertThat(result.isValid(1), is(false));
+        assertThat(result.getFirstInvalidIndex(), is(1));
+    }
+
+    /**
+     * Checks batch validation of leafref values against the type of the
+     * referred leaf, once linked.
+     */
+    @Test
+    public void processLeafrefBatchValidation()
+            throws IOException, ParserException, MojoExecutionException, DataModelException {
+
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles("src/test/resources/batchvalidation"));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangNode node = utilManager.getYangNodeSet().iterator().next();
+        YangLeaf limit = ((YangModule) node).getListOfLeaf().get(5);
+        assertThat(limit.getName(), is("limit"));
+        YangBatchValidationResult result = limit.isValueValid(
+                new CharSequence[]{"50", "0", "abc"}, null);
+        assertThat(result.isValid(0), is(true));
+        assertThat(result.isValid(1), is(false));
+        assertThat(result.isValid(2), is(false));
+    }
+
+    /**
+     * Checks batch validation split across a fork-join pool.
+     */
+    @Test
+    public void processParallelBatchValidation() throws IOException, ParserException, DataModelException {
+
+        YangNode node = manager.getDataModel("src/test/resources/batchvalidation/BatchValidation.yang");
+        YangLeaf counter = ((YangModule) node).getListOfLeaf().get(0);
+
+        CharSequence[] values = new CharSequence[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = String.valueOf(i % 200);
+        }
+        values[70001] = "none";
+
+        YangBatchValidationResult parallel = counter.isValueValid(values, ForkJoinPool.commonPool());
+        YangBatchValidationResult sequential = counter.isValueValid(values, null);
+        assertThat(parallel.getValidBitmap(), is(sequential.getValidBitmap()));
+        assertThat(parallel.getFirstInvalidIndex(), is(0));
+        assertThat(parallel.isValid(70001), is(false));
+        assertThat(parallel.isValid(70002), is(true));
+    }
+}
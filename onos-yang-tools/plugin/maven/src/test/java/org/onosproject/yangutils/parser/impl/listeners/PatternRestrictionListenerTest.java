@@ -164,8 +164,7 @@ public class PatternRestrictionListenerTest {
                 .getDataType().getDataTypeExtendedInfo();
         ListIterator<String> patternListIterator = stringRestriction.getPatternRestriction()
                 .getPatternList().listIterator();
-        //FIXME: + should not be remove from the end.
-        //assertThat(patternListIterator.next(), is("-[0-9]+|[0-9]+"));
+        assertThat(patternListIterator.next(), is("-[0-9]+|[0-9]+"));
     }
 
     /**
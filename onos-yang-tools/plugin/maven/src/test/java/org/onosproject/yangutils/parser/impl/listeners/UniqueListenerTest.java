@@ -27,6 +27,7 @@ import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.YangUtilsParserManager;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.ListIterator;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -92,5 +93,10 @@ public class UniqueListenerTest {
         assertThat(list, is("ospf"));
         list = listIterator.next();
         assertThat(list, is("isis"));
+
+        // Check whether the leaves of the statement are kept together.
+        assertThat(yangList.getUniqueStatementList().size(), is(1));
+        assertThat(yangList.getUniqueStatementList().get(0),
+                   is(Arrays.asList("ospf", "isis")));
     }
 }
\ No newline at end of file
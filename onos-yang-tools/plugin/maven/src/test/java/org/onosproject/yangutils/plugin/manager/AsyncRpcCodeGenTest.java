@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.fail;
+import static org.onosproject.yangutils.plugin.manager.GeneratedCode.call;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test case for asynchronous rpc service generation.
+ */
+public class AsyncRpcCodeGenTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/asyncrpc/";
+    private static final String COMP = System.getProperty("user.dir") + File
+            .separator + DIR;
+    private static final String PKG = "org.onosproject.yang.gen.v1.test.test.";
+    private static final String SERVICES = "TestServices.java";
+
+    /**
+     * Checks asynchronous rpc methods and adapter generated in a service,
+     * for rpc with and without input and output, are translated to
+     * compilable code.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processAsyncRpcTranslator() throws IOException, ParserException, MojoExecutionException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/asyncrpc";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setAsyncRpc(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+        deleteDirectory(DIR);
+    }
+
+    /**
+     * Checks default asynchronous rpc methods complete their future with
+     * the blocking methods, and blocking methods of the adapter return what
+     * the asynchronous ones complete with, throwing the runtime exception
+     * they fail with as is.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processAsyncRpcBehavior() throws IOException, ParserException, MojoExecutionException,
+            ReflectiveOperationException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/asyncrpc";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setAsyncRpc(true);
+        utilManager.translateToJava(yangPluginConfig);
+        Files.copy(Paths.get("src/test/resources/asyncrpcservice", SERVICES),
+                   Paths.get(COMP, PKG.replace('.', File.separatorChar), SERVICES));
+        compileCode(COMP);
+
+        try (GeneratedCode code = new GeneratedCode(COMP, PKG)) {
+            Object input = code.builder("test.getstatus.DefaultGetStatusInput");
+            call(input, "device", "r1");
+            Object statusInput = call(input, "build");
+            Object rebootInput = call(code.builder("test.reboot.DefaultRebootInput"),
+                                      "build");
+
+            Object blocking = code.load("TestServices$Blocking").newInstance();
+            CompletableFuture<?> status = (CompletableFuture<?>) call(
+                    blocking, "getStatusAsync", statusInput);
+            assertThat(call(status.join(), "status"), is("r1"));
+            CompletableFuture<?> reboot = (CompletableFuture<?>) call(
+                    blocking, "rebootAsync", rebootInput);
+            assertThat(reboot.isCompletedExceptionally(), is(true));
+            try {
+                reboot.join();
+                fail("reboot completed");
+            } catch (CompletionException e) {
+                assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+            }
+            CompletableFuture<?> sync = (CompletableFuture<?>) call(
+                    blocking, "syncAllAsync");
+            assertThat(sync.isDone() && !sync.isCompletedExceptionally(), is(true));
+
+            Object async = code.load("TestServices$Async").newInstance();
+            assertThat(call(call(async, "getStatus", statusInput), "status"),
+                       is("r1"));
+            call(async, "syncAll");
+            try {
+                call(async, "reboot", rebootInput);
+                fail("reboot completed");
+            } catch (IllegalStateException e) {
+                assertThat(e.getMessage(), is("unreachable"));
+            }
+            try {
+                call(async, "getVersion");
+                fail("getVersion completed");
+            } catch (CompletionException e) {
+                assertThat(e.getCause(), instanceOf(IOException.class));
+            }
+        }
+        deleteDirectory(DIR);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.plugin.manager.GeneratedCode.call;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test case for compact binary codec generation.
+ */
+public class BinaryCodecCodeGenTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/binarycodec/";
+    private static final String COMP = System.getProperty("user.dir") + File
+            .separator + DIR;
+    private static final String PKG = "org.onosproject.yang.gen.v1.test.test.";
+
+    /**
+     * Checks binary codecs generated for a module, its containers and lists
+     * with leaves and leaf-lists of several built-in and derived types are
+     * translated to compilable code that reads back what it writes, and
+     * writes only the leaves that are set.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processBinaryCodecTranslator() throws IOException, ParserException, MojoExecutionException,
+            ReflectiveOperationException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/binarycodec";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setBinaryCodec(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+
+        try (GeneratedCode code = new GeneratedCode(COMP, PKG)) {
+            Object entry = code.builder("test.cont1.DefaultList1");
+            call(entry, "name", "x");
+            call(entry, "value", 3);
+
+            Object builder = code.builder("test.DefaultCont1");
+            call(builder, "leafInt", -7);
+            call(builder, "leafDec", new BigDecimal("1.25"));
+            call(builder, "leafBool", true);
+            call(builder, "leafStr", "a");
+            call(builder, "addToLlStr", "b");
+            call(builder, "addToLlStr", "c");
+            call(builder, "addToList1", call(entry, "build"));
+            Object cont1 = call(builder, "build");
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            code.callStatic("test.Cont1BinaryCodec", "writeTo", cont1,
+                            new DataOutputStream(bytes));
+            // Only the set leaves are written, each after its varint tag.
+            assertThat(bytes.size(), is(27));
+            Object read = code.callStatic(
+                    "test.Cont1BinaryCodec", "readFrom", new DataInputStream(
+                            new ByteArrayInputStream(bytes.toByteArray())));
+            assertThat(read, is(cont1));
+        }
+        deleteDirectory(DIR);
+    }
+
+}
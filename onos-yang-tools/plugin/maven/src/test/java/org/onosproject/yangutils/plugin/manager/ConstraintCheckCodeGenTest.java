@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.fail;
+import static org.onosproject.yangutils.plugin.manager.GeneratedCode.call;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test case for schema constraint checks of builders.
+ */
+public class ConstraintCheckCodeGenTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/constraintcheck/";
+    private static final String COMP = System.getProperty("user.dir") + File
+            .separator + DIR;
+    private static final String PKG = "org.onosproject.yang.gen.v1.test.test.";
+
+    /**
+     * Checks builders checking ranges, lengths, patterns, element counts
+     * and unique constraints are translated to compilable code.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processConstraintCheckTranslator() throws IOException, ParserException, MojoExecutionException {
+
+        translate();
+        deleteDirectory(DIR);
+    }
+
+    /**
+     * Checks build of builder checks min-elements, while diff against a
+     * null node, merge into an absent node and decoding build the partial
+     * content without checking it.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processUncheckedInternalBuilds() throws IOException, ParserException, MojoExecutionException,
+            ReflectiveOperationException {
+
+        translate();
+        try (GeneratedCode code = new GeneratedCode(COMP, PKG)) {
+            Object builder = code.builder("test.DefaultInterfaces");
+            call(builder, "mtu", 1500);
+            try {
+                call(builder, "build");
+                fail("min-elements of dns not checked");
+            } catch (IllegalStateException e) {
+                assertThat(e.getMessage().contains("dns"), is(true));
+            }
+            call(builder, "addToDns", "ns1");
+            Object interfaces = call(builder, "build");
+
+            List<String> events = new ArrayList<>();
+            Object sink = code.proxy("Test$DiffSink", (proxy, method, args) -> {
+                events.add(method.getName() + " " + args[0]);
+                return null;
+            });
+            call(interfaces, "diff", null, sink);
+            assertThat(events.contains("deleted dns"), is(true));
+
+            builder = code.builder("TestOpParam");
+            call(builder, "interfaces", interfaces);
+            Object edit = call(builder, "build");
+            Object merged = call(call(code.builder("TestOpParam"), "build"),
+                                 "merge", edit);
+            assertThat(call(merged, "interfaces"), is(interfaces));
+
+            Object decoded = code.callStatic("test.InterfacesJsonCodec", "read",
+                                             "{\"mtu\":68}");
+            assertThat(call(decoded, "mtu"), is((Object) 68));
+            assertThat(call(decoded, "dns"), nullValue());
+        }
+        deleteDirectory(DIR);
+    }
+
+    private void translate() throws IOException, ParserException, MojoExecutionException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/constraintcheck";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setConstraintCheck(true);
+        yangPluginConfig.setJsonCodec(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.plugin.manager.GeneratedCode.call;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test case for structural diff generation.
+ */
+public class DiffCodeGenTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/diff/";
+    private static final String COMP = System.getProperty("user.dir") + File
+            .separator + DIR;
+    private static final String PKG = "org.onosproject.yang.gen.v1.test.test.";
+
+    /**
+     * Checks diff methods generated for containers with leaves,
+     * leaf-lists, keyed, multi key, map and keyless lists, choices and
+     * augmentations are translated to compilable code reporting the
+     * changes between two instances.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processDiffTranslator() throws IOException, ParserException, MojoExecutionException,
+            ReflectiveOperationException {
+        processDiff(false);
+    }
+
+    /**
+     * Checks diff methods generated with primitive leaf-lists are
+     * translated to compilable code reporting the changes between two
+     * instances.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processDiffPrimitiveLeafListTranslator() throws IOException, ParserException,
+            MojoExecutionException, ReflectiveOperationException {
+        processDiff(true);
+    }
+
+    private void processDiff(boolean primitiveLeafList) throws IOException, ParserException,
+            MojoExecutionException, ReflectiveOperationException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/diff";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setPrimitiveLeafList(primitiveLeafList);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+
+        try (GeneratedCode code = new GeneratedCode(COMP, PKG)) {
+            Object old = cont1(code, 1, 1, entry(code, "x", "t1"),
+                               entry(code, "y", null));
+            Object cur = cont1(code, 2, 2, entry(code, "x", "t2"));
+
+            List<String> events = new ArrayList<>();
+            Object sink = code.proxy("Test$DiffSink", (proxy, method, args) -> {
+                StringBuilder event = new StringBuilder(method.getName());
+                if (args != null) {
+                    for (Object arg : args) {
+                        event.append(' ').append(arg);
+                    }
+                }
+                events.add(event.toString());
+                return null;
+            });
+            call(old, "diff", cur, sink);
+
+            List<String> expected = new ArrayList<>();
+            expected.add("modified leaf-int 1 2");
+            expected.add("deleted ll-int 1");
+            expected.add("created ll-int 2");
+            expected.add("enter list1 x");
+            expected.add("deleted tags t1");
+            expected.add("created tags t2");
+            expected.add("exit");
+            expected.add("deleted list1 " + entry(code, "y", null));
+            assertThat(events, is(expected));
+        }
+        deleteDirectory(DIR);
+    }
+
+    private static Object cont1(GeneratedCode code, int leafInt, int llInt,
+                                Object... list1)
+            throws ReflectiveOperationException {
+        Object builder = code.builder("test.DefaultCont1");
+        call(builder, "leafInt", leafInt);
+        call(builder, "addToLlInt", llInt);
+        for (Object entry : list1) {
+            call(builder, "addToList1", entry);
+        }
+        return call(builder, "build");
+    }
+
+    private static Object entry(GeneratedCode code, String name, String tag)
+            throws ReflectiveOperationException {
+        Object builder = code.builder("test.cont1.DefaultList1");
+        call(builder, "name", name);
+        if (tag != null) {
+            call(builder, "addToTags", tag);
+        }
+        return call(builder, "build");
+    }
+}
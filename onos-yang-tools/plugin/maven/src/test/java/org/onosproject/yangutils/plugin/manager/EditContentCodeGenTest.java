@@ -0,0 +1,183 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.fail;
+import static org.onosproject.yangutils.plugin.manager.GeneratedCode.call;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test case for edit content merge, replace and delete generation.
+ */
+public class EditContentCodeGenTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/editcontent/";
+    private static final String COMP = System.getProperty("user.dir") + File
+            .separator + DIR;
+    private static final String PKG = "org.onosproject.yang.gen.v1.test.test.";
+
+    /**
+     * Checks edit content methods generated for containers with leaves,
+     * leaf-lists, keyed, multi key, map and keyless lists, choices and
+     * augmentations are translated to compilable code merging and deleting
+     * edit content.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processEditContentTranslator() throws IOException, ParserException, MojoExecutionException,
+            ReflectiveOperationException {
+        processEditContent(false);
+    }
+
+    /**
+     * Checks edit content methods generated with primitive leaf-lists are
+     * translated to compilable code merging and deleting edit content.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processEditContentPrimitiveLeafListTranslator() throws IOException, ParserException,
+            MojoExecutionException, ReflectiveOperationException {
+        processEditContent(true);
+    }
+
+    /**
+     * Checks default class copies the collections of its builder into
+     * unmodifiable ones, so reusing the builder or changing a returned
+     * collection can not change the cached hash code.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processUnmodifiableCollections() throws IOException, ParserException, MojoExecutionException,
+            ReflectiveOperationException {
+
+        translate(false);
+        try (GeneratedCode code = new GeneratedCode(COMP, PKG)) {
+            Object builder = code.builder("test.DefaultCont1");
+            call(builder, "addToLlInt", 1);
+            call(builder, "addToList1", entry(code, "x", 1));
+            Object cur = call(builder, "build");
+            int hash = cur.hashCode();
+
+            call(builder, "addToLlInt", 2);
+            call(builder, "addToList1", entry(code, "y", 2));
+            Object other = call(builder, "build");
+            assertThat(String.valueOf(call(cur, "llInt")), is("[1]"));
+            assertThat(call(cur, "list1"),
+                       is((Object) singletonList(entry(code, "x", 1))));
+            assertThat(cur.hashCode(), is(hash));
+            assertThat(cur.equals(other), is(false));
+
+            assertUnmodifiable((List<?>) call(cur, "llInt"));
+            assertUnmodifiable((List<?>) call(cur, "list1"));
+            Object merged = call(cur, "merge", other);
+            assertUnmodifiable((List<?>) call(merged, "llInt"));
+            assertUnmodifiable((List<?>) call(merged, "list1"));
+        }
+        deleteDirectory(DIR);
+    }
+
+    private void processEditContent(boolean primitiveLeafList) throws IOException, ParserException,
+            MojoExecutionException, ReflectiveOperationException {
+
+        translate(primitiveLeafList);
+        try (GeneratedCode code = new GeneratedCode(COMP, PKG)) {
+            Object builder = code.builder("test.DefaultCont1");
+            call(builder, "leafInt", 1);
+            call(builder, "leafStr", "a");
+            call(builder, "addToLlInt", 1);
+            call(builder, "addToList1", entry(code, "x", 1));
+            Object cur = call(builder, "build");
+
+            builder = code.builder("test.DefaultCont1");
+            call(builder, "leafStr", "b");
+            call(builder, "addToLlInt", 2);
+            call(builder, "addToList1", entry(code, "x", 2));
+            Object merged = call(cur, "merge", call(builder, "build"));
+
+            assertThat(call(merged, "leafInt"), is((Object) 1));
+            assertThat(call(merged, "leafStr"), is((Object) "b"));
+            assertThat(String.valueOf(call(merged, "llInt")), is("[1, 2]"));
+            assertThat(call(merged, "list1"),
+                       is((Object) singletonList(entry(code, "x", 2))));
+
+            Class<?> opType = code.load("Test$OnosYangOpType");
+            builder = code.builder("test.DefaultCont1");
+            call(builder, "leafStr", "b");
+            call(builder, "addToLlInt", 1);
+            call(builder, "yangCont1OpType", opType.getField("DELETE").get(null));
+            Object deleted = call(merged, "merge", call(builder, "build"));
+
+            assertThat(call(deleted, "leafInt"), is((Object) 1));
+            assertThat(call(deleted, "leafStr"), nullValue());
+            assertThat(String.valueOf(call(deleted, "llInt")), is("[2]"));
+        }
+        deleteDirectory(DIR);
+    }
+
+    private void translate(boolean primitiveLeafList) throws IOException, ParserException,
+            MojoExecutionException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/editcontent";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setPrimitiveLeafList(primitiveLeafList);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+    }
+
+    private static void assertUnmodifiable(List<?> list) {
+        try {
+            list.clear();
+            fail("list is modifiable");
+        } catch (UnsupportedOperationException e) {
+            assertThat(list.isEmpty(), is(false));
+        }
+    }
+
+    private static Object entry(GeneratedCode code, String name, int value)
+            throws ReflectiveOperationException {
+        Object builder = code.builder("test.cont1.DefaultList1");
+        call(builder, "name", name);
+        call(builder, "value", value);
+        return call(builder, "build");
+    }
+}
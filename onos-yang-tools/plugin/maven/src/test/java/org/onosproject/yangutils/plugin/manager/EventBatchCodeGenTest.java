@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.plugin.manager.GeneratedCode.call;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test case for batched event generation.
+ */
+public class EventBatchCodeGenTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/eventbatch/";
+    private static final String COMP = System.getProperty("user.dir") +
+            File.separator + DIR;
+    private static final String PKG = COMP + "org/onosproject/yang/gen/v1/test/test/";
+    private static final String GEN = "org.onosproject.yang.gen.v1.test.test.test.";
+
+    /**
+     * Checks batched event and coalescer are generated along with the
+     * events of module notifications.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processEventBatchTranslator() throws IOException, ParserException, MojoExecutionException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/eventbatch";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setBatchedEvents(true);
+        utilManager.translateToJava(yangPluginConfig);
+        assertThat(true, is(new File(PKG + "test/TestEventBatch.java").exists()));
+        assertThat(true, is(new File(PKG + "test/TestEventCoalescer.java").exists()));
+        deleteDirectory(DIR);
+    }
+
+    /**
+     * Checks generated coalescer, compiled against the stubs of ONOS event
+     * classes, merges notifications of the same type and key within its
+     * window, never merges notifications without key, and completes the
+     * batch once the window has elapsed.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processEventCoalescer() throws IOException, ParserException, MojoExecutionException,
+            ReflectiveOperationException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/eventbatch";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setBatchedEvents(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+
+        try (GeneratedCode code = new GeneratedCode(COMP, GEN)) {
+            Class<?> type = code.load("TestEvent$Type");
+            Object ifState = enumValue(type, "IF_STATE");
+            Object alarm = enumValue(type, "ALARM");
+
+            // Interface state is merged by interface name, alarms never.
+            BiFunction<Object, Object, Object> key = (t, subject) -> {
+                try {
+                    Object state = call(subject, "ifState");
+                    return state == null ? null : call(state, "name");
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+            List<Object> batches = new ArrayList<>();
+            Consumer<Object> sink = batches::add;
+            Object coalescer = code.load("TestEventCoalescer")
+                    .getConstructor(long.class, BiFunction.class, Consumer.class)
+                    .newInstance(100L, key, sink);
+
+            call(coalescer, "post", ifState, ifStateSubject(code, "eth0"), 0L);
+            call(coalescer, "post", ifState, ifStateSubject(code, "eth1"), 10L);
+            call(coalescer, "post", ifState, ifStateSubject(code, "eth0"), 20L);
+            call(coalescer, "post", alarm, alarmSubject(code), 30L);
+            call(coalescer, "post", alarm, alarmSubject(code), 40L);
+            assertThat(batches.size(), is(0));
+
+            call(coalescer, "post", ifState, ifStateSubject(code, "eth0"), 120L);
+            assertThat(batches.size(), is(1));
+            Object batch = batches.get(0);
+            assertThat(call(batch, "size"), is(4));
+            assertThat(call(batch, "type", 0), is(ifState));
+            assertThat(call(batch, "time", 0), is(20L));
+            assertThat(call(call(call(batch, "subject", 0), "ifState"), "name"),
+                       is("eth0"));
+            assertThat(call(batch, "time", 1), is(10L));
+            assertThat(call(batch, "type", 2), is(alarm));
+            assertThat(call(batch, "type", 3), is(alarm));
+            Object event = call(batch, "event", 0);
+            assertThat(call(event, "type"), is(ifState));
+            assertThat(call(event, "time"), is(20L));
+
+            call(coalescer, "poll", 150L);
+            assertThat(batches.size(), is(1));
+            call(coalescer, "poll", 220L);
+            assertThat(batches.size(), is(2));
+            assertThat(call(batches.get(1), "size"), is(1));
+            assertThat(call(batches.get(1), "time", 0), is(120L));
+
+            call(coalescer, "flush");
+            assertThat(batches.size(), is(2));
+        }
+        deleteDirectory(DIR);
+    }
+
+    // Returns the enum constant of generated enum class.
+    @SuppressWarnings("unchecked")
+    private static Object enumValue(Class<?> type, String name) {
+        return Enum.valueOf(type.asSubclass(Enum.class), name);
+    }
+
+    // Returns the event subject of interface state notification.
+    private static Object ifStateSubject(GeneratedCode code, String name)
+            throws ReflectiveOperationException {
+        Object builder = code.builder("DefaultIfState");
+        call(builder, "name", name);
+        Object subject = code.load("TestEventSubject").newInstance();
+        call(subject, "ifState", call(builder, "build"));
+        return subject;
+    }
+
+    // Returns the event subject of alarm notification.
+    private static Object alarmSubject(GeneratedCode code)
+            throws ReflectiveOperationException {
+        Object builder = code.builder("DefaultAlarm");
+        call(builder, "severity", (short) 3);
+        Object subject = code.load("TestEventSubject").newInstance();
+        call(subject, "alarm", call(builder, "build"));
+        return subject;
+    }
+}
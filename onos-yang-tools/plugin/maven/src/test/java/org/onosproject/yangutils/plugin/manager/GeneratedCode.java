@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Represents the generated code compiled by a test, loaded to check its
+ * behavior. Classes are named relative to the package given on loading.
+ */
+final class GeneratedCode implements Closeable {
+
+    private final URLClassLoader loader;
+    private final String pkg;
+
+    /**
+     * Creates generated code loaded from the compiled code directory.
+     *
+     * @param dir compiled code directory
+     * @param pkg package of the classes
+     * @throws IOException when directory is not a valid URL
+     */
+    GeneratedCode(String dir, String pkg) throws IOException {
+        loader = new URLClassLoader(new URL[]{new File(dir).toURI().toURL()},
+                                    GeneratedCode.class.getClassLoader());
+        this.pkg = pkg;
+    }
+
+    /**
+     * Returns the class of given name.
+     *
+     * @param name class name, relative to package
+     * @return class
+     * @throws ClassNotFoundException when class is not generated
+     */
+    Class<?> load(String name) throws ClassNotFoundException {
+        return loader.loadClass(pkg + name);
+    }
+
+    /**
+     * Returns the result of a static method of given class.
+     *
+     * @param name   class name, relative to package
+     * @param method method name
+     * @param args   method arguments
+     * @return method result
+     * @throws ReflectiveOperationException when method is not found or fails
+     */
+    Object callStatic(String name, String method, Object... args)
+            throws ReflectiveOperationException {
+        return invoke(load(name), null, method, args);
+    }
+
+    /**
+     * Returns a new builder of the default class of given name.
+     *
+     * @param name default class name, relative to package
+     * @return builder
+     * @throws ReflectiveOperationException when builder is not found
+     */
+    Object builder(String name) throws ReflectiveOperationException {
+        return callStatic(name, "builder");
+    }
+
+    /**
+     * Returns an implementation of the interface of given name, whose calls
+     * are made to handler.
+     *
+     * @param name    interface name, relative to package
+     * @param handler invocation handler
+     * @return interface implementation
+     * @throws ClassNotFoundException when interface is not generated
+     */
+    Object proxy(String name, InvocationHandler handler)
+            throws ClassNotFoundException {
+        return Proxy.newProxyInstance(loader, new Class<?>[]{load(name)},
+                                      handler);
+    }
+
+    /**
+     * Returns the result of a public method of object.
+     *
+     * @param obj    object
+     * @param method method name
+     * @param args   method arguments
+     * @return method result
+     * @throws ReflectiveOperationException when method is not found or fails
+     */
+    static Object call(Object obj, String method, Object... args)
+            throws ReflectiveOperationException {
+        return invoke(obj.getClass(), obj, method, args);
+    }
+
+    private static Object invoke(Class<?> cls, Object obj, String name,
+                                 Object... args)
+            throws ReflectiveOperationException {
+        for (Method method : cls.getMethods()) {
+            if (method.getName().equals(name) && isApplicable(method, args)) {
+                try {
+                    return method.invoke(obj, args);
+                } catch (InvocationTargetException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        }
+        throw new NoSuchMethodException(cls.getName() + "." + name);
+    }
+
+    private static boolean isApplicable(Method method, Object... args) {
+        Class<?>[] types = method.getParameterTypes();
+        if (types.length != args.length) {
+            return false;
+        }
+        for (int i = 0; i < types.length; i++) {
+            if (types[i].isPrimitive() ? args[i] == null :
+                    args[i] != null && !types[i].isInstance(args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        loader.close();
+    }
+}
@@ -23,7 +23,11 @@ import org.onosproject.yangutils.datamodel.YangContainer;
 import org.onosproject.yangutils.datamodel.YangDerivedInfo;
 import org.onosproject.yangutils.datamodel.YangGrouping;
 import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangModule;
 import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaArchive;
 import org.onosproject.yangutils.utils.io.YangPluginConfig;
 import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
 
@@ -41,7 +45,9 @@ import java.util.jar.JarOutputStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.parseJarFile;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.parseJarFileToSchemaArchives;
 import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.RESOLVED;
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.STRING;
@@ -245,6 +251,64 @@ public class InterJarLinkerTest {
 
     }
 
+    /**
+     * Unit test case for on demand loading of modules from schema archive
+     * in a jar.
+     *
+     * @throws IOException            when fails to do IO operations
+     * @throws MojoExecutionException when fails to do mojo operations
+     * @throws DataModelException     a violation in data model rule
+     */
+    @Test
+    public void processSchemaArchiveLoading()
+            throws IOException, MojoExecutionException, DataModelException {
+        utilManager.createYangFileInfoSet(getYangFiles(YANG_FILES_DIR));
+        utilManager.parseYangFileInfoSet();
+        mockJarFileProvider.provideTestJarFile(utilManager);
+
+        List<YangSchemaArchive> archives = new ArrayList<>();
+        for (String file : mockJarFileProvider.getListOfTestJar(TARGET)) {
+            archives.addAll(parseJarFileToSchemaArchives(file, TARGET));
+        }
+        assertThat(archives.size(), is(1));
+
+        YangSchemaArchive archive = archives.get(0);
+        assertThat(archive.getModuleNames().contains("port-pair"), is(true));
+        assertThat(archive.isLoaded("port-pair"), is(false));
+
+        YangSchemaNode portPair = null;
+        for (YangSchemaNode node : archive.getLazySchemaNodes()) {
+            if (node.getName().equals("port-pair")) {
+                portPair = node;
+            }
+        }
+        assertThat(portPair.getNameSpace().getModuleName(), is("port-pair"));
+        assertThat(archive.isLoaded("port-pair"), is(false));
+
+        // Module is loaded on first use, and reloaded after eviction.
+        assertThat(portPair.getMandatoryChildCount(),
+                   is(archive.getModule("port-pair").getMandatoryChildCount()));
+        assertThat(archive.isLoaded("port-pair"), is(true));
+        archive.evict("port-pair");
+        assertThat(archive.isLoaded("port-pair"), is(false));
+        assertThat(archive.getModule("port-pair").getName(), is("port-pair"));
+
+        // Imports are linked with the modules of the archive on load.
+        YangModule classifier = (YangModule) archive.getModule("flow-classifier");
+        assertThat(classifier.getImportList().get(0).getImportedNode(),
+                   sameInstance(archive.getModule("port-pair")));
+
+        // Evicting a module evicts the modules linked to it.
+        archive.evict("port-pair");
+        assertThat(archive.isLoaded("flow-classifier"), is(false));
+        classifier = (YangModule) archive.getModule("flow-classifier");
+        assertThat(classifier.getImportList().get(0).getImportedNode(),
+                   sameInstance(archive.getModule("port-pair")));
+
+        deleteDirectory(TARGET);
+        mockJarFileProvider.deleteTestSerFile(YANG_FILES_DIR);
+    }
+
     /**
      * Represents jar file provider for testing.
      */
@@ -271,7 +335,7 @@ public class InterJarLinkerTest {
 
             Set<YangFileInfo> info = utilManager.getYangFileInfoSet();
             MavenProject project = new MavenProject();
-            serializeDataModel(TARGET, info, project, false);
+            serializeDataModel(TARGET, info, project, false, true);
             createTestJar();
 
             for (String file : getListOfTestJar(TARGET)) {
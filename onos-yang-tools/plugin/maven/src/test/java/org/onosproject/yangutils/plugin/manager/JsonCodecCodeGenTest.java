@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.plugin.manager.GeneratedCode.call;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test case for RFC 7951 JSON codec generation.
+ */
+public class JsonCodecCodeGenTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/jsoncodec/";
+    private static final String COMP = System.getProperty("user.dir") + File
+            .separator + DIR;
+    private static final String PKG = "org.onosproject.yang.gen.v1.test.test.";
+    private static final String GEN = "org.onosproject.yang.gen.v1.test.";
+
+    /**
+     * Checks JSON codecs generated for a module, its containers and lists
+     * with leaves and leaf-lists of several built-in and derived types are
+     * translated to compilable code that reads back what it writes.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processJsonCodecTranslator() throws IOException, ParserException, MojoExecutionException,
+            ReflectiveOperationException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/jsoncodec";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setJsonCodec(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+
+        try (GeneratedCode code = new GeneratedCode(COMP, PKG)) {
+            Object entry = code.builder("test.cont1.DefaultList1");
+            call(entry, "name", "x");
+            call(entry, "value", 3);
+
+            Object builder = code.builder("test.DefaultCont1");
+            call(builder, "leafInt", -7);
+            call(builder, "leafDec", new BigDecimal("1.25"));
+            call(builder, "leafBool", true);
+            call(builder, "leafStr", "a \"quoted\" <text>");
+            call(builder, "addToLlStr", "b");
+            call(builder, "addToLlStr", "c");
+            call(builder, "addToList1", call(entry, "build"));
+            Object cont1 = call(builder, "build");
+
+            StringBuilder json = new StringBuilder();
+            code.callStatic("test.Cont1JsonCodec", "write", cont1, json);
+            Object read = code.callStatic("test.Cont1JsonCodec", "read",
+                                          json.toString());
+            assertThat(read, is(cont1));
+        }
+        deleteDirectory(DIR);
+    }
+
+    /**
+     * Checks JSON codecs of a container using a grouping of another module
+     * are translated to compilable code, sharing the reader with the codecs
+     * of the grouping, that reads back what it writes.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processCrossModuleJsonCodecTranslator() throws IOException, ParserException,
+            MojoExecutionException, ReflectiveOperationException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/jsoncodeccrossmodule";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setJsonCodec(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+
+        try (GeneratedCode code = new GeneratedCode(COMP, GEN)) {
+            Object timers = code.builder("grouping.grouping.endpoint.peer.DefaultTimers");
+            call(timers, "hold", 90);
+            Object peer = code.builder("grouping.grouping.endpoint.DefaultPeer");
+            call(peer, "address", "10.0.0.1");
+            call(peer, "timers", call(timers, "build"));
+            Object route = code.builder("grouping.grouping.endpoint.DefaultRoute");
+            call(route, "prefix", "10.1.0.0/16");
+            call(route, "metric", 20);
+
+            Object builder = code.builder("session.session.DefaultSession");
+            call(builder, "name", "s1");
+            call(builder, "peer", call(peer, "build"));
+            call(builder, "addToRoute", call(route, "build"));
+            Object session = call(builder, "build");
+
+            StringBuilder json = new StringBuilder();
+            code.callStatic("session.session.SessionJsonCodec", "write",
+                            session, json);
+            Object read = code.callStatic("session.session.SessionJsonCodec",
+                                          "read", json.toString());
+            assertThat(read, is(session));
+        }
+        deleteDirectory(DIR);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaIndex;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaIndex.Entry;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaIndex.SCHEMA_INDEX_EXTENSION;
+import static org.onosproject.yangutils.plugin.manager.YangPluginUtils.serializeDataModel;
+import static org.onosproject.yangutils.utils.UtilConstants.SLASH;
+import static org.onosproject.yangutils.utils.UtilConstants.TEMP;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG_RESOURCES;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test case for schema index of generated classes.
+ */
+public class SchemaIndexTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/schemaindex/";
+    private static final String INDEX = DIR + SLASH + TEMP + SLASH +
+            YANG_RESOURCES + SLASH + "YangMetaData" + SCHEMA_INDEX_EXTENSION;
+
+    /**
+     * Checks schema index maps schema nodes to their generated classes and
+     * leaf identifier ordinals.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processSchemaIndex() throws IOException, ParserException, MojoExecutionException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/schemaindex";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        utilManager.translateToJava(yangPluginConfig);
+        serializeDataModel(DIR, utilManager.getYangFileInfoSet(),
+                           new MavenProject(), false, false);
+
+        YangSchemaIndex index = YangSchemaIndex.open(INDEX);
+        Entry module = index.getEntry("/test");
+        assertThat(true, is(module.getInterfaceClassName().endsWith(".Test")));
+        assertThat(module.getDefaultClassName(),
+                   is(module.getInterfaceClassName() + "OpParam"));
+
+        Entry list = index.getEntry("/test:ports/port");
+        String pkg = list.getJavaPackage();
+        assertThat(list.getInterfaceClassName(), is(pkg + ".Port"));
+        assertThat(list.getDefaultClassName(), is(pkg + ".DefaultPort"));
+        assertThat(list.getBuilderClassName(),
+                   is(pkg + ".DefaultPort$PortBuilder"));
+        assertThat(list.getLeafOrdinal("name"), is(1));
+        assertThat(list.getLeafOrdinal("mtu"), is(2));
+        assertThat(list.getLeafOrdinal("alias"), is(-1));
+        assertThat(index.getEntryOfClass(list.getBuilderClassName()), is(list));
+
+        Entry choice = index.getEntry("/test:ports/port/address");
+        assertThat(choice.getBuilderClassName(), nullValue());
+        assertThat(choice.getDefaultClassName(), nullValue());
+        assertThat(index.getEntry("/test:ports/port/address/v4")
+                           .getLeafOrdinal("ipv4"), is(1));
+
+        Entry used = index.getEntry("/test:ports/port/statistics");
+        assertThat(true, is(used.getInterfaceClassName()
+                                    .endsWith(".counters.Statistics")));
+        assertThat(used.getLeafOrdinal("in-octets"), is(1));
+        assertThat(index.getEntry("/test:alarm").getLeafOrdinal("severity"),
+                   is(1));
+        deleteDirectory(DIR);
+    }
+}
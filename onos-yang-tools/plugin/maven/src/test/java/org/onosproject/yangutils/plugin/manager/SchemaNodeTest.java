@@ -18,26 +18,34 @@ package org.onosproject.yangutils.plugin.manager;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.Test;
+import org.onosproject.yangutils.datamodel.SchemaPathResolver;
+import org.onosproject.yangutils.datamodel.YangFrozenSchemaNode;
 import org.onosproject.yangutils.datamodel.YangLeaf;
 import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangModule;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangSchemaNode;
 import org.onosproject.yangutils.datamodel.YangSchemaNodeContextInfo;
 import org.onosproject.yangutils.datamodel.YangSchemaNodeIdentifier;
+import org.onosproject.yangutils.datamodel.YangSchemaFreezer;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.translator.tojava.javamodel.YangJavaModuleTranslator;
 import org.onosproject.yangutils.utils.io.YangPluginConfig;
 import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.fail;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
 
 /**
@@ -215,4 +223,282 @@ public class SchemaNodeTest {
 
         rootNode.getChild().getNotificationSchemaNode("TESTNOTIFICATION1");
     }
+
+    /**
+     * Checks frozen schema node serves the same schema as the linked tree.
+     *
+     * @throws IOException            a violation in IO rule
+     * @throws ParserException        a violation in parser rule
+     * @throws MojoExecutionException a violation in mojo rule
+     * @throws DataModelException     a violation in data model rule
+     */
+    @Test
+    public void processFrozenSchemaNode()
+            throws IOException, ParserException,
+            MojoExecutionException, DataModelException {
+
+        deleteDirectory("target/schemaMap/");
+        String searchDir = "src/test/resources/schemaMap";
+        utilManager
+                .createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir("target/schemaMap/");
+        utilManager.translateToJava(yangPluginConfig);
+
+        YangNode rootNode = utilManager.getYangNodeSet().iterator().next();
+        YangSchemaNode frozenRoot = YangSchemaFreezer.freeze(rootNode);
+        assertThat(frozenRoot, instanceOf(YangFrozenSchemaNode.class));
+        assertThat(frozenRoot.getName(), is("Testmodule"));
+        assertThat(frozenRoot.getNameSpace().getModuleName(), is("Testmodule"));
+        assertThat(frozenRoot.isNotificationPresent(), is(true));
+        assertThat(frozenRoot.getJavaPackage(), is(rootNode.getJavaPackage()));
+
+        // Validate the notification enum map
+        YangSchemaNode notification =
+                frozenRoot.getNotificationSchemaNode("TESTNOTIFICATION1");
+        assertThat(notification.getName(), is("testnotification1"));
+
+        YangSchemaNodeIdentifier id = new YangSchemaNodeIdentifier();
+        id.setNameSpace(rootNode.getNameSpace());
+        id.setName("testcontainer");
+        YangSchemaNode container = frozenRoot.getChildSchema(id).getSchemaNode();
+        assertThat(container.getMandatoryChildCount(),
+                   is(rootNode.getChild().getMandatoryChildCount()));
+
+        // Leaf of a case is reachable from container with context switch.
+        id.setName("pretzel");
+        YangSchemaNodeContextInfo pretzel = container.getChildSchema(id);
+        assertThat(pretzel.getSchemaNode().getName(), is("pretzel"));
+        assertThat(pretzel.getContextSwitchedNode(),
+                   instanceOf(YangFrozenSchemaNode.class));
+
+        id.setName("testleaf");
+        YangSchemaNode testLeaf = container.getChildSchema(id).getSchemaNode();
+        testLeaf.isValueValid("100");
+        assertThat(testLeaf.isValueValid(new CharSequence[]{"1", "-1"}, null)
+                           .getFirstInvalidIndex(), is(1));
+
+        deleteDirectory("target/schemaMap/");
+    }
+
+    /**
+     * Checks frozen schema node reports missing child as linked tree does.
+     *
+     * @throws IOException            a violation in IO rule
+     * @throws ParserException        a violation in parser rule
+     * @throws MojoExecutionException a violation in mojo rule
+     * @throws DataModelException     a violation in data model rule
+     */
+    @Test(expected = DataModelException.class)
+    public void processFrozenSchemaNodeInvalidChild()
+            throws IOException, ParserException,
+            MojoExecutionException, DataModelException {
+
+        deleteDirectory("target/schemaMap/");
+        String searchDir = "src/test/resources/schemaMap";
+        utilManager
+                .createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangNode rootNode = utilManager.getYangNodeSet().iterator().next();
+        YangSchemaNode frozenRoot = YangSchemaFreezer.freeze(rootNode);
+
+        YangSchemaNodeIdentifier id = new YangSchemaNodeIdentifier();
+        id.setNameSpace(rootNode.getNameSpace());
+        id.setName("missing");
+        frozenRoot.getChildSchema(id);
+    }
+
+    /**
+     * Checks identifiers of frozen schema node are detached from the linked
+     * tree and can't be modified.
+     *
+     * @throws IOException            a violation in IO rule
+     * @throws ParserException        a violation in parser rule
+     * @throws MojoExecutionException a violation in mojo rule
+     * @throws DataModelException     a violation in data model rule
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void processFrozenSchemaNodeIdentifier()
+            throws IOException, ParserException,
+            MojoExecutionException, DataModelException {
+
+        deleteDirectory("target/schemaMap/");
+        String searchDir = "src/test/resources/schemaMap";
+        utilManager
+                .createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir("target/schemaMap/");
+        utilManager.translateToJava(yangPluginConfig);
+        deleteDirectory("target/schemaMap/");
+
+        YangNode rootNode = utilManager.getYangNodeSet().iterator().next();
+        YangSchemaNode frozenRoot = YangSchemaFreezer.freeze(rootNode);
+
+        // Renaming in the linked tree does not affect the snapshot.
+        YangSchemaNodeIdentifier id = new YangSchemaNodeIdentifier();
+        id.setNameSpace(rootNode.getNameSpace());
+        id.setName("testcontainer");
+        rootNode.getChild().getYangSchemaNodeIdentifier().setName("renamed");
+        YangSchemaNode container = frozenRoot.getChildSchema(id).getSchemaNode();
+        assertThat(container.getName(), is("testcontainer"));
+
+        container.getYangSchemaNodeIdentifier().setName("renamed");
+    }
+
+    /**
+     * Checks schema path resolution of absolute, prefixed and relative
+     * paths, one by one and in batch.
+     *
+     * @throws IOException            a violation in IO rule
+     * @throws ParserException        a violation in parser rule
+     * @throws MojoExecutionException a violation in mojo rule
+     * @throws DataModelException     a violation in data model rule
+     */
+    @Test
+    public void processSchemaPathResolver()
+            throws IOException, ParserException,
+            MojoExecutionException, DataModelException {
+
+        deleteDirectory("target/schemaMap/");
+        String searchDir = "src/test/resources/schemaMap";
+        utilManager
+                .createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir("target/schemaMap/");
+        utilManager.translateToJava(yangPluginConfig);
+
+        YangNode rootNode = utilManager.getYangNodeSet().iterator().next();
+        SchemaPathResolver resolver =
+                new SchemaPathResolver(utilManager.getYangNodeSet(), 100);
+
+        YangSchemaNode container = resolver.resolve("/Testmodule:testcontainer");
+        assertThat(container, is(rootNode.getChild()));
+
+        YangSchemaNode testLeaf = resolver.resolve("/Testmodule:testcontainer/testleaf");
+        assertThat(testLeaf.getName(), is("testleaf"));
+        assertThat(resolver.resolve("/Ant:testcontainer/Ant:testleaf"), is(testLeaf));
+        assertThat(resolver.resolve(container, "testleaf"), is(testLeaf));
+
+        // Leaf of a case is reached without choice and case in the path.
+        YangSchemaNode pretzel = resolver.resolve("/Testmodule:testcontainer/pretzel");
+        assertThat(pretzel.getName(), is("pretzel"));
+
+        Map<String, YangSchemaNode> nodes = resolver.resolveAll(Arrays.asList(
+                "/Testmodule:testcontainer",
+                "/Testmodule:testcontainer/testleaf",
+                "/Ant:testcontainer/pretzel",
+                "/Testmodule:testcontainer/missing",
+                "/Unknown:testcontainer"));
+        assertThat(nodes.size(), is(3));
+        assertThat(nodes.get("/Testmodule:testcontainer"), is(container));
+        assertThat(nodes.get("/Testmodule:testcontainer/testleaf"), is(testLeaf));
+        assertThat(nodes.get("/Ant:testcontainer/pretzel"), is(pretzel));
+        assertThat(nodes.get("/Testmodule:testcontainer/missing"),
+                   is(nullValue()));
+        deleteDirectory("target/schemaMap/");
+    }
+
+    /**
+     * Checks absolute schema path must start with a qualified node.
+     *
+     * @throws IOException            a violation in IO rule
+     * @throws ParserException        a violation in parser rule
+     * @throws MojoExecutionException a violation in mojo rule
+     * @throws DataModelException     a violation in data model rule
+     */
+    @Test(expected = DataModelException.class)
+    public void processSchemaPathResolverUnqualifiedPath()
+            throws IOException, ParserException,
+            MojoExecutionException, DataModelException {
+
+        deleteDirectory("target/schemaMap/");
+        String searchDir = "src/test/resources/schemaMap";
+        utilManager
+                .createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir("target/schemaMap/");
+        utilManager.translateToJava(yangPluginConfig);
+
+        SchemaPathResolver resolver =
+                new SchemaPathResolver(utilManager.getYangNodeSet(), 100);
+        try {
+            resolver.resolve("/testcontainer/testleaf");
+        } finally {
+            deleteDirectory("target/schemaMap/");
+        }
+    }
+
+    /**
+     * Checks schema path resolver is not created over modules which are
+     * not translated, as their child schema maps are not filled.
+     *
+     * @throws IOException            a violation in IO rule
+     * @throws ParserException        a violation in parser rule
+     * @throws MojoExecutionException a violation in mojo rule
+     * @throws DataModelException     a violation in data model rule
+     */
+    @Test(expected = DataModelException.class)
+    public void processSchemaPathResolverNotTranslated()
+            throws IOException, ParserException,
+            MojoExecutionException, DataModelException {
+
+        String searchDir = "src/test/resources/schemaMap";
+        utilManager
+                .createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        new SchemaPathResolver(utilManager.getYangNodeSet(), 100);
+    }
+
+    /**
+     * Checks a prefix used by more than one module does not qualify a
+     * path, while the module names still do.
+     *
+     * @throws DataModelException a violation in data model rule
+     */
+    @Test
+    public void processSchemaPathResolverSamePrefix()
+            throws DataModelException {
+
+        YangModule module1 = new YangJavaModuleTranslator();
+        module1.setName("module1");
+        module1.setPrefix("mod");
+        YangModule module2 = new YangJavaModuleTranslator();
+        module2.setName("module2");
+        module2.setPrefix("mod");
+
+        SchemaPathResolver resolver = new SchemaPathResolver(
+                Arrays.asList(module1, module2), 100);
+        try {
+            resolver.resolve("/module1:cont");
+            fail("Path to missing node is resolved");
+        } catch (DataModelException e) {
+            assertThat(e.getMessage().contains("is not child in module1"),
+                       is(true));
+        }
+        try {
+            resolver.resolve("/mod:cont");
+            fail("Path qualified by ambiguous prefix is resolved");
+        } catch (DataModelException e) {
+            assertThat(e.getMessage().contains("more than one module"),
+                       is(true));
+        }
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test case for instance caches of typedef classes.
+ */
+public class TypeDefCacheCodeGenTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/typedefcache/";
+    private static final String COMP = System.getProperty("user.dir") + File
+            .separator + DIR;
+    private static final String PKG = "org.onosproject.yang.gen.v1.test.test.test.";
+
+    /**
+     * Checks typedef classes, with ranges spanning fewer and more values
+     * than the cache limit, are translated to compilable code whose of
+     * method returns cached instances only within the limit.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processTypeDefCacheTranslator() throws IOException, ParserException,
+            MojoExecutionException, ReflectiveOperationException {
+
+        generate(256);
+        try (URLClassLoader loader = getLoader()) {
+            // Bounded integer typedefs within the limit.
+            assertThat(of(loader, "Dscp", short.class, (short) 5),
+                       sameInstance(of(loader, "Dscp", short.class, (short) 5)));
+            assertThat(of(loader, "Offset", short.class, (short) -2),
+                       sameInstance(of(loader, "Offset", short.class, (short) -2)));
+            assertThat(of(loader, "Label", long.class, 4000000001L),
+                       sameInstance(of(loader, "Label", long.class, 4000000001L)));
+            Class<?> dscp = loader.loadClass(PKG + "Dscp");
+            assertThat(dscp.getMethod("fromString", String.class).invoke(null, "63"),
+                       sameInstance(of(loader, "Dscp", short.class, (short) 63)));
+
+            // Value out of the cached span is not cached, but still created.
+            Object outOfRange = of(loader, "Offset", short.class, (short) 100);
+            assertThat(outOfRange, not(sameInstance(
+                    of(loader, "Offset", short.class, (short) 100))));
+            assertThat(outOfRange, is(of(loader, "Offset", short.class, (short) 100)));
+
+            // Boolean typedef.
+            assertThat(of(loader, "Flag", boolean.class, true),
+                       sameInstance(of(loader, "Flag", boolean.class, true)));
+            assertThat(of(loader, "Flag", boolean.class, true),
+                       not(sameInstance(of(loader, "Flag", boolean.class, false))));
+
+            // Range beyond the limit.
+            assertThat(of(loader, "Vlan", int.class, 100),
+                       not(sameInstance(of(loader, "Vlan", int.class, 100))));
+        }
+        deleteDirectory(DIR);
+    }
+
+    /**
+     * Checks typedef classes are not cached when the cache limit is off.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processTypeDefWithoutCacheTranslator() throws IOException, ParserException,
+            MojoExecutionException, ReflectiveOperationException {
+
+        generate(0);
+        try (URLClassLoader loader = getLoader()) {
+            assertThat(of(loader, "Dscp", short.class, (short) 5),
+                       not(sameInstance(of(loader, "Dscp", short.class, (short) 5))));
+            assertThat(of(loader, "Flag", boolean.class, true),
+                       not(sameInstance(of(loader, "Flag", boolean.class, true))));
+        }
+        deleteDirectory(DIR);
+    }
+
+    private void generate(int cacheLimit) throws IOException, ParserException,
+            MojoExecutionException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/typedefcache";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setTypedefCacheLimit(cacheLimit);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+    }
+
+    private static URLClassLoader getLoader() throws IOException {
+        return new URLClassLoader(new URL[]{new File(COMP).toURI().toURL()},
+                                  TypeDefCacheCodeGenTest.class.getClassLoader());
+    }
+
+    private static Object of(ClassLoader loader, String typedef, Class<?> type,
+                             Object value) throws ReflectiveOperationException {
+        return loader.loadClass(PKG + typedef).getMethod("of", type)
+                .invoke(null, value);
+    }
+}
@@ -27,6 +27,11 @@ import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
 import java.io.File;
 import java.io.IOException;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.onosproject.yangutils.plugin.manager.GeneratedCode.call;
 import static org.onosproject.yangutils.translator.tojava.JavaCodeGeneratorUtil.generateJavaCode;
 import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
@@ -257,5 +262,83 @@ public final class UnionTranslatorTest {
         deleteDirectory(DIR);
     }
 
+    /**
+     * Unit test case to test union from string with lexical pre checks of
+     * member types.
+     *
+     * @throws IOException            when fails to do IO operations
+     * @throws MojoExecutionException when fails to do mojo operations
+     */
+    @Test
+    public void processUnionFromStringPreCheck() throws IOException,
+            MojoExecutionException {
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/unionTranslator/fromstringprecheck";
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(DIR1);
+        deleteDirectory(DIR);
+    }
+
+    /**
+     * Unit test case to test typedef and union from string pick the member
+     * the value is valid for, and return null for a value valid for none,
+     * such as a string failing the pattern of its typedef.
+     *
+     * @throws IOException                  when fails to do IO operations
+     * @throws MojoExecutionException       when fails to do mojo operations
+     * @throws ReflectiveOperationException when generated code fails
+     */
+    @Test
+    public void processFromStringInvalidValue() throws IOException,
+            MojoExecutionException, ReflectiveOperationException {
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/unionTranslator/fromstringprecheck";
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(DIR1);
+
+        try (GeneratedCode code = new GeneratedCode(
+                DIR1, "org.onosproject.yang.gen.v1.test.test.test.")) {
+            Object ipv4 = code.callStatic("Ipv4Address", "fromString", "10.0.0.1");
+            assertThat(call(ipv4, "string"), is("10.0.0.1"));
+            assertThat(code.callStatic("Ipv4Address", "fromString", "host"),
+                       nullValue());
+
+            Object ipv6 = call(code.callStatic("IpAddress", "fromString",
+                                               "fe80::1"), "union");
+            assertThat(call(ipv6, "ipv4Address"), nullValue());
+            assertThat(call(ipv6, "ipv6Address"), notNullValue());
+            assertThat(code.callStatic("IpAddress", "fromString", "host"),
+                       nullValue());
+
+            Object port = call(code.callStatic("PortOrName", "fromString",
+                                               "80"), "union");
+            assertThat(call(port, "portNumber"), notNullValue());
+            Object name = call(code.callStatic("PortOrName", "fromString",
+                                               "http"), "union");
+            assertThat(call(name, "string"), is("http"));
+            assertThat(code.callStatic("PortNumber", "fromString", "http"),
+                       nullValue());
+        }
+        deleteDirectory(DIR);
+    }
+
     // TODO enhance the test cases, after having a framework of translator test.
 }
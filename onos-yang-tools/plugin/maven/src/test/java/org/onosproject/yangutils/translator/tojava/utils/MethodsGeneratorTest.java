@@ -38,8 +38,11 @@ import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getConstructor;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getConstructorStart;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getEqualsMethod;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getEqualsMethodBody;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getGetterForClass;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getGetterForInterface;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getHashCodeMethod;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getHashCodeMethodImpl;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getOfMethodStringAndJavaDoc;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterForClass;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterForInterface;
@@ -63,6 +66,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.EQUAL;
 import static org.onosproject.yangutils.utils.UtilConstants.EQUALS_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.FOUR_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.GET_METHOD_PREFIX;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_CODE_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.JAVA_LANG;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
@@ -159,7 +163,7 @@ public final class MethodsGeneratorTest {
      */
     @Test
     public void getBuildTest() {
-        String method = getBuild(CLASS_NAME, false);
+        String method = getBuild(CLASS_NAME, false, false);
         assertThat(true, is(method.equals(
                 FOUR_SPACE_INDENTATION + PUBLIC + SPACE + CLASS_NAME + SPACE +
                         BUILD + OPEN_PARENTHESIS + CLOSE_PARENTHESIS + SPACE +
@@ -234,6 +238,49 @@ public final class MethodsGeneratorTest {
                         PERIOD + EQUALS_STRING + OPEN_PARENTHESIS)));
     }
 
+    /**
+     * Test case for hash code of attribute.
+     */
+    @Test
+    public void getHashCodeMethodTest() {
+        JavaAttributeInfo testAttr = getTestAttribute();
+        String method = getHashCodeMethod(testAttr);
+        assertThat(true, is(method.equals(
+                OBJECT_STRING + SUFFIX_S + PERIOD + HASH_CODE_STRING +
+                        OPEN_PARENTHESIS + ATTRIBUTE_NAME +
+                        CLOSE_PARENTHESIS)));
+    }
+
+    /**
+     * Test case for cached hash code method.
+     */
+    @Test
+    public void getHashCodeMethodImplTest() {
+        String method = getHashCodeMethodImpl("id\nObjects.hashCode(name)\n",
+                                              true);
+        assertThat(true, is(method.contains(
+                "            hashValue = 31 * hashValue + id;\n" +
+                        "            hashValue = 31 * hashValue + " +
+                        "Objects.hashCode(name);\n" +
+                        "            cachedHashCode = hashValue;\n")));
+    }
+
+    /**
+     * Test case for ordering of comparisons in equals method.
+     */
+    @Test
+    public void getEqualsMethodBodyTest() {
+        String body = getEqualsMethodBody(
+                SIXTEEN_SPACE_INDENTATION + "Objects.equals(name, other.name) &&\n" +
+                        SIXTEEN_SPACE_INDENTATION + "id == other.id &&\n", true);
+        assertThat(true, is(body.equals(
+                SIXTEEN_SPACE_INDENTATION + "id == other.id &&\n" +
+                        SIXTEEN_SPACE_INDENTATION +
+                        "hashCode() == other.hashCode() &&\n" +
+                        SIXTEEN_SPACE_INDENTATION +
+                        "Objects.equals(name, other.name) &&\n")));
+    }
+
     /**
      * Test for to string method.
      */
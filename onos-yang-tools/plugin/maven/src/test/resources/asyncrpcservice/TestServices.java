@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.onosproject.yang.gen.v1.test.test;
+
+import org.onosproject.yang.gen.v1.test.test.test.getstatus.DefaultGetStatusOutput;
+import org.onosproject.yang.gen.v1.test.test.test.getstatus.GetStatusInput;
+import org.onosproject.yang.gen.v1.test.test.test.getstatus.GetStatusOutput;
+import org.onosproject.yang.gen.v1.test.test.test.getversion.GetVersionOutput;
+import org.onosproject.yang.gen.v1.test.test.test.reboot.RebootInput;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementations of the generated service, compiled with the generated
+ * code to check its asynchronous rpc methods and adapter.
+ */
+public final class TestServices {
+
+    // No instantiation.
+    private TestServices() {
+    }
+
+    /**
+     * Represents implementation of the blocking rpc methods, whose reboot
+     * fails.
+     */
+    public static class Blocking implements TestService {
+
+        @Override
+        public Test getTest(TestOpParam test) {
+            return null;
+        }
+
+        @Override
+        public void setTest(TestOpParam test) {
+        }
+
+        @Override
+        public GetStatusOutput getStatus(GetStatusInput inputVar) {
+            return DefaultGetStatusOutput.builder()
+                    .status(inputVar.device()).build();
+        }
+
+        @Override
+        public void reboot(RebootInput inputVar) {
+            throw new IllegalStateException("unreachable");
+        }
+
+        @Override
+        public void syncAll() {
+        }
+
+        @Override
+        public GetVersionOutput getVersion() {
+            return null;
+        }
+    }
+
+    /**
+     * Represents implementation of the asynchronous rpc methods, whose
+     * reboot fails in another thread and whose version fails with a checked
+     * exception.
+     */
+    public static class Async extends TestService.TestServiceAsyncAdapter {
+
+        @Override
+        public Test getTest(TestOpParam test) {
+            return null;
+        }
+
+        @Override
+        public void setTest(TestOpParam test) {
+        }
+
+        @Override
+        public CompletableFuture<GetStatusOutput> getStatusAsync(GetStatusInput inputVar) {
+            return CompletableFuture.completedFuture(
+                    DefaultGetStatusOutput.builder()
+                            .status(inputVar.device()).build());
+        }
+
+        @Override
+        public CompletableFuture<Void> rebootAsync(RebootInput inputVar) {
+            return CompletableFuture.runAsync(() -> {
+                throw new IllegalStateException("unreachable");
+            });
+        }
+
+        @Override
+        public CompletableFuture<Void> syncAllAsync() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<GetVersionOutput> getVersionAsync() {
+            CompletableFuture<GetVersionOutput> future = new CompletableFuture<>();
+            future.completeExceptionally(new IOException("closed"));
+            return future;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.runtime;
+
+/**
+ * Abstraction of subtree filtering of the augmented info known to a
+ * generated augmentable class.
+ */
+@FunctionalInterface
+public interface AugmentedInfoFilter {
+
+    /**
+     * Returns the augmented info of app instance selected by the augmented
+     * info of filter.
+     *
+     * @param augClass   augmentation class
+     * @param filterInfo augmented info of filter
+     * @param appInfo    augmented info of app instance
+     * @return selected augmented info, null when it does not match
+     */
+    Object filter(Class<?> augClass, Object filterInfo, Object appInfo);
+}
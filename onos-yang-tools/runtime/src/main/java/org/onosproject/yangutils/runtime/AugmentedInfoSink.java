@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.runtime;
+
+/**
+ * Abstraction of receiver of the differences of augmented info, extended by
+ * the diff sink generated for a module.
+ */
+public interface AugmentedInfoSink {
+
+    /**
+     * Reports a value present only in the compared instance.
+     *
+     * @param name  YANG name
+     * @param value created value
+     */
+    void created(String name, Object value);
+
+    /**
+     * Reports a value differing between the instances.
+     *
+     * @param name     YANG name
+     * @param oldValue value of this instance
+     * @param newValue value of the compared instance
+     */
+    void modified(String name, Object oldValue, Object newValue);
+
+    /**
+     * Reports a value present only in this instance.
+     *
+     * @param name  YANG name
+     * @param value deleted value
+     */
+    void deleted(String name, Object value);
+}
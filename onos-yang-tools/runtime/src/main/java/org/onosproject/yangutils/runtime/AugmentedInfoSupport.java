@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the handling of augmented info shared by generated augmentable
+ * classes, which otherwise repeat it in each class. Augmented info is held
+ * by a generated class in a map from augmentation class to the augmentation.
+ */
+public final class AugmentedInfoSupport {
+
+    // No instantiation.
+    private AugmentedInfoSupport() {
+    }
+
+    /**
+     * Adds to result the augmented info of app instance selected by the
+     * augmented info of filter. When filter has no augmented info, all of
+     * app instance's is selected. Otherwise, per augmentation of filter,
+     * augmented info missing in app instance is taken from filter and the
+     * rest is filtered by the generated class, or taken as is when the
+     * augmentation is not known to it.
+     *
+     * @param filter   augmented info of filter
+     * @param app      augmented info of app instance
+     * @param result   augmented info of filtering result
+     * @param dispatch subtree filtering of known augmentations, null when
+     *                 none is known
+     */
+    public static void filterAugmentedInfo(Map<Class<?>, Object> filter,
+                                           Map<Class<?>, Object> app,
+                                           Map<Class<?>, Object> result,
+                                           AugmentedInfoFilter dispatch) {
+        if (filter.isEmpty()) {
+            result.putAll(app);
+            return;
+        }
+        for (Map.Entry<Class<?>, Object> aug : filter.entrySet()) {
+            Class<?> augClass = aug.getKey();
+            Object appInfo = app.get(augClass);
+            Object info;
+            if (appInfo == null) {
+                info = aug.getValue();
+            } else if (dispatch == null) {
+                info = appInfo;
+            } else {
+                info = dispatch.filter(augClass, aug.getValue(), appInfo);
+            }
+            if (info != null) {
+                result.put(augClass, info);
+            }
+        }
+    }
+
+    /**
+     * Returns the augmented info edited by the augmented info of other
+     * instance, which replaces or deletes it per augmentation class. The
+     * current augmented info is returned as is when other has none,
+     * otherwise the edited one is unmodifiable.
+     *
+     * @param cur    current augmented info
+     * @param other  augmented info of other instance
+     * @param delete true to delete the augmentations of other
+     * @return edited augmented info
+     */
+    public static Map<Class<?>, Object> editAugmentedInfo(
+            Map<Class<?>, Object> cur, Map<Class<?>, Object> other,
+            boolean delete) {
+        if (other.isEmpty()) {
+            return cur;
+        }
+        Map<Class<?>, Object> result = new HashMap<>(cur);
+        if (delete) {
+            result.keySet().removeAll(other.keySet());
+        } else {
+            result.putAll(other);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Reports the differences between augmented info to sink, compared per
+     * augmentation class whose name is reported.
+     *
+     * @param cur   augmented info of this instance
+     * @param other augmented info of the compared instance
+     * @param sink  receiver of the differences
+     */
+    public static void diffAugmentedInfo(Map<Class<?>, Object> cur,
+                                         Map<Class<?>, Object> other,
+                                         AugmentedInfoSink sink) {
+        if (cur.equals(other)) {
+            return;
+        }
+        Set<Class<?>> augmentations = new LinkedHashSet<>(cur.keySet());
+        augmentations.addAll(other.keySet());
+        for (Class<?> augmentation : augmentations) {
+            Object value = cur.get(augmentation);
+            Object otherValue = other.get(augmentation);
+            if (value == null) {
+                if (otherValue != null) {
+                    sink.created(augmentation.getName(), otherValue);
+                }
+            } else if (otherValue == null) {
+                sink.deleted(augmentation.getName(), value);
+            } else if (!value.equals(otherValue)) {
+                sink.modified(augmentation.getName(), value, otherValue);
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.onosproject.yangutils.runtime;
+
+/**
+ * Represents streaming reader of RFC 7951 JSON text, shared by the JSON
+ * codecs generated for all modules.
+ */
+public final class JsonReader {
+
+    private final CharSequence text;
+    private int pos;
+
+    /**
+     * Creates an instance of JSON reader.
+     *
+     * @param text JSON text to be read
+     */
+    public JsonReader(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Consumes the start of an object.
+     */
+    public void beginObject() {
+        expect('{');
+    }
+
+    /**
+     * Consumes the start of an array.
+     */
+    public void beginArray() {
+        expect('[');
+    }
+
+    /**
+     * Returns true if current object or array has a next member,
+     * consuming the separator or the end of the object or array.
+     *
+     * @return true if a next member is present
+     */
+    public boolean hasNext() {
+        char c = peek();
+        if (c == ',') {
+            pos++;
+            return true;
+        }
+        if (c == '}' || c == ']') {
+            pos++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the name of the next member, without module name.
+     *
+     * @return name of the next member
+     */
+    public String nextName() {
+        String name = nextString();
+        expect(':');
+        return name.substring(name.indexOf(':') + 1);
+    }
+
+    /**
+     * Returns the text of the next string, number or literal.
+     *
+     * @return text of the next value
+     */
+    public String nextValue() {
+        if (peek() == '"') {
+            return nextString();
+        }
+        int start = pos;
+        while (pos < text.length() && !isDelimiter(text.charAt(pos))) {
+            pos++;
+        }
+        if (start == pos) {
+            throw error();
+        }
+        return text.subSequence(start, pos).toString();
+    }
+
+    /**
+     * Skips the next value, with its nested members.
+     */
+    public void skipValue() {
+        char c = peek();
+        if (c == '{' || c == '[') {
+            pos++;
+            while (hasNext()) {
+                if (c == '{') {
+                    nextName();
+                }
+                skipValue();
+            }
+        } else {
+            nextValue();
+        }
+    }
+
+    /**
+     * Checks that only white space is left in the JSON text.
+     */
+    public void end() {
+        skipWhiteSpace();
+        if (pos < text.length()) {
+            throw error();
+        }
+    }
+
+    private String nextString() {
+        expect('"');
+        int start = pos;
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (c == '"') {
+                return text.subSequence(start, pos - 1).toString();
+            }
+            if (c == '\\') {
+                return nextString(new StringBuilder()
+                        .append(text, start, pos - 1));
+            }
+        }
+        throw error();
+    }
+
+    // Continues the string after its first escape character.
+    private String nextString(StringBuilder value) {
+        boolean escaped = true;
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (escaped) {
+                value.append(unescape(c));
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                return value.toString();
+            } else {
+                value.append(c);
+            }
+        }
+        throw error();
+    }
+
+    private char unescape(char c) {
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (pos + 4 > text.length()) {
+                    throw error();
+                }
+                pos += 4;
+                return (char) Integer.parseInt(
+                        text.subSequence(pos - 4, pos).toString(), 16);
+            default:
+                return c;
+        }
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == ',' || c == '}' || c == ']' || c <= ' ';
+    }
+
+    private char peek() {
+        skipWhiteSpace();
+        if (pos >= text.length()) {
+            throw error();
+        }
+        return text.charAt(pos);
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw error();
+        }
+        pos++;
+    }
+
+    private void skipWhiteSpace() {
+        while (pos < text.length() && text.charAt(pos) <= ' ') {
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error() {
+        return new IllegalArgumentException("Malformed JSON text at " + pos);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.onosproject.yangutils.runtime;
+
+import java.io.IOException;
+
+/**
+ * Represents the writing of names and strings of RFC 7951 JSON text, shared
+ * by the JSON codecs generated for all modules.
+ */
+public final class JsonWriter {
+
+    // No instantiation.
+    private JsonWriter() {
+    }
+
+    /**
+     * Appends the name of a member of the JSON object being written.
+     *
+     * @param out   output the JSON text is appended to
+     * @param name  member name
+     * @param first true if it is the first member of the object
+     * @return false, to be passed for the next member
+     * @throws IOException when fails to append to the output
+     */
+    public static boolean writeName(Appendable out, String name, boolean first)
+            throws IOException {
+        if (!first) {
+            out.append(',');
+        }
+        out.append('"').append(name).append('"').append(':');
+        return false;
+    }
+
+    /**
+     * Appends the value as JSON string.
+     *
+     * @param out   output the JSON text is appended to
+     * @param value string value
+     * @throws IOException when fails to append to the output
+     */
+    public static void writeString(Appendable out, String value)
+            throws IOException {
+        out.append('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < ' ') {
+                out.append(value, start, i).append('\\');
+                if (c < ' ') {
+                    out.append('u').append(Integer.toHexString(c | 0x10000), 1, 5);
+                } else {
+                    out.append(c);
+                }
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length()).append('"');
+    }
+}